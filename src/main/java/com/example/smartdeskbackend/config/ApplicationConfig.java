@@ -91,11 +91,21 @@ public class ApplicationConfig {
     public static class BusinessProperties {
         private TicketProperties ticket = new TicketProperties();
         private SlaProperties sla = new SlaProperties();
+        private RollupProperties rollup = new RollupProperties();
+        private AssignmentProperties assignment = new AssignmentProperties();
+        private ActivityProperties activity = new ActivityProperties();
 
         public static class TicketProperties {
             private boolean autoAssign = true;
             private int defaultSlaHours = 24;
             private boolean escalationEnabled = true;
+            private int numberBlockSize = 50; // Node başına bir seferde ayrılan ticket numarası adedi
+            private int bulkChunkSize = 500; // Toplu içe aktarmada transaction başına satır
+            private int bulkMaxRows = 50000; // Tek istekte kabul edilen en fazla satır
+            private boolean historyAsync = false; // History commit sonrası kuyruktan yazılır
+            private int historyQueueCapacity = 10000;
+            private int historyBatchSize = 200;
+            private String historyOverflowFile = "./data/ticket-history-overflow.ndjson"; // Kuyruk dolunca taşma dosyası
 
             // Getters and Setters
             public boolean isAutoAssign() { return autoAssign; }
@@ -106,12 +116,38 @@ public class ApplicationConfig {
 
             public boolean isEscalationEnabled() { return escalationEnabled; }
             public void setEscalationEnabled(boolean escalationEnabled) { this.escalationEnabled = escalationEnabled; }
+
+            public int getNumberBlockSize() { return numberBlockSize; }
+            public void setNumberBlockSize(int numberBlockSize) { this.numberBlockSize = numberBlockSize; }
+
+            public int getBulkChunkSize() { return bulkChunkSize; }
+            public void setBulkChunkSize(int bulkChunkSize) { this.bulkChunkSize = bulkChunkSize; }
+
+            public int getBulkMaxRows() { return bulkMaxRows; }
+            public void setBulkMaxRows(int bulkMaxRows) { this.bulkMaxRows = bulkMaxRows; }
+
+            public boolean isHistoryAsync() { return historyAsync; }
+            public void setHistoryAsync(boolean historyAsync) { this.historyAsync = historyAsync; }
+
+            public int getHistoryQueueCapacity() { return historyQueueCapacity; }
+            public void setHistoryQueueCapacity(int historyQueueCapacity) { this.historyQueueCapacity = historyQueueCapacity; }
+
+            public int getHistoryBatchSize() { return historyBatchSize; }
+            public void setHistoryBatchSize(int historyBatchSize) { this.historyBatchSize = historyBatchSize; }
+
+            public String getHistoryOverflowFile() { return historyOverflowFile; }
+            public void setHistoryOverflowFile(String historyOverflowFile) { this.historyOverflowFile = historyOverflowFile; }
         }
 
         public static class SlaProperties {
-            private boolean businessHoursOnly = true;
+            private boolean businessHoursOnly = false; // Açıkça açılırsa varsayılan ticket SLA'sı ve risk penceresi iş saatiyle hesaplanır
             private int businessStartHour = 9;
             private int businessEndHour = 18;
+            private int riskWindowMinutes = 120; // Deadline'dan bu kadar önce SLA risk bildirimi yapılır
+            private int escalationChunkSize = 200; // Escalation işinde tek UPDATE ile işlenen ticket sayısı
+            private int escalationLeaseSeconds = 300; // Escalation kilidinin süresi; her parçada uzatılır
+            private int calendarPastDays = 90; // İş takvimi tablosunun bugünden geriye kapsadığı gün sayısı
+            private int calendarFutureDays = 400; // İş takvimi tablosunun bugünden ileriye kapsadığı gün sayısı
 
             // Getters and Setters
             public boolean isBusinessHoursOnly() { return businessHoursOnly; }
@@ -122,6 +158,53 @@ public class ApplicationConfig {
 
             public int getBusinessEndHour() { return businessEndHour; }
             public void setBusinessEndHour(int businessEndHour) { this.businessEndHour = businessEndHour; }
+
+            public int getRiskWindowMinutes() { return riskWindowMinutes; }
+            public void setRiskWindowMinutes(int riskWindowMinutes) { this.riskWindowMinutes = riskWindowMinutes; }
+
+            public int getEscalationChunkSize() { return escalationChunkSize; }
+            public void setEscalationChunkSize(int escalationChunkSize) { this.escalationChunkSize = escalationChunkSize; }
+
+            public int getEscalationLeaseSeconds() { return escalationLeaseSeconds; }
+            public void setEscalationLeaseSeconds(int escalationLeaseSeconds) { this.escalationLeaseSeconds = escalationLeaseSeconds; }
+
+            public int getCalendarPastDays() { return calendarPastDays; }
+            public void setCalendarPastDays(int calendarPastDays) { this.calendarPastDays = calendarPastDays; }
+
+            public int getCalendarFutureDays() { return calendarFutureDays; }
+            public void setCalendarFutureDays(int calendarFutureDays) { this.calendarFutureDays = calendarFutureDays; }
+        }
+
+        public static class RollupProperties {
+            private int backfillDays = 2; // Gece işinde yeniden hesaplanan geçmiş gün sayısı (bugün dahil)
+            private boolean historyBackfillEnabled = true; // Açılışta rollup'ı olmayan şirket geçmişini doldur
+
+            // Getters and Setters
+            public int getBackfillDays() { return backfillDays; }
+            public void setBackfillDays(int backfillDays) { this.backfillDays = backfillDays; }
+
+            public boolean isHistoryBackfillEnabled() { return historyBackfillEnabled; }
+            public void setHistoryBackfillEnabled(boolean historyBackfillEnabled) { this.historyBackfillEnabled = historyBackfillEnabled; }
+        }
+
+        public static class AssignmentProperties {
+            private String strategy = "least-loaded"; // least-loaded, round-robin veya weighted (bkz. AgentAssignmentStrategy)
+            private int agentCapacity = 50; // Agent başına varsayılan en fazla açık ticket (User.maxOpenTickets ile ezilir); dolu agent'lara otomatik atama yapılmaz
+
+            // Getters and Setters
+            public String getStrategy() { return strategy; }
+            public void setStrategy(String strategy) { this.strategy = strategy; }
+
+            public int getAgentCapacity() { return agentCapacity; }
+            public void setAgentCapacity(int agentCapacity) { this.agentCapacity = agentCapacity; }
+        }
+
+        public static class ActivityProperties {
+            private int batchSize = 500; // Write-behind flush'ta JDBC batch başına UPDATE
+
+            // Getters and Setters
+            public int getBatchSize() { return batchSize; }
+            public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
         }
 
         // Getters and Setters
@@ -130,36 +213,85 @@ public class ApplicationConfig {
 
         public SlaProperties getSla() { return sla; }
         public void setSla(SlaProperties sla) { this.sla = sla; }
+
+        public RollupProperties getRollup() { return rollup; }
+        public void setRollup(RollupProperties rollup) { this.rollup = rollup; }
+
+        public AssignmentProperties getAssignment() { return assignment; }
+        public void setAssignment(AssignmentProperties assignment) { this.assignment = assignment; }
+
+        public ActivityProperties getActivity() { return activity; }
+        public void setActivity(ActivityProperties activity) { this.activity = activity; }
     }
 
     public static class SecurityProperties {
         private JwtProperties jwt = new JwtProperties();
         private RateLimitProperties rateLimit = new RateLimitProperties();
         private AccountLockProperties accountLock = new AccountLockProperties();
+        private AuthPoolProperties authPool = new AuthPoolProperties();
 
         public static class JwtProperties {
             private BlacklistProperties blacklist = new BlacklistProperties();
+            private boolean statelessPrincipal = false; // Principal DB yerine token claim'leri + kullanıcı durum cache'inden
 
             public static class BlacklistProperties {
                 private boolean enabled = true;
+                private int expectedEntries = 100000; // Bloom filtresi boyutu
+                private double falsePositiveRate = 0.01;
+                private long pollIntervalMs = 5000; // Diğer node'ların iptallerini yoklama aralığı
+                private long purgeIntervalMs = 3600000; // Süresi dolmuş kayıtları silme aralığı
 
                 public boolean isEnabled() { return enabled; }
                 public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+                public int getExpectedEntries() { return expectedEntries; }
+                public void setExpectedEntries(int expectedEntries) { this.expectedEntries = expectedEntries; }
+
+                public double getFalsePositiveRate() { return falsePositiveRate; }
+                public void setFalsePositiveRate(double falsePositiveRate) { this.falsePositiveRate = falsePositiveRate; }
+
+                public long getPollIntervalMs() { return pollIntervalMs; }
+                public void setPollIntervalMs(long pollIntervalMs) { this.pollIntervalMs = pollIntervalMs; }
+
+                public long getPurgeIntervalMs() { return purgeIntervalMs; }
+                public void setPurgeIntervalMs(long purgeIntervalMs) { this.purgeIntervalMs = purgeIntervalMs; }
             }
 
             public BlacklistProperties getBlacklist() { return blacklist; }
             public void setBlacklist(BlacklistProperties blacklist) { this.blacklist = blacklist; }
+
+            public boolean isStatelessPrincipal() { return statelessPrincipal; }
+            public void setStatelessPrincipal(boolean statelessPrincipal) { this.statelessPrincipal = statelessPrincipal; }
         }
 
         public static class RateLimitProperties {
             private boolean enabled = true;
-            private int requestsPerMinute = 60;
+            private int requestsPerMinute = 60; // IP başına auth isteği
+            private int emailRequestsPerMinute = 10; // Email başına login/kayıt denemesi
 
             public boolean isEnabled() { return enabled; }
             public void setEnabled(boolean enabled) { this.enabled = enabled; }
 
             public int getRequestsPerMinute() { return requestsPerMinute; }
             public void setRequestsPerMinute(int requestsPerMinute) { this.requestsPerMinute = requestsPerMinute; }
+
+            public int getEmailRequestsPerMinute() { return emailRequestsPerMinute; }
+            public void setEmailRequestsPerMinute(int emailRequestsPerMinute) { this.emailRequestsPerMinute = emailRequestsPerMinute; }
+        }
+
+        public static class AuthPoolProperties {
+            private int threads = 0; // 0: işlemci sayısının yarısı
+            private int queueCapacity = 50; // Dolunca yeni istekler beklemeden 429 alır
+            private long maxWaitMs = 3000; // Kuyruk + BCrypt için istek thread'inin en fazla bekleme süresi
+
+            public int getThreads() { return threads; }
+            public void setThreads(int threads) { this.threads = threads; }
+
+            public int getQueueCapacity() { return queueCapacity; }
+            public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+            public long getMaxWaitMs() { return maxWaitMs; }
+            public void setMaxWaitMs(long maxWaitMs) { this.maxWaitMs = maxWaitMs; }
         }
 
         public static class AccountLockProperties {
@@ -182,6 +314,9 @@ public class ApplicationConfig {
 
         public AccountLockProperties getAccountLock() { return accountLock; }
         public void setAccountLock(AccountLockProperties accountLock) { this.accountLock = accountLock; }
+
+        public AuthPoolProperties getAuthPool() { return authPool; }
+        public void setAuthPool(AuthPoolProperties authPool) { this.authPool = authPool; }
     }
 
     public static class NotificationProperties {
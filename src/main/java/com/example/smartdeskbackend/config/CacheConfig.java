@@ -0,0 +1,125 @@
+package com.example.smartdeskbackend.config;
+
+import com.example.smartdeskbackend.util.CacheUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caffeine tabanlı cache konfigürasyonu
+ *
+ * Her cache için boyut, TTL (expire-after-write) ve refresh-after-write app.cache.specs.&lt;isim&gt;.* ile ayarlanır.
+ * Refresh tanımlı cache'lerde süresi dolmaya yakın kayıt, istek thread'ini bekletmeden arka planda
+ * ilgili {@link Reloader} ile yenilenir. İstatistikler açıktır; actuator'da cache.gets / cache.evictions
+ * metrikleri olarak görünür.
+ */
+@Configuration
+public class CacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    /**
+     * Cache konfigürasyonları
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "app.cache")
+    public CacheProperties cacheProperties() {
+        return new CacheProperties();
+    }
+
+    /**
+     * Sabit isimli cache'ler; tanımsız bir cache ismi kullanılırsa hata verir
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties, ObjectProvider<Reloader> reloaders) {
+        Set<String> names = new LinkedHashSet<>(CacheUtil.ALL_CACHES);
+        names.addAll(cacheProperties.getSpecs().keySet());
+
+        List<CaffeineCache> caches = new ArrayList<>();
+        for (String name : names) {
+            CacheSpec spec = cacheProperties.getSpecs().getOrDefault(name, new CacheSpec());
+            caches.add(new CaffeineCache(name, buildCache(name, spec, reloaders)));
+            logger.info("Cache '{}' configured (max-size: {}, ttl: {}, refresh-after-write: {})",
+                    name, spec.getMaxSize(), spec.getTtl(), spec.getRefreshAfterWrite());
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+    private Cache<Object, Object> buildCache(String name, CacheSpec spec, ObjectProvider<Reloader> reloaders) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .recordStats();
+        if (spec.getTtl() != null) {
+            builder.expireAfterWrite(spec.getTtl());
+        }
+        if (spec.getRefreshAfterWrite() == null) {
+            return builder.build();
+        }
+
+        // Reloader'lar ilk yenilemede çözülür (cache manager ile servisler arasında döngüsel bağımlılık olmaz).
+        // Reloader yoksa veya kayıt artık yoksa null döner ve kayıt cache'ten çıkar.
+        builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        return builder.build(key -> reloaders.orderedStream()
+                .filter(reloader -> reloader.supports(name))
+                .findFirst()
+                .map(reloader -> reloader.reload(name, key))
+                .orElse(null));
+    }
+
+    /**
+     * Refresh-after-write tanımlı cache'ler için arka plan yükleyicisi
+     */
+    public interface Reloader {
+
+        boolean supports(String cacheName);
+
+        /**
+         * Anahtarın güncel değerini döner; kayıt artık yoksa null
+         */
+        Object reload(String cacheName, Object key);
+    }
+
+    // Properties Classes
+    public static class CacheProperties {
+        private Map<String, CacheSpec> specs = new HashMap<>();
+
+        // Getters and Setters
+        public Map<String, CacheSpec> getSpecs() { return specs; }
+        public void setSpecs(Map<String, CacheSpec> specs) { this.specs = specs; }
+    }
+
+    public static class CacheSpec {
+        private long maxSize = 1000;
+        private Duration ttl = Duration.ofMinutes(30);
+        private Duration refreshAfterWrite;
+
+        // Getters and Setters
+        public long getMaxSize() { return maxSize; }
+        public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+        public Duration getRefreshAfterWrite() { return refreshAfterWrite; }
+        public void setRefreshAfterWrite(Duration refreshAfterWrite) { this.refreshAfterWrite = refreshAfterWrite; }
+    }
+}
@@ -2,13 +2,19 @@
 package com.example.smartdeskbackend.controller;
 
 import com.example.smartdeskbackend.repository.*;
+import com.example.smartdeskbackend.service.BusinessCalendarService;
+import com.example.smartdeskbackend.service.TicketRollupService;
+import com.example.smartdeskbackend.util.CacheUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -41,6 +47,15 @@ public class AdminController {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private CacheUtil cacheUtil;
+
+    @Autowired
+    private TicketRollupService ticketRollupService;
+
+    @Autowired
+    private BusinessCalendarService businessCalendarService;
+
     /**
      * System-wide istatistikler
      */
@@ -128,20 +143,83 @@ public class AdminController {
     }
 
     /**
-     * Cache temizleme (placeholder)
+     * Cache temizleme
+     * name verilirse sadece o cache, verilmezse tüm cache'ler temizlenir
      */
     @PostMapping("/cache/clear")
-    public ResponseEntity<?> clearCache() {
-        logger.info("Clearing system cache");
+    public ResponseEntity<?> clearCache(@RequestParam(required = false) String name) {
+        logger.info("Clearing cache: {}", name != null ? name : "ALL");
 
-        // Cache temizleme implementasyonu buraya eklenecek
         Map<String, Object> response = new HashMap<>();
+        if (name == null || name.isBlank()) {
+            response.put("cleared", cacheUtil.clearAll());
+        } else {
+            if (!cacheUtil.clear(name)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "CACHE_NOT_FOUND", "message", "Cache not found: " + name,
+                                "availableCaches", cacheUtil.getCacheNames()));
+            }
+            response.put("cleared", List.of(name));
+        }
         response.put("message", "Cache cleared successfully");
         response.put("timestamp", LocalDateTime.now());
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Cache istatistikleri (boyut, hit/miss, eviction)
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("caches", cacheUtil.getStats());
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Ticket rollup tablolarını gün aralığı için yeniden hesaplar (iki uç dahil)
+     * companyId verilmezse tüm şirketler işlenir
+     */
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<?> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long companyId) {
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "INVALID_RANGE", "message", "'to' must not be before 'from'"));
+        }
+        logger.info("Rebuilding ticket rollups from {} to {} for company: {}", from, to,
+                companyId != null ? companyId : "ALL");
+
+        int companyDays = companyId != null
+                ? ticketRollupService.rebuild(companyId, from, to)
+                : ticketRollupService.backfill(from, to);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("rebuiltCompanyDays", companyDays);
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Şirketin derlenmiş iş takvimlerini düşürür
+     * business_calendars satırları SQL ile değiştirildikten sonra çağrılır (bu node'un cache'i)
+     */
+    @PostMapping("/business-calendars/{companyId}/evict")
+    public ResponseEntity<?> evictBusinessCalendars(@PathVariable Long companyId) {
+        logger.info("Evicting business calendars for company: {}", companyId);
+        businessCalendarService.evictCalendars(companyId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("companyId", companyId);
+        response.put("message", "Business calendars evicted");
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * System maintenance mode (placeholder)
      */
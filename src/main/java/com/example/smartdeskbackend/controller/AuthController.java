@@ -3,7 +3,9 @@ package com.example.smartdeskbackend.controller;
 import com.example.smartdeskbackend.dto.request.auth.LoginRequest;
 import com.example.smartdeskbackend.dto.request.auth.RegisterRequest;
 import com.example.smartdeskbackend.dto.response.auth.AuthResponse;
+import com.example.smartdeskbackend.exception.TooManyRequestsException;
 import com.example.smartdeskbackend.service.AuthService;
+import com.example.smartdeskbackend.service.AuthWorkerService;
 import com.example.smartdeskbackend.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -38,6 +40,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private AuthWorkerService authWorkerService;
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -53,11 +58,14 @@ public class AuthController {
                 getClientIpAddress(request), loginRequest.getEmail());
 
         try {
+            authWorkerService.checkRateLimit(getClientIpAddress(request), loginRequest.getEmail());
             AuthResponse authResponse = authService.login(loginRequest);
 
             logger.info("Successful login for user: {}", loginRequest.getEmail());
             return ResponseEntity.ok(authResponse);
 
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Login failed for email: {}", loginRequest.getEmail(), e);
 
@@ -83,11 +91,14 @@ public class AuthController {
                 getClientIpAddress(request), registerRequest.getEmail());
 
         try {
+            authWorkerService.checkRateLimit(getClientIpAddress(request), registerRequest.getEmail());
             AuthResponse authResponse = authService.register(registerRequest);
 
             logger.info("Successful registration for user: {}", registerRequest.getEmail());
             return ResponseEntity.status(HttpStatus.CREATED).body(authResponse);
 
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Registration failed for email: {}", registerRequest.getEmail(), e);
 
@@ -140,19 +151,21 @@ public class AuthController {
     }
 
     /**
-     * Kullanıcı çıkış işlemi
+     * Kullanıcı çıkış işlemi; body'de refreshToken verilirse o da iptal edilir
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletRequest request) {
+    public ResponseEntity<?> logout(HttpServletRequest request,
+                                    @RequestBody(required = false) Map<String, String> body) {
 
         String token = extractTokenFromRequest(request);
+        String refreshToken = body != null ? body.get("refreshToken") : null;
 
         if (StringUtils.hasText(token)) {
             try {
                 String email = jwtUtil.getEmailFromToken(token);
                 logger.info("Logout request for user: {}", email);
 
-                authService.logout(token);
+                authService.logout(token, StringUtils.hasText(refreshToken) ? refreshToken : null);
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("message", "Logout successful");
@@ -219,7 +232,8 @@ public class AuthController {
      */
     @PostMapping("/reset-password")
     public ResponseEntity<?> resetPassword(
-            @RequestBody Map<String, String> request) {
+            @RequestBody Map<String, String> request,
+            HttpServletRequest httpRequest) {
 
         String token = request.get("token");
         String newPassword = request.get("newPassword");
@@ -234,6 +248,7 @@ public class AuthController {
         }
 
         try {
+            authWorkerService.checkRateLimit(getClientIpAddress(httpRequest), null);
             authService.resetPassword(token, newPassword);
 
             Map<String, Object> response = new HashMap<>();
@@ -242,6 +257,8 @@ public class AuthController {
 
             return ResponseEntity.ok(response);
 
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Password reset failed", e);
 
@@ -363,6 +380,7 @@ public class AuthController {
             String token = extractTokenFromRequest(httpRequest);
             Long userId = jwtUtil.getUserIdFromToken(token);
 
+            authWorkerService.checkRateLimit(getClientIpAddress(httpRequest), null);
             authService.changePassword(userId, currentPassword, newPassword);
 
             Map<String, Object> response = new HashMap<>();
@@ -371,6 +389,8 @@ public class AuthController {
 
             return ResponseEntity.ok(response);
 
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Password change failed", e);
 
@@ -450,18 +470,10 @@ public class AuthController {
 
     /**
      * Client IP adresini alır
+     * X-Forwarded-For yalnızca güvenilir proxy'den geldiğinde Tomcat tarafından remoteAddr'a yansıtılır
+     * (server.forward-headers-strategy=native); client'ın gönderdiği header rate limit anahtarını değiştiremez
      */
     private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (StringUtils.hasText(xForwardedFor)) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (StringUtils.hasText(xRealIp)) {
-            return xRealIp;
-        }
-
         return request.getRemoteAddr();
     }
 
@@ -5,6 +5,7 @@ import com.example.smartdeskbackend.entity.Department;
 import com.example.smartdeskbackend.entity.Company;
 import com.example.smartdeskbackend.repository.DepartmentRepository;
 import com.example.smartdeskbackend.repository.CompanyRepository;
+import com.example.smartdeskbackend.util.CacheUtil;
 import com.example.smartdeskbackend.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -41,6 +42,9 @@ public class DepartmentController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private CacheUtil cacheUtil;
+
     /**
      * Şirketteki departmanları getir
      */
@@ -261,6 +265,8 @@ public class DepartmentController {
 
             department.setUpdatedAt(LocalDateTime.now());
             department = departmentRepository.save(department);
+            // Ticket response'ları ve erişim kontrolleri departmanı ReferenceDataService cache'inden okur
+            cacheUtil.evict(CacheUtil.DEPARTMENTS, id);
 
             Map<String, Object> response = mapDepartmentToResponse(department);
             return ResponseEntity.ok(response);
@@ -294,6 +300,7 @@ public class DepartmentController {
             department.setIsActive(false);
             department.setUpdatedAt(LocalDateTime.now());
             departmentRepository.save(department);
+            cacheUtil.evict(CacheUtil.DEPARTMENTS, id);
 
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Department deleted successfully");
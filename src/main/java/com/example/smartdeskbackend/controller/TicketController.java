@@ -1,30 +1,54 @@
 package com.example.smartdeskbackend.controller;
 
+import com.example.smartdeskbackend.config.ApplicationConfig;
 import com.example.smartdeskbackend.dto.request.ticket.*;
 import com.example.smartdeskbackend.dto.response.ticket.*;
 import com.example.smartdeskbackend.enums.TicketPriority;
 import com.example.smartdeskbackend.enums.TicketStatus;
+import com.example.smartdeskbackend.exception.BusinessLogicException;
+import com.example.smartdeskbackend.service.TicketExportService;
 import com.example.smartdeskbackend.service.TicketService;
 import com.example.smartdeskbackend.util.JwtUtil;
+import com.example.smartdeskbackend.util.TicketCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Ticket management REST Controller
@@ -42,15 +66,36 @@ public class TicketController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TicketExportService ticketExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
     /**
      * Tüm ticketları getir (sadece SUPER_ADMIN) - ÖNEMLİ: /{id} mapping'den ÖNCE olmalı
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> getAllTickets(@PageableDefault(size = 20) Pageable pageable) {
+    public ResponseEntity<?> getAllTickets(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor) {
         logger.info("Getting ALL tickets for SUPER_ADMIN");
 
         try {
+            if (cursor || after != null) {
+                Slice<TicketResponse> slice = ticketService.getAllTicketsAfter(after, pageable.getPageSize());
+
+                Map<String, Object> response = createSliceResponse(slice);
+                response.put("scope", "all");
+
+                return ResponseEntity.ok(response);
+            }
+
             Page<TicketResponse> tickets = ticketService.getAllTickets(pageable);
 
             Map<String, Object> response = createPageResponse(tickets);
@@ -65,16 +110,112 @@ public class TicketController {
         }
     }
 
+    /**
+     * Şirket ticketlarını CSV/NDJSON olarak export et (BI) - ÖNEMLİ: /{id} mapping'den ÖNCE olmalı
+     * Satırlar veritabanından akış olarak okunup response'a yazılır; gzip=true ile sıkıştırılmış dosya döner
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> exportTickets(
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest request) {
+
+        try {
+            TicketExportService.Format exportFormat;
+            try {
+                exportFormat = TicketExportService.Format.valueOf(format.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(createErrorResponse("INVALID_FORMAT", "Format must be csv or ndjson"));
+            }
+
+            if (companyId == null) {
+                String token = extractTokenFromRequest(request);
+                companyId = token != null ? jwtUtil.getCompanyIdFromToken(token) : null;
+            }
+            if (companyId == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(createErrorResponse("MISSING_COMPANY", "companyId is required"));
+            }
+            if (!hasAccessToCompany(request, companyId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(createErrorResponse("ACCESS_DENIED", "Access denied to company tickets"));
+            }
+
+            LocalDateTime rangeFrom = from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+            LocalDateTime rangeTo = to != null ? to : LocalDateTime.now();
+            if (!rangeFrom.isBefore(rangeTo)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(createErrorResponse("INVALID_RANGE", "from must be before to"));
+            }
+
+            logger.info("Exporting tickets for company {} as {} (gzip={})", companyId, exportFormat, gzip);
+
+            Long exportCompanyId = companyId;
+            StreamingResponseBody body = out -> {
+                if (gzip) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024);
+                    ticketExportService.exportTickets(exportCompanyId, rangeFrom, rangeTo, exportFormat, gzipOut);
+                    gzipOut.finish();
+                } else {
+                    ticketExportService.exportTickets(exportCompanyId, rangeFrom, rangeTo, exportFormat, out);
+                }
+            };
+
+            String fileName = "tickets-" + companyId + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+                    + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                    .body(body);
+
+        } catch (Exception e) {
+            logger.error("Error exporting tickets", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(createErrorResponse("EXPORT_ERROR", e.getMessage()));
+        }
+    }
+
     /**
      * Ticket detaylarını getir - ÖNEMLİ: /all endpoint'inden SONRA olmalı
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('MANAGER') or hasRole('AGENT') or @ticketSecurityService.hasAccessToTicket(#id, authentication.principal.id)")
-    public ResponseEntity<?> getTicketById(@PathVariable Long id) {
-        logger.info("Getting ticket by id: {}", id);
+    public ResponseEntity<?> getTicketById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "0") int sectionPage,
+            @RequestParam(defaultValue = "20") int sectionSize) {
+        logger.info("Getting ticket by id: {} include: {}", id, include);
+
+        // include verilmezse tüm section'lar (geriye uyumluluk), include= boş ise sadece çekirdek alanlar
+        Set<String> sections;
+        if (include == null) {
+            sections = TicketDetailResponse.ALL_SECTIONS;
+        } else {
+            sections = new HashSet<>();
+            for (String section : include.split(",")) {
+                String name = section.trim().toLowerCase();
+                if (name.isEmpty()) {
+                    continue;
+                }
+                if (!TicketDetailResponse.ALL_SECTIONS.contains(name)) {
+                    return ResponseEntity.badRequest()
+                            .body(createErrorResponse("INVALID_INCLUDE", "Unknown section: " + name +
+                                    ". Allowed: comments, attachments, history"));
+                }
+                sections.add(name);
+            }
+        }
 
         try {
-            TicketDetailResponse ticket = ticketService.getTicketById(id);
+            Pageable sectionPageable = PageRequest.of(Math.max(sectionPage, 0),
+                    Math.max(1, Math.min(sectionSize, 100)));
+            TicketDetailResponse ticket = ticketService.getTicketById(id, sections, sectionPageable);
             return ResponseEntity.ok(ticket);
 
         } catch (Exception e) {
@@ -110,11 +251,23 @@ public class TicketController {
     @PreAuthorize("hasRole('SUPER_ADMIN') or ((hasRole('MANAGER') or hasRole('AGENT')) and @securityService.isFromSameCompany(#companyId))")
     public ResponseEntity<?> getTicketsByCompany(
             @PathVariable Long companyId,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor) {
 
         logger.info("Getting tickets by company: {}", companyId);
 
         try {
+            if (cursor || after != null) {
+                Slice<TicketResponse> slice = ticketService.getTicketsByCompanyAfter(
+                        companyId, after, pageable.getPageSize());
+
+                Map<String, Object> response = createSliceResponse(slice);
+                response.put("companyId", companyId);
+
+                return ResponseEntity.ok(response);
+            }
+
             Page<TicketResponse> tickets = ticketService.getTicketsByCompany(companyId, pageable);
 
             Map<String, Object> response = createPageResponse(tickets);
@@ -137,6 +290,8 @@ public class TicketController {
     public ResponseEntity<?> getActiveTickets(
             @RequestParam Long companyId,
             @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
             HttpServletRequest request) {
 
         logger.info("Getting active tickets for company: {}", companyId);
@@ -147,6 +302,17 @@ public class TicketController {
                         .body(createErrorResponse("ACCESS_DENIED", "Access denied to company data"));
             }
 
+            if (cursor || after != null) {
+                Slice<TicketResponse> slice = ticketService.getActiveTicketsAfter(
+                        companyId, after, pageable.getPageSize());
+
+                Map<String, Object> response = createSliceResponse(slice);
+                response.put("companyId", companyId);
+                response.put("filter", "active");
+
+                return ResponseEntity.ok(response);
+            }
+
             Page<TicketResponse> tickets = ticketService.getActiveTickets(companyId, pageable);
 
             Map<String, Object> response = createPageResponse(tickets);
@@ -244,6 +410,8 @@ public class TicketController {
             @RequestParam(required = false) Long agentId,
             @RequestParam(required = false) Long customerId,
             @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor,
             HttpServletRequest request) {
 
         logger.info("Searching tickets in company: {} with query: {}", companyId, q);
@@ -254,6 +422,18 @@ public class TicketController {
                         .body(createErrorResponse("ACCESS_DENIED", "Access denied to company data"));
             }
 
+            // Cursor modu sadece filtre listesinde desteklenir (serbest metin aramada değil)
+            if ((cursor || after != null) && !StringUtils.hasText(q)) {
+                Slice<TicketResponse> slice = ticketService.getTicketsWithFiltersAfter(companyId, status,
+                        priority, departmentId, agentId, customerId, after, pageable.getPageSize());
+
+                Map<String, Object> response = createSliceResponse(slice);
+                response.put("companyId", companyId);
+                response.put("filters", filterMap(status, priority, departmentId, agentId, customerId));
+
+                return ResponseEntity.ok(response);
+            }
+
             Page<TicketResponse> tickets;
 
             if (StringUtils.hasText(q)) {
@@ -353,11 +533,23 @@ public class TicketController {
     @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('MANAGER') or #agentId == authentication.principal.id")
     public ResponseEntity<?> getTicketsByAgent(
             @PathVariable Long agentId,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean cursor) {
 
         logger.info("Getting tickets by agent: {}", agentId);
 
         try {
+            if (cursor || after != null) {
+                Slice<TicketResponse> slice = ticketService.getTicketsByAgentAfter(
+                        agentId, after, pageable.getPageSize());
+
+                Map<String, Object> response = createSliceResponse(slice);
+                response.put("agentId", agentId);
+
+                return ResponseEntity.ok(response);
+            }
+
             Page<TicketResponse> tickets = ticketService.getTicketsByAgent(agentId, pageable);
 
             Map<String, Object> response = createPageResponse(tickets);
@@ -421,6 +613,193 @@ public class TicketController {
         }
     }
 
+    /**
+     * Toplu ticket içe aktarma (JSON dizisi veya NDJSON)
+     * Hatalı satırlar tüm isteği durdurmaz, response'ta satır numarasıyla raporlanır
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> createTicketsBulk(HttpServletRequest httpRequest) {
+        logger.info("Bulk ticket import requested");
+
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            if (token == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(createErrorResponse("ACCESS_DENIED", "Access denied"));
+            }
+
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            boolean superAdmin = "SUPER_ADMIN".equals(jwtUtil.getRoleFromToken(token));
+            Long restrictToCompanyId = superAdmin ? null : jwtUtil.getCompanyIdFromToken(token);
+            if (!superAdmin && restrictToCompanyId == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(createErrorResponse("ACCESS_DENIED", "Access denied to create tickets"));
+            }
+
+            List<CreateTicketRequest> rows;
+            try {
+                rows = readBulkRows(httpRequest);
+            } catch (JsonProcessingException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(createErrorResponse("INVALID_BULK_PAYLOAD", e.getOriginalMessage()));
+            }
+
+            int maxRows = businessProperties.getTicket().getBulkMaxRows();
+            if (rows.size() > maxRows) {
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                        .body(createErrorResponse("TOO_MANY_ROWS", "Bulk import is limited to " + maxRows + " rows"));
+            }
+
+            // Creator belirtilmemişse içe aktarmayı yapan kullanıcı
+            for (CreateTicketRequest row : rows) {
+                if (row != null && row.getCreatorUserId() == null) {
+                    row.setCreatorUserId(userId);
+                }
+            }
+
+            BulkTicketImportResponse result = ticketService.createTicketsBulk(rows, restrictToCompanyId, userId);
+            HttpStatus status = result.getCreatedCount() > 0 || rows.isEmpty() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(result);
+
+        } catch (Exception e) {
+            logger.error("Error during bulk ticket import", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(createErrorResponse("BULK_IMPORT_ERROR", e.getMessage()));
+        }
+    }
+
+    /**
+     * Toplu ticket atama (en fazla {@link BulkTicketUpdateRequest#MAX_TICKETS} ticket)
+     */
+    @PatchMapping("/bulk/assign")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> bulkAssignTickets(
+            @Valid @RequestBody BulkTicketUpdateRequest request,
+            HttpServletRequest httpRequest) {
+
+        logger.info("Bulk assign requested for {} tickets", request.getTicketIds().size());
+
+        try {
+            if (request.getAgentId() == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(createErrorResponse("MISSING_AGENT", "Agent ID is required"));
+            }
+
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            BulkTicketUpdateResponse result = ticketService.bulkAssignTickets(
+                    request.getTicketIds(), request.getAgentId(), userId, bulkCompanyScope(token));
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("Error during bulk assign", e);
+
+            HttpStatus status = e.getMessage() != null && e.getMessage().contains("not found") ?
+                    HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+
+            return ResponseEntity.status(status)
+                    .body(createErrorResponse("BULK_ASSIGNMENT_ERROR", e.getMessage()));
+        }
+    }
+
+    /**
+     * Toplu durum değişikliği (en fazla {@link BulkTicketUpdateRequest#MAX_TICKETS} ticket)
+     */
+    @PatchMapping("/bulk/status")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> bulkChangeTicketStatus(
+            @Valid @RequestBody BulkTicketUpdateRequest request,
+            HttpServletRequest httpRequest) {
+
+        logger.info("Bulk status requested for {} tickets", request.getTicketIds().size());
+
+        try {
+            if (request.getStatus() == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(createErrorResponse("MISSING_STATUS", "Status is required"));
+            }
+
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            BulkTicketUpdateResponse result = ticketService.bulkChangeTicketStatus(
+                    request.getTicketIds(), request.getStatus(), userId, bulkCompanyScope(token));
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("Error during bulk status", e);
+
+            HttpStatus status = e.getMessage() != null && e.getMessage().contains("not found") ?
+                    HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+
+            return ResponseEntity.status(status)
+                    .body(createErrorResponse("BULK_STATUS_CHANGE_ERROR", e.getMessage()));
+        }
+    }
+
+    /**
+     * Toplu öncelik değişikliği (en fazla {@link BulkTicketUpdateRequest#MAX_TICKETS} ticket)
+     */
+    @PatchMapping("/bulk/priority")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> bulkChangeTicketPriority(
+            @Valid @RequestBody BulkTicketUpdateRequest request,
+            HttpServletRequest httpRequest) {
+
+        logger.info("Bulk priority requested for {} tickets", request.getTicketIds().size());
+
+        try {
+            if (request.getPriority() == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(createErrorResponse("MISSING_PRIORITY", "Priority is required"));
+            }
+
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            BulkTicketUpdateResponse result = ticketService.bulkChangeTicketPriority(
+                    request.getTicketIds(), request.getPriority(), userId, bulkCompanyScope(token));
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("Error during bulk priority", e);
+
+            HttpStatus status = e.getMessage() != null && e.getMessage().contains("not found") ?
+                    HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+
+            return ResponseEntity.status(status)
+                    .body(createErrorResponse("BULK_PRIORITY_CHANGE_ERROR", e.getMessage()));
+        }
+    }
+
+    /**
+     * Toplu ticket kapatma (en fazla {@link BulkTicketUpdateRequest#MAX_TICKETS} ticket)
+     */
+    @PatchMapping("/bulk/close")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> bulkCloseTickets(
+            @Valid @RequestBody BulkTicketUpdateRequest request,
+            HttpServletRequest httpRequest) {
+
+        logger.info("Bulk close requested for {} tickets", request.getTicketIds().size());
+
+        try {
+            String token = extractTokenFromRequest(httpRequest);
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            BulkTicketUpdateResponse result = ticketService.bulkCloseTickets(
+                    request.getTicketIds(), request.getResolutionSummary(), userId, bulkCompanyScope(token));
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            logger.error("Error during bulk close", e);
+
+            HttpStatus status = e.getMessage() != null && e.getMessage().contains("not found") ?
+                    HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+
+            return ResponseEntity.status(status)
+                    .body(createErrorResponse("BULK_CLOSE_ERROR", e.getMessage()));
+        }
+    }
+
     /**
      * Ticket güncelle
      */
@@ -931,6 +1310,42 @@ public class TicketController {
         }
     }
 
+    /**
+     * Toplu içe aktarma gövdesini okur: NDJSON'da her satır bir kayıt, aksi halde JSON dizisi
+     */
+    private List<CreateTicketRequest> readBulkRows(HttpServletRequest request) throws IOException {
+        String contentType = request.getContentType();
+        if (contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            List<CreateTicketRequest> rows = new ArrayList<>();
+            ObjectReader reader = objectMapper.readerFor(CreateTicketRequest.class);
+            try (BufferedReader lines = new BufferedReader(
+                    new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        rows.add(reader.readValue(line));
+                    }
+                }
+            }
+            return rows;
+        }
+        return objectMapper.readValue(request.getInputStream(), new TypeReference<List<CreateTicketRequest>>() {});
+    }
+
+    /**
+     * Toplu işlemlerde şirket kısıtı: SUPER_ADMIN için null, diğer roller kendi şirketi
+     */
+    private Long bulkCompanyScope(String token) {
+        if ("SUPER_ADMIN".equals(jwtUtil.getRoleFromToken(token))) {
+            return null;
+        }
+        Long companyId = jwtUtil.getCompanyIdFromToken(token);
+        if (companyId == null) {
+            throw new BusinessLogicException("Access denied: user has no company");
+        }
+        return companyId;
+    }
+
     /**
      * HTTP request'ten JWT token'ı çıkarır
      */
@@ -957,6 +1372,34 @@ public class TicketController {
         return response;
     }
 
+    /**
+     * Cursor (keyset) response oluşturur - toplam sayı içermez
+     */
+    private Map<String, Object> createSliceResponse(Slice<TicketResponse> tickets) {
+        List<TicketResponse> content = tickets.getContent();
+        Map<String, Object> response = new HashMap<>();
+        response.put("tickets", content);
+        response.put("size", content.size());
+        response.put("hasNext", tickets.hasNext());
+        response.put("nextCursor", tickets.hasNext() && !content.isEmpty()
+                ? TicketCursor.encode(content.get(content.size() - 1)) : null);
+        return response;
+    }
+
+    /**
+     * Filtre parametrelerini response için map'e çevirir (null değerlere izin verir)
+     */
+    private Map<String, Object> filterMap(TicketStatus status, TicketPriority priority,
+                                          Long departmentId, Long agentId, Long customerId) {
+        Map<String, Object> filters = new HashMap<>();
+        filters.put("status", status);
+        filters.put("priority", priority);
+        filters.put("departmentId", departmentId);
+        filters.put("agentId", agentId);
+        filters.put("customerId", customerId);
+        return filters;
+    }
+
     // ============ APPROVAL WORKFLOW ENDPOINTS ============
 
     /**
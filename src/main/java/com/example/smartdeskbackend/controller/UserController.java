@@ -9,6 +9,7 @@ import com.example.smartdeskbackend.dto.response.user.UserProfileResponse;
 import com.example.smartdeskbackend.dto.response.common.PageResponse;
 import com.example.smartdeskbackend.enums.UserRole;
 import com.example.smartdeskbackend.enums.UserStatus;
+import com.example.smartdeskbackend.exception.TooManyRequestsException;
 import com.example.smartdeskbackend.service.UserService;
 import com.example.smartdeskbackend.service.UserSearchService;
 import com.example.smartdeskbackend.util.JwtUtil;
@@ -383,6 +384,8 @@ public class UserController {
 
             return ResponseEntity.ok(response);
 
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error changing password for user: {}", id, e);
 
@@ -425,6 +428,8 @@ public class UserController {
 
             return ResponseEntity.ok(response);
 
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error resetting password for user: {}", id, e);
 
@@ -0,0 +1,49 @@
+// BulkTicketUpdateRequest.java
+package com.example.smartdeskbackend.dto.request.ticket;
+
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.TicketStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Toplu ticket güncelleme isteği (assign / status / priority / close)
+ * Endpoint'e göre sadece ilgili alan kullanılır
+ */
+public class BulkTicketUpdateRequest {
+
+    public static final int MAX_TICKETS = 1000;
+
+    @NotEmpty(message = "Ticket IDs are required")
+    @Size(max = MAX_TICKETS, message = "At most 1000 tickets can be updated at once")
+    private List<Long> ticketIds;
+
+    private Long agentId;
+
+    private TicketStatus status;
+
+    private TicketPriority priority;
+
+    private String resolutionSummary;
+
+    // Constructors
+    public BulkTicketUpdateRequest() {}
+
+    // Getters and Setters
+    public List<Long> getTicketIds() { return ticketIds; }
+    public void setTicketIds(List<Long> ticketIds) { this.ticketIds = ticketIds; }
+
+    public Long getAgentId() { return agentId; }
+    public void setAgentId(Long agentId) { this.agentId = agentId; }
+
+    public TicketStatus getStatus() { return status; }
+    public void setStatus(TicketStatus status) { this.status = status; }
+
+    public TicketPriority getPriority() { return priority; }
+    public void setPriority(TicketPriority priority) { this.priority = priority; }
+
+    public String getResolutionSummary() { return resolutionSummary; }
+    public void setResolutionSummary(String resolutionSummary) { this.resolutionSummary = resolutionSummary; }
+}
@@ -3,6 +3,7 @@ package com.example.smartdeskbackend.dto.request.user;
 import com.example.smartdeskbackend.enums.UserRole;
 import com.example.smartdeskbackend.enums.UserStatus;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 
 public class UpdateUserRequest {
@@ -29,6 +30,12 @@ public class UpdateUserRequest {
 
     private String avatarUrl;
 
+    // 0 agent'ı varsayılan kapasiteye döndürür
+    @Min(value = 0, message = "Max open tickets cannot be negative")
+    private Integer maxOpenTickets;
+
+    private Boolean acceptingTickets;
+
     // Constructors
     public UpdateUserRequest() {}
 
@@ -59,4 +66,10 @@ public class UpdateUserRequest {
 
     public String getAvatarUrl() { return avatarUrl; }
     public void setAvatarUrl(String avatarUrl) { this.avatarUrl = avatarUrl; }
+
+    public Integer getMaxOpenTickets() { return maxOpenTickets; }
+    public void setMaxOpenTickets(Integer maxOpenTickets) { this.maxOpenTickets = maxOpenTickets; }
+
+    public Boolean getAcceptingTickets() { return acceptingTickets; }
+    public void setAcceptingTickets(Boolean acceptingTickets) { this.acceptingTickets = acceptingTickets; }
 }
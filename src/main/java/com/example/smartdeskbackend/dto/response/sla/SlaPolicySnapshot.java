@@ -0,0 +1,37 @@
+package com.example.smartdeskbackend.dto.response.sla;
+
+import com.example.smartdeskbackend.enums.TicketPriority;
+
+/**
+ * SLA politika matrisinde tutulan değişmez politika özeti
+ * JPQL constructor projection ile yüklenir; entity ve ilişkiler yüklenmez (bkz. SlaPolicyService.PolicyMatrix)
+ */
+public class SlaPolicySnapshot {
+
+    private final Long id;
+    private final Long departmentId;
+    private final TicketPriority priority;
+    private final String name;
+    private final int firstResponseTimeHours;
+    private final int resolutionTimeHours;
+    private final boolean businessHoursOnly;
+
+    public SlaPolicySnapshot(Long id, Long departmentId, TicketPriority priority, String name,
+                             int firstResponseTimeHours, int resolutionTimeHours, boolean businessHoursOnly) {
+        this.id = id;
+        this.departmentId = departmentId;
+        this.priority = priority;
+        this.name = name;
+        this.firstResponseTimeHours = firstResponseTimeHours;
+        this.resolutionTimeHours = resolutionTimeHours;
+        this.businessHoursOnly = businessHoursOnly;
+    }
+
+    public Long getId() { return id; }
+    public Long getDepartmentId() { return departmentId; }
+    public TicketPriority getPriority() { return priority; }
+    public String getName() { return name; }
+    public int getFirstResponseTimeHours() { return firstResponseTimeHours; }
+    public int getResolutionTimeHours() { return resolutionTimeHours; }
+    public boolean isBusinessHoursOnly() { return businessHoursOnly; }
+}
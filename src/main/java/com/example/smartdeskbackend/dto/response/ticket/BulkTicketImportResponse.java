@@ -0,0 +1,68 @@
+package com.example.smartdeskbackend.dto.response.ticket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Toplu ticket içe aktarma sonucu
+ * Satır numaraları 1'den başlar (JSON dizisinde eleman sırası, NDJSON'da kayıt sırası)
+ */
+public class BulkTicketImportResponse {
+
+    private int totalRows;
+    private int createdCount;
+    private int failedCount;
+    private List<CreatedRow> created = new ArrayList<>();
+    private List<RowError> errors = new ArrayList<>();
+
+    public BulkTicketImportResponse() {}
+
+    public void addCreated(int row, Long ticketId, String ticketNumber) {
+        created.add(new CreatedRow(row, ticketId, ticketNumber));
+        createdCount++;
+    }
+
+    public void addError(int row, String message) {
+        errors.add(new RowError(row, message));
+        failedCount++;
+    }
+
+    // Getters and Setters
+    public int getTotalRows() { return totalRows; }
+    public void setTotalRows(int totalRows) { this.totalRows = totalRows; }
+
+    public int getCreatedCount() { return createdCount; }
+    public int getFailedCount() { return failedCount; }
+
+    public List<CreatedRow> getCreated() { return created; }
+    public List<RowError> getErrors() { return errors; }
+
+    public static class CreatedRow {
+        private final int row;
+        private final Long ticketId;
+        private final String ticketNumber;
+
+        public CreatedRow(int row, Long ticketId, String ticketNumber) {
+            this.row = row;
+            this.ticketId = ticketId;
+            this.ticketNumber = ticketNumber;
+        }
+
+        public int getRow() { return row; }
+        public Long getTicketId() { return ticketId; }
+        public String getTicketNumber() { return ticketNumber; }
+    }
+
+    public static class RowError {
+        private final int row;
+        private final String message;
+
+        public RowError(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() { return row; }
+        public String getMessage() { return message; }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.smartdeskbackend.dto.response.ticket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Toplu ticket güncelleme sonucu
+ * Zaten hedef durumda olan ticketlar skipped listesine yazılır, hata sayılmaz
+ */
+public class BulkTicketUpdateResponse {
+
+    private int requestedCount;
+    private List<Long> updated = new ArrayList<>();
+    private List<Long> skipped = new ArrayList<>();
+    private List<TicketError> errors = new ArrayList<>();
+
+    public BulkTicketUpdateResponse() {}
+
+    public BulkTicketUpdateResponse(int requestedCount) {
+        this.requestedCount = requestedCount;
+    }
+
+    public void addError(Long ticketId, String message) {
+        errors.add(new TicketError(ticketId, message));
+    }
+
+    // Getters and Setters
+    public int getRequestedCount() { return requestedCount; }
+    public void setRequestedCount(int requestedCount) { this.requestedCount = requestedCount; }
+
+    public int getUpdatedCount() { return updated.size(); }
+    public int getSkippedCount() { return skipped.size(); }
+    public int getFailedCount() { return errors.size(); }
+
+    public List<Long> getUpdated() { return updated; }
+    public List<Long> getSkipped() { return skipped; }
+    public List<TicketError> getErrors() { return errors; }
+
+    public static class TicketError {
+        private final Long ticketId;
+        private final String message;
+
+        public TicketError(Long ticketId, String message) {
+            this.ticketId = ticketId;
+            this.message = message;
+        }
+
+        public Long getTicketId() { return ticketId; }
+        public String getMessage() { return message; }
+    }
+}
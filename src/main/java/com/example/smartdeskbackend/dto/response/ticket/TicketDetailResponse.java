@@ -3,9 +3,17 @@ package com.example.smartdeskbackend.dto.response.ticket;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class TicketDetailResponse {
 
+    // include= ile istenebilen section'lar
+    public static final String SECTION_COMMENTS = "comments";
+    public static final String SECTION_ATTACHMENTS = "attachments";
+    public static final String SECTION_HISTORY = "history";
+    public static final Set<String> ALL_SECTIONS = Set.of(SECTION_COMMENTS, SECTION_ATTACHMENTS, SECTION_HISTORY);
+
     private Long id;
     private String ticketNumber;
     private String title;
@@ -51,6 +59,9 @@ public class TicketDetailResponse {
     private List<Object> attachments;
     private List<Object> history;
 
+    // Yüklenen section'ların sayfa bilgileri (section adı -> page, size, totalElements, hasNext)
+    private Map<String, Object> sectionPages;
+
     // Constructors
     public TicketDetailResponse() {}
 
@@ -159,4 +170,7 @@ public class TicketDetailResponse {
 
     public List<Object> getHistory() { return history; }
     public void setHistory(List<Object> history) { this.history = history; }
+
+    public Map<String, Object> getSectionPages() { return sectionPages; }
+    public void setSectionPages(Map<String, Object> sectionPages) { this.sectionPages = sectionPages; }
 }
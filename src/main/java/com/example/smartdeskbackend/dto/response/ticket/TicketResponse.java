@@ -1,6 +1,11 @@
 
 package com.example.smartdeskbackend.dto.response.ticket;
 
+import com.example.smartdeskbackend.enums.TicketCategory;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.TicketSource;
+import com.example.smartdeskbackend.enums.TicketStatus;
+
 import java.time.LocalDateTime;
 
 public class TicketResponse {
@@ -27,6 +32,39 @@ public class TicketResponse {
     // Constructors
     public TicketResponse() {}
 
+    /**
+     * JPQL constructor projection için (TicketRepository liste sorguları)
+     * Lazy ilişkiler yüklenmeden tek sorguda satır oluşturulur
+     */
+    public TicketResponse(Long id, String ticketNumber, String title,
+                          TicketStatus status, TicketPriority priority,
+                          TicketCategory category, TicketSource source,
+                          String customerFirstName, String customerLastName, String customerEmail,
+                          String customerCompanyName,
+                          String agentFirstName, String agentLastName,
+                          String departmentName,
+                          LocalDateTime createdAt, LocalDateTime lastActivityAt,
+                          LocalDateTime slaDeadline, Integer escalationLevel) {
+        this.id = id;
+        this.ticketNumber = ticketNumber;
+        this.title = title;
+        this.status = status.getCode();
+        this.statusDisplayName = status.getDisplayName();
+        this.priority = priority.getCode();
+        this.priorityDisplayName = priority.getDisplayName();
+        this.category = category != null ? category.getCode() : null;
+        this.source = source.getCode();
+        this.customerName = customerEmail != null ? customerFirstName + " " + customerLastName : null;
+        this.customerEmail = customerEmail;
+        this.customerCompanyName = customerCompanyName;
+        this.assignedAgentName = agentFirstName != null ? agentFirstName + " " + agentLastName : null;
+        this.departmentName = departmentName;
+        this.createdAt = createdAt;
+        this.lastActivityAt = lastActivityAt;
+        this.slaDeadline = slaDeadline;
+        this.escalationLevel = escalationLevel;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -0,0 +1,54 @@
+package com.example.smartdeskbackend.dto.response.ticket;
+
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.TicketStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Toplu güncellemeler için ticket'ın güncelleme öncesi durumu
+ * JPQL constructor projection ile tek sorguda yüklenir; entity ve ilişkiler yüklenmez
+ */
+public class TicketStateSnapshot {
+
+    private final Long id;
+    private final String ticketNumber;
+    private final Long companyId;
+    private final Long departmentId;
+    private final TicketStatus status;
+    private final TicketPriority priority;
+    private final Long agentId;
+    private final String agentName;
+    private final String agentEmail;
+    private final String customerEmail;
+    private final LocalDateTime createdAt;
+
+    public TicketStateSnapshot(Long id, String ticketNumber, Long companyId, Long departmentId,
+                               TicketStatus status, TicketPriority priority, Long agentId,
+                               String agentFirstName, String agentLastName, String agentEmail,
+                               String customerEmail, LocalDateTime createdAt) {
+        this.id = id;
+        this.ticketNumber = ticketNumber;
+        this.companyId = companyId;
+        this.departmentId = departmentId;
+        this.status = status;
+        this.priority = priority;
+        this.agentId = agentId;
+        this.agentName = agentId != null ? agentFirstName + " " + agentLastName : null;
+        this.agentEmail = agentEmail;
+        this.customerEmail = customerEmail;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public String getTicketNumber() { return ticketNumber; }
+    public Long getCompanyId() { return companyId; }
+    public Long getDepartmentId() { return departmentId; }
+    public TicketStatus getStatus() { return status; }
+    public TicketPriority getPriority() { return priority; }
+    public Long getAgentId() { return agentId; }
+    public String getAgentName() { return agentName; }
+    public String getAgentEmail() { return agentEmail; }
+    public String getCustomerEmail() { return customerEmail; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
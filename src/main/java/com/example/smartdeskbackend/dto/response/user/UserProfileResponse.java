@@ -25,6 +25,8 @@ public class UserProfileResponse {
     private String companyName;
     private Long departmentId;
     private String departmentName;
+    private Integer maxOpenTickets;
+    private Boolean acceptingTickets;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -92,6 +94,12 @@ public class UserProfileResponse {
     public String getDepartmentName() { return departmentName; }
     public void setDepartmentName(String departmentName) { this.departmentName = departmentName; }
 
+    public Integer getMaxOpenTickets() { return maxOpenTickets; }
+    public void setMaxOpenTickets(Integer maxOpenTickets) { this.maxOpenTickets = maxOpenTickets; }
+
+    public Boolean getAcceptingTickets() { return acceptingTickets; }
+    public void setAcceptingTickets(Boolean acceptingTickets) { this.acceptingTickets = acceptingTickets; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -0,0 +1,116 @@
+package com.example.smartdeskbackend.entity;
+
+import com.example.smartdeskbackend.entity.base.AuditableEntity;
+import jakarta.persistence.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Şirket ya da departman iş takvimi: çalışma günleri, mesai saatleri, tatiller ve saat dilimi
+ * Departman takvimi yoksa şirket takvimi kullanılır; saat dilimi boşsa şirketin saat dilimi geçerlidir.
+ * SLA süreleri bu takvimden derlenen tabloyla hesaplanır (bkz. BusinessCalendarService)
+ */
+@Entity
+@Table(name = "business_calendars", indexes = {
+        @Index(name = "idx_business_calendar_company", columnList = "company_id, department_id")
+})
+public class BusinessCalendar extends AuditableEntity {
+
+    public static final String DEFAULT_WORK_DAYS = "MON,TUE,WED,THU,FRI";
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "time_zone", length = 50)
+    private String timeZone;
+
+    @Column(name = "work_days", nullable = false, length = 50)
+    private String workDays = DEFAULT_WORK_DAYS;
+
+    @Column(name = "work_start", nullable = false)
+    private LocalTime workStart = LocalTime.of(9, 0);
+
+    @Column(name = "work_end", nullable = false)
+    private LocalTime workEnd = LocalTime.of(18, 0);
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "business_calendar_holidays", joinColumns = @JoinColumn(name = "calendar_id"),
+            foreignKey = @ForeignKey(name = "fk_calendar_holiday_calendar"))
+    @Column(name = "holiday_date", nullable = false)
+    private Set<LocalDate> holidays = new HashSet<>();
+
+    // Relationships
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false, foreignKey = @ForeignKey(name = "fk_business_calendar_company"))
+    private Company company;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "department_id", foreignKey = @ForeignKey(name = "fk_business_calendar_department"))
+    private Department department;
+
+    // Constructors
+    public BusinessCalendar() {
+        super();
+    }
+
+    // Business Methods
+    public boolean isActive() {
+        return isActive != null && isActive;
+    }
+
+    /**
+     * "MON,TUE,..." biçimindeki çalışma günlerini çözer
+     */
+    public Set<DayOfWeek> getWorkDaySet() {
+        if (workDays == null || workDays.isBlank()) {
+            return EnumSet.noneOf(DayOfWeek.class);
+        }
+        return Arrays.stream(workDays.split(","))
+                .map(String::trim)
+                .filter(day -> !day.isEmpty())
+                .map(day -> Arrays.stream(DayOfWeek.values())
+                        .filter(value -> value.name().startsWith(day.toUpperCase(Locale.ROOT)))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown work day: " + day)))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(DayOfWeek.class)));
+    }
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getTimeZone() { return timeZone; }
+    public void setTimeZone(String timeZone) { this.timeZone = timeZone; }
+
+    public String getWorkDays() { return workDays; }
+    public void setWorkDays(String workDays) { this.workDays = workDays; }
+
+    public LocalTime getWorkStart() { return workStart; }
+    public void setWorkStart(LocalTime workStart) { this.workStart = workStart; }
+
+    public LocalTime getWorkEnd() { return workEnd; }
+    public void setWorkEnd(LocalTime workEnd) { this.workEnd = workEnd; }
+
+    public Boolean getIsActive() { return isActive; }
+    public void setIsActive(Boolean isActive) { this.isActive = isActive; }
+
+    public Set<LocalDate> getHolidays() { return holidays; }
+    public void setHolidays(Set<LocalDate> holidays) { this.holidays = holidays; }
+
+    public Company getCompany() { return company; }
+    public void setCompany(Company company) { this.company = company; }
+
+    public Department getDepartment() { return department; }
+    public void setDepartment(Department department) { this.department = department; }
+}
@@ -2,6 +2,8 @@ package com.example.smartdeskbackend.entity;
 
 import com.example.smartdeskbackend.entity.base.AuditableEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -12,6 +14,8 @@ import java.util.List;
  * Şirket bilgilerini tutan entity sınıfı
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "companies")
 @Table(name = "companies", indexes = {
         @Index(name = "idx_company_domain", columnList = "domain", unique = true),
         @Index(name = "idx_company_name", columnList = "name")
@@ -1,6 +1,8 @@
 package com.example.smartdeskbackend.entity;
 
 import com.example.smartdeskbackend.entity.base.AuditableEntity;
+import com.example.smartdeskbackend.entity.listener.CustomerStateListener;
+import com.example.smartdeskbackend.event.CustomerStateChangedEvent;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -14,6 +16,7 @@ import java.util.List;
         @Index(name = "idx_customer_company", columnList = "company_id"),
         @Index(name = "idx_customer_segment", columnList = "segment")
 })
+@EntityListeners(CustomerStateListener.class)
 public class Customer extends AuditableEntity {
 
     @NotBlank(message = "Email is required")
@@ -52,6 +55,10 @@ public class Customer extends AuditableEntity {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
+    // Dashboard sayaçları için son yüklenen/yazılan durum (bkz. CustomerStateListener)
+    @Transient
+    private CustomerStateChangedEvent.State counterState;
+
     // Relationships
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false, foreignKey = @ForeignKey(name = "fk_customer_company"))
@@ -127,6 +134,9 @@ public class Customer extends AuditableEntity {
     public List<Ticket> getTickets() { return tickets; }
     public void setTickets(List<Ticket> tickets) { this.tickets = tickets; }
 
+    public CustomerStateChangedEvent.State getCounterState() { return counterState; }
+    public void setCounterState(CustomerStateChangedEvent.State counterState) { this.counterState = counterState; }
+
     @Override
     public String toString() {
         return String.format("Customer{id=%d, email='%s', fullName='%s', segment=%s}",
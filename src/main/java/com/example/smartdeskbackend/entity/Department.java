@@ -2,6 +2,8 @@ package com.example.smartdeskbackend.entity;
 
 import com.example.smartdeskbackend.entity.base.AuditableEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -9,6 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
 @Table(name = "departments", indexes = {
         @Index(name = "idx_department_company", columnList = "company_id"),
         @Index(name = "idx_department_name", columnList = "name")
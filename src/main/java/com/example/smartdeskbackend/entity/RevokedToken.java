@@ -0,0 +1,61 @@
+package com.example.smartdeskbackend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * İptal edilmiş JWT (jti)
+ * Token'ın süresi dolana kadar tutulur; node'lar version'a göre yeni kayıtları okur (bkz. TokenRevocationService)
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_token_version", columnList = "version"),
+        @Index(name = "idx_revoked_token_expires", columnList = "expires_at")
+})
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id", nullable = false, length = 64)
+    private String tokenId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    // İptal sayacının bu kayıtla birlikte commit edilen değeri
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Constructors
+    public RevokedToken() {}
+
+    public RevokedToken(String tokenId, Long userId, LocalDateTime expiresAt, LocalDateTime revokedAt, Long version) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+        this.version = version;
+    }
+
+    // Getters and Setters
+    public String getTokenId() { return tokenId; }
+    public void setTokenId(String tokenId) { this.tokenId = tokenId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+
+    public LocalDateTime getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(LocalDateTime revokedAt) { this.revokedAt = revokedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -4,10 +4,14 @@ package com.example.smartdeskbackend.entity;
 import com.example.smartdeskbackend.entity.base.AuditableEntity; // AuditableEntity sınıfı için gerekli import
 import com.example.smartdeskbackend.enums.TicketPriority; // TicketPriority enum'ı için import
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sla-policies")
 @Table(name = "sla_policies")
 @Data
 @EqualsAndHashCode(callSuper = true) // AuditableEntity'den miras aldığı için
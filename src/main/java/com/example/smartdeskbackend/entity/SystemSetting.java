@@ -3,10 +3,14 @@ package com.example.smartdeskbackend.entity;
 
 import com.example.smartdeskbackend.entity.base.AuditableEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "system-settings")
 @Table(name = "system_settings")
 @Data
 @EqualsAndHashCode(callSuper = true)
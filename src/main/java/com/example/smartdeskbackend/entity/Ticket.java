@@ -1,6 +1,7 @@
 package com.example.smartdeskbackend.entity;
 
 import com.example.smartdeskbackend.entity.base.AuditableEntity;
+import com.example.smartdeskbackend.entity.listener.TicketStateListener;
 import com.example.smartdeskbackend.enums.*;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -8,7 +9,10 @@ import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "tickets", indexes = {
@@ -21,8 +25,15 @@ import java.util.List;
         @Index(name = "idx_ticket_category", columnList = "category"),
         @Index(name = "idx_ticket_source", columnList = "source"),
         @Index(name = "idx_ticket_created_at", columnList = "created_at"),
-        @Index(name = "idx_ticket_sla_deadline", columnList = "sla_deadline")
+        @Index(name = "idx_ticket_sla_deadline", columnList = "sla_deadline"),
+        // Keyset (cursor) pagination için sıralama anahtarını kapsayan index'ler
+        @Index(name = "idx_ticket_company_created", columnList = "company_id, created_at, id"),
+        @Index(name = "idx_ticket_agent_created", columnList = "assigned_agent_id, created_at, id"),
+        // Agent yük index'inin açık ticket sayımı için
+        @Index(name = "idx_ticket_agent_status", columnList = "assigned_agent_id, status"),
+        @Index(name = "idx_ticket_created_id", columnList = "created_at, id")
 })
+@EntityListeners(TicketStateListener.class)
 public class Ticket extends AuditableEntity {
 
     @NotBlank(message = "Ticket title is required")
@@ -92,15 +103,22 @@ public class Ticket extends AuditableEntity {
     @Column(name = "last_activity_at")
     private LocalDateTime lastActivityAt;
 
-    @Column(name = "last_message_at")
+    @Column(name = "last_message_at", updatable = false) // ActivityRecorder yazar
     private LocalDateTime lastMessageAt;
 
-    @Column(name = "unread_message_count")
+    @Column(name = "unread_message_count", updatable = false) // ActivityRecorder yazar
     private Integer unreadMessageCount = 0;
 
     @Column(name = "chat_enabled")
     private Boolean chatEnabled = true;
 
+    @Column(name = "sla_risk_notified_deadline", updatable = false) // SlaEventListener yazar
+    private LocalDateTime slaRiskNotifiedDeadline;
+
+    // TicketStateListener'ın son yüklenen/yazılan durumu (sayaç, rollup, SLA, agent yükü)
+    @Transient
+    private TicketStateListener.Snapshot stateSnapshot;
+
     // Relationships
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -146,22 +164,10 @@ public class Ticket extends AuditableEntity {
         this.title = title;
         this.description = description;
         this.company = company;
-        this.generateTicketNumber();
     }
 
     // Business Methods
 
-    /**
-     * Bilet numarası oluşturur (TK-YYYYMMDD-XXXX formatında)
-     */
-    public void generateTicketNumber() {
-        if (this.ticketNumber == null) {
-            String dateStr = LocalDateTime.now().toString().substring(0, 10).replace("-", "");
-            this.ticketNumber = "TK-" + dateStr + "-" + String.format("%04d",
-                    (int) (Math.random() * 9999) + 1);
-        }
-    }
-
     /**
      * Bilet durumu güncelleme
      */
@@ -227,32 +233,44 @@ public class Ticket extends AuditableEntity {
     }
 
     /**
-     * Biletde aktivite güncelleme
+     * SLA zamanlayıcısında bu durumlardaki ticketlar beklenmez
+     * (kapanmış, çözülmüş ya da zaten escalate edilmiş)
      */
-    public void updateActivity() {
-        this.lastActivityAt = LocalDateTime.now();
-    }
+    public static final Set<TicketStatus> SLA_TIMER_EXCLUDED_STATUSES = Collections.unmodifiableSet(
+            EnumSet.of(TicketStatus.RESOLVED, TicketStatus.CLOSED, TicketStatus.ESCALATED));
 
     /**
-     * Son mesaj zamanını güncelle
+     * SLA zamanlayıcısının beklemesi gereken deadline
+     * İlk yanıt verilmişse veya ticket SLA_TIMER_EXCLUDED_STATUSES içindeyse null
      */
-    public void updateLastMessageTime() {
-        this.lastMessageAt = LocalDateTime.now();
-        this.lastActivityAt = LocalDateTime.now();
+    public LocalDateTime pendingSlaDeadline() {
+        if (slaDeadline == null || firstResponseAt != null || SLA_TIMER_EXCLUDED_STATUSES.contains(status)) {
+            return null;
+        }
+        return slaDeadline;
     }
 
     /**
-     * Okunmamış mesaj sayısını artır
+     * Bu durumlardaki ticketlar agent'ın açık iş yüküne sayılmaz
+     */
+    public static final Set<TicketStatus> AGENT_LOAD_EXCLUDED_STATUSES = Collections.unmodifiableSet(
+            EnumSet.of(TicketStatus.RESOLVED, TicketStatus.CLOSED));
+
+    /**
+     * Yükü bu ticketı içeren agent; atanmamış ya da kapanmış ticket için null
      */
-    public void incrementUnreadMessageCount() {
-        this.unreadMessageCount = (this.unreadMessageCount == null ? 0 : this.unreadMessageCount) + 1;
+    public Long loadAgentId() {
+        if (assignedAgent == null || AGENT_LOAD_EXCLUDED_STATUSES.contains(status)) {
+            return null;
+        }
+        return assignedAgent.getId();
     }
 
     /**
-     * Okunmamış mesaj sayısını sıfırla
+     * Biletde aktivite güncelleme
      */
-    public void resetUnreadMessageCount() {
-        this.unreadMessageCount = 0;
+    public void updateActivity() {
+        this.lastActivityAt = LocalDateTime.now();
     }
 
     /**
@@ -269,20 +287,7 @@ public class Ticket extends AuditableEntity {
         this.escalationLevel++;
 
         // Önceliği artır
-        switch (this.priority) {
-            case LOW:
-                this.priority = TicketPriority.NORMAL;
-                break;
-            case NORMAL:
-                this.priority = TicketPriority.HIGH;
-                break;
-            case HIGH:
-                this.priority = TicketPriority.URGENT;
-                break;
-            case URGENT:
-                this.priority = TicketPriority.CRITICAL;
-                break;
-        }
+        this.priority = this.priority.escalated();
 
         this.status = TicketStatus.ESCALATED;
         this.lastActivityAt = LocalDateTime.now();
@@ -606,6 +611,10 @@ public class Ticket extends AuditableEntity {
         return lastMessageAt;
     }
 
+    public LocalDateTime getSlaRiskNotifiedDeadline() {
+        return slaRiskNotifiedDeadline;
+    }
+
     public void setLastMessageAt(LocalDateTime lastMessageAt) {
         this.lastMessageAt = lastMessageAt;
     }
@@ -626,6 +635,14 @@ public class Ticket extends AuditableEntity {
         this.chatEnabled = chatEnabled;
     }
 
+    public TicketStateListener.Snapshot getStateSnapshot() {
+        return stateSnapshot;
+    }
+
+    public void setStateSnapshot(TicketStateListener.Snapshot stateSnapshot) {
+        this.stateSnapshot = stateSnapshot;
+    }
+
     @Override
     public String toString() {
         return String.format("Ticket{id=%d, ticketNumber='%s', title='%s', status=%s, priority=%s}",
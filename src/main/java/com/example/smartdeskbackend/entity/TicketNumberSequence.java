@@ -0,0 +1,37 @@
+package com.example.smartdeskbackend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Günlük ticket numarası sayacı
+ * Her node bu tablodan blok halinde aralık ayırır (bkz. TicketNumberService)
+ */
+@Entity
+@Table(name = "ticket_number_sequences")
+public class TicketNumberSequence {
+
+    @Id
+    @Column(name = "seq_date", nullable = false)
+    private LocalDate seqDate;
+
+    // Bu gün için dağıtılmış en son numara
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue = 0L;
+
+    // Constructors
+    public TicketNumberSequence() {}
+
+    public TicketNumberSequence(LocalDate seqDate, Long lastValue) {
+        this.seqDate = seqDate;
+        this.lastValue = lastValue;
+    }
+
+    // Getters and Setters
+    public LocalDate getSeqDate() { return seqDate; }
+    public void setSeqDate(LocalDate seqDate) { this.seqDate = seqDate; }
+
+    public Long getLastValue() { return lastValue; }
+    public void setLastValue(Long lastValue) { this.lastValue = lastValue; }
+}
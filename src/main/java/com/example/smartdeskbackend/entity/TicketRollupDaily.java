@@ -0,0 +1,24 @@
+package com.example.smartdeskbackend.entity;
+
+import com.example.smartdeskbackend.entity.base.TicketRollupBase;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Günlük ticket rollup'ı; saatlik rollup satırlarından türetilir
+ * Trend ve analitik sorguları ticket tablosu yerine bu tablodan okur
+ */
+@Entity
+@Table(name = "ticket_rollup_daily", indexes = {
+        @Index(name = "idx_rollup_daily_company_bucket", columnList = "company_id, bucket_date"),
+        @Index(name = "idx_rollup_daily_company_agent", columnList = "company_id, agent_id, bucket_date")
+})
+public class TicketRollupDaily extends TicketRollupBase {
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    public LocalDate getBucketDate() { return bucketDate; }
+    public void setBucketDate(LocalDate bucketDate) { this.bucketDate = bucketDate; }
+}
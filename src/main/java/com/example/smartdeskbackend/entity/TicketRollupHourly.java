@@ -0,0 +1,23 @@
+package com.example.smartdeskbackend.entity;
+
+import com.example.smartdeskbackend.entity.base.TicketRollupBase;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saatlik ticket rollup'ı (şirket / departman / kategori / öncelik / agent bazında)
+ * bucketStart: ticket'ların oluşturulduğu saatin başlangıcı (bkz. TicketRollupService)
+ */
+@Entity
+@Table(name = "ticket_rollup_hourly", indexes = {
+        @Index(name = "idx_rollup_hourly_company_bucket", columnList = "company_id, bucket_start")
+})
+public class TicketRollupHourly extends TicketRollupBase {
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public void setBucketStart(LocalDateTime bucketStart) { this.bucketStart = bucketStart; }
+}
@@ -0,0 +1,37 @@
+package com.example.smartdeskbackend.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Token iptal sayacı (tek satır)
+ * Her iptal sayacı aynı transaction'da artırır; satır kilidi commit'lerin sayaç sırasıyla yapılmasını sağlar.
+ * Node'lar sayacı yoklayarak yalnızca yeni iptalleri okur
+ */
+@Entity
+@Table(name = "token_revocation_version")
+public class TokenRevocationVersion {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
+    // Constructors
+    public TokenRevocationVersion() {}
+
+    public TokenRevocationVersion(Integer id, Long version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    // Getters and Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
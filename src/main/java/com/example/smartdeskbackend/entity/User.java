@@ -21,7 +21,8 @@ import java.util.List;
         @Index(name = "idx_user_email", columnList = "email", unique = true),
         @Index(name = "idx_user_company", columnList = "company_id"),
         @Index(name = "idx_user_role", columnList = "role"),
-        @Index(name = "idx_user_status", columnList = "status")
+        @Index(name = "idx_user_status", columnList = "status"),
+        @Index(name = "idx_user_department_role", columnList = "department_id, role, status")
 })
 public class User extends AuditableEntity {
 
@@ -59,7 +60,7 @@ public class User extends AuditableEntity {
     @Column(name = "avatar_url", length = 500)
     private String avatarUrl;
 
-    @Column(name = "last_login")
+    @Column(name = "last_login", updatable = false) // ActivityRecorder yazar
     private LocalDateTime lastLogin;
 
     @Column(name = "login_attempts", nullable = false)
@@ -80,6 +81,14 @@ public class User extends AuditableEntity {
     @Column(name = "email_verification_token", length = 100)
     private String emailVerificationToken;
 
+    // Otomatik atamada agent başına açık ticket sınırı; null ise app.business.assignment.agent-capacity
+    @Column(name = "max_open_tickets")
+    private Integer maxOpenTickets;
+
+    // false ise agent aktif kalır ama otomatik atamayla yeni ticket almaz (izin, eğitim vb.)
+    @Column(name = "accepting_tickets", nullable = false)
+    private Boolean acceptingTickets = true;
+
     // Company relationship - bir kullanıcı bir şirkete ait
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", foreignKey = @ForeignKey(name = "fk_user_company"))
@@ -174,15 +183,6 @@ public class User extends AuditableEntity {
         return this.role.hasPermission(requiredRole);
     }
 
-    /**
-     * Başarılı giriş sonrası güncelleme
-     */
-    public void recordSuccessfulLogin() {
-        this.lastLogin = LocalDateTime.now();
-        this.loginAttempts = 0;
-        this.lockedUntil = null;
-    }
-
     /**
      * Başarısız giriş denemesi sonrası güncelleme
      */
@@ -256,6 +256,12 @@ public class User extends AuditableEntity {
     public String getEmailVerificationToken() { return emailVerificationToken; }
     public void setEmailVerificationToken(String emailVerificationToken) { this.emailVerificationToken = emailVerificationToken; }
 
+    public Integer getMaxOpenTickets() { return maxOpenTickets; }
+    public void setMaxOpenTickets(Integer maxOpenTickets) { this.maxOpenTickets = maxOpenTickets; }
+
+    public Boolean getAcceptingTickets() { return acceptingTickets; }
+    public void setAcceptingTickets(Boolean acceptingTickets) { this.acceptingTickets = acceptingTickets; }
+
     public Company getCompany() { return company; }
     public void setCompany(Company company) { this.company = company; }
 
@@ -0,0 +1,83 @@
+package com.example.smartdeskbackend.entity.base;
+
+import com.example.smartdeskbackend.enums.TicketCategory;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import jakarta.persistence.*;
+
+/**
+ * Ticket rollup tablolarının ortak boyut ve ölçü kolonları
+ * Satırlar ticket'ın oluşturulduğu zaman dilimine göre gruplanır; ilişkiler yerine sadece id'ler tutulur.
+ * Ölçüler: oluşturulan, çözülen, SLA süresi aşılarak çözülen, memnuniyet toplamı/adedi, çözüm süresi (dakika)
+ */
+@MappedSuperclass
+public abstract class TicketRollupBase extends BaseEntity {
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 50)
+    private TicketCategory category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 20)
+    private TicketPriority priority;
+
+    @Column(name = "agent_id")
+    private Long agentId;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Column(name = "resolved_count", nullable = false)
+    private long resolvedCount;
+
+    @Column(name = "breached_count", nullable = false)
+    private long breachedCount;
+
+    @Column(name = "satisfaction_sum", nullable = false)
+    private long satisfactionSum;
+
+    @Column(name = "satisfaction_count", nullable = false)
+    private long satisfactionCount;
+
+    @Column(name = "resolution_minutes_sum", nullable = false)
+    private long resolutionMinutesSum;
+
+    // Getters and Setters
+    public Long getCompanyId() { return companyId; }
+    public void setCompanyId(Long companyId) { this.companyId = companyId; }
+
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+
+    public TicketCategory getCategory() { return category; }
+    public void setCategory(TicketCategory category) { this.category = category; }
+
+    public TicketPriority getPriority() { return priority; }
+    public void setPriority(TicketPriority priority) { this.priority = priority; }
+
+    public Long getAgentId() { return agentId; }
+    public void setAgentId(Long agentId) { this.agentId = agentId; }
+
+    public long getCreatedCount() { return createdCount; }
+    public void setCreatedCount(long createdCount) { this.createdCount = createdCount; }
+
+    public long getResolvedCount() { return resolvedCount; }
+    public void setResolvedCount(long resolvedCount) { this.resolvedCount = resolvedCount; }
+
+    public long getBreachedCount() { return breachedCount; }
+    public void setBreachedCount(long breachedCount) { this.breachedCount = breachedCount; }
+
+    public long getSatisfactionSum() { return satisfactionSum; }
+    public void setSatisfactionSum(long satisfactionSum) { this.satisfactionSum = satisfactionSum; }
+
+    public long getSatisfactionCount() { return satisfactionCount; }
+    public void setSatisfactionCount(long satisfactionCount) { this.satisfactionCount = satisfactionCount; }
+
+    public long getResolutionMinutesSum() { return resolutionMinutesSum; }
+    public void setResolutionMinutesSum(long resolutionMinutesSum) { this.resolutionMinutesSum = resolutionMinutesSum; }
+}
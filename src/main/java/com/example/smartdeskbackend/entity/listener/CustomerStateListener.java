@@ -0,0 +1,61 @@
+package com.example.smartdeskbackend.entity.listener;
+
+import com.example.smartdeskbackend.entity.Customer;
+import com.example.smartdeskbackend.event.CustomerStateChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Müşteri sayaç durumu (aktif / VIP) değişikliklerini yakalayan JPA listener
+ * Çalışma şekli TicketStateListener ile aynıdır
+ */
+public class CustomerStateListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Customer customer) {
+        customer.setCounterState(stateOf(customer));
+    }
+
+    @PostPersist
+    public void onPersist(Customer customer) {
+        CustomerStateChangedEvent.State after = stateOf(customer);
+        publish(customer, null, after);
+        customer.setCounterState(after);
+    }
+
+    @PostUpdate
+    public void onUpdate(Customer customer) {
+        CustomerStateChangedEvent.State before = customer.getCounterState();
+        CustomerStateChangedEvent.State after = stateOf(customer);
+        if (!after.equals(before)) {
+            publish(customer, before, after);
+            customer.setCounterState(after);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Customer customer) {
+        CustomerStateChangedEvent.State before = customer.getCounterState() != null
+                ? customer.getCounterState() : stateOf(customer);
+        publish(customer, before, null);
+    }
+
+    private void publish(Customer customer, CustomerStateChangedEvent.State before,
+                         CustomerStateChangedEvent.State after) {
+        if (customer.getCompany() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new CustomerStateChangedEvent(customer.getCompany().getId(), before, after));
+    }
+
+    private static CustomerStateChangedEvent.State stateOf(Customer customer) {
+        return new CustomerStateChangedEvent.State(customer.isActive(), customer.isVipCustomer());
+    }
+}
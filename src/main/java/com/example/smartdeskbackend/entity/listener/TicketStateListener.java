@@ -0,0 +1,130 @@
+package com.example.smartdeskbackend.entity.listener;
+
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.event.AgentLoadChangedEvent;
+import com.example.smartdeskbackend.event.TicketRollupInvalidatedEvent;
+import com.example.smartdeskbackend.event.TicketSlaChangedEvent;
+import com.example.smartdeskbackend.event.TicketStateChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Ticket sayaç, rollup, SLA ve agent yükü değişikliklerini yakalayan JPA listener
+ * Yüklenen/yazılan durum entity üzerinde tek bir Snapshot olarak saklanır; flush sonrası fark varsa
+ * TicketStateChangedEvent (dashboard sayaçları), TicketRollupInvalidatedEvent (rollup tabloları),
+ * TicketSlaChangedEvent (SLA zamanlayıcısı) ve/veya AgentLoadChangedEvent (otomatik atama yük index'i) yayınlanır.
+ * Set-based bulk UPDATE'ler listener'ı atladığı için event'leri servis katmanında yayınlanır.
+ * Spring bean container tarafından oluşturulur (bkz. SpringBeanContainer)
+ */
+public class TicketStateListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Ticket ticket) {
+        ticket.setStateSnapshot(Snapshot.of(ticket));
+    }
+
+    @PostPersist
+    public void onPersist(Ticket ticket) {
+        publishChanges(ticket, Snapshot.EMPTY, Snapshot.of(ticket));
+    }
+
+    @PostUpdate
+    public void onUpdate(Ticket ticket) {
+        Snapshot before = ticket.getStateSnapshot() != null ? ticket.getStateSnapshot() : Snapshot.EMPTY;
+        publishChanges(ticket, before, Snapshot.of(ticket));
+    }
+
+    @PostRemove
+    public void onRemove(Ticket ticket) {
+        Snapshot before = ticket.getStateSnapshot() != null ? ticket.getStateSnapshot() : Snapshot.of(ticket);
+        publish(ticket, before.counterState, null);
+        publishRollup(ticket);
+        if (before.slaDeadline != null) {
+            eventPublisher.publishEvent(TicketSlaChangedEvent.of(ticket.getId(), null));
+        }
+        if (before.loadAgentId != null) {
+            eventPublisher.publishEvent(AgentLoadChangedEvent.of(ticket.getId(), before.loadAgentId, null));
+        }
+        ticket.setStateSnapshot(null);
+    }
+
+    private void publishChanges(Ticket ticket, Snapshot before, Snapshot after) {
+        if (!after.counterState.equals(before.counterState)) {
+            publish(ticket, before.counterState, after.counterState);
+        }
+        // Sadece chat sayaçları vb. değiştiyse rollup etkilenmez
+        if (!after.rollupState.equals(before.rollupState)) {
+            publishRollup(ticket);
+        }
+        if (!Objects.equals(after.slaDeadline, before.slaDeadline)) {
+            eventPublisher.publishEvent(TicketSlaChangedEvent.of(ticket.getId(), after.slaDeadline));
+        }
+        if (!Objects.equals(after.loadAgentId, before.loadAgentId)) {
+            eventPublisher.publishEvent(AgentLoadChangedEvent.of(ticket.getId(), before.loadAgentId, after.loadAgentId));
+        }
+        ticket.setStateSnapshot(after);
+    }
+
+    private void publishRollup(Ticket ticket) {
+        if (ticket.getCompany() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(TicketRollupInvalidatedEvent.of(ticket.getCompany().getId(), ticket.getCreatedAt()));
+    }
+
+    private void publish(Ticket ticket, TicketStateChangedEvent.State before, TicketStateChangedEvent.State after) {
+        if (ticket.getCompany() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(TicketStateChangedEvent.of(ticket.getCompany().getId(), before, after));
+    }
+
+    /**
+     * Listener'ın son yüklenen/yazılan durumu; değişmezdir, her flush'ta yenisiyle değiştirilir
+     */
+    public static final class Snapshot {
+
+        // Henüz yazılmamış ticket: her alan farklı sayılır
+        static final Snapshot EMPTY = new Snapshot(null, null, null, null);
+
+        // Dashboard sayaçları
+        private final TicketStateChangedEvent.State counterState;
+        // Rollup boyut ve ölçülerini belirleyen alanlar (bkz. TicketRollupHourlyRepository.insertFromTickets)
+        private final List<Object> rollupState;
+        // SLA zamanlayıcısına bildirilen deadline (bkz. SlaTimerService)
+        private final LocalDateTime slaDeadline;
+        // Agent yük index'ine bildirilen agent (bkz. AgentLoadService)
+        private final Long loadAgentId;
+
+        private Snapshot(TicketStateChangedEvent.State counterState, List<Object> rollupState,
+                         LocalDateTime slaDeadline, Long loadAgentId) {
+            this.counterState = counterState;
+            this.rollupState = rollupState;
+            this.slaDeadline = slaDeadline;
+            this.loadAgentId = loadAgentId;
+        }
+
+        static Snapshot of(Ticket ticket) {
+            TicketStateChangedEvent.State counterState = new TicketStateChangedEvent.State(
+                    ticket.getStatus(), ticket.getPriority(), ticket.getAssignedAgent() != null);
+            List<Object> rollupState = Arrays.asList(
+                    ticket.getDepartment() != null ? ticket.getDepartment().getId() : null,
+                    ticket.getAssignedAgent() != null ? ticket.getAssignedAgent().getId() : null,
+                    ticket.getCategory(), ticket.getPriority(), ticket.getCreatedAt(), ticket.getResolvedAt(),
+                    ticket.getSlaDeadline(), ticket.getCustomerSatisfactionRating());
+            return new Snapshot(counterState, rollupState, ticket.pendingSlaDeadline(), ticket.loadAgentId());
+        }
+    }
+}
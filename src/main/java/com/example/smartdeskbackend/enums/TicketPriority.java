@@ -28,4 +28,12 @@ public enum TicketPriority {
     public boolean isHighPriority() {
         return this.level >= HIGH.level;
     }
+
+    /**
+     * Escalation sonrası öncelik: bir üst seviye, CRITICAL'da kalır
+     */
+    public TicketPriority escalated() {
+        TicketPriority[] values = values();
+        return ordinal() + 1 < values.length ? values[ordinal() + 1] : this;
+    }
 }
\ No newline at end of file
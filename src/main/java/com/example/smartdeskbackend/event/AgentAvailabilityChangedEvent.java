@@ -0,0 +1,27 @@
+package com.example.smartdeskbackend.event;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Agent'ın atanabilirliği (rol, durum, departman, kapasite veya ticket kabulü) değişti event'i
+ * Etkilenen departmanların yük index'i commit sonrası DB'den yeniden yüklenir
+ */
+public class AgentAvailabilityChangedEvent {
+
+    private final Long userId;
+    private final Set<Long> departmentIds;
+
+    public AgentAvailabilityChangedEvent(Long userId, Set<Long> departmentIds) {
+        this.userId = userId;
+        this.departmentIds = Collections.unmodifiableSet(departmentIds);
+    }
+
+    public Long getUserId() { return userId; }
+    public Set<Long> getDepartmentIds() { return departmentIds; }
+
+    @Override
+    public String toString() {
+        return "AgentAvailabilityChangedEvent{userId=" + userId + ", departmentIds=" + departmentIds + '}';
+    }
+}
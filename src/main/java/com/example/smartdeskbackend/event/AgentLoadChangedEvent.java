@@ -0,0 +1,45 @@
+package com.example.smartdeskbackend.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ticket'ın yükünü taşıyan agent değişti event'i
+ * from/to null ise ticket o tarafta hiçbir agent'ın yüküne sayılmaz (atanmamış, kapanmış veya silinmiş).
+ * Commit sonrası AgentLoadService'e uygulanır
+ */
+public class AgentLoadChangedEvent {
+
+    private final List<Change> changes;
+
+    public AgentLoadChangedEvent(List<Change> changes) {
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    public static AgentLoadChangedEvent of(Long ticketId, Long fromAgentId, Long toAgentId) {
+        return new AgentLoadChangedEvent(Collections.singletonList(new Change(ticketId, fromAgentId, toAgentId)));
+    }
+
+    public List<Change> getChanges() { return changes; }
+
+    @Override
+    public String toString() {
+        return "AgentLoadChangedEvent{changes=" + changes.size() + '}';
+    }
+
+    public static final class Change {
+        private final Long ticketId;
+        private final Long fromAgentId;
+        private final Long toAgentId;
+
+        public Change(Long ticketId, Long fromAgentId, Long toAgentId) {
+            this.ticketId = ticketId;
+            this.fromAgentId = fromAgentId;
+            this.toAgentId = toAgentId;
+        }
+
+        public Long getTicketId() { return ticketId; }
+        public Long getFromAgentId() { return fromAgentId; }
+        public Long getToAgentId() { return toAgentId; }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.smartdeskbackend.event;
+
+/**
+ * Müşteri sayaç durumu (aktif mi / VIP mi) değişti event'i
+ * Entity listener'dan yayınlanır (bkz. CustomerStateListener). before null ise müşteri yeni oluşturulmuş,
+ * after null ise silinmiştir.
+ */
+public class CustomerStateChangedEvent {
+
+    private final Long companyId;
+    private final State before;
+    private final State after;
+
+    public CustomerStateChangedEvent(Long companyId, State before, State after) {
+        this.companyId = companyId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public Long getCompanyId() { return companyId; }
+    public State getBefore() { return before; }
+    public State getAfter() { return after; }
+
+    @Override
+    public String toString() {
+        return "CustomerStateChangedEvent{companyId=" + companyId + '}';
+    }
+
+    public static final class State {
+        private final boolean active;
+        private final boolean vip;
+
+        public State(boolean active, boolean vip) {
+            this.active = active;
+            this.vip = vip;
+        }
+
+        public boolean isActive() { return active; }
+        public boolean isVip() { return vip; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof State)) return false;
+            State state = (State) o;
+            return active == state.active && vip == state.vip;
+        }
+
+        @Override
+        public int hashCode() {
+            return (active ? 2 : 0) + (vip ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.smartdeskbackend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * SLA deadline'ı doldu event'i
+ * SlaTimerService zamanlayıcı thread'inden, deadline anında yayınlanır
+ */
+public class SlaBreachedEvent {
+
+    private final Long ticketId;
+    private final LocalDateTime deadline;
+
+    public SlaBreachedEvent(Long ticketId, LocalDateTime deadline) {
+        this.ticketId = ticketId;
+        this.deadline = deadline;
+    }
+
+    public Long getTicketId() { return ticketId; }
+    public LocalDateTime getDeadline() { return deadline; }
+
+    @Override
+    public String toString() {
+        return "SlaBreachedEvent{ticketId=" + ticketId + ", deadline=" + deadline + '}';
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.smartdeskbackend.event;
+
+/**
+ * Şirketin SLA politikaları değişti event'i
+ * Commit sonrası şirketin politika matrisi yeniden kurulur (bkz. SlaPolicyService.rebuildPolicyMatrix)
+ */
+public class SlaPolicyChangedEvent {
+
+    private final Long companyId;
+
+    public SlaPolicyChangedEvent(Long companyId) {
+        this.companyId = companyId;
+    }
+
+    public Long getCompanyId() { return companyId; }
+
+    @Override
+    public String toString() {
+        return "SlaPolicyChangedEvent{companyId=" + companyId + '}';
+    }
+}
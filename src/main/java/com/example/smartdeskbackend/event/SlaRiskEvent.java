@@ -0,0 +1,26 @@
+package com.example.smartdeskbackend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * SLA deadline'ı yaklaştı (risk penceresine girildi) event'i
+ * SlaTimerService zamanlayıcı thread'inden yayınlanır
+ */
+public class SlaRiskEvent {
+
+    private final Long ticketId;
+    private final LocalDateTime deadline;
+
+    public SlaRiskEvent(Long ticketId, LocalDateTime deadline) {
+        this.ticketId = ticketId;
+        this.deadline = deadline;
+    }
+
+    public Long getTicketId() { return ticketId; }
+    public LocalDateTime getDeadline() { return deadline; }
+
+    @Override
+    public String toString() {
+        return "SlaRiskEvent{ticketId=" + ticketId + ", deadline=" + deadline + '}';
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.smartdeskbackend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Yeni ticket oluşturuldu event'i
+ * Transaction commit edildikten sonra listener'lar tarafından işlenir (bildirim, email, WebSocket).
+ * Entity yerine sadece ID ve değer alanları taşır; listener'lar ihtiyaç duyarsa yeniden yükler.
+ */
+public class TicketCreatedEvent {
+
+    private final Long ticketId;
+    private final String ticketNumber;
+    private final Long companyId;
+    private final Long departmentId;
+    private final Long creatorUserId;
+    private final String customerName;
+    private final String priority;
+    private final String status;
+    private final LocalDateTime createdAt;
+
+    public TicketCreatedEvent(Long ticketId, String ticketNumber, Long companyId, Long departmentId,
+                              Long creatorUserId, String customerName, String priority, String status,
+                              LocalDateTime createdAt) {
+        this.ticketId = ticketId;
+        this.ticketNumber = ticketNumber;
+        this.companyId = companyId;
+        this.departmentId = departmentId;
+        this.creatorUserId = creatorUserId;
+        this.customerName = customerName;
+        this.priority = priority;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public Long getTicketId() { return ticketId; }
+    public String getTicketNumber() { return ticketNumber; }
+    public Long getCompanyId() { return companyId; }
+    public Long getDepartmentId() { return departmentId; }
+    public Long getCreatorUserId() { return creatorUserId; }
+    public String getCustomerName() { return customerName; }
+    public String getPriority() { return priority; }
+    public String getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    @Override
+    public String toString() {
+        return String.format("TicketCreatedEvent{ticketId=%d, ticketNumber='%s', companyId=%d}",
+                ticketId, ticketNumber, companyId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.smartdeskbackend.event;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rollup'ı etkileyebilecek ticket değişikliği event'i
+ * Her kayıt ticket'ın şirketini ve oluşturulma zamanını taşır; ilgili saatlik dilim commit sonrası
+ * yeniden hesaplanmak üzere işaretlenir (bkz. TicketRollupService)
+ */
+public class TicketRollupInvalidatedEvent {
+
+    private final List<Entry> entries;
+
+    public TicketRollupInvalidatedEvent(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    public static TicketRollupInvalidatedEvent of(Long companyId, LocalDateTime createdAt) {
+        return new TicketRollupInvalidatedEvent(Collections.singletonList(new Entry(companyId, createdAt)));
+    }
+
+    public List<Entry> getEntries() { return entries; }
+
+    @Override
+    public String toString() {
+        return "TicketRollupInvalidatedEvent{entries=" + entries.size() + '}';
+    }
+
+    public static final class Entry {
+        private final Long companyId;
+        private final LocalDateTime createdAt;
+
+        public Entry(Long companyId, LocalDateTime createdAt) {
+            this.companyId = companyId;
+            this.createdAt = createdAt;
+        }
+
+        public Long getCompanyId() { return companyId; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.smartdeskbackend.event;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ticket'ın SLA zamanlayıcısında beklenen deadline'ı değişti event'i
+ * Deadline null ise ticket artık beklenmez (ilk yanıt verildi, kapandı, escalate edildi veya silindi).
+ * Commit sonrası SlaTimerService'e uygulanır
+ */
+public class TicketSlaChangedEvent {
+
+    private final List<Entry> entries;
+
+    public TicketSlaChangedEvent(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    public static TicketSlaChangedEvent of(Long ticketId, LocalDateTime deadline) {
+        return new TicketSlaChangedEvent(Collections.singletonList(new Entry(ticketId, deadline)));
+    }
+
+    public List<Entry> getEntries() { return entries; }
+
+    @Override
+    public String toString() {
+        return "TicketSlaChangedEvent{entries=" + entries.size() + '}';
+    }
+
+    public static final class Entry {
+        private final Long ticketId;
+        private final LocalDateTime deadline;
+
+        public Entry(Long ticketId, LocalDateTime deadline) {
+            this.ticketId = ticketId;
+            this.deadline = deadline;
+        }
+
+        public Long getTicketId() { return ticketId; }
+        public LocalDateTime getDeadline() { return deadline; }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.smartdeskbackend.event;
+
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.TicketStatus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Ticket sayaç durumu (status / priority / atanmış mı) değişti event'i
+ * Tekil değişiklikler entity listener'dan (bkz. TicketStateListener), toplu işlemler servis katmanından
+ * tek event olarak yayınlanır. before null ise ticket yeni oluşturulmuş, after null ise silinmiştir.
+ */
+public class TicketStateChangedEvent {
+
+    private final List<Change> changes;
+
+    public TicketStateChangedEvent(List<Change> changes) {
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    public static TicketStateChangedEvent of(Long companyId, State before, State after) {
+        return new TicketStateChangedEvent(Collections.singletonList(new Change(companyId, before, after)));
+    }
+
+    public List<Change> getChanges() { return changes; }
+
+    @Override
+    public String toString() {
+        return "TicketStateChangedEvent{changes=" + changes.size() + '}';
+    }
+
+    /**
+     * Dashboard sayaçlarını belirleyen ticket alanları
+     */
+    public static final class State {
+        private final TicketStatus status;
+        private final TicketPriority priority;
+        private final boolean assigned;
+
+        public State(TicketStatus status, TicketPriority priority, boolean assigned) {
+            this.status = status;
+            this.priority = priority;
+            this.assigned = assigned;
+        }
+
+        public TicketStatus getStatus() { return status; }
+        public TicketPriority getPriority() { return priority; }
+        public boolean isAssigned() { return assigned; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof State)) return false;
+            State state = (State) o;
+            return assigned == state.assigned && status == state.status && priority == state.priority;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(status, priority, assigned);
+        }
+    }
+
+    public static final class Change {
+        private final Long companyId;
+        private final State before;
+        private final State after;
+
+        public Change(Long companyId, State before, State after) {
+            this.companyId = companyId;
+            this.before = before;
+            this.after = after;
+        }
+
+        public Long getCompanyId() { return companyId; }
+        public State getBefore() { return before; }
+        public State getAfter() { return after; }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.smartdeskbackend.event;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Toplu ticket içe aktarma tamamlandı event'i
+ * Ticket başına bildirim yerine içe aktarma başına tek özet event'i yayınlanır.
+ */
+public class TicketsBulkImportedEvent {
+
+    private final Map<Long, Integer> createdCountByCompany;
+    private final int totalCreated;
+    private final int totalFailed;
+    private final Long importedByUserId;
+    private final LocalDateTime importedAt;
+
+    public TicketsBulkImportedEvent(Map<Long, Integer> createdCountByCompany, int totalFailed,
+                                    Long importedByUserId, LocalDateTime importedAt) {
+        this.createdCountByCompany = Collections.unmodifiableMap(new LinkedHashMap<>(createdCountByCompany));
+        this.totalCreated = createdCountByCompany.values().stream().mapToInt(Integer::intValue).sum();
+        this.totalFailed = totalFailed;
+        this.importedByUserId = importedByUserId;
+        this.importedAt = importedAt;
+    }
+
+    public Map<Long, Integer> getCreatedCountByCompany() { return createdCountByCompany; }
+    public int getTotalCreated() { return totalCreated; }
+    public int getTotalFailed() { return totalFailed; }
+    public Long getImportedByUserId() { return importedByUserId; }
+    public LocalDateTime getImportedAt() { return importedAt; }
+
+    @Override
+    public String toString() {
+        return "TicketsBulkImportedEvent{" +
+                "createdCountByCompany=" + createdCountByCompany +
+                ", totalCreated=" + totalCreated +
+                ", totalFailed=" + totalFailed +
+                ", importedByUserId=" + importedByUserId +
+                '}';
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.smartdeskbackend.event;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Toplu ticket güncellemesi event'i (assign / status / priority / close / SLA escalation)
+ * Bildirimler alıcı bazında birleştirilmiş halde taşınır: her alıcıya tek mesaj gider.
+ */
+public class TicketsBulkUpdatedEvent {
+
+    public static final String ASSIGNED = "ASSIGNED";
+    public static final String STATUS_CHANGED = "STATUS_CHANGED";
+    public static final String PRIORITY_CHANGED = "PRIORITY_CHANGED";
+    public static final String CLOSED = "CLOSED";
+    public static final String ESCALATED = "ESCALATED";
+
+    private final String changeType;
+    private final String newValue;
+    private final Map<String, List<String>> ticketNumbersByAgentEmail;
+    private final Map<String, List<String>> ticketNumbersByCustomerEmail;
+    private final Map<Long, List<String>> ticketNumbersByManagerDepartment;
+
+    public TicketsBulkUpdatedEvent(String changeType, String newValue,
+                                   Map<String, List<String>> ticketNumbersByAgentEmail,
+                                   Map<String, List<String>> ticketNumbersByCustomerEmail,
+                                   Map<Long, List<String>> ticketNumbersByManagerDepartment) {
+        this.changeType = changeType;
+        this.newValue = newValue;
+        this.ticketNumbersByAgentEmail = Collections.unmodifiableMap(ticketNumbersByAgentEmail);
+        this.ticketNumbersByCustomerEmail = Collections.unmodifiableMap(ticketNumbersByCustomerEmail);
+        this.ticketNumbersByManagerDepartment = Collections.unmodifiableMap(ticketNumbersByManagerDepartment);
+    }
+
+    public String getChangeType() { return changeType; }
+    public String getNewValue() { return newValue; }
+    public Map<String, List<String>> getTicketNumbersByAgentEmail() { return ticketNumbersByAgentEmail; }
+    public Map<String, List<String>> getTicketNumbersByCustomerEmail() { return ticketNumbersByCustomerEmail; }
+    public Map<Long, List<String>> getTicketNumbersByManagerDepartment() { return ticketNumbersByManagerDepartment; }
+
+    @Override
+    public String toString() {
+        return "TicketsBulkUpdatedEvent{" +
+                "changeType='" + changeType + '\'' +
+                ", newValue='" + newValue + '\'' +
+                ", agentRecipients=" + ticketNumbersByAgentEmail.size() +
+                ", customerRecipients=" + ticketNumbersByCustomerEmail.size() +
+                ", managerDepartments=" + ticketNumbersByManagerDepartment.size() +
+                '}';
+    }
+}
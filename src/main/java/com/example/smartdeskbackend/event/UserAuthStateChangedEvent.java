@@ -0,0 +1,21 @@
+package com.example.smartdeskbackend.event;
+
+/**
+ * Kullanıcının authentication durumu (email, rol, hesap durumu veya kilit) değişti event'i
+ * Commit sonrası cache'li kullanıcı durumu silinir; stateless principal modunda sonraki istek güncel durumu okur
+ */
+public class UserAuthStateChangedEvent {
+
+    private final Long userId;
+
+    public UserAuthStateChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() { return userId; }
+
+    @Override
+    public String toString() {
+        return "UserAuthStateChangedEvent{userId=" + userId + '}';
+    }
+}
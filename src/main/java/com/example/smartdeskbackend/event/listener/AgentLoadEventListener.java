@@ -0,0 +1,30 @@
+package com.example.smartdeskbackend.event.listener;
+
+import com.example.smartdeskbackend.event.AgentAvailabilityChangedEvent;
+import com.example.smartdeskbackend.event.AgentLoadChangedEvent;
+import com.example.smartdeskbackend.service.AgentLoadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Atama/kapama ve agent durum değişikliklerini agent yük index'ine uygular
+ * Yalnızca commit sonrası çalışır; işlem bellek içi olduğu için senkrondur
+ */
+@Component
+public class AgentLoadEventListener {
+
+    @Autowired
+    private AgentLoadService agentLoadService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAgentLoadChanged(AgentLoadChangedEvent event) {
+        agentLoadService.applyLoadChanges(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAgentAvailabilityChanged(AgentAvailabilityChangedEvent event) {
+        event.getDepartmentIds().forEach(agentLoadService::invalidateDepartment);
+    }
+}
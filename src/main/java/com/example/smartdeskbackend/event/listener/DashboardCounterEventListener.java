@@ -0,0 +1,31 @@
+package com.example.smartdeskbackend.event.listener;
+
+import com.example.smartdeskbackend.event.CustomerStateChangedEvent;
+import com.example.smartdeskbackend.event.TicketStateChangedEvent;
+import com.example.smartdeskbackend.service.DashboardCounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Ticket/müşteri durum değişikliklerini dashboard sayaçlarına uygular
+ * Yalnızca commit sonrası çalışır; rollback olan değişiklikler sayaçlara yansımaz.
+ * İşlem bellek içi olduğu için senkron çalışır.
+ */
+@Component
+public class DashboardCounterEventListener {
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketStateChanged(TicketStateChangedEvent event) {
+        dashboardCounterService.applyTicketChanges(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCustomerStateChanged(CustomerStateChangedEvent event) {
+        dashboardCounterService.applyCustomerChange(event);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.smartdeskbackend.event.listener;
+
+import com.example.smartdeskbackend.controller.WebSocketMessageController;
+import com.example.smartdeskbackend.dto.NotificationDTO;
+import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.event.TicketCreatedEvent;
+import com.example.smartdeskbackend.event.TicketsBulkImportedEvent;
+import com.example.smartdeskbackend.event.TicketsBulkUpdatedEvent;
+import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.NotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Ticket event'leri için WebSocket ve uygulama içi bildirim yan etkileri
+ * Commit sonrası, request thread'i dışında çalışır; ticket oluşturma gecikmesi
+ * departman/şirket büyüklüğüne bağlı kalmaz
+ */
+@Component
+public class NotificationEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationEventListener.class);
+
+    // Toplu bildirimlerde mesajda tek tek listelenen en fazla ticket numarası
+    private static final int BULK_LISTED_TICKETS = 10;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private WebSocketMessageController webSocketMessageController;
+
+    /**
+     * Yeni ticket: departman yöneticilerine WebSocket, şirketteki MANAGER/AGENT'lara bildirim kaydı
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCreated(TicketCreatedEvent event) {
+        sendDepartmentManagerPush(event);
+
+        try {
+            notificationService.notifyNewTicketCreated(
+                    event.getTicketId(),
+                    event.getCompanyId(),
+                    event.getTicketNumber(),
+                    event.getCustomerName()
+            );
+        } catch (Exception e) {
+            logger.warn("Failed to send ticket creation notifications to users", e);
+        }
+    }
+
+    /**
+     * Toplu içe aktarma: ticket başına bildirim yerine şirket yöneticilerine tek özet
+     * Servis chunk'ları kendi transaction'larında yazdığı için event transaction dışında yayınlanır
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketsBulkImported(TicketsBulkImportedEvent event) {
+        event.getCreatedCountByCompany().forEach((companyId, count) -> {
+            try {
+                NotificationDTO notification = new NotificationDTO(
+                        count + " ticket toplu olarak içe aktarıldı",
+                        "TICKETS_BULK_IMPORTED",
+                        "/tickets"
+                );
+                for (User manager : userRepository.findByCompanyIdAndRole(companyId, UserRole.MANAGER)) {
+                    webSocketMessageController.sendPrivateNotification(manager.getEmail(), notification);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to send bulk import summary for company {}: {}", companyId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Toplu güncelleme: her alıcıya etkilenen ticketların listesiyle tek bildirim
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketsBulkUpdated(TicketsBulkUpdatedEvent event) {
+        String type = bulkNotificationType(event.getChangeType());
+        String change = bulkChangeText(event);
+
+        event.getTicketNumbersByAgentEmail().forEach((email, numbers) ->
+                sendBulkPush(email, numbers, change, type, "/tickets"));
+        event.getTicketNumbersByCustomerEmail().forEach((email, numbers) ->
+                sendBulkPush(email, numbers, change, type, "/customer/tickets"));
+
+        // Aynı yönetici birden fazla departmandan ticket alabilir; yönetici başına birleştirilir
+        Map<String, List<String>> managerTickets = new LinkedHashMap<>();
+        event.getTicketNumbersByManagerDepartment().forEach((departmentId, numbers) -> {
+            try {
+                for (User manager : userRepository.findByDepartmentIdAndRole(departmentId, UserRole.MANAGER)) {
+                    managerTickets.computeIfAbsent(manager.getEmail(), k -> new ArrayList<>()).addAll(numbers);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to load managers for department {}: {}", departmentId, e.getMessage());
+            }
+        });
+        managerTickets.forEach((email, numbers) -> sendBulkPush(email, numbers, change, type, "/tickets"));
+    }
+
+    private void sendBulkPush(String email, List<String> ticketNumbers, String change, String type, String link) {
+        try {
+            String listed = ticketNumbers.stream()
+                    .limit(BULK_LISTED_TICKETS)
+                    .map(number -> "#" + number)
+                    .collect(Collectors.joining(", "));
+            if (ticketNumbers.size() > BULK_LISTED_TICKETS) {
+                listed += " (+" + (ticketNumbers.size() - BULK_LISTED_TICKETS) + ")";
+            }
+
+            NotificationDTO notification = new NotificationDTO(
+                    ticketNumbers.size() + " ticket " + change + ": " + listed, type, link);
+            webSocketMessageController.sendPrivateNotification(email, notification);
+        } catch (Exception e) {
+            logger.warn("Failed to send bulk update notification to {}: {}", email, e.getMessage());
+        }
+    }
+
+    private String bulkNotificationType(String changeType) {
+        switch (changeType) {
+            case TicketsBulkUpdatedEvent.ASSIGNED:
+                return "TICKET_ASSIGNED";
+            case TicketsBulkUpdatedEvent.PRIORITY_CHANGED:
+                return "TICKET_PRIORITY_CHANGE";
+            case TicketsBulkUpdatedEvent.CLOSED:
+                return "TICKET_CLOSED";
+            case TicketsBulkUpdatedEvent.ESCALATED:
+                return "SLA_VIOLATED";
+            default:
+                return "TICKET_STATUS_CHANGE";
+        }
+    }
+
+    private String bulkChangeText(TicketsBulkUpdatedEvent event) {
+        switch (event.getChangeType()) {
+            case TicketsBulkUpdatedEvent.ASSIGNED:
+                return event.getNewValue() + " kullanıcısına atandı";
+            case TicketsBulkUpdatedEvent.PRIORITY_CHANGED:
+                return "önceliği " + event.getNewValue() + " olarak değiştirildi";
+            case TicketsBulkUpdatedEvent.CLOSED:
+                return "kapatıldı";
+            case TicketsBulkUpdatedEvent.ESCALATED:
+                return "SLA ihlali nedeniyle escalate edildi";
+            default:
+                return "durumu " + event.getNewValue() + " olarak değiştirildi";
+        }
+    }
+
+    private void sendDepartmentManagerPush(TicketCreatedEvent event) {
+        if (event.getDepartmentId() == null) {
+            return;
+        }
+        try {
+            List<User> managers = userRepository.findByDepartmentIdAndRole(
+                    event.getDepartmentId(), UserRole.MANAGER);
+
+            NotificationDTO notification = new NotificationDTO(
+                    "Yeni ticket oluşturuldu: #" + event.getTicketNumber(),
+                    "TICKET_CREATED",
+                    "/tickets/" + event.getTicketId()
+            );
+            for (User manager : managers) {
+                webSocketMessageController.sendPrivateNotification(manager.getEmail(), notification);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to send ticket creation notification: {}", e.getMessage());
+        }
+    }
+}
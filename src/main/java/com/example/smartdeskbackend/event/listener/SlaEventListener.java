@@ -0,0 +1,95 @@
+package com.example.smartdeskbackend.event.listener;
+
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.event.SlaBreachedEvent;
+import com.example.smartdeskbackend.event.SlaRiskEvent;
+import com.example.smartdeskbackend.event.TicketSlaChangedEvent;
+import com.example.smartdeskbackend.integration.email.EmailService;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.service.SlaEscalationService;
+import com.example.smartdeskbackend.service.SlaTimerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * SLA zamanlayıcısı ile ticket yaşam döngüsü arasındaki köprü
+ * Commit edilen deadline değişikliklerini SlaTimerService'e uygular; zamanlayıcıdan gelen ihlal event'lerinde
+ * escalation işini tetikler, risk event'lerinde ticket'ı güncel haliyle yeniden kontrol edip bildirim yapar
+ */
+@Component
+public class SlaEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlaEventListener.class);
+
+    @Autowired
+    private SlaTimerService slaTimerService;
+
+    @Autowired
+    private SlaEscalationService slaEscalationService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlaChanged(TicketSlaChangedEvent event) {
+        for (TicketSlaChangedEvent.Entry entry : event.getEntries()) {
+            slaTimerService.schedule(entry.getTicketId(), entry.getDeadline());
+        }
+    }
+
+    /**
+     * Deadline doldu: escalation işi tetiklenir
+     * Escalation toplu ve lease kilidi altında yapılır (bkz. SlaEscalationService); aynı anda dolan
+     * deadline'lar tek çalıştırmada işlenir
+     */
+    @EventListener
+    public void onSlaBreached(SlaBreachedEvent event) {
+        slaEscalationService.requestRun();
+    }
+
+    /**
+     * Deadline yaklaştı: risk bildirimi gönderilir
+     * Zamanlayıcı her node'da çalıştığından bildirim ticket üzerindeki koşullu UPDATE ile sahiplenilir;
+     * aynı deadline için yalnızca bir node gönderir
+     */
+    @EventListener
+    @Transactional
+    public void onSlaRisk(SlaRiskEvent event) {
+        Ticket ticket = loadPending(event.getTicketId(), event.getDeadline());
+        if (ticket == null) {
+            return;
+        }
+        if (ticketRepository.claimSlaRiskNotification(ticket.getId(), ticket.getSlaDeadline()) == 0) {
+            logger.debug("SLA risk for ticket {} already notified", ticket.getId());
+            return;
+        }
+
+        emailService.sendTicketNotification(ticket, "SLA_RISK");
+    }
+
+    /**
+     * Zamanlayıcı kaydı eskimişse (ilk yanıt verildi, kapandı, deadline değişti) null döner
+     */
+    private Ticket loadPending(Long ticketId, LocalDateTime deadline) {
+        Ticket ticket = ticketRepository.findDetailById(ticketId).orElse(null);
+        LocalDateTime current = ticket != null ? ticket.pendingSlaDeadline() : null;
+        // DB kolon hassasiyeti event'teki değerden düşük olabilir
+        if (current == null || !current.truncatedTo(ChronoUnit.SECONDS).equals(deadline.truncatedTo(ChronoUnit.SECONDS))) {
+            logger.debug("Skipping stale SLA timer for ticket {}", ticketId);
+            return null;
+        }
+        return ticket;
+    }
+}
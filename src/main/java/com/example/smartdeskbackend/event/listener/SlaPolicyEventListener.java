@@ -0,0 +1,23 @@
+package com.example.smartdeskbackend.event.listener;
+
+import com.example.smartdeskbackend.event.SlaPolicyChangedEvent;
+import com.example.smartdeskbackend.service.SlaPolicyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Politika değişikliğinden sonra şirketin SLA politika matrisini yeniden kurar
+ */
+@Component
+public class SlaPolicyEventListener {
+
+    @Autowired
+    private SlaPolicyService slaPolicyService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlaPolicyChanged(SlaPolicyChangedEvent event) {
+        slaPolicyService.rebuildPolicyMatrix(event.getCompanyId());
+    }
+}
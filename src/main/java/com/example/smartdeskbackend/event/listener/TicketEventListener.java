@@ -0,0 +1,43 @@
+package com.example.smartdeskbackend.event.listener;
+
+import com.example.smartdeskbackend.event.TicketCreatedEvent;
+import com.example.smartdeskbackend.integration.email.EmailService;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Ticket event'leri için email yan etkileri
+ * Commit sonrası, request thread'i dışında çalışır
+ */
+@Component
+public class TicketEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketEventListener.class);
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    /**
+     * Yeni ticket emaili
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCreated(TicketCreatedEvent event) {
+        try {
+            // Email içeriği customer/agent/creator alanlarını kullanır; hepsi fetch-join ile yüklenir
+            ticketRepository.findDetailById(event.getTicketId())
+                    .ifPresent(ticket -> emailService.sendTicketNotification(ticket, "CREATED"));
+        } catch (Exception e) {
+            logger.warn("Failed to send ticket creation email for {}", event.getTicketNumber(), e);
+        }
+    }
+}
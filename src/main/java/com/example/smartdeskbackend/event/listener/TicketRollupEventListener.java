@@ -0,0 +1,26 @@
+package com.example.smartdeskbackend.event.listener;
+
+import com.example.smartdeskbackend.event.TicketRollupInvalidatedEvent;
+import com.example.smartdeskbackend.service.TicketRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Değişen ticketların rollup dilimlerini yeniden hesaplama için işaretler
+ * Sadece bellek içi işaretleme yapar; hesaplama TicketRollupScheduler'da toplu yapılır
+ */
+@Component
+public class TicketRollupEventListener {
+
+    @Autowired
+    private TicketRollupService ticketRollupService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRollupInvalidated(TicketRollupInvalidatedEvent event) {
+        for (TicketRollupInvalidatedEvent.Entry entry : event.getEntries()) {
+            ticketRollupService.markDirty(entry.getCompanyId(), entry.getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.smartdeskbackend.event.listener;
+
+import com.example.smartdeskbackend.event.UserAuthStateChangedEvent;
+import com.example.smartdeskbackend.util.CacheUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Kullanıcı durum değişikliklerinde cache'li authentication durumunu siler
+ * Commit sonrası çalışır; böylece eşzamanlı bir istek cache'i eski değerle yeniden dolduramaz
+ */
+@Component
+public class UserAuthStateEventListener {
+
+    @Autowired
+    private CacheUtil cacheUtil;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAuthStateChanged(UserAuthStateChangedEvent event) {
+        cacheUtil.evict(CacheUtil.USER_AUTH_STATES, event.getUserId());
+    }
+}
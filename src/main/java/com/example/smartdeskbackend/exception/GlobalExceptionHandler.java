@@ -2,6 +2,7 @@ package com.example.smartdeskbackend.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -100,6 +101,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * İstek limiti / yük atma hataları
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<?> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+
+        logger.warn("Too many requests: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                "TOO_MANY_REQUESTS",
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", ""),
+                HttpStatus.TOO_MANY_REQUESTS
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * Validation hataları
      */
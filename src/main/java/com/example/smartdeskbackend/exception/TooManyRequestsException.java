@@ -0,0 +1,18 @@
+package com.example.smartdeskbackend.exception;
+
+/**
+ * İstek limiti aşıldığında ya da servis yük atarken fırlatılır (HTTP 429)
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.smartdeskbackend.repository;
+
+import com.example.smartdeskbackend.entity.BusinessCalendar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BusinessCalendarRepository extends JpaRepository<BusinessCalendar, Long> {
+
+    /**
+     * Şirketin aktif takvimleri tatilleri ve saat dilimiyle birlikte - derleme için tek sorgu
+     */
+    @Query("SELECT DISTINCT c FROM BusinessCalendar c JOIN FETCH c.company LEFT JOIN FETCH c.department " +
+            "LEFT JOIN FETCH c.holidays WHERE c.company.id = :companyId AND c.isActive = true ORDER BY c.id")
+    List<BusinessCalendar> findActiveWithHolidaysByCompanyId(@Param("companyId") Long companyId);
+}
@@ -1,10 +1,13 @@
 package com.example.smartdeskbackend.repository;
 
 import com.example.smartdeskbackend.entity.Company;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,7 +22,9 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
 
     /**
      * Domain ile şirket bulma
+     * Sonuç query cache'te tutulur; companies tablosu değişince Hibernate otomatik geçersiz kılar
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Company> findByDomain(String domain);
 
     /**
@@ -32,6 +37,18 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
      */
     List<Company> findByIsActiveTrue();
 
+    /**
+     * Tüm şirket id'leri (toplu işler için; entity yüklenmez)
+     */
+    @Query("SELECT c.id FROM Company c ORDER BY c.id")
+    List<Long> findAllIds();
+
+    /**
+     * Şirketin saat dilimi (iş takvimi yoksa SLA hesabı için; entity yüklenmez)
+     */
+    @Query("SELECT c.timezone FROM Company c WHERE c.id = :id")
+    Optional<String> findTimezoneById(@Param("id") Long id);
+
     /**
      * İsim ile arama
      */
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -85,6 +86,15 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     List<Customer> findVipCustomers(@Param("companyId") Long companyId);
     @Query("SELECT COUNT(c) FROM Customer c WHERE c.company.id = :companyId AND c.isActive = true")
     long countByCompanyId(@Param("companyId") Long companyId);
+
+    /**
+     * Dashboard sayaçları için şirket bazında aktif ve aktif VIP müşteri sayıları
+     * Satır: [companyId, active, vip]
+     */
+    @Query("SELECT c.company.id, COUNT(c), " +
+            "SUM(CASE WHEN c.segment = com.example.smartdeskbackend.enums.CustomerSegment.VIP THEN 1 ELSE 0 END) " +
+            "FROM Customer c WHERE c.company.id IN :companyIds AND c.isActive = true GROUP BY c.company.id")
+    List<Object[]> countActiveAndVipByCompanyIds(@Param("companyIds") Collection<Long> companyIds);
     /**
      * Son iletişim tarihine göre müşteriler
      */
@@ -18,6 +18,13 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
      */
     List<Department> findByCompanyId(Long companyId);
 
+    /**
+     * Referans cache'i için departman özeti
+     * Satır [id, name, companyId, managerId] şeklindedir
+     */
+    @Query("SELECT d.id, d.name, d.company.id, m.id FROM Department d LEFT JOIN d.manager m WHERE d.id = :id")
+    List<Object[]> findReferenceRowById(@Param("id") Long id);
+
     /**
      * Şirketteki aktif departmanlar
      */
@@ -5,8 +5,13 @@ import com.example.smartdeskbackend.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +21,22 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByRecipientUserIdAndIsReadFalse(Long userId);
 
     long countByRecipientUserIdAndIsReadFalse(Long userId);
+
+    /**
+     * Şirketteki belirtilen rollerdeki tüm kullanıcılara tek INSERT ... SELECT ile aynı bildirimi yazar
+     * Alıcı ve şirket entity'leri yüklenmez; kullanıcı sayısından bağımsız olarak tek statement'tır
+     * @return Oluşturulan bildirim sayısı
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notifications (message, type, target_url, is_read, sent_at, recipient_user_id, " +
+            "company_id, created_at, updated_at, version) " +
+            "SELECT :message, :type, :targetUrl, false, :now, u.id, u.company_id, :now, :now, 0 " +
+            "FROM users u WHERE u.company_id = :companyId AND u.role IN (:roles)",
+            nativeQuery = true)
+    int insertForCompanyRoles(@Param("companyId") Long companyId,
+                              @Param("roles") Collection<String> roles,
+                              @Param("type") String type,
+                              @Param("message") String message,
+                              @Param("targetUrl") String targetUrl,
+                              @Param("now") LocalDateTime now);
 }
\ No newline at end of file
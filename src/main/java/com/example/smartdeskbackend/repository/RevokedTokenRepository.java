@@ -0,0 +1,30 @@
+package com.example.smartdeskbackend.repository;
+
+import com.example.smartdeskbackend.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Verilen version'dan sonra iptal edilmiş ve süresi dolmamış token'lar
+     * Satır [tokenId, expiresAt, version] şeklindedir
+     */
+    @Query("SELECT r.tokenId, r.expiresAt, r.version FROM RevokedToken r " +
+            "WHERE r.version > :afterVersion AND r.expiresAt > :now")
+    List<Object[]> findActiveRowsAfterVersion(@Param("afterVersion") long afterVersion, @Param("now") LocalDateTime now);
+
+    /**
+     * Süresi dolmuş iptal kayıtlarını siler
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
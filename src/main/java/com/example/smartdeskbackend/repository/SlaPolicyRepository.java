@@ -1,9 +1,15 @@
 // src/main/java/com/example/smartdeskbackend/repository/SlaPolicyRepository.java
 package com.example.smartdeskbackend.repository;
 
+import com.example.smartdeskbackend.dto.response.sla.SlaPolicySnapshot;
 import com.example.smartdeskbackend.entity.SlaPolicy;
 import com.example.smartdeskbackend.enums.TicketPriority; // TicketPriority enum'ı için import
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,8 +18,18 @@ import java.util.Optional;
 @Repository
 public interface SlaPolicyRepository extends JpaRepository<SlaPolicy, Long> {
     List<SlaPolicy> findByCompanyId(Long companyId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SlaPolicy> findByCompanyIdAndAppliesToPriorityAndDepartmentId(Long companyId, TicketPriority priority, Long departmentId); // Şirket, öncelik ve departmana göre spesifik SLA politikası bul
     List<SlaPolicy> findByDepartmentId(Long departmentId);
 
     List<SlaPolicy> findByCompanyIdAndIsActive(Long companyId, boolean isActive);
+
+    /**
+     * Politika matrisi için şirketin aktif politikaları - tek sorgu, entity yüklenmez
+     */
+    @Query("SELECT new com.example.smartdeskbackend.dto.response.sla.SlaPolicySnapshot(" +
+            "p.id, d.id, p.appliesToPriority, p.name, p.firstResponseTimeHours, p.resolutionTimeHours, " +
+            "p.businessHoursOnly) FROM SlaPolicy p LEFT JOIN p.department d " +
+            "WHERE p.company.id = :companyId AND p.isActive = true ORDER BY p.id")
+    List<SlaPolicySnapshot> findActiveSnapshotsByCompanyId(@Param("companyId") Long companyId);
 }
\ No newline at end of file
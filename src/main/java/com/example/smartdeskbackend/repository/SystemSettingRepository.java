@@ -2,7 +2,10 @@
 package com.example.smartdeskbackend.repository;
 
 import com.example.smartdeskbackend.entity.SystemSetting;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +13,7 @@ import java.util.Optional;
 
 @Repository
 public interface SystemSettingRepository extends JpaRepository<SystemSetting, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SystemSetting> findByCompanyIdAndSettingKey(Long companyId, String settingKey); // Şirket ve anahtara göre ayar bul
     List<SystemSetting> findByCompanyId(Long companyId); // Bir şirkete ait tüm ayarları getir
     List<SystemSetting> findByIsPublicTrue(); // Herkese açık ayarları getir (company_id'den bağımsız)
@@ -3,6 +3,8 @@
 package com.example.smartdeskbackend.repository;
 
 import com.example.smartdeskbackend.entity.TicketAttachment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,6 +20,14 @@ public interface TicketAttachmentRepository extends JpaRepository<TicketAttachme
      */
     List<TicketAttachment> findByTicketIdOrderByCreatedAtDesc(Long ticketId);
 
+    /**
+     * Ticket'ın ekli dosyaları - sayfalı, yükleyen kullanıcı ile birlikte
+     */
+    @Query(value = "SELECT ta FROM TicketAttachment ta LEFT JOIN FETCH ta.uploadedBy " +
+            "WHERE ta.ticket.id = :ticketId ORDER BY ta.createdAt DESC",
+            countQuery = "SELECT COUNT(ta) FROM TicketAttachment ta WHERE ta.ticket.id = :ticketId")
+    Page<TicketAttachment> findAttachmentsPage(@Param("ticketId") Long ticketId, Pageable pageable);
+
     /**
      * Kullanıcının yüklediği dosyalar
      */
@@ -26,6 +26,16 @@ public interface TicketCommentRepository extends JpaRepository<TicketComment, Lo
      */
     List<TicketComment> findByTicketIdAndIsInternalFalseOrderByCreatedAtAsc(Long ticketId);
 
+    /**
+     * Public yorumlar - sayfalı, author ile birlikte (ticket detay section'ı için)
+     */
+    @Query(value = "SELECT c FROM TicketComment c LEFT JOIN FETCH c.author " +
+            "WHERE c.ticket.id = :ticketId AND c.isInternal = false " +
+            "ORDER BY c.createdAt ASC",
+            countQuery = "SELECT COUNT(c) FROM TicketComment c " +
+                    "WHERE c.ticket.id = :ticketId AND c.isInternal = false")
+    Page<TicketComment> findPublicCommentsPage(@Param("ticketId") Long ticketId, Pageable pageable);
+
     /**
      * Internal yorumlar
      */
@@ -3,7 +3,11 @@
 package com.example.smartdeskbackend.repository;
 
 import com.example.smartdeskbackend.entity.TicketHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,6 +20,14 @@ public interface TicketHistoryRepository extends JpaRepository<TicketHistory, Lo
      */
     List<TicketHistory> findByTicketIdOrderByCreatedAtDesc(Long ticketId);
 
+    /**
+     * Ticket'ın geçmişi - sayfalı, kullanıcı ile birlikte
+     */
+    @Query(value = "SELECT h FROM TicketHistory h LEFT JOIN FETCH h.user " +
+            "WHERE h.ticket.id = :ticketId ORDER BY h.createdAt DESC",
+            countQuery = "SELECT COUNT(h) FROM TicketHistory h WHERE h.ticket.id = :ticketId")
+    Page<TicketHistory> findHistoryPage(@Param("ticketId") Long ticketId, Pageable pageable);
+
     /**
      * Kullanıcının yaptığı değişiklikler
      */
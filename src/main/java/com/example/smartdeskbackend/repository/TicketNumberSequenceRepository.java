@@ -0,0 +1,31 @@
+package com.example.smartdeskbackend.repository;
+
+import com.example.smartdeskbackend.entity.TicketNumberSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface TicketNumberSequenceRepository extends JpaRepository<TicketNumberSequence, LocalDate> {
+
+    /**
+     * Günün sayacını blockSize kadar ilerletir (satır yoksa oluşturur)
+     * Satır kilidi transaction sonuna kadar tutulur; aynı transaction'da getLastValue ile okunmalı
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ticket_number_sequences (seq_date, last_value) VALUES (:seqDate, :blockSize) " +
+            "ON DUPLICATE KEY UPDATE last_value = last_value + :blockSize",
+            nativeQuery = true)
+    int reserveBlock(@Param("seqDate") LocalDate seqDate, @Param("blockSize") long blockSize);
+
+    /**
+     * Günün son dağıtılmış değeri
+     */
+    @Query(value = "SELECT last_value FROM ticket_number_sequences WHERE seq_date = :seqDate",
+            nativeQuery = true)
+    Long getLastValue(@Param("seqDate") LocalDate seqDate);
+}
@@ -1,28 +1,169 @@
 // TicketRepository.java
 package com.example.smartdeskbackend.repository;
 
+import com.example.smartdeskbackend.dto.response.ticket.TicketResponse;
+import com.example.smartdeskbackend.dto.response.ticket.TicketStateSnapshot;
+import com.example.smartdeskbackend.entity.Department;
 import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.entity.User;
 import com.example.smartdeskbackend.enums.TicketStatus;
 import com.example.smartdeskbackend.enums.TicketPriority;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
+    /**
+     * Liste endpoint'leri için TicketResponse constructor projection'ı.
+     * Customer, customer şirketi, agent ve departman tek sorguda LEFT JOIN ile alınır;
+     * lazy ilişkiler satır başına ayrı SELECT tetiklemez.
+     */
+    String TICKET_RESPONSE_SELECT = "SELECT new com.example.smartdeskbackend.dto.response.ticket.TicketResponse(" +
+            "t.id, t.ticketNumber, t.title, t.status, t.priority, t.category, t.source, " +
+            "cu.firstName, cu.lastName, cu.email, cc.name, " +
+            "a.firstName, a.lastName, d.name, " +
+            "t.createdAt, t.lastActivityAt, t.slaDeadline, t.escalationLevel) " +
+            "FROM Ticket t " +
+            "LEFT JOIN t.customer cu " +
+            "LEFT JOIN cu.company cc " +
+            "LEFT JOIN t.assignedAgent a " +
+            "LEFT JOIN t.department d ";
+
+    String ACTIVE_STATUSES = "(com.example.smartdeskbackend.enums.TicketStatus.NEW, " +
+            "com.example.smartdeskbackend.enums.TicketStatus.OPEN, " +
+            "com.example.smartdeskbackend.enums.TicketStatus.IN_PROGRESS, " +
+            "com.example.smartdeskbackend.enums.TicketStatus.PENDING) ";
+
     /**
      * Ticket numarası ile bul
      */
     Optional<Ticket> findByTicketNumber(String ticketNumber);
 
+    /**
+     * Ticket detay çekirdeği - customer, agent, departman ve oluşturan kullanıcı tek sorguda
+     */
+    @Query("SELECT t FROM Ticket t " +
+            "LEFT JOIN FETCH t.customer " +
+            "LEFT JOIN FETCH t.assignedAgent " +
+            "LEFT JOIN FETCH t.department " +
+            "LEFT JOIN FETCH t.creatorUser " +
+            "WHERE t.id = :id")
+    Optional<Ticket> findDetailById(@Param("id") Long id);
+
+    /**
+     * Erişim kontrolü için ticket özeti
+     * Satır [id, companyId, customerEmail] şeklindedir
+     */
+    @Query("SELECT t.id, t.company.id, c.email FROM Ticket t LEFT JOIN t.customer c WHERE t.id = :id")
+    List<Object[]> findAccessSummaryRowById(@Param("id") Long id);
+
+    /**
+     * Toplu içe aktarmada JDBC batch ile eklenen ticketların id'lerini numaradan çözer
+     * Satırlar [id, ticketNumber] şeklindedir
+     */
+    @Query("SELECT t.id, t.ticketNumber FROM Ticket t WHERE t.ticketNumber IN :ticketNumbers")
+    List<Object[]> findIdsByTicketNumbers(@Param("ticketNumbers") Collection<String> ticketNumbers);
+
+    /**
+     * Export için forward-only akış (sabit bellek)
+     * Fetch size ile sürücü satırları parça parça getirir (MySQL'de useCursorFetch=true gerekir);
+     * DTO projection olduğu için persistence context'e entity eklenmez.
+     * Sıralama idx_ticket_company_created index'iyle aynıdır, filesort gerekmez.
+     * Çağıran, akışı açık bir (read-only) transaction içinde tüketmeli ve kapatmalıdır.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TICKET_RESPONSE_SELECT +
+            "WHERE t.company.id = :companyId AND t.createdAt >= :from AND t.createdAt < :to " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TicketResponse> streamResponsesForExport(@Param("companyId") Long companyId,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+
+    // ============ TOPLU GÜNCELLEME (SET-BASED) ============
+    // Bulk UPDATE'ler @PreUpdate/@Version'ı atladığı için updatedAt ve version açıkça güncellenir
+
+    /**
+     * Toplu güncelleme öncesi durum (history ve bildirimler için)
+     */
+    @Query("SELECT new com.example.smartdeskbackend.dto.response.ticket.TicketStateSnapshot(" +
+            "t.id, t.ticketNumber, t.company.id, d.id, t.status, t.priority, " +
+            "a.id, a.firstName, a.lastName, a.email, cu.email, t.createdAt) " +
+            "FROM Ticket t LEFT JOIN t.department d LEFT JOIN t.assignedAgent a LEFT JOIN t.customer cu " +
+            "WHERE t.id IN :ids")
+    List<TicketStateSnapshot> findStateSnapshots(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Agent yük index'i için agent başına açık ticket sayısı: [agentId, count]
+     */
+    @Query("SELECT t.assignedAgent.id, COUNT(t) FROM Ticket t WHERE t.assignedAgent.id IN :agentIds " +
+            "AND t.status NOT IN :excludedStatuses GROUP BY t.assignedAgent.id")
+    List<Object[]> countOpenTicketsByAgentIds(@Param("agentIds") Collection<Long> agentIds,
+                                              @Param("excludedStatuses") Collection<TicketStatus> excludedStatuses);
+
+    @Modifying
+    @Query("UPDATE Ticket t SET t.status = :status, t.lastActivityAt = :now, t.updatedAt = :now, " +
+            "t.version = t.version + 1 WHERE t.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("status") TicketStatus status,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * NEW -> OPEN geçişinde ilk yanıt zamanı (durum güncellemesinden önce çalıştırılmalı)
+     */
+    @Modifying
+    @Query("UPDATE Ticket t SET t.firstResponseAt = :now " +
+            "WHERE t.id IN :ids AND t.status = com.example.smartdeskbackend.enums.TicketStatus.NEW " +
+            "AND t.firstResponseAt IS NULL")
+    int bulkMarkFirstResponse(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Ticket t SET t.resolvedAt = COALESCE(t.resolvedAt, :now) WHERE t.id IN :ids")
+    int bulkMarkResolved(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Ticket t SET t.status = com.example.smartdeskbackend.enums.TicketStatus.CLOSED, " +
+            "t.resolutionSummary = COALESCE(:resolutionSummary, t.resolutionSummary), " +
+            "t.closedAt = COALESCE(t.closedAt, :now), t.resolvedAt = COALESCE(t.resolvedAt, :now), " +
+            "t.lastActivityAt = :now, t.updatedAt = :now, t.version = t.version + 1 WHERE t.id IN :ids")
+    int bulkClose(@Param("ids") Collection<Long> ids, @Param("resolutionSummary") String resolutionSummary,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Ticket t SET t.priority = :priority, t.lastActivityAt = :now, t.updatedAt = :now, " +
+            "t.version = t.version + 1 WHERE t.id IN :ids")
+    int bulkUpdatePriority(@Param("ids") Collection<Long> ids, @Param("priority") TicketPriority priority,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Ticket.assignToAgent ile aynı kurallar: departman agent'ınki olur, NEW ticketlar OPEN'a geçer
+     */
+    @Modifying
+    @Query("UPDATE Ticket t SET t.assignedAgent = :agent, t.department = :department, " +
+            "t.status = CASE WHEN t.status = com.example.smartdeskbackend.enums.TicketStatus.NEW " +
+            "THEN com.example.smartdeskbackend.enums.TicketStatus.OPEN ELSE t.status END, " +
+            "t.lastActivityAt = :now, t.updatedAt = :now, t.version = t.version + 1 WHERE t.id IN :ids")
+    int bulkAssign(@Param("ids") Collection<Long> ids, @Param("agent") User agent,
+                   @Param("department") Department department, @Param("now") LocalDateTime now);
+
     /**
      * Şirketteki ticketlar
      */
@@ -82,6 +223,21 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     @Query("SELECT COUNT(t) FROM Ticket t WHERE t.company.id = :companyId")
     long countByCompanyId(@Param("companyId") Long companyId);
 
+    /**
+     * Şirkette ticket oluşturulan günler (rollup geçmişini doldurmak için)
+     */
+    @Query("SELECT DISTINCT CAST(t.createdAt AS LocalDate) FROM Ticket t WHERE t.company.id = :companyId")
+    List<LocalDate> findCreationDays(@Param("companyId") Long companyId);
+
+    /**
+     * Dashboard sayaçları için şirket / durum / öncelik bazında ticket ve atanmış ticket sayıları
+     * Satır: [companyId, status, priority, total, assigned]
+     */
+    @Query("SELECT t.company.id, t.status, t.priority, COUNT(t), COUNT(a) FROM Ticket t " +
+            "LEFT JOIN t.assignedAgent a WHERE t.company.id IN :companyIds " +
+            "GROUP BY t.company.id, t.status, t.priority")
+    List<Object[]> countStateCellsByCompanyIds(@Param("companyIds") Collection<Long> companyIds);
+
     /**
      * Atanmamış ticketlar
      */
@@ -111,6 +267,59 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     List<Ticket> findSlaViolatedTickets(@Param("companyId") Long companyId,
                                         @Param("now") LocalDateTime now);
 
+    /**
+     * SLA zamanlayıcısının beklediği tüm ticketlar (bkz. Ticket.pendingSlaDeadline)
+     * Satır [id, slaDeadline] şeklindedir; entity yüklenmez
+     */
+    @Query("SELECT t.id, t.slaDeadline FROM Ticket t WHERE t.slaDeadline IS NOT NULL " +
+            "AND t.firstResponseAt IS NULL AND t.status NOT IN :excludedStatuses")
+    List<Object[]> findPendingSlaDeadlineRows(@Param("excludedStatuses") Collection<TicketStatus> excludedStatuses);
+
+    /**
+     * Deadline'ı dolmuş, escalate edilmeyi bekleyen ticket id'leri - id üzerinden keyset sayfalama
+     */
+    @Query("SELECT t.id FROM Ticket t WHERE t.id > :afterId AND t.slaDeadline <= :now " +
+            "AND t.firstResponseAt IS NULL AND t.status NOT IN :excludedStatuses ORDER BY t.id")
+    List<Long> findSlaDueIds(@Param("afterId") Long afterId, @Param("now") LocalDateTime now,
+                             @Param("excludedStatuses") Collection<TicketStatus> excludedStatuses,
+                             Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Ticket t WHERE t.slaDeadline <= :now " +
+            "AND t.firstResponseAt IS NULL AND t.status NOT IN :excludedStatuses")
+    long countSlaDue(@Param("now") LocalDateTime now,
+                     @Param("excludedStatuses") Collection<TicketStatus> excludedStatuses);
+
+    /**
+     * Ticket.escalate ile aynı kurallar: seviye +1, öncelik bir kademe (bkz. TicketPriority.escalated), durum ESCALATED
+     * SLA koşulları tekrar kontrol edilir; arada ilk yanıt almış ticketlar güncellenmez
+     */
+    /**
+     * Deadline'ın risk bildirimini sahiplenir; aynı deadline için yalnızca ilk çağıran 1 alır
+     */
+    @Modifying
+    @Query("UPDATE Ticket t SET t.slaRiskNotifiedDeadline = :deadline WHERE t.id = :id " +
+            "AND (t.slaRiskNotifiedDeadline IS NULL OR t.slaRiskNotifiedDeadline <> :deadline)")
+    int claimSlaRiskNotification(@Param("id") Long id, @Param("deadline") LocalDateTime deadline);
+
+    @Modifying
+    @Query("UPDATE Ticket t SET t.escalationLevel = COALESCE(t.escalationLevel, 0) + 1, " +
+            "t.priority = CASE t.priority " +
+            "WHEN com.example.smartdeskbackend.enums.TicketPriority.LOW THEN com.example.smartdeskbackend.enums.TicketPriority.NORMAL " +
+            "WHEN com.example.smartdeskbackend.enums.TicketPriority.NORMAL THEN com.example.smartdeskbackend.enums.TicketPriority.HIGH " +
+            "WHEN com.example.smartdeskbackend.enums.TicketPriority.HIGH THEN com.example.smartdeskbackend.enums.TicketPriority.URGENT " +
+            "WHEN com.example.smartdeskbackend.enums.TicketPriority.URGENT THEN com.example.smartdeskbackend.enums.TicketPriority.CRITICAL " +
+            "ELSE t.priority END, " +
+            "t.status = com.example.smartdeskbackend.enums.TicketStatus.ESCALATED, " +
+            "t.lastActivityAt = :now, t.updatedAt = :now, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids AND t.slaDeadline <= :now AND t.firstResponseAt IS NULL " +
+            "AND t.status NOT IN :excludedStatuses")
+    int bulkEscalateSlaDue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now,
+                           @Param("excludedStatuses") Collection<TicketStatus> excludedStatuses);
+
+    @Query("SELECT t.id FROM Ticket t WHERE t.id IN :ids " +
+            "AND t.status = com.example.smartdeskbackend.enums.TicketStatus.ESCALATED")
+    List<Long> findEscalatedIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Ticket arama
      */
@@ -154,6 +363,25 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
             "GROUP BY t.priority")
     List<Object[]> getTicketStatsByPriority(@Param("companyId") Long companyId);
 
+    /**
+     * getTicketStats için tek geçişte toplama: status/priority grupları ve koşullu toplamlar
+     * Satır: [status, priority, total, unassigned (NEW ve atanmamış), slaRisk, ratingSum, ratingCount]
+     */
+    @Query("SELECT t.status, t.priority, COUNT(t), " +
+            "SUM(CASE WHEN t.assignedAgent IS NULL " +
+            "AND t.status = com.example.smartdeskbackend.enums.TicketStatus.NEW THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.slaDeadline IS NOT NULL AND t.slaDeadline < :riskTime " +
+            "AND t.status NOT IN (com.example.smartdeskbackend.enums.TicketStatus.RESOLVED, " +
+            "com.example.smartdeskbackend.enums.TicketStatus.CLOSED) THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.customerSatisfactionRating IS NOT NULL AND t.createdAt >= :satisfactionSince " +
+            "THEN t.customerSatisfactionRating ELSE 0 END), " +
+            "SUM(CASE WHEN t.customerSatisfactionRating IS NOT NULL AND t.createdAt >= :satisfactionSince " +
+            "THEN 1 ELSE 0 END) " +
+            "FROM Ticket t WHERE t.company.id = :companyId GROUP BY t.status, t.priority")
+    List<Object[]> aggregateTicketStats(@Param("companyId") Long companyId,
+                                        @Param("riskTime") LocalDateTime riskTime,
+                                        @Param("satisfactionSince") LocalDateTime satisfactionSince);
+
     /**
      * Belirli tarih aralığındaki ticketlar
      */
@@ -231,4 +459,188 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
             "     ELSE 7 END, " +
             "t.updatedAt DESC, t.createdAt DESC")
     Page<Ticket> findAllWithCustomSorting(Pageable pageable);
-}
\ No newline at end of file
+
+    // ============ Projection (TicketResponse) sorguları ============
+
+    /**
+     * Şirketteki ticketlar - projection
+     */
+    @Query(value = TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId",
+            countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.company.id = :companyId")
+    Page<TicketResponse> findResponsesByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    /**
+     * Müşterinin ticketları - projection
+     */
+    @Query(value = TICKET_RESPONSE_SELECT + "WHERE t.customer.id = :customerId",
+            countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.customer.id = :customerId")
+    Page<TicketResponse> findResponsesByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    /**
+     * Agent'a atanmış ticketlar - projection
+     */
+    @Query(value = TICKET_RESPONSE_SELECT + "WHERE t.assignedAgent.id = :agentId",
+            countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.assignedAgent.id = :agentId")
+    Page<TicketResponse> findResponsesByAssignedAgentId(@Param("agentId") Long agentId, Pageable pageable);
+
+    /**
+     * Aktif ticketlar - projection
+     */
+    @Query(value = TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId " +
+            "AND t.status IN " + ACTIVE_STATUSES +
+            "ORDER BY t.priority DESC, t.createdAt ASC",
+            countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.company.id = :companyId " +
+                    "AND t.status IN " + ACTIVE_STATUSES)
+    Page<TicketResponse> findActiveTicketResponses(@Param("companyId") Long companyId, Pageable pageable);
+
+    /**
+     * Atanmamış ticketlar - projection
+     */
+    @Query(TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId " +
+            "AND t.assignedAgent IS NULL AND t.status = com.example.smartdeskbackend.enums.TicketStatus.NEW " +
+            "ORDER BY t.priority DESC, t.createdAt ASC")
+    List<TicketResponse> findUnassignedTicketResponses(@Param("companyId") Long companyId);
+
+    /**
+     * SLA ihlali riski olan ticketlar - projection
+     */
+    @Query(TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId " +
+            "AND t.slaDeadline IS NOT NULL AND t.slaDeadline < :riskTime " +
+            "AND t.status NOT IN (com.example.smartdeskbackend.enums.TicketStatus.RESOLVED, " +
+            "com.example.smartdeskbackend.enums.TicketStatus.CLOSED) " +
+            "ORDER BY t.slaDeadline ASC")
+    List<TicketResponse> findTicketResponsesAtRiskOfSlaViolation(@Param("companyId") Long companyId,
+                                                                 @Param("riskTime") LocalDateTime riskTime);
+
+    /**
+     * Ticket arama - projection
+     */
+    @Query(value = TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId " +
+            "AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+            "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+            "OR LOWER(t.ticketNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+            "ORDER BY t.createdAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.company.id = :companyId " +
+                    "AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+                    "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+                    "OR LOWER(t.ticketNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+    Page<TicketResponse> searchTicketResponses(@Param("companyId") Long companyId,
+                                               @Param("searchTerm") String searchTerm,
+                                               Pageable pageable);
+
+    /**
+     * Gelişmiş ticket filtreleme - projection
+     */
+    @Query(value = TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            "AND (:departmentId IS NULL OR t.department.id = :departmentId) " +
+            "AND (:agentId IS NULL OR t.assignedAgent.id = :agentId) " +
+            "AND (:customerId IS NULL OR t.customer.id = :customerId) " +
+            "ORDER BY t.createdAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.company.id = :companyId " +
+                    "AND (:status IS NULL OR t.status = :status) " +
+                    "AND (:priority IS NULL OR t.priority = :priority) " +
+                    "AND (:departmentId IS NULL OR t.department.id = :departmentId) " +
+                    "AND (:agentId IS NULL OR t.assignedAgent.id = :agentId) " +
+                    "AND (:customerId IS NULL OR t.customer.id = :customerId)")
+    Page<TicketResponse> findTicketResponsesWithFilters(@Param("companyId") Long companyId,
+                                                        @Param("status") TicketStatus status,
+                                                        @Param("priority") TicketPriority priority,
+                                                        @Param("departmentId") Long departmentId,
+                                                        @Param("agentId") Long agentId,
+                                                        @Param("customerId") Long customerId,
+                                                        Pageable pageable);
+
+    /**
+     * SUPER_ADMIN için tüm ticketlar - projection, findAllWithCustomSorting ile aynı sıralama
+     */
+    @Query(value = TICKET_RESPONSE_SELECT +
+            "ORDER BY " +
+            "CASE WHEN t.status = com.example.smartdeskbackend.enums.TicketStatus.PENDING_ADMIN_APPROVAL THEN 1 " +
+            "     WHEN t.status = com.example.smartdeskbackend.enums.TicketStatus.PENDING_MANAGER_APPROVAL THEN 2 " +
+            "     WHEN t.status = com.example.smartdeskbackend.enums.TicketStatus.RESOLVED THEN 3 " +
+            "     WHEN t.status = com.example.smartdeskbackend.enums.TicketStatus.NEW THEN 4 " +
+            "     WHEN t.status = com.example.smartdeskbackend.enums.TicketStatus.OPEN THEN 5 " +
+            "     WHEN t.status = com.example.smartdeskbackend.enums.TicketStatus.IN_PROGRESS THEN 6 " +
+            "     ELSE 7 END, " +
+            "t.updatedAt DESC, t.createdAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Ticket t")
+    Page<TicketResponse> findAllResponsesWithCustomSorting(Pageable pageable);
+
+    // ============ Keyset (cursor) pagination ============
+    // OFFSET ve COUNT kullanmaz; son satırın (createdAt, id) anahtarından devam eder.
+    // Cursor parametreleri null ise ilk sayfa döner. Pageable sadece limit için kullanılır (page = 0).
+
+    /**
+     * Şirketteki ticketlar - seek
+     */
+    @Query(TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId " +
+            "AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt " +
+            "OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<TicketResponse> findByCompanyIdSeek(@Param("companyId") Long companyId,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    /**
+     * Agent'a atanmış ticketlar - seek
+     */
+    @Query(TICKET_RESPONSE_SELECT + "WHERE t.assignedAgent.id = :agentId " +
+            "AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt " +
+            "OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<TicketResponse> findByAssignedAgentIdSeek(@Param("agentId") Long agentId,
+                                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    /**
+     * Aktif ticketlar - seek (priority DESC, createdAt ASC, id ASC sırası korunur)
+     */
+    @Query(TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId " +
+            "AND t.status IN " + ACTIVE_STATUSES +
+            "AND (:cursorPriority IS NULL OR t.priority < :cursorPriority " +
+            "OR (t.priority = :cursorPriority AND (t.createdAt > :cursorCreatedAt " +
+            "OR (t.createdAt = :cursorCreatedAt AND t.id > :cursorId)))) " +
+            "ORDER BY t.priority DESC, t.createdAt ASC, t.id ASC")
+    Slice<TicketResponse> findActiveTicketsSeek(@Param("companyId") Long companyId,
+                                                @Param("cursorPriority") TicketPriority cursorPriority,
+                                                @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    /**
+     * Gelişmiş ticket filtreleme - seek
+     */
+    @Query(TICKET_RESPONSE_SELECT + "WHERE t.company.id = :companyId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            "AND (:departmentId IS NULL OR t.department.id = :departmentId) " +
+            "AND (:agentId IS NULL OR t.assignedAgent.id = :agentId) " +
+            "AND (:customerId IS NULL OR t.customer.id = :customerId) " +
+            "AND (:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt " +
+            "OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<TicketResponse> findTicketsWithFiltersSeek(@Param("companyId") Long companyId,
+                                                     @Param("status") TicketStatus status,
+                                                     @Param("priority") TicketPriority priority,
+                                                     @Param("departmentId") Long departmentId,
+                                                     @Param("agentId") Long agentId,
+                                                     @Param("customerId") Long customerId,
+                                                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                     @Param("cursorId") Long cursorId,
+                                                     Pageable pageable);
+
+    /**
+     * SUPER_ADMIN için tüm ticketlar - seek (createdAt DESC, id DESC)
+     */
+    @Query(TICKET_RESPONSE_SELECT + "WHERE " +
+            "(:cursorCreatedAt IS NULL OR t.createdAt < :cursorCreatedAt " +
+            "OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<TicketResponse> findAllSeek(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+}
@@ -0,0 +1,89 @@
+package com.example.smartdeskbackend.repository;
+
+import com.example.smartdeskbackend.entity.TicketRollupDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TicketRollupDailyRepository extends JpaRepository<TicketRollupDaily, Long> {
+
+    boolean existsByCompanyIdAndBucketDate(Long companyId, LocalDate bucketDate);
+
+    @Modifying
+    @Query("DELETE FROM TicketRollupDaily r WHERE r.companyId = :companyId AND r.bucketDate = :bucketDate")
+    int deleteDay(@Param("companyId") Long companyId, @Param("bucketDate") LocalDate bucketDate);
+
+    /**
+     * Günün saatlik rollup satırlarını tek INSERT ... SELECT ile günlük satırlara toplar
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ticket_rollup_daily (company_id, bucket_date, department_id, category, priority, " +
+            "agent_id, created_count, resolved_count, breached_count, satisfaction_sum, satisfaction_count, " +
+            "resolution_minutes_sum) " +
+            "SELECT r.company_id, :bucketDate, r.department_id, r.category, r.priority, r.agent_id, " +
+            "SUM(r.created_count), SUM(r.resolved_count), SUM(r.breached_count), SUM(r.satisfaction_sum), " +
+            "SUM(r.satisfaction_count), SUM(r.resolution_minutes_sum) " +
+            "FROM ticket_rollup_hourly r WHERE r.company_id = :companyId " +
+            "AND r.bucket_start >= :dayStart AND r.bucket_start < :dayEnd " +
+            "GROUP BY r.company_id, r.department_id, r.category, r.priority, r.agent_id",
+            nativeQuery = true)
+    int insertFromHourly(@Param("companyId") Long companyId,
+                         @Param("bucketDate") LocalDate bucketDate,
+                         @Param("dayStart") LocalDateTime dayStart,
+                         @Param("dayEnd") LocalDateTime dayEnd);
+
+    /**
+     * Günlük oluşturulan ticket sayıları
+     * Satır: [bucketDate, created]
+     */
+    @Query("SELECT r.bucketDate, SUM(r.createdCount) FROM TicketRollupDaily r " +
+            "WHERE r.companyId = :companyId AND r.bucketDate >= :from " +
+            "GROUP BY r.bucketDate ORDER BY r.bucketDate")
+    List<Object[]> sumCreatedByDay(@Param("companyId") Long companyId, @Param("from") LocalDate from);
+
+    /**
+     * Satır: [created, resolved]
+     */
+    @Query("SELECT SUM(r.createdCount), SUM(r.resolvedCount) FROM TicketRollupDaily r " +
+            "WHERE r.companyId = :companyId AND r.bucketDate = :bucketDate")
+    List<Object[]> sumDay(@Param("companyId") Long companyId, @Param("bucketDate") LocalDate bucketDate);
+
+    /**
+     * Satır: [satisfactionSum, satisfactionCount]
+     */
+    @Query("SELECT SUM(r.satisfactionSum), SUM(r.satisfactionCount) FROM TicketRollupDaily r " +
+            "WHERE r.companyId = :companyId AND r.bucketDate >= :from")
+    List<Object[]> sumSatisfaction(@Param("companyId") Long companyId, @Param("from") LocalDate from);
+
+    /**
+     * Kategori bazında toplam ticket sayısı (çoktan aza)
+     * Satır: [category, created]
+     */
+    @Query("SELECT r.category, SUM(r.createdCount) FROM TicketRollupDaily r " +
+            "WHERE r.companyId = :companyId AND r.category IS NOT NULL " +
+            "GROUP BY r.category ORDER BY SUM(r.createdCount) DESC")
+    List<Object[]> sumCreatedByCategory(@Param("companyId") Long companyId);
+
+    /**
+     * Gün aralığında (iki uç dahil) agent bazında toplamlar
+     * Satır: [agentId, firstName, lastName, created, resolved, resolutionMinutesSum]
+     */
+    @Query("SELECT u.id, u.firstName, u.lastName, SUM(r.createdCount), SUM(r.resolvedCount), " +
+            "SUM(r.resolutionMinutesSum) FROM TicketRollupDaily r JOIN User u ON u.id = r.agentId " +
+            "WHERE r.companyId = :companyId " +
+            "AND u.role IN (com.example.smartdeskbackend.enums.UserRole.AGENT, " +
+            "com.example.smartdeskbackend.enums.UserRole.MANAGER) " +
+            "AND u.status = com.example.smartdeskbackend.enums.UserStatus.ACTIVE " +
+            "AND r.bucketDate >= :from AND r.bucketDate <= :to " +
+            "GROUP BY u.id, u.firstName, u.lastName")
+    List<Object[]> sumByAgent(@Param("companyId") Long companyId,
+                              @Param("from") LocalDate from,
+                              @Param("to") LocalDate to);
+}
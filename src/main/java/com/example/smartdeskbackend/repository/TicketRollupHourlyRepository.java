@@ -0,0 +1,62 @@
+package com.example.smartdeskbackend.repository;
+
+import com.example.smartdeskbackend.entity.TicketRollupHourly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TicketRollupHourlyRepository extends JpaRepository<TicketRollupHourly, Long> {
+
+    @Modifying
+    @Query("DELETE FROM TicketRollupHourly r WHERE r.companyId = :companyId " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteRange(@Param("companyId") Long companyId,
+                    @Param("from") LocalDateTime from,
+                    @Param("to") LocalDateTime to);
+
+    /**
+     * Bir saatlik dilimde oluşturulan ticketları boyutlara göre toplayıp tek INSERT ... SELECT ile yazar
+     * Çözüm süresi ve SLA aşımı ticket'ın mevcut resolved_at değerine göre hesaplanır
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ticket_rollup_hourly (company_id, bucket_start, department_id, category, priority, " +
+            "agent_id, created_count, resolved_count, breached_count, satisfaction_sum, satisfaction_count, " +
+            "resolution_minutes_sum) " +
+            "SELECT t.company_id, :bucketStart, t.department_id, t.category, t.priority, t.assigned_agent_id, " +
+            "COUNT(*), " +
+            "SUM(CASE WHEN t.resolved_at IS NOT NULL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.resolved_at IS NOT NULL AND t.sla_deadline IS NOT NULL " +
+            "AND t.resolved_at > t.sla_deadline THEN 1 ELSE 0 END), " +
+            "COALESCE(SUM(t.customer_satisfaction_rating), 0), " +
+            "COUNT(t.customer_satisfaction_rating), " +
+            "COALESCE(SUM(TIMESTAMPDIFF(MINUTE, t.created_at, t.resolved_at)), 0) " +
+            "FROM tickets t WHERE t.company_id = :companyId " +
+            "AND t.created_at >= :bucketStart AND t.created_at < :bucketEnd " +
+            "GROUP BY t.company_id, t.department_id, t.category, t.priority, t.assigned_agent_id",
+            nativeQuery = true)
+    int insertFromTickets(@Param("companyId") Long companyId,
+                          @Param("bucketStart") LocalDateTime bucketStart,
+                          @Param("bucketEnd") LocalDateTime bucketEnd);
+
+    /**
+     * Saat aralığında agent bazında toplamlar
+     * Satır: [agentId, firstName, lastName, created, resolved, resolutionMinutesSum]
+     */
+    @Query("SELECT u.id, u.firstName, u.lastName, SUM(r.createdCount), SUM(r.resolvedCount), " +
+            "SUM(r.resolutionMinutesSum) FROM TicketRollupHourly r JOIN User u ON u.id = r.agentId " +
+            "WHERE r.companyId = :companyId " +
+            "AND u.role IN (com.example.smartdeskbackend.enums.UserRole.AGENT, " +
+            "com.example.smartdeskbackend.enums.UserRole.MANAGER) " +
+            "AND u.status = com.example.smartdeskbackend.enums.UserStatus.ACTIVE " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY u.id, u.firstName, u.lastName")
+    List<Object[]> sumByAgent(@Param("companyId") Long companyId,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to);
+}
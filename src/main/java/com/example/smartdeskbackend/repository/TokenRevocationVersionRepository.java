@@ -0,0 +1,23 @@
+package com.example.smartdeskbackend.repository;
+
+import com.example.smartdeskbackend.entity.TokenRevocationVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TokenRevocationVersionRepository extends JpaRepository<TokenRevocationVersion, Integer> {
+
+    /**
+     * Sayacı bir artırır; satır kilidi transaction sonuna kadar tutulur
+     * @return 0 ise satır henüz yok
+     */
+    @Modifying
+    @Query("UPDATE TokenRevocationVersion v SET v.version = v.version + 1 WHERE v.id = :id")
+    int increment(@Param("id") Integer id);
+
+    @Query("SELECT v.version FROM TokenRevocationVersion v WHERE v.id = :id")
+    Long findVersion(@Param("id") Integer id);
+}
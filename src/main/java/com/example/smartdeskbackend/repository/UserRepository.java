@@ -13,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,27 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Yetki kontrolleri için kullanıcı özeti (id ile)
+     * Satır [id, email, role, companyId] şeklindedir
+     */
+    @Query("SELECT u.id, u.email, u.role, c.id FROM User u LEFT JOIN u.company c WHERE u.id = :id")
+    List<Object[]> findPrincipalRowById(@Param("id") Long id);
+
+    /**
+     * Yetki kontrolleri için kullanıcı özeti (email ile)
+     */
+    @Query("SELECT u.id, u.email, u.role, c.id FROM User u LEFT JOIN u.company c WHERE u.email = :email")
+    List<Object[]> findPrincipalRowByEmail(@Param("email") String email);
+
+    /**
+     * Stateless authentication için kullanıcı durumu
+     * Satır [id, email, role, status, lockedUntil, companyId, departmentId] şeklindedir
+     */
+    @Query("SELECT u.id, u.email, u.role, u.status, u.lockedUntil, c.id, d.id FROM User u " +
+            "LEFT JOIN u.company c LEFT JOIN u.department d WHERE u.id = :id")
+    List<Object[]> findAuthStateRowById(@Param("id") Long id);
+
     /**
      * Aktif kullanıcıyı email ile bulma
      */
@@ -129,6 +151,15 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     List<User> findLeastBusyAgents(@Param("departmentId") Long departmentId,
                                    @Param("limit") int limit);
 
+    /**
+     * Agent yük index'i için departmanların ticket kabul eden agent'ları: [departmentId, userId, maxOpenTickets]
+     */
+    @Query("SELECT u.department.id, u.id, u.maxOpenTickets FROM User u WHERE u.department.id IN :departmentIds " +
+            "AND u.role = :role AND u.status = :status AND u.acceptingTickets = true")
+    List<Object[]> findAgentIdsByDepartmentIds(@Param("departmentIds") Collection<Long> departmentIds,
+                                               @Param("role") UserRole role,
+                                               @Param("status") UserStatus status);
+
     // ============ Search and Filter Queries ============
 
     /**
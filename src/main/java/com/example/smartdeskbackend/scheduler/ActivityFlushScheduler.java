@@ -0,0 +1,32 @@
+package com.example.smartdeskbackend.scheduler;
+
+import com.example.smartdeskbackend.service.ActivityRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bekleyen kullanıcı/ticket aktivite güncellemelerini kısa aralıkla DB'ye yazar
+ */
+@Component
+public class ActivityFlushScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityFlushScheduler.class);
+
+    @Autowired
+    private ActivityRecorder activityRecorder;
+
+    @Scheduled(fixedDelayString = "${app.business.activity.flush-interval-ms:5000}")
+    public void flushActivity() {
+        try {
+            int written = activityRecorder.flush();
+            if (written > 0) {
+                logger.debug("Flushed {} activity updates", written);
+            }
+        } catch (Exception e) {
+            logger.error("Error during activity flush", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.smartdeskbackend.scheduler;
+
+import com.example.smartdeskbackend.service.AgentLoadService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Agent yük index'ini periyodik olarak DB ile uzlaştırır
+ */
+@Component
+public class AgentLoadScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgentLoadScheduler.class);
+
+    @Autowired
+    private AgentLoadService agentLoadService;
+
+    @Scheduled(fixedDelayString = "${app.business.assignment.reconcile-interval-ms:300000}")
+    public void reconcileAgentLoads() {
+        try {
+            int drifted = agentLoadService.reconcile();
+            if (drifted > 0) {
+                logger.info("Agent load reconciliation corrected {} departments", drifted);
+            }
+        } catch (Exception e) {
+            logger.error("Error during agent load reconciliation", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.smartdeskbackend.scheduler;
+
+import com.example.smartdeskbackend.service.DashboardCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dashboard sayaçlarını periyodik olarak DB ile uzlaştırır
+ */
+@Component
+public class DashboardCounterScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCounterScheduler.class);
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Scheduled(fixedDelayString = "${app.business.dashboard.reconcile-interval-ms:300000}")
+    public void reconcileCounters() {
+        try {
+            int drifted = dashboardCounterService.reconcile();
+            if (drifted > 0) {
+                logger.info("Dashboard counter reconciliation corrected {} companies", drifted);
+            }
+        } catch (Exception e) {
+            logger.error("Error during dashboard counter reconciliation", e);
+        }
+    }
+}
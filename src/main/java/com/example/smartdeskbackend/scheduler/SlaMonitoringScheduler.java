@@ -3,7 +3,8 @@ package com.example.smartdeskbackend.scheduler;
 
 import com.example.smartdeskbackend.entity.Ticket;
 import com.example.smartdeskbackend.repository.TicketRepository;
-import com.example.smartdeskbackend.integration.email.EmailService;
+import com.example.smartdeskbackend.service.SlaEscalationService;
+import com.example.smartdeskbackend.service.SlaTimerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,7 +15,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 /**
- * SLA monitoring ve escalation scheduler
+ * SLA monitoring scheduler
+ * Escalation ve risk bildirimleri olay tabanlıdır (bkz. SlaTimerService, SlaEventListener)
  */
 @Component
 public class SlaMonitoringScheduler {
@@ -25,72 +27,57 @@ public class SlaMonitoringScheduler {
     private TicketRepository ticketRepository;
 
     @Autowired
-    private EmailService emailService;
+    private SlaTimerService slaTimerService;
+
+    @Autowired
+    private SlaEscalationService slaEscalationService;
 
     /**
-     * Her 15 dakikada bir SLA ihlali kontrolü yapar
+     * SLA zamanlayıcısı ihlal bildirdiyse escalation işini çalıştırır
+     * Aynı aralıkta düşen ihlaller tek çalıştırmada birleştirilir
      */
-    @Scheduled(fixedRate = 900000) // 15 minutes
-    public void checkSlaViolations() {
-        logger.info("Checking SLA violations...");
-
+    @Scheduled(fixedDelayString = "${app.business.sla.escalation-trigger-check-ms:1000}")
+    public void runRequestedEscalation() {
         try {
-            LocalDateTime now = LocalDateTime.now();
-
-            // SLA ihlali olan ticketları bul
-            List<Ticket> violatedTickets = ticketRepository.findSlaViolatedTickets(null, now);
-
-            logger.info("Found {} tickets with SLA violations", violatedTickets.size());
-
-            for (Ticket ticket : violatedTickets) {
-                try {
-                    // Ticket'ı escalate et
-                    ticket.escalate();
-                    ticketRepository.save(ticket);
-
-                    // Email notification gönder
-                    emailService.sendTicketNotification(ticket, "SLA_VIOLATED");
-
-                    logger.warn("Escalated ticket {} due to SLA violation", ticket.getTicketNumber());
+            slaEscalationService.runIfRequested();
+        } catch (Exception e) {
+            logger.error("Error in triggered SLA escalation", e);
+        }
+    }
 
-                } catch (Exception e) {
-                    logger.error("Error escalating ticket {}: {}", ticket.getTicketNumber(), e.getMessage());
-                }
+    /**
+     * Periyodik tam escalation taraması
+     * Başka node'un zamanlayıcısında kalan veya kaçırılan ihlaller burada yakalanır; lease kilidi sayesinde
+     * aynı anda tek node çalıştırır
+     */
+    @Scheduled(initialDelayString = "${app.business.sla.escalation-interval-ms:300000}",
+            fixedDelayString = "${app.business.sla.escalation-interval-ms:300000}")
+    public void escalateSlaViolations() {
+        try {
+            int escalated = slaEscalationService.escalateDue();
+            if (escalated < 0) {
+                logger.debug("SLA escalation is running on another node");
             }
-
         } catch (Exception e) {
-            logger.error("Error in SLA violation check", e);
+            logger.error("Error in SLA escalation", e);
         }
     }
 
     /**
-     * Her saat başı SLA riski olan ticketları kontrol eder
+     * SLA zamanlayıcısını DB ile uzlaştırır
+     * İhlal ve risk bildirimleri SlaTimerService tarafından deadline anında tetiklenir; bu iş sadece
+     * kaçırılmış event'lere (bulk SQL, başka node'dan yapılan değişiklikler) karşı emniyet ağıdır
      */
-    @Scheduled(cron = "0 0 * * * ?") // Her saat başı
-    public void checkSlaRisks() {
-        logger.info("Checking SLA risks...");
-
+    @Scheduled(initialDelayString = "${app.business.sla.timer-reconcile-interval-ms:600000}",
+            fixedDelayString = "${app.business.sla.timer-reconcile-interval-ms:600000}")
+    public void reconcileSlaTimers() {
         try {
-            LocalDateTime riskTime = LocalDateTime.now().plusHours(2);
-
-            // Risk altındaki ticketları bul
-            List<Ticket> riskTickets = ticketRepository.findTicketsAtRiskOfSlaViolation(null, riskTime);
-
-            logger.info("Found {} tickets at SLA risk", riskTickets.size());
-
-            for (Ticket ticket : riskTickets) {
-                try {
-                    // Risk notification gönder
-                    emailService.sendTicketNotification(ticket, "SLA_RISK");
-
-                } catch (Exception e) {
-                    logger.error("Error sending SLA risk notification for ticket {}: {}",
-                            ticket.getTicketNumber(), e.getMessage());
-                }
+            int corrected = slaTimerService.reconcile();
+            if (corrected > 0) {
+                logger.info("SLA timer reconciliation corrected {} tickets", corrected);
             }
-
         } catch (Exception e) {
-            logger.error("Error in SLA risk check", e);
+            logger.error("Error during SLA timer reconciliation", e);
         }
     }
 
@@ -0,0 +1,71 @@
+package com.example.smartdeskbackend.scheduler;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.service.TicketRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Ticket rollup işleri
+ * İşaretli saatler kısa aralıkla yazılır; gece işi son günleri baştan hesaplayarak kaybolan
+ * işaretleri (restart, başka node) telafi eder. Açılışta rollup'ı olmayan geçmiş (ilk kurulum) bir kez
+ * arka planda doldurulur.
+ */
+@Component
+public class TicketRollupScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketRollupScheduler.class);
+
+    @Autowired
+    private TicketRollupService ticketRollupService;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    @Scheduled(fixedDelayString = "${app.business.rollup.flush-interval-ms:60000}")
+    public void flushDirtyRollups() {
+        try {
+            int hours = ticketRollupService.flushDirty();
+            if (hours > 0) {
+                logger.debug("Rebuilt {} ticket rollup hours", hours);
+            }
+        } catch (Exception e) {
+            logger.error("Error during ticket rollup flush", e);
+        }
+    }
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingHistory() {
+        if (!businessProperties.getRollup().isHistoryBackfillEnabled()) {
+            return;
+        }
+        try {
+            int days = ticketRollupService.backfillMissingHistory();
+            if (days > 0) {
+                logger.info("Backfilled {} company-days of ticket rollup history", days);
+            }
+        } catch (Exception e) {
+            logger.error("Error during ticket rollup history backfill", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.business.rollup.backfill-cron:0 30 2 * * *}")
+    public void backfillRecentRollups() {
+        try {
+            LocalDate today = LocalDate.now();
+            int days = Math.max(1, businessProperties.getRollup().getBackfillDays());
+            ticketRollupService.backfill(today.minusDays(days - 1L), today);
+        } catch (Exception e) {
+            logger.error("Error during ticket rollup backfill", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.smartdeskbackend.scheduler;
+
+import com.example.smartdeskbackend.service.TokenRevocationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Diğer node'lardaki token iptallerini yoklar ve süresi dolmuş iptalleri temizler
+ */
+@Component
+public class TokenRevocationScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationScheduler.class);
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Scheduled(fixedDelayString = "${app.security.jwt.blacklist.poll-interval-ms:5000}")
+    public void pollRevocations() {
+        try {
+            int loaded = tokenRevocationService.refresh();
+            if (loaded > 0) {
+                logger.debug("Loaded {} new token revocations", loaded);
+            }
+        } catch (Exception e) {
+            logger.error("Error while polling token revocations", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.jwt.blacklist.purge-interval-ms:3600000}")
+    public void purgeExpiredRevocations() {
+        try {
+            int deleted = tokenRevocationService.purgeExpired();
+            if (deleted > 0) {
+                logger.info("Purged {} expired token revocations", deleted);
+            }
+        } catch (Exception e) {
+            logger.error("Error while purging expired token revocations", e);
+        }
+    }
+}
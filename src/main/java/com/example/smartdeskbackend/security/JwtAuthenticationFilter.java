@@ -1,5 +1,6 @@
 package com.example.smartdeskbackend.security;
 
+import com.example.smartdeskbackend.service.impl.UserDetailsServiceImpl;
 import com.example.smartdeskbackend.util.JwtUtil; // Kendi JwtUtil sınıfınızın yolu
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,7 +12,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 // import org.springframework.stereotype.Component; // BU ANOTASYONU KESİNLİKLE KALDIRIN!
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,11 +25,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtUtil jwtUtil; // JwtUtil kullanıyoruz
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
+    // true ise principal DB yerine token claim'leri ve cache'li kullanıcı durumundan kurulur
+    private final boolean statelessPrincipal;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, boolean statelessPrincipal) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -41,13 +44,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                String email = jwtUtil.getEmailFromToken(jwt);
+            // Token tek seferde doğrulanır; aynı token'la gelen sonraki istekler cache'ten döner
+            JwtUtil.VerifiedToken token = StringUtils.hasText(jwt) ? jwtUtil.verifyIfValid(jwt).orElse(null) : null;
+            if (token != null) {
+                String email = token.getEmail();
 
                 if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = this.userDetailsService.loadUserByUsername(email);
+                    // userId claim'i olmayan eski token'lar DB'den yüklenir
+                    UserDetails userDetails = statelessPrincipal && token.getUserId() != null
+                            ? this.userDetailsService.loadUserByToken(token)
+                            : this.userDetailsService.loadUserByUsername(email);
 
-                    if (jwtUtil.validateToken(jwt, userDetails)) {
+                    if (userDetails != null && email.equals(userDetails.getUsername())
+                            && userDetails.isEnabled() && userDetails.isAccountNonLocked()) {
                         UsernamePasswordAuthenticationToken authentication =
                                 new UsernamePasswordAuthenticationToken(
                                         userDetails,
@@ -58,11 +67,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         authentication.setDetails(new org.springframework.security.web.authentication.WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authentication); // Security Context'i güncelle
 
-                        request.setAttribute("userId", jwtUtil.getUserIdFromToken(jwt));
+                        request.setAttribute("userId", token.getUserId());
                         request.setAttribute("userEmail", email);
-                        request.setAttribute("userRole", jwtUtil.getRoleFromToken(jwt));
-                        request.setAttribute("companyId", jwtUtil.getCompanyIdFromToken(jwt));
-                        request.setAttribute("departmentId", jwtUtil.getDepartmentIdFromToken(jwt));
+                        request.setAttribute("userRole", token.getRole());
+                        request.setAttribute("companyId", token.getCompanyId());
+                        request.setAttribute("departmentId", token.getDepartmentId());
                     }
                 }
             }
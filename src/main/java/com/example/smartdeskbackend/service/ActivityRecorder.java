@@ -0,0 +1,33 @@
+package com.example.smartdeskbackend.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kullanıcı ve ticket aktivite alanları için write-behind kaydedici
+ * Son giriş zamanı, ticket'ın son mesaj zamanı ve okunmamış mesaj sayacı entity save'i yerine bellekte
+ * birleştirilir ve periyodik olarak toplu UPDATE ile yazılır: zamanlarda en yenisi kazanır, sayaç artışları
+ * toplanır. Aktif transaction varsa kayıt commit'ten sonra alınır; rollback olan işlem iz bırakmaz
+ */
+public interface ActivityRecorder {
+
+    /**
+     * Kullanıcının son giriş zamanını kaydeder (users.last_login)
+     */
+    void recordLogin(Long userId, LocalDateTime at);
+
+    /**
+     * Ticket'a gelen mesajı kaydeder: son mesaj/aktivite zamanı ilerler, okunmamış sayaç bir artar
+     */
+    void recordTicketMessage(Long ticketId, LocalDateTime at);
+
+    /**
+     * Ticket'ın okunmamış mesaj sayacını sıfırlar; bekleyen artışlar sıfırlamadan önce sayılır
+     */
+    void resetUnreadMessages(Long ticketId);
+
+    /**
+     * Bekleyen değişiklikleri tek transaction'da toplu UPDATE ile yazar; hata olursa değişiklikler geri konur
+     * @return yazılan kullanıcı + ticket sayısı
+     */
+    int flush();
+}
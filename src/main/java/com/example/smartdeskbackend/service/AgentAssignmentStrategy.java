@@ -0,0 +1,17 @@
+package com.example.smartdeskbackend.service;
+
+import java.util.Comparator;
+
+/**
+ * Otomatik atama stratejisi (SPI)
+ * Strateji, kapasitesi dolmamış agent'ların sıralamasını tanımlar; AgentLoadService bu sıralamada tutulan
+ * ağacın ilk elemanını seçer. Yeni strateji için bu arayüzü uygulayan bir bean tanımlayıp
+ * app.business.assignment.strategy ile adını seçmek yeterlidir.
+ * Sıralama agent id ile sonlanmalıdır (eşit elemanlar ağaçta birleşmesin)
+ */
+public interface AgentAssignmentStrategy {
+
+    String getName();
+
+    Comparator<AgentLoadService.AgentLoad> ordering();
+}
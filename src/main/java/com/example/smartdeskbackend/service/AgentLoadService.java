@@ -0,0 +1,73 @@
+package com.example.smartdeskbackend.service;
+
+import com.example.smartdeskbackend.event.AgentLoadChangedEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Departman bazında bellekte tutulan agent yük index'i (otomatik atama için)
+ * Departman ilk erişimde iki sorguyla yüklenir, sonra atama/kapama/yeniden açma event'leriyle güncellenir
+ * ve periyodik olarak DB ile uzlaştırılır. Seçim, aktif AgentAssignmentStrategy sıralamasında O(log n)'dir.
+ */
+public interface AgentLoadService {
+
+    /**
+     * Stratejiye göre agent seçer ve ticket için yükünü hemen artırır (rezervasyon)
+     * Eşzamanlı atamalar aynı agent'ı görmez; transaction rollback olursa rezervasyon geri alınır
+     * @return kapasitesi dolmamış agent yoksa boş
+     */
+    Optional<Long> claimAgent(Long departmentId, Long ticketId);
+
+    /**
+     * Stratejiye göre ilk limit agent (atama yapmadan)
+     */
+    List<AgentLoad> getAvailableAgents(Long departmentId, int limit);
+
+    void applyLoadChanges(AgentLoadChangedEvent event);
+
+    /**
+     * Departmanın agent listesi değişti; index bir sonraki erişimde DB'den yüklenir
+     */
+    void invalidateDepartment(Long departmentId);
+
+    /**
+     * Yüklü departmanların yüklerini DB'den yeniden hesaplar
+     * @return sapma tespit edilen departman sayısı
+     */
+    int reconcile();
+
+    /**
+     * Agent'ın index'teki anlık yükü; sıralamalar değiştirmeden karşılaştırabilsin diye değişmezdir
+     */
+    final class AgentLoad {
+        private final Long agentId;
+        private final int openTickets;
+        private final int capacity;
+        private final long lastAssignedSequence;
+
+        public AgentLoad(Long agentId, int openTickets, int capacity, long lastAssignedSequence) {
+            this.agentId = agentId;
+            this.openTickets = openTickets;
+            this.capacity = capacity;
+            this.lastAssignedSequence = lastAssignedSequence;
+        }
+
+        public AgentLoad withOpenTickets(int openTickets) {
+            return new AgentLoad(agentId, openTickets, capacity, lastAssignedSequence);
+        }
+
+        public AgentLoad assigned(long sequence) {
+            return new AgentLoad(agentId, openTickets + 1, capacity, sequence);
+        }
+
+        public boolean hasCapacity() {
+            return openTickets < capacity;
+        }
+
+        public Long getAgentId() { return agentId; }
+        public int getOpenTickets() { return openTickets; }
+        public int getCapacity() { return capacity; }
+        public long getLastAssignedSequence() { return lastAssignedSequence; }
+    }
+}
@@ -21,14 +21,14 @@ public interface AuthService {
     AuthResponse register(RegisterRequest registerRequest);
 
     /**
-     * Refresh token ile yeni access token alma
+     * Refresh token ile yeni access ve refresh token alma; kullanılan refresh token iptal edilir (rotation)
      */
     AuthResponse refreshToken(String refreshToken);
 
     /**
-     * Kullanıcı çıkışı (token invalidate)
+     * Kullanıcı çıkışı; access token ve (verildiyse) aynı kullanıcının refresh token'ı iptal edilir
      */
-    void logout(String token);
+    void logout(String token, String refreshToken);
 
     /**
      * Şifre sıfırlama isteği
@@ -0,0 +1,32 @@
+package com.example.smartdeskbackend.service;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * Login ve şifre hash işlemleri için sınırlı worker havuzu
+ * BCrypt istek thread'lerinde değil, boyutu sınırlı ayrı bir havuzda çalışır; kuyruk dolunca ya da IP/email
+ * limiti aşılınca istek beklemeden TooManyRequestsException ile reddedilir. Böylece login dalgası diğer
+ * endpoint'lerin CPU'sunu tüketemez
+ */
+public interface AuthWorkerService {
+
+    /**
+     * IP ve email için token bucket limitlerini kontrol eder; null olan anahtar atlanır
+     */
+    void checkRateLimit(String clientIp, String email);
+
+    /**
+     * AuthenticationManager ile kimlik doğrulama (BCrypt karşılaştırması) worker havuzunda yapılır
+     */
+    Authentication authenticate(Authentication authentication);
+
+    /**
+     * Şifreyi worker havuzunda hash'ler
+     */
+    String encodePassword(String rawPassword);
+
+    /**
+     * Şifreyi worker havuzunda hash ile karşılaştırır
+     */
+    boolean matchesPassword(String rawPassword, String passwordHash);
+}
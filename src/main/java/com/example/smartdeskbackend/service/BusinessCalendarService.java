@@ -0,0 +1,55 @@
+package com.example.smartdeskbackend.service;
+
+import com.example.smartdeskbackend.util.WorkingTimeTable;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface BusinessCalendarService {
+
+    /**
+     * Şirketin derlenmiş takvimleri; ilk erişimde tek sorguyla kurulur
+     */
+    CompanyCalendars getCompanyCalendars(Long companyId);
+
+    /**
+     * Departman takvimi, yoksa şirket takvimi, o da yoksa app.business.sla mesai saatleri
+     */
+    WorkingTimeTable getCalendar(Long companyId, Long departmentId);
+
+    /**
+     * start'a iş saati cinsinden süre ekler (SLA deadline hesabı)
+     */
+    LocalDateTime addBusinessHours(Long companyId, Long departmentId, LocalDateTime start, int hours);
+
+    /**
+     * Derlenmiş takvimleri düşürür; bir sonraki erişimde yeniden derlenir
+     * Şirket güncellemesi (saat dilimi) bunu cache eviction ile yapar. Takvim satırları uygulama dışından (SQL)
+     * değiştiğinde POST /v1/admin/business-calendars/{companyId}/evict çağrılır; çağrılmazsa tablo
+     * business-calendars cache TTL'i dolunca yenilenir. Cache node'a yereldir.
+     */
+    void evictCalendars(Long companyId);
+
+    /**
+     * Şirket varsayılan takvimi ve departman takvimleri; departman çözümü tek map erişimidir
+     */
+    final class CompanyCalendars {
+        private final WorkingTimeTable defaultCalendar;
+        private final Map<Long, WorkingTimeTable> departmentCalendars;
+
+        public CompanyCalendars(WorkingTimeTable defaultCalendar, Map<Long, WorkingTimeTable> departmentCalendars) {
+            this.defaultCalendar = defaultCalendar;
+            this.departmentCalendars = Map.copyOf(departmentCalendars);
+        }
+
+        public WorkingTimeTable resolve(Long departmentId) {
+            return departmentId != null
+                    ? departmentCalendars.getOrDefault(departmentId, defaultCalendar)
+                    : defaultCalendar;
+        }
+
+        public WorkingTimeTable getDefaultCalendar() { return defaultCalendar; }
+
+        public int getDepartmentCount() { return departmentCalendars.size(); }
+    }
+}
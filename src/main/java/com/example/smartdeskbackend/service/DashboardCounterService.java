@@ -0,0 +1,65 @@
+package com.example.smartdeskbackend.service;
+
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.TicketStatus;
+import com.example.smartdeskbackend.event.CustomerStateChangedEvent;
+import com.example.smartdeskbackend.event.TicketStateChangedEvent;
+
+import java.util.Map;
+
+/**
+ * Şirket bazında bellekte tutulan dashboard sayaçları
+ * Sayaçlar ilk okumada tek GROUP BY sorgusuyla yüklenir, sonra ticket/müşteri değişiklik event'leriyle
+ * güncellenir ve periyodik olarak DB ile uzlaştırılır. Okuma tenant boyutundan bağımsızdır.
+ */
+public interface DashboardCounterService {
+
+    Snapshot getSnapshot(Long companyId);
+
+    void applyTicketChanges(TicketStateChangedEvent event);
+
+    void applyCustomerChange(CustomerStateChangedEvent event);
+
+    /**
+     * Yüklü şirketlerin sayaçlarını DB'den yeniden hesaplar
+     * @return sapma tespit edilen şirket sayısı
+     */
+    int reconcile();
+
+    /**
+     * Şirket sayaçlarının anlık kopyası
+     */
+    final class Snapshot {
+        private final long totalTickets;
+        private final long activeTickets;
+        private final long unassignedTickets;
+        private final Map<TicketStatus, Long> ticketsByStatus;
+        private final Map<TicketPriority, Long> activeTicketsByPriority;
+        private final long activeCustomers;
+        private final long vipCustomers;
+
+        public Snapshot(long totalTickets, long activeTickets, long unassignedTickets,
+                        Map<TicketStatus, Long> ticketsByStatus, Map<TicketPriority, Long> activeTicketsByPriority,
+                        long activeCustomers, long vipCustomers) {
+            this.totalTickets = totalTickets;
+            this.activeTickets = activeTickets;
+            this.unassignedTickets = unassignedTickets;
+            this.ticketsByStatus = ticketsByStatus;
+            this.activeTicketsByPriority = activeTicketsByPriority;
+            this.activeCustomers = activeCustomers;
+            this.vipCustomers = vipCustomers;
+        }
+
+        public long getTotalTickets() { return totalTickets; }
+        public long getActiveTickets() { return activeTickets; }
+        public long getUnassignedTickets() { return unassignedTickets; }
+        public Map<TicketStatus, Long> getTicketsByStatus() { return ticketsByStatus; }
+        public Map<TicketPriority, Long> getActiveTicketsByPriority() { return activeTicketsByPriority; }
+        public long getActiveCustomers() { return activeCustomers; }
+        public long getVipCustomers() { return vipCustomers; }
+
+        public long getTickets(TicketStatus status) {
+            return ticketsByStatus.getOrDefault(status, 0L);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.smartdeskbackend.service;
+
+import java.time.Duration;
+
+/**
+ * DB tablosu üzerinden node'lar arası süreli kilit
+ * Her node'da çalışan zamanlanmış işlerin tek node'da yürütülmesi için kullanılır.
+ * Kilit işlemleri çağıranın transaction'ından bağımsız olarak hemen commit edilir.
+ */
+public interface LeaseLockService {
+
+    /**
+     * Kilidi alır veya bu node'daysa süresini uzatır
+     * @return kilit bu node'daysa true
+     */
+    boolean tryAcquire(String name, Duration lease);
+
+    void release(String name);
+
+    /**
+     * Kilit sahibini tanımlayan node kimliği
+     */
+    String getNodeId();
+}
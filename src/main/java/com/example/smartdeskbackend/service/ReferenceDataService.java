@@ -0,0 +1,153 @@
+package com.example.smartdeskbackend.service;
+
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sık okunan referans verileri için cache'li lookup servisi
+ * Entity yerine değişmez snapshot'lar döner; böylece değerler transaction'lar ve thread'ler arasında
+ * güvenle paylaşılır. Kayıt bulunamazsa ResourceNotFoundException fırlatır.
+ */
+public interface ReferenceDataService {
+
+    CompanyRef getCompany(Long companyId);
+
+    DepartmentRef getDepartment(Long departmentId);
+
+    UserPrincipal getUserPrincipal(Long userId);
+
+    UserPrincipal getUserPrincipal(String email);
+
+    /**
+     * Authentication'da kullanılan kullanıcı durumu (email, rol, hesap durumu, kilit)
+     */
+    UserAuthState getUserAuthState(Long userId);
+
+    TicketSummary getTicketSummary(Long ticketId);
+
+    /**
+     * Şirket snapshot'ı
+     */
+    final class CompanyRef {
+        private final Long id;
+        private final String name;
+        private final boolean active;
+
+        public CompanyRef(Long id, String name, boolean active) {
+            this.id = id;
+            this.name = name;
+            this.active = active;
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public boolean isActive() { return active; }
+    }
+
+    /**
+     * Departman snapshot'ı
+     */
+    final class DepartmentRef {
+        private final Long id;
+        private final String name;
+        private final Long companyId;
+        private final Long managerId;
+
+        public DepartmentRef(Long id, String name, Long companyId, Long managerId) {
+            this.id = id;
+            this.name = name;
+            this.companyId = companyId;
+            this.managerId = managerId;
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public Long getCompanyId() { return companyId; }
+        public Long getManagerId() { return managerId; }
+    }
+
+    /**
+     * Yetki kontrollerinde kullanılan kullanıcı snapshot'ı
+     */
+    final class UserPrincipal {
+        private final Long id;
+        private final String email;
+        private final UserRole role;
+        private final Long companyId;
+
+        public UserPrincipal(Long id, String email, UserRole role, Long companyId) {
+            this.id = id;
+            this.email = email;
+            this.role = role;
+            this.companyId = companyId;
+        }
+
+        public Long getId() { return id; }
+        public String getEmail() { return email; }
+        public UserRole getRole() { return role; }
+        public Long getCompanyId() { return companyId; }
+    }
+
+    /**
+     * Stateless principal modunda token'ın hâlâ geçerli olup olmadığını belirleyen kullanıcı durumu
+     * Kilit, bitiş zamanıyla tutulur; böylece süresi dolan kilit cache yenilenmeden kalkar
+     */
+    final class UserAuthState {
+        private final Long id;
+        private final String email;
+        private final UserRole role;
+        private final UserStatus status;
+        private final LocalDateTime lockedUntil;
+        private final Long companyId;
+        private final Long departmentId;
+
+        public UserAuthState(Long id, String email, UserRole role, UserStatus status, LocalDateTime lockedUntil,
+                             Long companyId, Long departmentId) {
+            this.id = id;
+            this.email = email;
+            this.role = role;
+            this.status = status;
+            this.lockedUntil = lockedUntil;
+            this.companyId = companyId;
+            this.departmentId = departmentId;
+        }
+
+        public boolean isLocked() {
+            return lockedUntil != null && lockedUntil.isAfter(LocalDateTime.now());
+        }
+
+        public boolean canLogin() {
+            return status != null && status.canLogin() && !isLocked();
+        }
+
+        public Long getId() { return id; }
+        public String getEmail() { return email; }
+        public UserRole getRole() { return role; }
+        public UserStatus getStatus() { return status; }
+        public LocalDateTime getLockedUntil() { return lockedUntil; }
+        public Long getCompanyId() { return companyId; }
+        public Long getDepartmentId() { return departmentId; }
+    }
+
+    /**
+     * Ticket erişim kontrolü için özet (şirket ve müşteri email'i)
+     * Ticket'ın şirketi ve müşterisi oluşturulduktan sonra değişmez; müşteri email'i değişince cache temizlenir
+     */
+    final class TicketSummary {
+        private final Long id;
+        private final Long companyId;
+        private final String customerEmail;
+
+        public TicketSummary(Long id, Long companyId, String customerEmail) {
+            this.id = id;
+            this.companyId = companyId;
+            this.customerEmail = customerEmail;
+        }
+
+        public Long getId() { return id; }
+        public Long getCompanyId() { return companyId; }
+        public String getCustomerEmail() { return customerEmail; }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.smartdeskbackend.service;
+
+/**
+ * SLA süresi dolmuş ticketların toplu escalation işi
+ * Tüm node'larda tetiklenebilir; lease kilidi sayesinde aynı anda tek node çalıştırır
+ */
+public interface SlaEscalationService {
+
+    /**
+     * Süresi dolmuş tüm ticketları parça parça escalate eder
+     * @return escalate edilen ticket sayısı; kilit başka node'daysa -1
+     */
+    int escalateDue();
+
+    /**
+     * Bir sonraki tetikleme kontrolünde escalateDue çalıştırılmasını ister
+     * SLA zamanlayıcısından gelen ihlaller birleştirilerek tek çalıştırmada işlenir
+     */
+    void requestRun();
+
+    /**
+     * requestRun çağrıldıysa escalateDue çalıştırır
+     */
+    void runIfRequested();
+
+    /**
+     * Son çalıştırmada kalan iş (escalate edilmeyi bekleyen ticket sayısı)
+     */
+    long getBacklog();
+}
@@ -1,9 +1,14 @@
 // src/main/java/com/example/smartdeskbackend/service/SlaPolicyService.java
 package com.example.smartdeskbackend.service;
 
+import com.example.smartdeskbackend.dto.response.sla.SlaPolicySnapshot;
 import com.example.smartdeskbackend.entity.SlaPolicy; // SlaPolicy entity'si kullanıldığı için import edildi
 import com.example.smartdeskbackend.enums.TicketPriority; // TicketPriority enum'ı kullanıldığı için import edildi
+
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface SlaPolicyService {
@@ -13,4 +18,74 @@ public interface SlaPolicyService {
     Optional<SlaPolicy> getSlaPolicyById(Long id, Long companyId);
     List<SlaPolicy> getAllSlaPolicies(Long companyId);
     Optional<SlaPolicy> getApplicableSlaPolicy(Long companyId, Long departmentId, TicketPriority priority);
-}
\ No newline at end of file
+
+    /**
+     * Matris üzerinden politika çözümü; ısınmış matriste sorgu çalıştırmaz
+     */
+    Optional<SlaPolicySnapshot> resolveSlaPolicy(Long companyId, Long departmentId, TicketPriority priority);
+
+    /**
+     * Şirketin politika matrisi; ilk erişimde tek sorguyla kurulur
+     */
+    PolicyMatrix getPolicyMatrix(Long companyId);
+
+    /**
+     * Matrisi DB'den yeniden kurar ve eskisinin yerine tek adımda koyar
+     */
+    void rebuildPolicyMatrix(Long companyId);
+
+    /**
+     * Şirketin aktif SLA politikalarından kurulan değişmez öncelik x departman matrisi
+     * Satır 0 şirket varsayılanıdır; departman satırlarındaki boş hücreler kurulumda varsayılanla doldurulur,
+     * böylece çözüm tek dizi erişimidir
+     */
+    final class PolicyMatrix {
+        private static final int PRIORITIES = TicketPriority.values().length;
+
+        private final Map<Long, Integer> departmentRows;
+        private final SlaPolicySnapshot[] cells;
+
+        private PolicyMatrix(Map<Long, Integer> departmentRows, SlaPolicySnapshot[] cells) {
+            this.departmentRows = departmentRows;
+            this.cells = cells;
+        }
+
+        public static PolicyMatrix build(List<SlaPolicySnapshot> policies) {
+            Map<Long, Integer> rows = new HashMap<>();
+            for (SlaPolicySnapshot policy : policies) {
+                if (policy.getDepartmentId() != null) {
+                    rows.putIfAbsent(policy.getDepartmentId(), rows.size() + 1);
+                }
+            }
+
+            SlaPolicySnapshot[] cells = new SlaPolicySnapshot[(rows.size() + 1) * PRIORITIES];
+            for (SlaPolicySnapshot policy : policies) {
+                if (policy.getPriority() == null) {
+                    continue;
+                }
+                int row = policy.getDepartmentId() != null ? rows.get(policy.getDepartmentId()) : 0;
+                cells[row * PRIORITIES + policy.getPriority().ordinal()] = policy;
+            }
+            for (int row = 1; row <= rows.size(); row++) {
+                for (int priority = 0; priority < PRIORITIES; priority++) {
+                    if (cells[row * PRIORITIES + priority] == null) {
+                        cells[row * PRIORITIES + priority] = cells[priority];
+                    }
+                }
+            }
+            return new PolicyMatrix(Collections.unmodifiableMap(rows), cells);
+        }
+
+        public Optional<SlaPolicySnapshot> resolve(Long departmentId, TicketPriority priority) {
+            if (priority == null) {
+                return Optional.empty();
+            }
+            int row = departmentId != null ? departmentRows.getOrDefault(departmentId, 0) : 0;
+            return Optional.ofNullable(cells[row * PRIORITIES + priority.ordinal()]);
+        }
+
+        public int getDepartmentCount() {
+            return departmentRows.size();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.smartdeskbackend.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bellek içi SLA deadline zamanlayıcısı
+ * Bekleyen ticketların deadline'ları açılışta DB'den yüklenir ve ticket değişiklik event'leriyle güncellenir.
+ * Deadline'dan risk penceresi kadar önce SlaRiskEvent, deadline anında SlaBreachedEvent yayınlanır.
+ * Periyodik reconcile kaçırılmış event'lere karşı emniyet ağıdır.
+ */
+public interface SlaTimerService {
+
+    /**
+     * Ticket'ın beklenen deadline'ını ayarlar; deadline null ise ticket zamanlayıcıdan çıkarılır
+     */
+    void schedule(Long ticketId, LocalDateTime deadline);
+
+    void cancel(Long ticketId);
+
+    /**
+     * Bekleyen deadline'ları DB ile uzlaştırır
+     * @return eklenen, değişen veya çıkarılan ticket sayısı
+     */
+    int reconcile();
+
+    /**
+     * Zamanlayıcıda bekleyen ticket sayısı
+     */
+    int getQueueDepth();
+
+    /**
+     * Son tetiklenen zamanlayıcının planlanan zamandan gecikmesi (ms)
+     */
+    long getLastLagMillis();
+}
@@ -0,0 +1,43 @@
+package com.example.smartdeskbackend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Ticket export (BI entegrasyonu)
+ * Satırlar veritabanından akış olarak okunup doğrudan çıktıya yazılır; bellek kullanımı satır sayısından bağımsızdır
+ */
+public interface TicketExportService {
+
+    /**
+     * Export formatları
+     */
+    enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+    }
+
+    /**
+     * Şirketin [from, to) aralığında oluşturulan ticketlarını yazar
+     * @param companyId Şirket ID
+     * @param from Başlangıç (dahil)
+     * @param to Bitiş (hariç)
+     * @param format Çıktı formatı
+     * @param out Hedef stream (kapatılmaz)
+     * @return Yazılan satır sayısı
+     */
+    long exportTickets(Long companyId, LocalDateTime from, LocalDateTime to, Format format, OutputStream out)
+            throws IOException;
+}
@@ -0,0 +1,67 @@
+package com.example.smartdeskbackend.service;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Append-only ticket history yazıcısı
+ * Aktif transaction içinde kayıtlar biriktirilir ve commit'te tek batch insert ile yazılır;
+ * transaction yoksa hemen yazılır. Bir ticket'ın kayıtları eklenme sırasıyla yazılır.
+ */
+public interface TicketHistoryWriter {
+
+    /**
+     * Tek alan değişikliği kaydı ekler
+     */
+    void record(Long ticketId, String fieldName, String oldValue, String newValue, Long userId);
+
+    /**
+     * Birden fazla kaydı sırasıyla ekler
+     */
+    void recordAll(List<Entry> entries);
+
+    /**
+     * Yazılmayı bekleyen history kaydı (ticket_history satırı)
+     */
+    final class Entry {
+        private final Long ticketId;
+        private final String fieldName;
+        private final String oldValue;
+        private final String newValue;
+        private final String changeType;
+        private final Long userId;
+        private final LocalDateTime createdAt;
+
+        @JsonCreator
+        public Entry(@JsonProperty("ticketId") Long ticketId,
+                     @JsonProperty("fieldName") String fieldName,
+                     @JsonProperty("oldValue") String oldValue,
+                     @JsonProperty("newValue") String newValue,
+                     @JsonProperty("changeType") String changeType,
+                     @JsonProperty("userId") Long userId,
+                     @JsonProperty("createdAt") LocalDateTime createdAt) {
+            this.ticketId = ticketId;
+            this.fieldName = fieldName;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.changeType = changeType;
+            this.userId = userId;
+            this.createdAt = createdAt;
+        }
+
+        public static Entry fieldChanged(Long ticketId, String fieldName, String oldValue, String newValue, Long userId) {
+            return new Entry(ticketId, fieldName, oldValue, newValue, "FIELD_CHANGED", userId, LocalDateTime.now());
+        }
+
+        public Long getTicketId() { return ticketId; }
+        public String getFieldName() { return fieldName; }
+        public String getOldValue() { return oldValue; }
+        public String getNewValue() { return newValue; }
+        public String getChangeType() { return changeType; }
+        public Long getUserId() { return userId; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.smartdeskbackend.service;
+
+import java.util.List;
+
+/**
+ * Ticket numarası üretimi
+ * TK-YYYYMMDD-NNNN formatında, gün içinde benzersiz ve artan numaralar
+ */
+public interface TicketNumberService {
+
+    /**
+     * Bir sonraki ticket numarasını döndürür
+     * @return Ticket numarası (örn. TK-20240101-0042)
+     */
+    String nextTicketNumber();
+
+    /**
+     * Toplu işlemler için tek seferde count adet ardışık numara ayırır
+     * @param count İstenen numara adedi
+     * @return Artan sırada ticket numaraları
+     */
+    List<String> nextTicketNumbers(int count);
+}
@@ -0,0 +1,94 @@
+package com.example.smartdeskbackend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Saatlik / günlük ticket rollup'ları
+ * Ticketlar oluşturuldukları saate göre gruplanır. Değişen ticketların saatleri işaretlenir ve periyodik olarak
+ * ticket tablosundan yeniden hesaplanır; günlük satırlar saatlik satırlardan türetilir. Geçmiş aralıklar
+ * rebuild/backfill ile baştan üretilebilir. Okumalar ticket tablosuna gitmez; en fazla bir flush aralığı kadar
+ * geriden gelir.
+ */
+public interface TicketRollupService {
+
+    /**
+     * Ticket'ın oluşturulduğu saati yeniden hesaplama için işaretler
+     */
+    void markDirty(Long companyId, LocalDateTime ticketCreatedAt);
+
+    /**
+     * İşaretli saatleri ve bunların günlerini yeniden hesaplar
+     * @return yeniden hesaplanan saat sayısı
+     */
+    int flushDirty();
+
+    /**
+     * Şirketin verilen gün aralığını (iki uç dahil) baştan hesaplar
+     * @return yeniden hesaplanan gün sayısı
+     */
+    int rebuild(Long companyId, LocalDate from, LocalDate to);
+
+    /**
+     * Tüm şirketler için rebuild
+     * @return yeniden hesaplanan şirket-gün sayısı
+     */
+    int backfill(LocalDate from, LocalDate to);
+
+    /**
+     * Rollup'ları ilk ticket gününü kapsamayan şirketlerin geçmişini ticket tablosundan üretir
+     * Yalnızca ticket oluşturulmuş günler yazılır; kilit başka node'daysa hiçbir şey yapmaz
+     * @return yeniden hesaplanan şirket-gün sayısı, kilit alınamadıysa -1
+     */
+    int backfillMissingHistory();
+
+    // ============ OKUMA ============
+
+    /**
+     * Satır: [gün (LocalDate), oluşturulan ticket sayısı]
+     */
+    List<Object[]> getDailyCreationTrend(Long companyId, LocalDate from);
+
+    /**
+     * Gün içinde oluşturulan ve bunlardan çözülen ticket sayıları
+     */
+    DaySummary getDaySummary(Long companyId, LocalDate date);
+
+    /**
+     * from gününden itibaren oluşturulan ticketların ortalama memnuniyet puanı; puan yoksa null
+     */
+    Double getAverageCustomerSatisfaction(Long companyId, LocalDate from);
+
+    /**
+     * Satır: [TicketCategory, ticket sayısı], çoktan aza
+     */
+    List<Object[]> getMostUsedCategories(Long companyId);
+
+    /**
+     * Gün aralığında (iki uç dahil) oluşturulan ticketlar için agent metrikleri
+     * Satır: [agentId, firstName, lastName, ticketCount, avgResolutionHours, resolvedCount]
+     */
+    List<Object[]> getAgentPerformance(Long companyId, LocalDate from, LocalDate to);
+
+    /**
+     * Saat çözünürlüğünde agent metrikleri; null sınırlar açık aralık kabul edilir
+     */
+    List<Object[]> getAgentPerformance(Long companyId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Tek günün özet sayıları
+     */
+    final class DaySummary {
+        private final long created;
+        private final long resolved;
+
+        public DaySummary(long created, long resolved) {
+            this.created = created;
+            this.resolved = resolved;
+        }
+
+        public long getCreated() { return created; }
+        public long getResolved() { return resolved; }
+    }
+}
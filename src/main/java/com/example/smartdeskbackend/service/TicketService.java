@@ -4,6 +4,8 @@ import com.example.smartdeskbackend.dto.request.ticket.CreateTicketRequest;
 import com.example.smartdeskbackend.dto.request.ticket.UpdateTicketRequest;
 import com.example.smartdeskbackend.dto.request.ticket.AssignTicketRequest;
 import com.example.smartdeskbackend.dto.request.ticket.AddCommentRequest;
+import com.example.smartdeskbackend.dto.response.ticket.BulkTicketImportResponse;
+import com.example.smartdeskbackend.dto.response.ticket.BulkTicketUpdateResponse;
 import com.example.smartdeskbackend.dto.response.ticket.TicketResponse;
 import com.example.smartdeskbackend.dto.response.ticket.TicketDetailResponse;
 import com.example.smartdeskbackend.dto.response.ticket.TicketCommentResponse;
@@ -11,11 +13,13 @@ import com.example.smartdeskbackend.enums.TicketStatus;
 import com.example.smartdeskbackend.enums.TicketPriority;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Ticket service interface
@@ -32,6 +36,15 @@ public interface TicketService {
      */
     TicketDetailResponse getTicketById(Long id);
 
+    /**
+     * Ticket detaylarını seçili section'larla getir
+     * @param id Ticket ID
+     * @param include Yüklenecek section'lar (comments, attachments, history); boş ise sadece çekirdek alanlar
+     * @param sectionPageable Section'lar için sayfalama bilgisi
+     * @return TicketDetailResponse
+     */
+    TicketDetailResponse getTicketById(Long id, Set<String> include, Pageable sectionPageable);
+
     /**
      * Ticket numarası ile ticket getir
      * @param ticketNumber Unique ticket number (TK-YYYYMMDD-XXXX format)
@@ -126,6 +139,60 @@ public interface TicketService {
      */
     List<TicketResponse> getTicketsAtSlaRisk(Long companyId);
 
+    // ============ KEYSET (CURSOR) PAGINATION ============
+
+    /**
+     * Şirketteki ticketları cursor ile getir (COUNT sorgusu yok)
+     * @param companyId Şirket ID
+     * @param after Önceki sayfanın son satırından üretilen token (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return Slice<TicketResponse>
+     */
+    Slice<TicketResponse> getTicketsByCompanyAfter(Long companyId, String after, int size);
+
+    /**
+     * Agent'a atanmış ticketları cursor ile getir
+     * @param agentId Agent ID
+     * @param after Cursor token (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return Slice<TicketResponse>
+     */
+    Slice<TicketResponse> getTicketsByAgentAfter(Long agentId, String after, int size);
+
+    /**
+     * Aktif ticketları cursor ile getir
+     * @param companyId Şirket ID
+     * @param after Cursor token (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return Slice<TicketResponse>
+     */
+    Slice<TicketResponse> getActiveTicketsAfter(Long companyId, String after, int size);
+
+    /**
+     * Filtreli ticket listesini cursor ile getir
+     * @param companyId Şirket ID
+     * @param status Ticket durumu (opsiyonel)
+     * @param priority Ticket önceliği (opsiyonel)
+     * @param departmentId Departman ID (opsiyonel)
+     * @param agentId Agent ID (opsiyonel)
+     * @param customerId Müşteri ID (opsiyonel)
+     * @param after Cursor token (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return Slice<TicketResponse>
+     */
+    Slice<TicketResponse> getTicketsWithFiltersAfter(Long companyId, TicketStatus status,
+                                                     TicketPriority priority, Long departmentId,
+                                                     Long agentId, Long customerId,
+                                                     String after, int size);
+
+    /**
+     * Tüm ticketları cursor ile getir (SUPER_ADMIN için, createdAt DESC sırası)
+     * @param after Cursor token (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return Slice<TicketResponse>
+     */
+    Slice<TicketResponse> getAllTicketsAfter(String after, int size);
+
     // ============ TİCKET OLUŞTURMA ve GÜNCELLEME ============
 
     /**
@@ -143,6 +210,17 @@ public interface TicketService {
      */
     TicketDetailResponse updateTicket(Long id, UpdateTicketRequest request);
 
+    /**
+     * Toplu ticket içe aktarma (legacy sistemlerden taşıma)
+     * Hatalı satırlar raporlanır, geri kalanı oluşturulur; ticket başına bildirim gönderilmez
+     * @param requests Satırlar (liste sırası satır numarasıdır)
+     * @param restrictToCompanyId null değilse sadece bu şirkete ait satırlar kabul edilir
+     * @param importedByUserId İçe aktarmayı başlatan kullanıcı
+     * @return Satır bazlı sonuç
+     */
+    BulkTicketImportResponse createTicketsBulk(List<CreateTicketRequest> requests, Long restrictToCompanyId,
+                                               Long importedByUserId);
+
     // ============ TİCKET DURUM YÖNETİMİ ============
 
     /**
@@ -195,6 +273,42 @@ public interface TicketService {
      */
     TicketDetailResponse closeTicket(Long id, String resolutionSummary, Long userId);
 
+    // ============ TOPLU DURUM YÖNETİMİ ============
+
+    /**
+     * Ticketları toplu olarak bir agent'a ata
+     * @param ticketIds Ticket ID'leri
+     * @param agentId Agent ID
+     * @param userId İşlemi yapan kullanıcı
+     * @param restrictToCompanyId null değilse sadece bu şirketin ticketları güncellenir
+     * @return Ticket bazlı sonuç
+     */
+    BulkTicketUpdateResponse bulkAssignTickets(List<Long> ticketIds, Long agentId, Long userId, Long restrictToCompanyId);
+
+    /**
+     * Ticketların durumunu toplu değiştir
+     */
+    BulkTicketUpdateResponse bulkChangeTicketStatus(List<Long> ticketIds, TicketStatus newStatus, Long userId,
+                                                    Long restrictToCompanyId);
+
+    /**
+     * Ticketların önceliğini toplu değiştir
+     */
+    BulkTicketUpdateResponse bulkChangeTicketPriority(List<Long> ticketIds, TicketPriority newPriority, Long userId,
+                                                      Long restrictToCompanyId);
+
+    /**
+     * Ticketları toplu kapat
+     */
+    BulkTicketUpdateResponse bulkCloseTickets(List<Long> ticketIds, String resolutionSummary, Long userId,
+                                              Long restrictToCompanyId);
+
+    /**
+     * SLA süresi dolmuş ticketlardan id'si afterId'den büyük ilk limit kadarını tek UPDATE ile escalate et
+     * Seçim ile güncelleme arasında ilk yanıt almış ticketlar skipped listesine yazılır
+     */
+    BulkTicketUpdateResponse escalateSlaBreaches(Long afterId, int limit, LocalDateTime now);
+
     // ============ YORUM ve EK DOSYA YÖNETİMİ ============
 
     /**
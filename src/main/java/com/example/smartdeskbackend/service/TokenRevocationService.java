@@ -0,0 +1,35 @@
+package com.example.smartdeskbackend.service;
+
+import java.util.Date;
+
+/**
+ * JWT iptal listesi
+ * İptal edilen token id'leri (jti) DB'ye yazılır ve her node'da bellekte bir Bloom filtresi ile token süresince
+ * tutulan tam bir kümede saklanır. Kontrol DB'ye gitmez; diğer node'ların iptalleri sayaç yoklanarak alınır
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Token'ı süresi dolana kadar iptal eder; aynı token tekrar iptal edilirse bir şey yapmaz
+     * @return iptal kaydını bu çağrı oluşturduysa true (liste kapalıysa da true); token herhangi bir node'da zaten
+     *         iptal edilmişse ya da süresi dolmuşsa false
+     */
+    boolean revoke(String tokenId, Long userId, Date expiresAt);
+
+    /**
+     * Token iptal edilmiş ve süresi henüz dolmamışsa true
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * İptal sayacı değiştiyse yeni iptalleri DB'den yükler
+     * @return yüklenen yeni kayıt sayısı
+     */
+    int refresh();
+
+    /**
+     * Süresi dolmuş iptalleri bellekten ve DB'den siler
+     * @return DB'den silinen kayıt sayısı
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,231 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.service.ActivityRecorder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind aktivite kaydedici implementasyonu
+ * Bekleyen değişiklikler id bazında ConcurrentHashMap'te merge ile birleştirilir; aynı satıra gelen binlerce
+ * mesaj/giriş tek UPDATE'e iner ve istek thread'leri satır kilidi ya da @Version çakışması beklemez. Flush'lar
+ * sırayla çalışır, böylece bir ticket'ın sıfırlama ve artışları DB'ye kayıt sırasıyla yansır. Her satır tek
+ * UPDATE ile ve id sırasıyla güncellenir; farklı node'ların flush'ları deadlock'a girmez
+ */
+@Service
+public class ActivityRecorderImpl implements ActivityRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityRecorderImpl.class);
+
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    // Zamanlar yalnızca ileri gider; sayaç reset varsa değere eşitlenir, yoksa artırılır
+    private static final String UPDATE_TICKET_SQL =
+            "UPDATE tickets SET " +
+            "last_message_at = CASE WHEN last_message_at IS NULL OR last_message_at < ? THEN ? ELSE last_message_at END, " +
+            "last_activity_at = CASE WHEN last_activity_at IS NULL OR last_activity_at < ? THEN ? ELSE last_activity_at END, " +
+            "unread_message_count = CASE WHEN ? THEN ? ELSE unread_message_count + ? END " +
+            "WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // userId -> en son giriş zamanı
+    private final Map<Long, LocalDateTime> pendingLogins = new ConcurrentHashMap<>();
+
+    // ticketId -> birleştirilmiş mesaj aktivitesi
+    private final Map<Long, TicketActivity> pendingTickets = new ConcurrentHashMap<>();
+
+    private final Object flushLock = new Object();
+
+    private TransactionTemplate transactionTemplate;
+    private int batchSize;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        batchSize = Math.max(1, businessProperties.getActivity().getBatchSize());
+        if (meterRegistry != null) {
+            Gauge.builder("activity.pending", this, recorder -> recorder.pendingLogins.size() + recorder.pendingTickets.size())
+                    .description("User and ticket activity updates waiting to be flushed")
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int written = flush();
+        if (written > 0) {
+            logger.info("Flushed {} pending activity updates on shutdown", written);
+        }
+        if (!pendingLogins.isEmpty() || !pendingTickets.isEmpty()) {
+            logger.warn("{} user and {} ticket activity updates could not be written on shutdown",
+                    pendingLogins.size(), pendingTickets.size());
+        }
+    }
+
+    @Override
+    public void recordLogin(Long userId, LocalDateTime at) {
+        if (userId == null || at == null) {
+            return;
+        }
+        afterCommit(() -> pendingLogins.merge(userId, at, ActivityRecorderImpl::latest));
+    }
+
+    @Override
+    public void recordTicketMessage(Long ticketId, LocalDateTime at) {
+        if (ticketId == null || at == null) {
+            return;
+        }
+        afterCommit(() -> pendingTickets.merge(ticketId, TicketActivity.message(at), TicketActivity::then));
+    }
+
+    @Override
+    public void resetUnreadMessages(Long ticketId) {
+        if (ticketId == null) {
+            return;
+        }
+        afterCommit(() -> pendingTickets.merge(ticketId, TicketActivity.RESET, TicketActivity::then));
+    }
+
+    @Override
+    public int flush() {
+        synchronized (flushLock) {
+            Map<Long, LocalDateTime> logins = drain(pendingLogins);
+            Map<Long, TicketActivity> tickets = drain(pendingTickets);
+            if (logins.isEmpty() && tickets.isEmpty()) {
+                return 0;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    writeLogins(logins);
+                    writeTickets(tickets);
+                });
+                return logins.size() + tickets.size();
+            } catch (Exception e) {
+                // Bir sonraki flush'ta tekrar denenir; bu arada gelen daha yeni değişiklikler üzerine eklenir
+                logger.error("Failed to flush {} user and {} ticket activity updates", logins.size(), tickets.size(), e);
+                logins.forEach((id, at) -> pendingLogins.merge(id, at, ActivityRecorderImpl::latest));
+                tickets.forEach((id, activity) -> pendingTickets.merge(id, activity, (newer, older) -> older.then(newer)));
+                return 0;
+            }
+        }
+    }
+
+    // ============ HELPERS ============
+
+    private void writeLogins(Map<Long, LocalDateTime> logins) {
+        List<Object[]> args = new ArrayList<>(logins.size());
+        logins.forEach((userId, at) -> args.add(new Object[]{at, userId, at}));
+        batchUpdate(UPDATE_LAST_LOGIN_SQL, args);
+    }
+
+    private void writeTickets(Map<Long, TicketActivity> tickets) {
+        List<Object[]> args = new ArrayList<>(tickets.size());
+        tickets.forEach((ticketId, activity) -> {
+            // Sadece reset bekleyen ticket'ta zaman null'dır; NULL ile karşılaştırma mevcut değeri korur
+            LocalDateTime at = activity.lastMessageAt;
+            args.add(new Object[]{at, at, at, at, activity.reset, activity.unreadDelta, activity.unreadDelta, ticketId});
+        });
+        batchUpdate(UPDATE_TICKET_SQL, args);
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        for (int from = 0; from < args.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, args.subList(from, Math.min(from + batchSize, args.size())));
+        }
+    }
+
+    /**
+     * Bekleyen kayıtları id sırasıyla alır ve map'ten çıkarır; alındıktan sonra gelen kayıtlar map'te yeniden birikir
+     */
+    private static <V> Map<Long, V> drain(Map<Long, V> pending) {
+        Map<Long, V> drained = new TreeMap<>();
+        for (Long id : new ArrayList<>(pending.keySet())) {
+            V value = pending.remove(id);
+            if (value != null) {
+                drained.put(id, value);
+            }
+        }
+        return drained;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * Bir ticket için birleştirilmiş mesaj aktivitesi; reset true ise sayaç unreadDelta'ya eşitlenir
+     */
+    private static final class TicketActivity {
+
+        static final TicketActivity RESET = new TicketActivity(null, 0, true);
+
+        final LocalDateTime lastMessageAt;
+        final int unreadDelta;
+        final boolean reset;
+
+        TicketActivity(LocalDateTime lastMessageAt, int unreadDelta, boolean reset) {
+            this.lastMessageAt = lastMessageAt;
+            this.unreadDelta = unreadDelta;
+            this.reset = reset;
+        }
+
+        static TicketActivity message(LocalDateTime at) {
+            return new TicketActivity(at, 1, false);
+        }
+
+        /**
+         * Bu aktiviteden sonra gelen aktiviteyi uygular
+         */
+        TicketActivity then(TicketActivity next) {
+            return new TicketActivity(latest(lastMessageAt, next.lastMessageAt),
+                    next.reset ? next.unreadDelta : unreadDelta + next.unreadDelta,
+                    reset || next.reset);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.enums.UserStatus;
+import com.example.smartdeskbackend.event.AgentLoadChangedEvent;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.AgentAssignmentStrategy;
+import com.example.smartdeskbackend.service.AgentLoadService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Agent yük index'i implementasyonu
+ * Her departman için agent yükleri bir map'te, kapasitesi dolmamış olanlar aktif stratejinin sıralamasıyla bir
+ * TreeSet'te tutulur; seçim ağacın ilk elemanıdır. Seçim ve yük artışı departman kilidi altında tek adımda
+ * yapıldığı için eşzamanlı atamalar aynı agent'ı göremez. Rezervasyon, atama commit edilip event geldiğinde
+ * kalıcı yüke dönüşür; rollback olursa geri alınır. Yüklenmemiş departmanlara gelen event'ler yok sayılır,
+ * yükleme ile eşzamanlı commit'lerden doğabilecek sapmalar reconcile() ile düzeltilir.
+ */
+@Service
+public class AgentLoadServiceImpl implements AgentLoadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgentLoadServiceImpl.class);
+
+    private static final int RECONCILE_BATCH_SIZE = 200;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    @Autowired
+    private List<AgentAssignmentStrategy> strategies;
+
+    private final Map<Long, DepartmentLoads> departments = new ConcurrentHashMap<>();
+    private final Map<Long, DepartmentLoads> agentDepartments = new ConcurrentHashMap<>();
+    private final AtomicLong assignmentSequence = new AtomicLong();
+
+    private AgentAssignmentStrategy strategy;
+
+    @PostConstruct
+    public void selectStrategy() {
+        String name = businessProperties.getAssignment().getStrategy();
+        strategy = strategies.stream()
+                .filter(candidate -> candidate.getName().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown agent assignment strategy: " + name +
+                        " (available: " + strategies.stream().map(AgentAssignmentStrategy::getName)
+                        .collect(Collectors.joining(", ")) + ")"));
+        logger.info("Agent assignment strategy: {}", strategy.getName());
+    }
+
+    @Override
+    public Optional<Long> claimAgent(Long departmentId, Long ticketId) {
+        DepartmentLoads department = department(departmentId);
+        Long agentId = department.claim(ticketId, assignmentSequence.incrementAndGet());
+        if (agentId != null && ticketId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Commit'te event rezervasyonu tüketir; kalan rezervasyon (rollback ya da değişmeyen ticket) geri alınır
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    DepartmentLoads current = agentDepartments.get(agentId);
+                    if (current != null) {
+                        current.release(ticketId);
+                    }
+                }
+            });
+        }
+        return Optional.ofNullable(agentId);
+    }
+
+    @Override
+    public List<AgentLoad> getAvailableAgents(Long departmentId, int limit) {
+        return department(departmentId).top(limit);
+    }
+
+    @Override
+    public void applyLoadChanges(AgentLoadChangedEvent event) {
+        for (AgentLoadChangedEvent.Change change : event.getChanges()) {
+            if (change.getFromAgentId() != null) {
+                DepartmentLoads from = agentDepartments.get(change.getFromAgentId());
+                if (from != null) {
+                    from.adjust(change.getFromAgentId(), -1);
+                }
+            }
+            if (change.getToAgentId() != null) {
+                DepartmentLoads to = agentDepartments.get(change.getToAgentId());
+                if (to != null) {
+                    to.commitAssignment(change.getTicketId(), change.getToAgentId());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidateDepartment(Long departmentId) {
+        DepartmentLoads removed = departments.remove(departmentId);
+        if (removed != null) {
+            for (Long agentId : removed.agentIds()) {
+                agentDepartments.remove(agentId, removed);
+            }
+        }
+    }
+
+    @Override
+    public int reconcile() {
+        List<Long> departmentIds = new ArrayList<>(departments.keySet());
+        int drifted = 0;
+        for (int from = 0; from < departmentIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = departmentIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, departmentIds.size()));
+            Map<Long, Map<Long, AgentLoad>> fresh = loadCounts(batch);
+            for (Long departmentId : batch) {
+                DepartmentLoads current = departments.get(departmentId);
+                if (current == null) {
+                    continue;
+                }
+                Set<Long> before = current.agentIds();
+                if (current.replaceWith(fresh.get(departmentId))) {
+                    drifted++;
+                    logger.warn("Agent load index drifted for department {}, reset from database", departmentId);
+                }
+                Set<Long> after = current.agentIds();
+                before.stream().filter(agentId -> !after.contains(agentId))
+                        .forEach(agentId -> agentDepartments.remove(agentId, current));
+                after.forEach(agentId -> agentDepartments.put(agentId, current));
+            }
+        }
+        logger.debug("Agent load index reconciled for {} departments, {} drifted", departmentIds.size(), drifted);
+        return drifted;
+    }
+
+    // ============ YÜKLEME ============
+
+    private DepartmentLoads department(Long departmentId) {
+        DepartmentLoads department = departments.get(departmentId);
+        if (department != null) {
+            return department;
+        }
+        DepartmentLoads loaded = new DepartmentLoads(strategy.ordering(),
+                loadCounts(Collections.singletonList(departmentId)).get(departmentId));
+        department = departments.putIfAbsent(departmentId, loaded);
+        if (department != null) {
+            return department;
+        }
+        for (Long agentId : loaded.agentIds()) {
+            agentDepartments.put(agentId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Departmanların atanabilir agent'ları, kapasiteleri ve açık ticket sayıları (iki sorgu)
+     * @return departmentId -> (agentId -> yük)
+     */
+    private Map<Long, Map<Long, AgentLoad>> loadCounts(Collection<Long> departmentIds) {
+        Map<Long, Map<Long, AgentLoad>> result = new HashMap<>();
+        Map<Long, Long> agentToDepartment = new HashMap<>();
+        for (Long departmentId : departmentIds) {
+            result.put(departmentId, new HashMap<>());
+        }
+        for (Object[] row : userRepository.findAgentIdsByDepartmentIds(departmentIds, UserRole.AGENT, UserStatus.ACTIVE)) {
+            Long departmentId = (Long) row[0];
+            Long agentId = (Long) row[1];
+            result.get(departmentId).put(agentId, new AgentLoad(agentId, 0, capacity((Integer) row[2]), 0L));
+            agentToDepartment.put(agentId, departmentId);
+        }
+        if (agentToDepartment.isEmpty()) {
+            return result;
+        }
+        for (Object[] row : ticketRepository.countOpenTicketsByAgentIds(agentToDepartment.keySet(),
+                Ticket.AGENT_LOAD_EXCLUDED_STATUSES)) {
+            Long agentId = (Long) row[0];
+            result.get(agentToDepartment.get(agentId)).computeIfPresent(agentId,
+                    (id, load) -> load.withOpenTickets(((Number) row[1]).intValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Agent'a özel sınır yoksa global agent-capacity kullanılır
+     */
+    private int capacity(Integer maxOpenTickets) {
+        int capacity = maxOpenTickets != null ? maxOpenTickets : businessProperties.getAssignment().getAgentCapacity();
+        return Math.max(1, capacity);
+    }
+
+    /**
+     * Tek departmanın agent yükleri; tüm erişimler nesne üzerinde senkronize
+     */
+    private static final class DepartmentLoads {
+        private final Map<Long, AgentLoad> agents = new HashMap<>();
+        private final TreeSet<AgentLoad> available;
+        // ticketId -> agentId; commit edilmemiş atamaların yükü
+        private final Map<Long, Long> reservations = new HashMap<>();
+
+        DepartmentLoads(Comparator<AgentLoad> ordering, Map<Long, AgentLoad> loads) {
+            this.available = new TreeSet<>(ordering);
+            loads.values().forEach(this::put);
+        }
+
+        synchronized Long claim(Long ticketId, long sequence) {
+            if (available.isEmpty()) {
+                return null;
+            }
+            AgentLoad selected = available.first();
+            put(selected.assigned(sequence));
+            if (ticketId != null) {
+                reservations.put(ticketId, selected.getAgentId());
+            }
+            return selected.getAgentId();
+        }
+
+        synchronized void commitAssignment(Long ticketId, Long agentId) {
+            if (agentId.equals(reservations.get(ticketId))) {
+                reservations.remove(ticketId);
+            } else {
+                adjust(agentId, 1);
+            }
+        }
+
+        synchronized void release(Long ticketId) {
+            Long agentId = reservations.remove(ticketId);
+            if (agentId != null) {
+                adjust(agentId, -1);
+            }
+        }
+
+        synchronized void adjust(Long agentId, int delta) {
+            AgentLoad load = agents.get(agentId);
+            if (load != null) {
+                put(load.withOpenTickets(Math.max(0, load.getOpenTickets() + delta)));
+            }
+        }
+
+        synchronized List<AgentLoad> top(int limit) {
+            return available.stream().limit(Math.max(0, limit)).collect(Collectors.toList());
+        }
+
+        synchronized Set<Long> agentIds() {
+            return new HashSet<>(agents.keySet());
+        }
+
+        /**
+         * DB sayılarını (üstüne hâlâ açık rezervasyonlar eklenerek) uygular; atama sırası korunur
+         * @return yük ya da agent listesi farklıysa true
+         */
+        synchronized boolean replaceWith(Map<Long, AgentLoad> loads) {
+            reservations.values().removeIf(agentId -> !loads.containsKey(agentId));
+            Map<Long, AgentLoad> expected = new HashMap<>(loads);
+            reservations.values().forEach(agentId -> expected.computeIfPresent(agentId,
+                    (id, load) -> load.withOpenTickets(load.getOpenTickets() + 1)));
+
+            boolean drifted = !expected.keySet().equals(agents.keySet());
+            for (AgentLoad load : new ArrayList<>(agents.values())) {
+                if (!expected.containsKey(load.getAgentId())) {
+                    agents.remove(load.getAgentId());
+                    available.remove(load);
+                }
+            }
+            for (AgentLoad load : expected.values()) {
+                AgentLoad current = agents.get(load.getAgentId());
+                if (current != null && current.getOpenTickets() == load.getOpenTickets()
+                        && current.getCapacity() == load.getCapacity()) {
+                    continue;
+                }
+                drifted |= current != null && current.getOpenTickets() != load.getOpenTickets();
+                put(new AgentLoad(load.getAgentId(), load.getOpenTickets(), load.getCapacity(),
+                        current != null ? current.getLastAssignedSequence() : 0L));
+            }
+            return drifted;
+        }
+
+        private void put(AgentLoad load) {
+            AgentLoad previous = agents.put(load.getAgentId(), load);
+            if (previous != null) {
+                available.remove(previous);
+            }
+            if (load.hasCapacity()) {
+                available.add(load);
+            }
+        }
+    }
+}
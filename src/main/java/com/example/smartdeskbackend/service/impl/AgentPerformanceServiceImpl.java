@@ -7,9 +7,9 @@ import com.example.smartdeskbackend.entity.User;
 import com.example.smartdeskbackend.exception.ResourceNotFoundException; // Bu sınıfın var olduğundan emin olun
 import com.example.smartdeskbackend.repository.AgentPerformanceRepository;
 import com.example.smartdeskbackend.repository.CompanyRepository;
-import com.example.smartdeskbackend.repository.TicketRepository;
 import com.example.smartdeskbackend.repository.UserRepository;
 import com.example.smartdeskbackend.service.AgentPerformanceService;
+import com.example.smartdeskbackend.service.TicketRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,11 +25,11 @@ public class AgentPerformanceServiceImpl implements AgentPerformanceService {
     @Autowired
     private AgentPerformanceRepository agentPerformanceRepository;
     @Autowired
-    private TicketRepository ticketRepository;
-    @Autowired
     private UserRepository userRepository;
     @Autowired
     private CompanyRepository companyRepository;
+    @Autowired
+    private TicketRollupService ticketRollupService;
 
     @Override
     @Transactional
@@ -52,9 +52,7 @@ public class AgentPerformanceServiceImpl implements AgentPerformanceService {
     @Override
     // Bu metodun imzası AgentPerformanceService arayüzündeki ile tam olarak eşleşmeli.
     public List<Object[]> getCompanyPerformanceMetrics(Long companyId, LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay().minusNanos(1);
-        List<Object[]> rawMetrics = ticketRepository.getAgentPerformanceMetrics(companyId, startDateTime, endDateTime);
+        List<Object[]> rawMetrics = ticketRollupService.getAgentPerformance(companyId, startDate, endDate);
 
         // Not: Bu ham Object[]'leri daha sonra AgentPerformance DTO'larına dönüştürmeyi düşünebilirsiniz.
         return rawMetrics;
@@ -63,10 +61,7 @@ public class AgentPerformanceServiceImpl implements AgentPerformanceService {
     @Override
     @Transactional
     public void calculateAndSaveDailyAgentPerformance(Long companyId, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay().minusNanos(1);
-
-        List<Object[]> agentMetricsRaw = ticketRepository.getAgentPerformanceMetrics(companyId, startOfDay, endOfDay);
+        List<Object[]> agentMetricsRaw = ticketRollupService.getAgentPerformance(companyId, date, date);
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + companyId));
 
@@ -3,11 +3,11 @@ package com.example.smartdeskbackend.service.impl;
 
 import com.example.smartdeskbackend.repository.TicketRepository;
 import com.example.smartdeskbackend.service.AnalyticsService;
+import com.example.smartdeskbackend.service.TicketRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -18,21 +18,24 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private TicketRollupService ticketRollupService;
+
+    // Trend ve ortalamalar rollup tablolarından okunur (bkz. TicketRollupService)
+
     @Override
     public List<Object[]> getDailyTicketCreationTrend(Long companyId, LocalDate startDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        return ticketRepository.getDailyTicketCreationTrend(companyId, startDateTime);
+        return ticketRollupService.getDailyCreationTrend(companyId, startDate);
     }
 
     @Override
     public Double getAverageCustomerSatisfaction(Long companyId, LocalDate startDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        return ticketRepository.getAverageCustomerSatisfaction(companyId, startDateTime);
+        return ticketRollupService.getAverageCustomerSatisfaction(companyId, startDate);
     }
 
     @Override
     public List<Object[]> getMostUsedCategories(Long companyId) {
-        return ticketRepository.getMostUsedCategories(companyId);
+        return ticketRollupService.getMostUsedCategories(companyId);
     }
 
     @Override
@@ -7,27 +7,33 @@ import com.example.smartdeskbackend.entity.Company;
 import com.example.smartdeskbackend.entity.User;
 import com.example.smartdeskbackend.enums.UserRole;
 import com.example.smartdeskbackend.enums.UserStatus;
+import com.example.smartdeskbackend.event.UserAuthStateChangedEvent;
 import com.example.smartdeskbackend.exception.AuthenticationException;
 import com.example.smartdeskbackend.exception.BusinessLogicException;
 import com.example.smartdeskbackend.exception.ResourceNotFoundException;
+import com.example.smartdeskbackend.exception.TooManyRequestsException;
 import com.example.smartdeskbackend.exception.UserAlreadyExistsException;
 import com.example.smartdeskbackend.repository.CompanyRepository;
 import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.ActivityRecorder;
 import com.example.smartdeskbackend.service.AuthService;
+import com.example.smartdeskbackend.service.AuthWorkerService;
+import com.example.smartdeskbackend.service.TokenRevocationService;
 import com.example.smartdeskbackend.util.JwtUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -39,9 +45,6 @@ public class AuthServiceImpl implements AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
 
-    @Autowired
-    private AuthenticationManager authenticationManager;
-
     @Autowired
     private UserRepository userRepository;
 
@@ -49,11 +52,20 @@ public class AuthServiceImpl implements AuthService {
     private CompanyRepository companyRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private AuthWorkerService authWorkerService;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private ActivityRecorder activityRecorder;
+
     @Override
     public AuthResponse login(LoginRequest loginRequest) {
         logger.info("Login attempt for email: {}", loginRequest.getEmail());
@@ -73,17 +85,20 @@ public class AuthServiceImpl implements AuthService {
                 throw new AuthenticationException("Account is temporarily locked. Please try again later.");
             }
 
-            // Authentication
-            Authentication authentication = authenticationManager.authenticate(
+            // Authentication (BCrypt sınırlı auth worker havuzunda)
+            Authentication authentication = authWorkerService.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             loginRequest.getEmail(),
                             loginRequest.getPassword()
                     )
             );
 
-            // Başarılı giriş işlemleri
-            user.recordSuccessfulLogin();
-            userRepository.save(user);
+            // Başarılı giriş işlemleri: kilit/deneme sayacı yalnızca doluysa yazılır, son giriş zamanı write-behind
+            if (user.getLoginAttempts() != null && user.getLoginAttempts() > 0 || user.getLockedUntil() != null) {
+                user.unlockAccount();
+                userRepository.save(user);
+            }
+            activityRecorder.recordLogin(user.getId(), LocalDateTime.now());
 
             // Token oluştur
             String accessToken = jwtUtil.generateAccessToken(user);
@@ -102,6 +117,9 @@ public class AuthServiceImpl implements AuthService {
             logger.warn("Disabled account login attempt: {}", loginRequest.getEmail());
             throw new AuthenticationException("Account is disabled");
 
+        } catch (TooManyRequestsException e) {
+            throw e;
+
         } catch (Exception e) {
             logger.error("Login error for email: {}", loginRequest.getEmail(), e);
             throw new AuthenticationException("Login failed: " + e.getMessage());
@@ -132,7 +150,7 @@ public class AuthServiceImpl implements AuthService {
         // Yeni kullanıcı oluştur
         User user = new User();
         user.setEmail(registerRequest.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(registerRequest.getPassword()));
+        user.setPasswordHash(authWorkerService.encodePassword(registerRequest.getPassword()));
         user.setFirstName(registerRequest.getFirstName());
         user.setLastName(registerRequest.getLastName());
         user.setPhone(registerRequest.getPhone());
@@ -162,18 +180,23 @@ public class AuthServiceImpl implements AuthService {
         logger.debug("Refresh token request");
 
         try {
-            // Refresh token'ı validate et
-            if (!jwtUtil.validateRefreshToken(refreshToken)) {
+            // Refresh token'ı validate et; iptal edilmiş (logout ya da daha önce kullanılmış) token reddedilir
+            Optional<JwtUtil.VerifiedToken> verified = jwtUtil.verifyIfValid(refreshToken)
+                    .filter(token -> "REFRESH".equals(token.getTokenType()));
+            if (verified.isEmpty()) {
                 throw new AuthenticationException("Invalid refresh token");
             }
 
-            // Token'dan email'i çıkar
-            String email = jwtUtil.getEmailFromToken(refreshToken);
-
             // Kullanıcıyı bul
-            User user = userRepository.findByEmailAndIsActiveTrue(email)
+            User user = userRepository.findByEmailAndIsActiveTrue(verified.get().getEmail())
                     .orElseThrow(() -> new AuthenticationException("User not found"));
 
+            // Rotation: kullanılan refresh token bir daha yeni token üretemez; iptal kaydını eşzamanlı isteklerden
+            // yalnızca biri oluşturabilir, diğerleri (başka node'dakiler dahil) reddedilir
+            if (!revoke(verified.get())) {
+                throw new AuthenticationException("Refresh token has already been used");
+            }
+
             // Yeni access token oluştur
             String newAccessToken = jwtUtil.generateAccessToken(user);
             String newRefreshToken = jwtUtil.generateRefreshToken(user);
@@ -189,17 +212,23 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public void logout(String token) {
+    public void logout(String token, String refreshToken) {
         logger.debug("Logout request");
 
         try {
-            // Token'ı validate et
-            if (jwtUtil.validateToken(token)) {
-                String email = jwtUtil.getEmailFromToken(token);
-                logger.info("User logged out: {}", email);
-
-                // TODO: Token'ı blacklist'e ekle (Redis kullanılabilir)
-                // tokenBlacklistService.addToBlacklist(token);
+            // Token'ı validate et; iptal edilmiş ya da süresi dolmuş token için yapılacak bir şey yok
+            Optional<JwtUtil.VerifiedToken> verified = jwtUtil.verifyIfValid(token);
+            if (verified.isPresent()) {
+                // Token'lar süreleri dolana kadar iptal listesinde kalır
+                revoke(verified.get());
+                if (refreshToken != null) {
+                    // Yalnızca aynı kullanıcının refresh token'ı iptal edilir
+                    jwtUtil.verifyIfValid(refreshToken)
+                            .filter(refresh -> "REFRESH".equals(refresh.getTokenType()))
+                            .filter(refresh -> Objects.equals(refresh.getUserId(), verified.get().getUserId()))
+                            .ifPresent(this::revoke);
+                }
+                logger.info("User logged out: {}", verified.get().getEmail());
             }
         } catch (Exception e) {
             logger.error("Logout error", e);
@@ -240,7 +269,7 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // Yeni şifreyi kaydet
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
+        user.setPasswordHash(authWorkerService.encodePassword(newPassword));
         user.setPasswordResetToken(null);
         user.setPasswordResetExpires(null);
 
@@ -288,12 +317,12 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         // Mevcut şifreyi kontrol et
-        if (!passwordEncoder.matches(currentPassword, user.getPasswordHash())) {
+        if (!authWorkerService.matchesPassword(currentPassword, user.getPasswordHash())) {
             throw new AuthenticationException("Current password is incorrect");
         }
 
         // Yeni şifreyi kaydet
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
+        user.setPasswordHash(authWorkerService.encodePassword(newPassword));
         userRepository.save(user);
 
         logger.info("Password changed successfully for user: {}", userId);
@@ -301,6 +330,14 @@ public class AuthServiceImpl implements AuthService {
 
     // Helper Methods
 
+    /**
+     * Token'ı süresi dolana kadar iptal listesine ekler
+     * @return iptal kaydı bu çağrıda oluştuysa true
+     */
+    private boolean revoke(JwtUtil.VerifiedToken token) {
+        return tokenRevocationService.revoke(token.getTokenId(), token.getUserId(), token.getExpiration());
+    }
+
     /**
      * AuthResponse oluşturur
      */
@@ -334,6 +371,9 @@ public class AuthServiceImpl implements AuthService {
         userRepository.findByEmail(email).ifPresent(user -> {
             user.recordFailedLogin();
             userRepository.save(user);
+            if (user.isAccountLocked()) {
+                eventPublisher.publishEvent(new UserAuthStateChangedEvent(user.getId()));
+            }
         });
     }
 
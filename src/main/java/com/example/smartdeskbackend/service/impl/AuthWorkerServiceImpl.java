@@ -0,0 +1,196 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.exception.TooManyRequestsException;
+import com.example.smartdeskbackend.service.AuthWorkerService;
+import com.example.smartdeskbackend.util.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Auth worker havuzu implementasyonu
+ * Havuz sabit boyutlu ve kuyruğu sınırlıdır; kuyruk doluysa iş hiç kabul edilmez (hızlı 429). Kabul edilen iş
+ * maxWaitMs içinde bitmezse iptal edilir ve yine 429 döner. Token bucket'lar Caffeine'de erişimden bir süre sonra
+ * silinir; çok sayıda farklı IP ya da email belleği şişiremez
+ */
+@Service
+public class AuthWorkerServiceImpl implements AuthWorkerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthWorkerServiceImpl.class);
+
+    private static final String BUSY_MESSAGE = "Authentication service is busy, please try again shortly";
+    private static final String RATE_LIMIT_MESSAGE = "Too many authentication attempts, please try again later";
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ApplicationConfig.SecurityProperties securityProperties;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private Cache<String, TokenBucket> ipBuckets;
+    private Cache<String, TokenBucket> emailBuckets;
+    private long maxWaitMs;
+
+    @PostConstruct
+    public void init() {
+        ApplicationConfig.SecurityProperties.AuthPoolProperties pool = securityProperties.getAuthPool();
+        int threads = pool.getThreads() > 0 ? pool.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, pool.getQueueCapacity())),
+                new CustomizableThreadFactory("auth-worker-"), new ThreadPoolExecutor.AbortPolicy());
+        maxWaitMs = pool.getMaxWaitMs();
+
+        ipBuckets = Caffeine.newBuilder().expireAfterAccess(Duration.ofMinutes(2)).maximumSize(100_000).build();
+        emailBuckets = Caffeine.newBuilder().expireAfterAccess(Duration.ofMinutes(2)).maximumSize(100_000).build();
+
+        if (meterRegistry != null) {
+            Gauge.builder("auth.worker.queue.size", executor, e -> e.getQueue().size())
+                    .description("Auth tasks waiting for a worker")
+                    .register(meterRegistry);
+            Gauge.builder("auth.worker.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .description("Auth workers currently hashing")
+                    .register(meterRegistry);
+        }
+        logger.info("Auth worker pool started with {} threads and queue capacity {}", threads, pool.getQueueCapacity());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void checkRateLimit(String clientIp, String email) {
+        ApplicationConfig.SecurityProperties.RateLimitProperties rateLimit = securityProperties.getRateLimit();
+        if (!rateLimit.isEnabled()) {
+            return;
+        }
+        if (clientIp != null) {
+            consume(ipBuckets, clientIp, rateLimit.getRequestsPerMinute(), "ip");
+        }
+        if (email != null) {
+            consume(emailBuckets, email.trim().toLowerCase(Locale.ROOT), rateLimit.getEmailRequestsPerMinute(), "email");
+        }
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        return execute("login", () -> authenticationManager.authenticate(authentication));
+    }
+
+    @Override
+    public String encodePassword(String rawPassword) {
+        return execute("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matchesPassword(String rawPassword, String passwordHash) {
+        return execute("matches", () -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    // ============ HELPERS ============
+
+    private void consume(Cache<String, TokenBucket> buckets, String key, int perMinute, String scope) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(perMinute, perMinute));
+        if (!bucket.tryConsume()) {
+            shed("rate_limit_" + scope);
+            logger.warn("Auth rate limit exceeded for {} {}", scope, key);
+            throw new TooManyRequestsException(RATE_LIMIT_MESSAGE, Math.max(1, bucket.secondsUntilNextToken()));
+        }
+    }
+
+    /**
+     * İşi havuza verir ve sonucu en fazla maxWaitMs bekler; işin fırlattığı RuntimeException aynen iletilir
+     */
+    private <T> T execute(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                record("auth.worker.queue.wait", operation, System.nanoTime() - submittedAt);
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    record("auth.worker.execution", operation, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            shed("queue_full");
+            logger.warn("Auth worker queue full, shedding {} request", operation);
+            throw new TooManyRequestsException(BUSY_MESSAGE, 1);
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            shed("timeout");
+            logger.warn("Auth worker did not finish {} within {} ms", operation, maxWaitMs);
+            throw new TooManyRequestsException(BUSY_MESSAGE, 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for auth worker", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Auth worker failed", cause);
+        }
+    }
+
+    private void shed(String reason) {
+        if (meterRegistry != null) {
+            Counter.builder("auth.requests.rejected")
+                    .description("Auth requests rejected by rate limit or load shedding")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private void record(String name, String operation, long nanos) {
+        if (meterRegistry != null) {
+            Timer.builder(name).tag("operation", operation).register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.entity.BusinessCalendar;
+import com.example.smartdeskbackend.repository.BusinessCalendarRepository;
+import com.example.smartdeskbackend.repository.CompanyRepository;
+import com.example.smartdeskbackend.service.BusinessCalendarService;
+import com.example.smartdeskbackend.util.CacheUtil;
+import com.example.smartdeskbackend.util.WorkingTimeTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * İş takvimlerini şirket bazında WorkingTimeTable'a derler ve BUSINESS_CALENDARS cache'inde tutar
+ * Tablo bugünün etrafındaki sabit bir ufku kapsar; cache TTL'i ufkun kaymasını sağlar
+ */
+@Service
+public class BusinessCalendarServiceImpl implements BusinessCalendarService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessCalendarServiceImpl.class);
+
+    private static final Set<DayOfWeek> DEFAULT_WORK_DAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    @Autowired
+    private BusinessCalendarRepository businessCalendarRepository;
+    @Autowired
+    private CompanyRepository companyRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    @Override
+    public CompanyCalendars getCompanyCalendars(Long companyId) {
+        if (companyId == null) {
+            return new CompanyCalendars(defaultTable(ZoneId.systemDefault()), Map.of());
+        }
+        return calendarCache().get(companyId, () -> loadCalendars(companyId));
+    }
+
+    @Override
+    public WorkingTimeTable getCalendar(Long companyId, Long departmentId) {
+        return getCompanyCalendars(companyId).resolve(departmentId);
+    }
+
+    @Override
+    public LocalDateTime addBusinessHours(Long companyId, Long departmentId, LocalDateTime start, int hours) {
+        return getCalendar(companyId, departmentId).addWorkingMinutes(start, hours * 60L);
+    }
+
+    @Override
+    public void evictCalendars(Long companyId) {
+        calendarCache().evict(companyId);
+    }
+
+    // ============ COMPILATION ============
+
+    private CompanyCalendars loadCalendars(Long companyId) {
+        ZoneId companyZone = zoneOf(companyRepository.findTimezoneById(companyId).orElse(null),
+                ZoneId.systemDefault());
+        List<BusinessCalendar> calendars = businessCalendarRepository.findActiveWithHolidaysByCompanyId(companyId);
+
+        WorkingTimeTable defaultCalendar = null;
+        Map<Long, WorkingTimeTable> departmentCalendars = new HashMap<>();
+        for (BusinessCalendar calendar : calendars) {
+            WorkingTimeTable table = compile(calendar, companyZone);
+            if (table == null) {
+                continue;
+            }
+            if (calendar.getDepartment() == null) {
+                if (defaultCalendar == null) {
+                    defaultCalendar = table;
+                }
+            } else {
+                departmentCalendars.putIfAbsent(calendar.getDepartment().getId(), table);
+            }
+        }
+        if (defaultCalendar == null) {
+            defaultCalendar = defaultTable(companyZone);
+        }
+        logger.debug("Compiled business calendars for company {} ({} department calendars)",
+                companyId, departmentCalendars.size());
+        return new CompanyCalendars(defaultCalendar, departmentCalendars);
+    }
+
+    private WorkingTimeTable compile(BusinessCalendar calendar, ZoneId companyZone) {
+        try {
+            LocalDate today = LocalDate.now();
+            ApplicationConfig.BusinessProperties.SlaProperties sla = businessProperties.getSla();
+            return WorkingTimeTable.compile(zoneOf(calendar.getTimeZone(), companyZone), calendar.getWorkDaySet(),
+                    calendar.getHolidays(), calendar.getWorkStart(), calendar.getWorkEnd(),
+                    today.minusDays(sla.getCalendarPastDays()), today.plusDays(sla.getCalendarFutureDays()));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping invalid business calendar {}: {}", calendar.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private WorkingTimeTable defaultTable(ZoneId zone) {
+        LocalDate today = LocalDate.now();
+        ApplicationConfig.BusinessProperties.SlaProperties sla = businessProperties.getSla();
+        return WorkingTimeTable.compile(zone, DEFAULT_WORK_DAYS, Set.of(),
+                LocalTime.of(sla.getBusinessStartHour(), 0), LocalTime.of(sla.getBusinessEndHour(), 0),
+                today.minusDays(sla.getCalendarPastDays()), today.plusDays(sla.getCalendarFutureDays()));
+    }
+
+    private ZoneId zoneOf(String zoneId, ZoneId fallback) {
+        if (zoneId == null || zoneId.isBlank()) {
+            return fallback;
+        }
+        try {
+            return ZoneId.of(zoneId);
+        } catch (DateTimeException e) {
+            logger.warn("Unknown time zone '{}', using {}", zoneId, fallback);
+            return fallback;
+        }
+    }
+
+    private Cache calendarCache() {
+        return cacheManager.getCache(CacheUtil.BUSINESS_CALENDARS);
+    }
+}
@@ -11,6 +11,7 @@ import com.example.smartdeskbackend.exception.BusinessLogicException;
 import com.example.smartdeskbackend.repository.ChatMessageRepository;
 import com.example.smartdeskbackend.repository.TicketRepository;
 import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.ActivityRecorder;
 import com.example.smartdeskbackend.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +38,7 @@ public class ChatServiceImpl implements ChatService {
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ActivityRecorder activityRecorder;
 
     // Typing status tracking
     private final Map<Long, Map<Long, LocalDateTime>> typingUsers = new ConcurrentHashMap<>();
@@ -78,10 +80,8 @@ public class ChatServiceImpl implements ChatService {
         // Save message
         ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
 
-        // Update ticket's last activity and message time
-        ticket.updateLastMessageTime();
-        ticket.incrementUnreadMessageCount();
-        ticketRepository.save(ticket);
+        // Son mesaj zamanı ve okunmamış sayaç write-behind yazılır (ticket satırı kilitlenmez)
+        activityRecorder.recordTicketMessage(ticket.getId(), LocalDateTime.now());
 
         // Convert to response
         ChatMessageResponse response = convertToResponse(savedMessage);
@@ -155,8 +155,7 @@ public class ChatServiceImpl implements ChatService {
         chatMessageRepository.saveAll(unreadMessages);
 
         // Reset unread message count
-        ticket.resetUnreadMessageCount();
-        ticketRepository.save(ticket);
+        activityRecorder.resetUnreadMessages(ticketId);
     }
 
     @Override
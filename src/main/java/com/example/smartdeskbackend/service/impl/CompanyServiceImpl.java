@@ -9,9 +9,11 @@ import com.example.smartdeskbackend.exception.ResourceNotFoundException;
 import com.example.smartdeskbackend.exception.UserAlreadyExistsException;
 import com.example.smartdeskbackend.repository.CompanyRepository;
 import com.example.smartdeskbackend.service.CompanyService;
+import com.example.smartdeskbackend.util.CacheUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -102,6 +104,7 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheUtil.COMPANIES, CacheUtil.BUSINESS_CALENDARS}, key = "#id")
     public CompanyResponse updateCompany(Long id, UpdateCompanyRequest request) {
         logger.info("Updating company: {}", id);
 
@@ -152,6 +155,7 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheUtil.COMPANIES, key = "#id")
     public void deactivateCompany(Long id) {
         logger.info("Deactivating company: {}", id);
 
@@ -169,6 +173,7 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheUtil.COMPANIES, key = "#id")
     public void activateCompany(Long id) {
         logger.info("Activating company: {}", id);
 
@@ -204,6 +209,7 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheUtil.COMPANIES, key = "#id")
     @Transactional
     public void deleteCompany(Long id) {
         logger.info("Deleting company: {}", id);
@@ -5,6 +5,7 @@ import com.example.smartdeskbackend.entity.Ticket;
 import com.example.smartdeskbackend.exception.ResourceNotFoundException;
 import com.example.smartdeskbackend.repository.TicketRepository;
 import com.example.smartdeskbackend.service.CustomerSatisfactionService;
+import com.example.smartdeskbackend.service.TicketRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +22,9 @@ public class CustomerSatisfactionServiceImpl implements CustomerSatisfactionServ
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private TicketRollupService ticketRollupService;
+
     @Override
     @Transactional
     public void addSatisfactionRating(Long ticketId, int rating) {
@@ -44,8 +48,7 @@ public class CustomerSatisfactionServiceImpl implements CustomerSatisfactionServ
 
     @Override
     public Double getAverageCustomerSatisfaction(Long companyId, LocalDate startDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        return ticketRepository.getAverageCustomerSatisfaction(companyId, startDateTime);
+        return ticketRollupService.getAverageCustomerSatisfaction(companyId, startDate);
     }
 
     @Override
@@ -2,7 +2,7 @@
 package com.example.smartdeskbackend.service.impl;
 
 import com.example.smartdeskbackend.repository.CustomerRepository;
-import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.ReferenceDataService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,7 +15,7 @@ public class CustomerSecurityService {
     private CustomerRepository customerRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private ReferenceDataService referenceDataService;
 
     /**
      * Kullanıcının customer'a erişim hakkı olup olmadığını kontrol eder
@@ -32,9 +32,9 @@ public class CustomerSecurityService {
             }
 
             // Aynı şirket kontrolü
+            Long userCompanyId = referenceDataService.getUserPrincipal(userId).getCompanyId();
             return customerRepository.findById(customerId)
-                    .flatMap(customer -> userRepository.findById(userId)
-                            .map(user -> customer.getCompany().getId().equals(user.getCompany().getId())))
+                    .map(customer -> customer.getCompany().getId().equals(userCompanyId))
                     .orElse(false);
         } catch (Exception e) {
             return false;
@@ -13,6 +13,7 @@ import com.example.smartdeskbackend.exception.UserAlreadyExistsException;
 import com.example.smartdeskbackend.repository.CustomerRepository;
 import com.example.smartdeskbackend.repository.CompanyRepository;
 import com.example.smartdeskbackend.service.CustomerService;
+import com.example.smartdeskbackend.util.CacheUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +41,9 @@ public class CustomerServiceImpl implements CustomerService {
     @Autowired
     private CompanyRepository companyRepository;
 
+    @Autowired
+    private CacheUtil cacheUtil;
+
     @Override
     @Transactional(readOnly = true)
     public CustomerDetailResponse getCustomerById(Long id) {
@@ -159,6 +163,8 @@ public class CustomerServiceImpl implements CustomerService {
                 throw new UserAlreadyExistsException("Email already exists: " + request.getEmail());
             }
             customer.setEmail(request.getEmail());
+            // Ticket özetleri müşteri email'ini taşır; ticket id'leriyle tutulduğu için cache tamamen temizlenir (seyrek)
+            cacheUtil.clear(CacheUtil.TICKET_SUMMARIES);
         }
 
         // Diğer alanları güncelle
@@ -0,0 +1,205 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.TicketStatus;
+import com.example.smartdeskbackend.event.CustomerStateChangedEvent;
+import com.example.smartdeskbackend.event.TicketStateChangedEvent;
+import com.example.smartdeskbackend.repository.CustomerRepository;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.service.DashboardCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dashboard sayaç implementasyonu
+ * Her şirket için (status, priority, atanmış mı) hücrelerinden oluşan sabit boyutlu bir dizi tutulur;
+ * tüm dashboard değerleri bu hücrelerden türetilir. Yüklenmemiş şirketlere gelen değişiklikler yok sayılır,
+ * çünkü ilk okumada zaten DB'den güncel hali yüklenir. Yükleme ile eşzamanlı commit'lerden doğabilecek
+ * küçük sapmalar reconcile() ile düzeltilir.
+ */
+@Service
+public class DashboardCounterServiceImpl implements DashboardCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCounterServiceImpl.class);
+
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+    private static final TicketPriority[] PRIORITIES = TicketPriority.values();
+    private static final int CELLS = STATUSES.length * PRIORITIES.length * 2;
+    private static final int RECONCILE_BATCH_SIZE = 200;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private final Map<Long, CompanyCounters> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Snapshot getSnapshot(Long companyId) {
+        CompanyCounters company = counters.get(companyId);
+        if (company == null) {
+            CompanyCounters loaded = load(Collections.singletonList(companyId)).get(companyId);
+            company = counters.putIfAbsent(companyId, loaded);
+            if (company == null) {
+                company = loaded;
+            }
+        }
+        return company.snapshot();
+    }
+
+    @Override
+    public void applyTicketChanges(TicketStateChangedEvent event) {
+        for (TicketStateChangedEvent.Change change : event.getChanges()) {
+            CompanyCounters company = counters.get(change.getCompanyId());
+            if (company != null) {
+                company.applyTicket(change.getBefore(), change.getAfter());
+            }
+        }
+    }
+
+    @Override
+    public void applyCustomerChange(CustomerStateChangedEvent event) {
+        CompanyCounters company = counters.get(event.getCompanyId());
+        if (company != null) {
+            company.applyCustomer(event.getBefore(), event.getAfter());
+        }
+    }
+
+    @Override
+    public int reconcile() {
+        List<Long> companyIds = new ArrayList<>(counters.keySet());
+        int drifted = 0;
+        for (int from = 0; from < companyIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = companyIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, companyIds.size()));
+            Map<Long, CompanyCounters> fresh = load(batch);
+            for (Long companyId : batch) {
+                CompanyCounters current = counters.get(companyId);
+                if (current != null && current.replaceWith(fresh.get(companyId))) {
+                    drifted++;
+                    logger.warn("Dashboard counters drifted for company {}, reset from database", companyId);
+                }
+            }
+        }
+        logger.debug("Dashboard counters reconciled for {} companies, {} drifted", companyIds.size(), drifted);
+        return drifted;
+    }
+
+    // ============ YÜKLEME ============
+
+    /**
+     * Verilen şirketlerin sayaçlarını iki GROUP BY sorgusuyla hesaplar (ticket hücreleri + müşteri sayıları)
+     */
+    private Map<Long, CompanyCounters> load(Collection<Long> companyIds) {
+        Map<Long, CompanyCounters> result = new HashMap<>();
+        for (Long companyId : companyIds) {
+            result.put(companyId, new CompanyCounters());
+        }
+        for (Object[] row : ticketRepository.countStateCellsByCompanyIds(companyIds)) {
+            CompanyCounters company = result.get((Long) row[0]);
+            TicketStatus status = (TicketStatus) row[1];
+            TicketPriority priority = (TicketPriority) row[2];
+            long total = ((Number) row[3]).longValue();
+            long assigned = ((Number) row[4]).longValue();
+            company.cells[cell(status, priority, true)] += assigned;
+            company.cells[cell(status, priority, false)] += total - assigned;
+        }
+        for (Object[] row : customerRepository.countActiveAndVipByCompanyIds(companyIds)) {
+            CompanyCounters company = result.get((Long) row[0]);
+            company.activeCustomers = ((Number) row[1]).longValue();
+            company.vipCustomers = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+        }
+        return result;
+    }
+
+    private static int cell(TicketStatus status, TicketPriority priority, boolean assigned) {
+        return (status.ordinal() * PRIORITIES.length + priority.ordinal()) * 2 + (assigned ? 1 : 0);
+    }
+
+    /**
+     * Tek şirketin sayaçları; tüm erişimler nesne üzerinde senkronize
+     */
+    private static final class CompanyCounters {
+        private final long[] cells = new long[CELLS];
+        private long activeCustomers;
+        private long vipCustomers;
+
+        synchronized void applyTicket(TicketStateChangedEvent.State before, TicketStateChangedEvent.State after) {
+            if (before != null && before.getStatus() != null && before.getPriority() != null) {
+                cells[cell(before.getStatus(), before.getPriority(), before.isAssigned())]--;
+            }
+            if (after != null && after.getStatus() != null && after.getPriority() != null) {
+                cells[cell(after.getStatus(), after.getPriority(), after.isAssigned())]++;
+            }
+        }
+
+        synchronized void applyCustomer(CustomerStateChangedEvent.State before, CustomerStateChangedEvent.State after) {
+            if (before != null && before.isActive()) {
+                activeCustomers--;
+                if (before.isVip()) {
+                    vipCustomers--;
+                }
+            }
+            if (after != null && after.isActive()) {
+                activeCustomers++;
+                if (after.isVip()) {
+                    vipCustomers++;
+                }
+            }
+        }
+
+        /**
+         * @return değerler farklıysa true
+         */
+        synchronized boolean replaceWith(CompanyCounters fresh) {
+            boolean drifted = !Arrays.equals(cells, fresh.cells)
+                    || activeCustomers != fresh.activeCustomers
+                    || vipCustomers != fresh.vipCustomers;
+            System.arraycopy(fresh.cells, 0, cells, 0, CELLS);
+            activeCustomers = fresh.activeCustomers;
+            vipCustomers = fresh.vipCustomers;
+            return drifted;
+        }
+
+        synchronized Snapshot snapshot() {
+            Map<TicketStatus, Long> byStatus = new EnumMap<>(TicketStatus.class);
+            Map<TicketPriority, Long> activeByPriority = new EnumMap<>(TicketPriority.class);
+            long total = 0;
+            long active = 0;
+            long unassigned = 0;
+            for (TicketStatus status : STATUSES) {
+                long statusCount = 0;
+                for (TicketPriority priority : PRIORITIES) {
+                    long unassignedCount = cells[cell(status, priority, false)];
+                    long count = unassignedCount + cells[cell(status, priority, true)];
+                    statusCount += count;
+                    if (status.isActive()) {
+                        activeByPriority.merge(priority, count, Long::sum);
+                    }
+                    if (status == TicketStatus.NEW) {
+                        unassigned += unassignedCount;
+                    }
+                }
+                byStatus.put(status, statusCount);
+                total += statusCount;
+                if (status.isActive()) {
+                    active += statusCount;
+                }
+            }
+            return new Snapshot(total, active, unassigned, Collections.unmodifiableMap(byStatus),
+                    Collections.unmodifiableMap(activeByPriority), activeCustomers, vipCustomers);
+        }
+    }
+}
@@ -2,7 +2,9 @@
 // DashboardService Implementation
 package com.example.smartdeskbackend.service.impl;
 
+import com.example.smartdeskbackend.enums.TicketStatus;
 import com.example.smartdeskbackend.repository.*;
+import com.example.smartdeskbackend.service.DashboardCounterService;
 import com.example.smartdeskbackend.service.DashboardService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -23,17 +25,22 @@ public class DashboardServiceImpl implements DashboardService {
     private UserRepository userRepository;
 
     @Autowired
-    private CustomerRepository customerRepository;
+    private DashboardCounterService dashboardCounterService;
 
     @Override
     public Map<String, Object> getDashboardStats(Long companyId) {
         Map<String, Object> stats = new HashMap<>();
 
-        // Ticket istatistikleri
+        // Ticket ve müşteri istatistikleri bellek içi sayaçlardan okunur (bkz. DashboardCounterService)
+        DashboardCounterService.Snapshot counters = dashboardCounterService.getSnapshot(companyId);
+
         Map<String, Object> ticketStats = new HashMap<>();
-        ticketStats.put("total", ticketRepository.countByCompanyId(companyId));
-        ticketStats.put("active", ticketRepository.findActiveTickets(companyId, null).getTotalElements());
-        ticketStats.put("unassigned", ticketRepository.findUnassignedTickets(companyId).size());
+        ticketStats.put("total", counters.getTotalTickets());
+        ticketStats.put("active", counters.getActiveTickets());
+        ticketStats.put("open", counters.getTickets(TicketStatus.OPEN));
+        ticketStats.put("unassigned", counters.getUnassignedTickets());
+        ticketStats.put("byStatus", counters.getTicketsByStatus());
+        ticketStats.put("byPriority", counters.getActiveTicketsByPriority());
 
         stats.put("tickets", ticketStats);
 
@@ -46,8 +53,8 @@ public class DashboardServiceImpl implements DashboardService {
 
         // Müşteri istatistikleri
         Map<String, Object> customerStats = new HashMap<>();
-        customerStats.put("total", customerRepository.countByCompanyId(companyId));
-        customerStats.put("vip", customerRepository.findVipCustomers(companyId).size());
+        customerStats.put("total", counters.getActiveCustomers());
+        customerStats.put("vip", counters.getVipCustomers());
 
         stats.put("customers", customerStats);
 
@@ -1,8 +1,7 @@
 // src/main/java/com/example/smartdeskbackend/service/impl/DepartmentSecurityService.java
 package com.example.smartdeskbackend.service.impl;
 
-import com.example.smartdeskbackend.repository.DepartmentRepository;
-import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.ReferenceDataService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,10 +11,7 @@ import org.springframework.stereotype.Service;
 public class DepartmentSecurityService {
 
     @Autowired
-    private DepartmentRepository departmentRepository;
-
-    @Autowired
-    private UserRepository userRepository;
+    private ReferenceDataService referenceDataService;
 
     /**
      * Kullanıcının department'a erişim hakkı olup olmadığını kontrol eder
@@ -31,10 +27,8 @@ public class DepartmentSecurityService {
             }
 
             // Aynı şirket kontrolü
-            return departmentRepository.findById(departmentId)
-                    .flatMap(department -> userRepository.findById(userId)
-                            .map(user -> department.getCompany().getId().equals(user.getCompany().getId())))
-                    .orElse(false);
+            Long departmentCompanyId = referenceDataService.getDepartment(departmentId).getCompanyId();
+            return departmentCompanyId.equals(referenceDataService.getUserPrincipal(userId).getCompanyId());
         } catch (Exception e) {
             return false;
         }
@@ -45,10 +39,7 @@ public class DepartmentSecurityService {
      */
     public boolean isDepartmentManager(Long departmentId, Long userId) {
         try {
-            return departmentRepository.findById(departmentId)
-                    .map(department -> department.getManager() != null &&
-                            department.getManager().getId().equals(userId))
-                    .orElse(false);
+            return userId != null && userId.equals(referenceDataService.getDepartment(departmentId).getManagerId());
         } catch (Exception e) {
             return false;
         }
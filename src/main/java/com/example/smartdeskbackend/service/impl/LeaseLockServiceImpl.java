@@ -0,0 +1,92 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.entity.SchedulerLock;
+import com.example.smartdeskbackend.repository.SchedulerLockRepository;
+import com.example.smartdeskbackend.service.LeaseLockService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * scheduler_locks tablosu üzerinde koşullu UPDATE ile lease kilidi
+ * Saat farkına karşı lease süresi iş süresinden belirgin şekilde uzun seçilmelidir
+ */
+@Service
+public class LeaseLockServiceImpl implements LeaseLockService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaseLockServiceImpl.class);
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate requiresNew;
+    private String nodeId;
+
+    @PostConstruct
+    public void init() {
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        nodeId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Override
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lease);
+        try {
+            Boolean acquired = requiresNew.execute(status -> {
+                if (schedulerLockRepository.acquire(name, nodeId, now, until) > 0) {
+                    return true;
+                }
+                if (schedulerLockRepository.existsById(name)) {
+                    return false;
+                }
+                schedulerLockRepository.saveAndFlush(new SchedulerLock(name, nodeId, now, until));
+                return true;
+            });
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataIntegrityViolationException e) {
+            // Satırı aynı anda başka node oluşturdu
+            logger.debug("Lock {} was created concurrently by another node", name);
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String name) {
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    schedulerLockRepository.release(name, nodeId, LocalDateTime.now()));
+        } catch (Exception e) {
+            // Bırakılamayan kilit süresi dolunca kendiliğinden serbest kalır
+            logger.warn("Failed to release lock {}: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.service.AgentAssignmentStrategy;
+import com.example.smartdeskbackend.service.AgentLoadService.AgentLoad;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * En az açık ticketı olan agent; eşitlikte en uzun süredir atama almamış olan
+ */
+@Component
+public class LeastLoadedAssignmentStrategy implements AgentAssignmentStrategy {
+
+    public static final String NAME = "least-loaded";
+
+    private static final Comparator<AgentLoad> ORDERING = Comparator.comparingInt(AgentLoad::getOpenTickets)
+            .thenComparingLong(AgentLoad::getLastAssignedSequence)
+            .thenComparing(AgentLoad::getAgentId);
+
+    @Override
+    public String getName() { return NAME; }
+
+    @Override
+    public Comparator<AgentLoad> ordering() { return ORDERING; }
+}
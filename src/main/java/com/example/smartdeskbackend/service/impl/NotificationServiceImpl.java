@@ -27,6 +27,9 @@ public class NotificationServiceImpl implements NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
 
+    // Yeni ticket ve hatırlatma bildirimlerini alan roller
+    private static final List<String> STAFF_ROLES = List.of(UserRole.MANAGER.name(), UserRole.AGENT.name());
+
     @Autowired
     private NotificationRepository notificationRepository;
     @Autowired
@@ -106,22 +109,13 @@ public class NotificationServiceImpl implements NotificationService {
         logger.info("🔔 Creating new ticket notifications for ticket: {}", ticketNumber);
 
         try {
-            // Company'deki tüm MANAGER ve AGENT'ları bul
-            List<User> managersAndAgents = userRepository.findByCompanyIdAndRoleIn(
-                    companyId, List.of(UserRole.MANAGER, UserRole.AGENT));
-
             String message = String.format("Yeni ticket oluşturuldu: %s - %s", ticketNumber, customerName);
             String targetUrl = String.format("/tickets/%d", ticketId);
 
-            for (User user : managersAndAgents) {
-                Notification notification = new Notification();
-                notification.setType(NotificationType.TICKET_CREATED.name());
-                notification.setMessage(message);
-                notification.setTargetUrl(targetUrl);
-                createNotification(notification, user.getId(), companyId);
-            }
+            // Company'deki tüm MANAGER ve AGENT'lara tek INSERT ... SELECT
+            int created = notifyCompanyStaff(companyId, NotificationType.TICKET_CREATED, message, targetUrl);
 
-            logger.info("✅ Created {} notifications for new ticket: {}", managersAndAgents.size(), ticketNumber);
+            logger.info("✅ Created {} notifications for new ticket: {}", created, ticketNumber);
 
         } catch (Exception e) {
             logger.error("❌ Error creating new ticket notifications: {}", e.getMessage(), e);
@@ -174,22 +168,13 @@ public class NotificationServiceImpl implements NotificationService {
         logger.info("🔔 Creating attention reminder notification for ticket: {}", ticketNumber);
 
         try {
-            // Company'deki tüm MANAGER ve AGENT'ları bul
-            List<User> managersAndAgents = userRepository.findByCompanyIdAndRoleIn(
-                    companyId, List.of(UserRole.MANAGER, UserRole.AGENT));
-
             String message = String.format("Ticket dikkat gerektiriyor (2 saat geçti): %s", ticketNumber);
             String targetUrl = String.format("/tickets/%d", ticketId);
 
-            for (User user : managersAndAgents) {
-                Notification notification = new Notification();
-                notification.setType(NotificationType.TICKET_REMINDER.name());
-                notification.setMessage(message);
-                notification.setTargetUrl(targetUrl);
-                createNotification(notification, user.getId(), companyId);
-            }
+            // Company'deki tüm MANAGER ve AGENT'lara tek INSERT ... SELECT
+            int created = notifyCompanyStaff(companyId, NotificationType.TICKET_REMINDER, message, targetUrl);
 
-            logger.info("✅ Created {} reminder notifications for ticket: {}", managersAndAgents.size(), ticketNumber);
+            logger.info("✅ Created {} reminder notifications for ticket: {}", created, ticketNumber);
 
         } catch (Exception e) {
             logger.error("❌ Error creating ticket reminder notifications: {}", e.getMessage(), e);
@@ -268,4 +253,18 @@ public class NotificationServiceImpl implements NotificationService {
             logger.error("❌ Error creating approval completed notification: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Şirket personeline (MANAGER, AGENT) toplu bildirim
+     * createNotification'ın alıcı başına user/company sorgusu ve tekil insert'i yerine tek statement
+     */
+    private int notifyCompanyStaff(Long companyId, NotificationType type, String message, String targetUrl) {
+        return notificationRepository.insertForCompanyRoles(
+                companyId,
+                STAFF_ROLES,
+                type.name(),
+                message,
+                targetUrl,
+                LocalDateTime.now());
+    }
+}
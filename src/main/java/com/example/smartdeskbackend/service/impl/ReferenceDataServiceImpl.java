@@ -0,0 +1,174 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.CacheConfig;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.enums.UserStatus;
+import com.example.smartdeskbackend.exception.ResourceNotFoundException;
+import com.example.smartdeskbackend.repository.CompanyRepository;
+import com.example.smartdeskbackend.repository.DepartmentRepository;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.ReferenceDataService;
+import com.example.smartdeskbackend.util.CacheUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Referans verisi lookup implementasyonu
+ * Değerler projection sorgularıyla okunur (entity ve lazy ilişkiler yüklenmez) ve Caffeine cache'lerinde tutulur.
+ * Aynı yükleme metotları refresh-after-write için arka plan yenilemesinde de kullanılır.
+ */
+@Service
+public class ReferenceDataServiceImpl implements ReferenceDataService, CacheConfig.Reloader {
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Override
+    @Cacheable(cacheNames = CacheUtil.COMPANIES, sync = true)
+    public CompanyRef getCompany(Long companyId) {
+        CompanyRef company = loadCompany(companyId);
+        if (company == null) {
+            throw new ResourceNotFoundException("Company not found with id: " + companyId);
+        }
+        return company;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheUtil.DEPARTMENTS, sync = true)
+    public DepartmentRef getDepartment(Long departmentId) {
+        DepartmentRef department = loadDepartment(departmentId);
+        if (department == null) {
+            throw new ResourceNotFoundException("Department not found with id: " + departmentId);
+        }
+        return department;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheUtil.USER_PRINCIPALS, sync = true)
+    public UserPrincipal getUserPrincipal(Long userId) {
+        UserPrincipal principal = toPrincipal(userRepository.findPrincipalRowById(userId));
+        if (principal == null) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        return principal;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheUtil.USER_PRINCIPALS, sync = true)
+    public UserPrincipal getUserPrincipal(String email) {
+        UserPrincipal principal = toPrincipal(userRepository.findPrincipalRowByEmail(email));
+        if (principal == null) {
+            throw new ResourceNotFoundException("User not found with email: " + email);
+        }
+        return principal;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheUtil.USER_AUTH_STATES, sync = true)
+    public UserAuthState getUserAuthState(Long userId) {
+        UserAuthState state = loadUserAuthState(userId);
+        if (state == null) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        return state;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheUtil.TICKET_SUMMARIES, sync = true)
+    public TicketSummary getTicketSummary(Long ticketId) {
+        TicketSummary summary = loadTicketSummary(ticketId);
+        if (summary == null) {
+            throw new ResourceNotFoundException("Ticket not found with id: " + ticketId);
+        }
+        return summary;
+    }
+
+    // ============ CACHE RELOADER ============
+
+    @Override
+    public boolean supports(String cacheName) {
+        return CacheUtil.COMPANIES.equals(cacheName)
+                || CacheUtil.DEPARTMENTS.equals(cacheName)
+                || CacheUtil.USER_PRINCIPALS.equals(cacheName)
+                || CacheUtil.USER_AUTH_STATES.equals(cacheName)
+                || CacheUtil.TICKET_SUMMARIES.equals(cacheName);
+    }
+
+    @Override
+    public Object reload(String cacheName, Object key) {
+        switch (cacheName) {
+            case CacheUtil.COMPANIES:
+                return loadCompany((Long) key);
+            case CacheUtil.DEPARTMENTS:
+                return loadDepartment((Long) key);
+            case CacheUtil.USER_PRINCIPALS:
+                return key instanceof String email
+                        ? toPrincipal(userRepository.findPrincipalRowByEmail(email))
+                        : toPrincipal(userRepository.findPrincipalRowById((Long) key));
+            case CacheUtil.USER_AUTH_STATES:
+                return loadUserAuthState((Long) key);
+            case CacheUtil.TICKET_SUMMARIES:
+                return loadTicketSummary((Long) key);
+            default:
+                return null;
+        }
+    }
+
+    // ============ YÜKLEME ============
+
+    private CompanyRef loadCompany(Long companyId) {
+        return companyRepository.findById(companyId)
+                .map(company -> new CompanyRef(company.getId(), company.getName(), company.isActive()))
+                .orElse(null);
+    }
+
+    private DepartmentRef loadDepartment(Long departmentId) {
+        List<Object[]> rows = departmentRepository.findReferenceRowById(departmentId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new DepartmentRef((Long) row[0], (String) row[1], (Long) row[2], (Long) row[3]);
+    }
+
+    private UserAuthState loadUserAuthState(Long userId) {
+        List<Object[]> rows = userRepository.findAuthStateRowById(userId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new UserAuthState((Long) row[0], (String) row[1], (UserRole) row[2], (UserStatus) row[3],
+                (LocalDateTime) row[4], (Long) row[5], (Long) row[6]);
+    }
+
+    private TicketSummary loadTicketSummary(Long ticketId) {
+        List<Object[]> rows = ticketRepository.findAccessSummaryRowById(ticketId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new TicketSummary((Long) row[0], (Long) row[1], (String) row[2]);
+    }
+
+    private UserPrincipal toPrincipal(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new UserPrincipal((Long) row[0], (String) row[1], (UserRole) row[2], (Long) row[3]);
+    }
+}
@@ -1,13 +1,12 @@
 package com.example.smartdeskbackend.service.impl;
 
-import com.example.smartdeskbackend.entity.Ticket;
-import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.service.DashboardCounterService;
 import com.example.smartdeskbackend.service.ReportService;
+import com.example.smartdeskbackend.service.TicketRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,21 +16,20 @@ import java.util.stream.Collectors;
 public class ReportServiceImpl implements ReportService {
 
     @Autowired
-    private TicketRepository ticketRepository;
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private TicketRollupService ticketRollupService;
 
     @Override
     public Map<String, Object> getDailyTicketSummary(Long companyId, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay().minusNanos(1);
-
-        List<Ticket> ticketsToday = ticketRepository.findTicketsBetweenDates(companyId, startOfDay, endOfDay);
+        DashboardCounterService.Snapshot counters = dashboardCounterService.getSnapshot(companyId);
+        TicketRollupService.DaySummary day = ticketRollupService.getDaySummary(companyId, date);
 
-        long totalTickets = ticketRepository.countByCompanyId(companyId); // Tüm şirket biletleri
-        long newTicketsToday = ticketsToday.size();
-        long resolvedTicketsToday = ticketsToday.stream()
-                .filter(t -> t.getStatus().toString().equals("RESOLVED") || t.getStatus().toString().equals("CLOSED"))
-                .count();
-        long openTickets = ticketRepository.findActiveTickets(companyId, null).getTotalElements(); // Tüm aktif biletler
+        long totalTickets = counters.getTotalTickets(); // Tüm şirket biletleri
+        long newTicketsToday = day.getCreated();
+        long resolvedTicketsToday = day.getResolved();
+        long openTickets = counters.getActiveTickets(); // Tüm aktif biletler
 
         Map<String, Object> summary = new HashMap<>();
         summary.put("totalTicketsOverall", totalTickets);
@@ -45,9 +43,7 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public List<Object[]> getAgentPerformanceReport(Long companyId, LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay().minusNanos(1);
-        return ticketRepository.getAgentPerformanceMetrics(companyId, startDateTime, endDateTime);
+        return ticketRollupService.getAgentPerformance(companyId, startDate, endDate);
     }
 
     @Override
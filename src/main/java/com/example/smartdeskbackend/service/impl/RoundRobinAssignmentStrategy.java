@@ -0,0 +1,25 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.service.AgentAssignmentStrategy;
+import com.example.smartdeskbackend.service.AgentLoadService.AgentLoad;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * Sırayla atama: en uzun süredir atama almamış agent (yükten bağımsız, kapasite yine uygulanır)
+ */
+@Component
+public class RoundRobinAssignmentStrategy implements AgentAssignmentStrategy {
+
+    public static final String NAME = "round-robin";
+
+    private static final Comparator<AgentLoad> ORDERING = Comparator.comparingLong(AgentLoad::getLastAssignedSequence)
+            .thenComparing(AgentLoad::getAgentId);
+
+    @Override
+    public String getName() { return NAME; }
+
+    @Override
+    public Comparator<AgentLoad> ordering() { return ORDERING; }
+}
@@ -1,9 +1,7 @@
 
 package com.example.smartdeskbackend.service.impl;
 
-import com.example.smartdeskbackend.repository.UserRepository;
-import com.example.smartdeskbackend.repository.CompanyRepository;
-import com.example.smartdeskbackend.util.JwtUtil;
+import com.example.smartdeskbackend.service.ReferenceDataService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,10 +11,7 @@ import org.springframework.stereotype.Service;
 public class SecurityService {
 
     @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private CompanyRepository companyRepository;
+    private ReferenceDataService referenceDataService;
 
     /**
      * Kullanıcının aynı şirkette olup olmadığını kontrol eder
@@ -28,10 +23,8 @@ public class SecurityService {
                 return false;
             }
 
-            String email = auth.getName();
-            return userRepository.findByEmail(email)
-                    .map(user -> user.getCompany() != null && user.getCompany().getId().equals(companyId))
-                    .orElse(false);
+            Long userCompanyId = referenceDataService.getUserPrincipal(auth.getName()).getCompanyId();
+            return userCompanyId != null && userCompanyId.equals(companyId);
         } catch (Exception e) {
             return false;
         }
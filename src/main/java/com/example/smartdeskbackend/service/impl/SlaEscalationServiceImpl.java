@@ -0,0 +1,165 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.dto.response.ticket.BulkTicketUpdateResponse;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.service.LeaseLockService;
+import com.example.smartdeskbackend.service.SlaEscalationService;
+import com.example.smartdeskbackend.service.TicketService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keyset sayfalı, lease kilitli SLA escalation
+ * Her parça ayrı transaction'da tek UPDATE ile escalate edilir (bkz. TicketService.escalateSlaBreaches);
+ * parçalar arasında kilit süresi uzatılır, kilit kaybedilirse iş yarıda bırakılır
+ */
+@Service
+public class SlaEscalationServiceImpl implements SlaEscalationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlaEscalationServiceImpl.class);
+
+    static final String LOCK_NAME = "sla-escalation";
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private LeaseLockService leaseLockService;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final AtomicBoolean runRequested = new AtomicBoolean();
+    private final AtomicLong backlog = new AtomicLong();
+
+    private Timer chunkTimer;
+    private Counter escalatedCounter;
+    private Counter lockSkippedCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("sla.escalation.backlog", backlog, AtomicLong::get)
+                .description("Escalate edilmeyi bekleyen ticket sayısı")
+                .register(meterRegistry);
+        chunkTimer = Timer.builder("sla.escalation.chunk.duration")
+                .description("Bir escalation parçasının süresi")
+                .register(meterRegistry);
+        escalatedCounter = Counter.builder("sla.escalation.escalated").register(meterRegistry);
+        lockSkippedCounter = Counter.builder("sla.escalation.lock.skipped")
+                .description("Kilit başka node'da olduğu için atlanan çalıştırmalar")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int escalateDue() {
+        if (!businessProperties.getTicket().isEscalationEnabled()) {
+            return 0;
+        }
+        ApplicationConfig.BusinessProperties.SlaProperties sla = businessProperties.getSla();
+        Duration lease = Duration.ofSeconds(sla.getEscalationLeaseSeconds());
+        if (!leaseLockService.tryAcquire(LOCK_NAME, lease)) {
+            if (lockSkippedCounter != null) {
+                lockSkippedCounter.increment();
+            }
+            return -1;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            backlog.set(ticketRepository.countSlaDue(now, Ticket.SLA_TIMER_EXCLUDED_STATUSES));
+
+            int chunkSize = sla.getEscalationChunkSize();
+            long afterId = 0;
+            int escalated = 0;
+            while (true) {
+                long start = System.nanoTime();
+                BulkTicketUpdateResponse chunk = ticketService.escalateSlaBreaches(afterId, chunkSize, now);
+                if (chunkTimer != null) {
+                    chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                if (chunk.getRequestedCount() == 0) {
+                    break;
+                }
+
+                escalated += chunk.getUpdatedCount();
+                if (escalatedCounter != null) {
+                    escalatedCounter.increment(chunk.getUpdatedCount());
+                }
+                backlog.updateAndGet(value -> Math.max(0, value - chunk.getRequestedCount()));
+                afterId = Math.max(lastId(chunk), afterId);
+
+                if (chunk.getRequestedCount() < chunkSize) {
+                    break;
+                }
+                // Uzun işlerde kilit süresi uzatılır; başka node devraldıysa bu node bırakır
+                if (!leaseLockService.tryAcquire(LOCK_NAME, lease)) {
+                    logger.warn("Lost SLA escalation lock after {} tickets; stopping", escalated);
+                    break;
+                }
+            }
+
+            if (escalated > 0) {
+                logger.warn("Escalated {} tickets due to SLA violation", escalated);
+            }
+            return escalated;
+        } finally {
+            leaseLockService.release(LOCK_NAME);
+        }
+    }
+
+    @Override
+    public void requestRun() {
+        runRequested.set(true);
+    }
+
+    @Override
+    public void runIfRequested() {
+        if (!runRequested.getAndSet(false)) {
+            return;
+        }
+        // Kilit başka node'daysa o çalıştırma bu ihlali görmemiş olabilir; sonraki kontrolde tekrar denenir
+        if (escalateDue() < 0) {
+            runRequested.set(true);
+        }
+    }
+
+    @Override
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    private static long lastId(BulkTicketUpdateResponse chunk) {
+        long last = 0;
+        for (Long id : chunk.getUpdated()) {
+            last = Math.max(last, id);
+        }
+        for (Long id : chunk.getSkipped()) {
+            last = Math.max(last, id);
+        }
+        return last;
+    }
+}
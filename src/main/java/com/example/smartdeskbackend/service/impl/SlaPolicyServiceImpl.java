@@ -1,15 +1,21 @@
 package com.example.smartdeskbackend.service.impl;
 
+import com.example.smartdeskbackend.dto.response.sla.SlaPolicySnapshot;
 import com.example.smartdeskbackend.entity.Company;
 import com.example.smartdeskbackend.entity.Department;
 import com.example.smartdeskbackend.entity.SlaPolicy;
 import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.event.SlaPolicyChangedEvent;
 import com.example.smartdeskbackend.exception.ResourceNotFoundException;
 import com.example.smartdeskbackend.repository.CompanyRepository;
 import com.example.smartdeskbackend.repository.DepartmentRepository;
 import com.example.smartdeskbackend.repository.SlaPolicyRepository;
 import com.example.smartdeskbackend.service.SlaPolicyService;
+import com.example.smartdeskbackend.util.CacheUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +23,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * SLA politika yönetimi ve şirket bazlı politika matrisi
+ * Matrisler SLA_POLICIES cache'inde şirket id'siyle tutulur; politika değişikliği commit edilince
+ * yeniden kurulup tek put ile değiştirilir, okuyucular ya eski ya yeni matrisi görür
+ */
 @Service
 public class SlaPolicyServiceImpl implements SlaPolicyService {
 
@@ -26,6 +37,13 @@ public class SlaPolicyServiceImpl implements SlaPolicyService {
     private CompanyRepository companyRepository;
     @Autowired
     private DepartmentRepository departmentRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Aynı şirket için eşzamanlı yeniden kurulumlar sırayla yapılır; eski okuma yeni matrisin üzerine yazılmaz
+    private final Object rebuildLock = new Object();
 
     @Override
     @Transactional
@@ -54,7 +72,9 @@ public class SlaPolicyServiceImpl implements SlaPolicyService {
 
         policy.setCreatedAt(LocalDateTime.now());
         policy.setUpdatedAt(LocalDateTime.now());
-        return slaPolicyRepository.save(policy);
+        SlaPolicy saved = slaPolicyRepository.save(policy);
+        eventPublisher.publishEvent(new SlaPolicyChangedEvent(companyId));
+        return saved;
     }
 
     @Override
@@ -83,16 +103,18 @@ public class SlaPolicyServiceImpl implements SlaPolicyService {
         }
 
         policy.setUpdatedAt(LocalDateTime.now());
-        return slaPolicyRepository.save(policy);
+        SlaPolicy saved = slaPolicyRepository.save(policy);
+        eventPublisher.publishEvent(new SlaPolicyChangedEvent(policy.getCompany().getId()));
+        return saved;
     }
 
     @Override
     @Transactional
     public void deleteSlaPolicy(Long id) {
-        if (!slaPolicyRepository.existsById(id)) {
-            throw new ResourceNotFoundException("SLA Policy not found with id: " + id);
-        }
-        slaPolicyRepository.deleteById(id);
+        SlaPolicy policy = slaPolicyRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("SLA Policy not found with id: " + id));
+        slaPolicyRepository.delete(policy);
+        eventPublisher.publishEvent(new SlaPolicyChangedEvent(policy.getCompany().getId()));
     }
 
     @Override
@@ -106,14 +128,37 @@ public class SlaPolicyServiceImpl implements SlaPolicyService {
         return slaPolicyRepository.findByCompanyId(companyId);
     }
 
+    /**
+     * Departmana özel politika yoksa şirket varsayılanı; çözüm matristen, entity L2 cache'ten gelir
+     */
     @Override
     public Optional<SlaPolicy> getApplicableSlaPolicy(Long companyId, Long departmentId, TicketPriority priority) {
-        if (departmentId != null) {
-            Optional<SlaPolicy> policy = slaPolicyRepository.findByCompanyIdAndAppliesToPriorityAndDepartmentId(companyId, priority, departmentId);
-            if (policy.isPresent()) {
-                return policy;
-            }
+        return resolveSlaPolicy(companyId, departmentId, priority)
+                .flatMap(policy -> slaPolicyRepository.findById(policy.getId()));
+    }
+
+    @Override
+    public Optional<SlaPolicySnapshot> resolveSlaPolicy(Long companyId, Long departmentId, TicketPriority priority) {
+        return getPolicyMatrix(companyId).resolve(departmentId, priority);
+    }
+
+    @Override
+    public PolicyMatrix getPolicyMatrix(Long companyId) {
+        return matrixCache().get(companyId, () -> loadMatrix(companyId));
+    }
+
+    @Override
+    public void rebuildPolicyMatrix(Long companyId) {
+        synchronized (rebuildLock) {
+            matrixCache().put(companyId, loadMatrix(companyId));
         }
-        return slaPolicyRepository.findByCompanyIdAndAppliesToPriorityAndDepartmentId(companyId, priority, null);
     }
-}
\ No newline at end of file
+
+    private PolicyMatrix loadMatrix(Long companyId) {
+        return PolicyMatrix.build(slaPolicyRepository.findActiveSnapshotsByCompanyId(companyId));
+    }
+
+    private Cache matrixCache() {
+        return cacheManager.getCache(CacheUtil.SLA_POLICIES);
+    }
+}
@@ -0,0 +1,385 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.event.SlaBreachedEvent;
+import com.example.smartdeskbackend.event.SlaRiskEvent;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.service.SlaTimerService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Deadline heap tabanlı SLA zamanlayıcısı
+ * Her bekleyen ticket için kuyrukta bir risk ve bir ihlal kaydı bulunur; tek bir daemon thread en yakın
+ * kaydın zamanına kadar bekler. İptal ve deadline değişikliklerinde eski kayıtlar kuyruktan silinmez,
+ * nesil (sequence) uyuşmadığı için tetiklendiğinde atlanır.
+ * Olay dinleyicileri (bkz. SlaEventListener) zamanlayıcı thread'inde sırayla çalışır.
+ */
+@Service
+public class SlaTimerServiceImpl implements SlaTimerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlaTimerServiceImpl.class);
+
+    // Kuyruktaki geçersiz kayıt sayısı bu eşiği aşınca kuyruk yeniden kurulur
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+
+    // lock ile korunur
+    private final PriorityQueue<DeadlineTimer> queue = new PriorityQueue<>();
+    private final Map<Long, Pending> pending = new HashMap<>();
+    // Son reconcile'dan beri çıkarılan ticketlar -> çıkarılma sırası; eski DB okumasının onları geri eklemesini önler
+    private final Map<Long, Long> removed = new HashMap<>();
+    // İhlali tetiklenmiş ticket -> tetiklenen deadline; escalate edilmeyen (ör. escalation kapalı) ticketlar
+    // ihlalden sonra da bekleyen sayılır, aynı deadline reconcile'da yeniden kurulup tekrar tetiklenmemeli
+    private final Map<Long, LocalDateTime> fired = new HashMap<>();
+    private long sequence;
+
+    private volatile long lastLagMillis;
+    private volatile boolean running;
+    private Thread worker;
+
+    private Timer lagTimer;
+    private Counter breachCounter;
+    private Counter riskCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("sla.timer.queue.depth", this, SlaTimerServiceImpl::getQueueDepth)
+                .description("Bekleyen SLA deadline sayısı")
+                .register(meterRegistry);
+        Gauge.builder("sla.timer.lag", this, SlaTimerServiceImpl::getLastLagMillis)
+                .description("Son tetiklenen zamanlayıcının gecikmesi (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        lagTimer = Timer.builder("sla.timer.fire.lag")
+                .description("Zamanlayıcı tetiklenme gecikmesi")
+                .register(meterRegistry);
+        breachCounter = Counter.builder("sla.timer.fired").tag("type", "breach").register(meterRegistry);
+        riskCounter = Counter.builder("sla.timer.fired").tag("type", "risk").register(meterRegistry);
+    }
+
+    /**
+     * Bekleyen deadline'ları yükler ve zamanlayıcı thread'ini başlatır
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        lock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            reconcile();
+        } catch (Exception e) {
+            logger.error("Initial SLA timer load failed; reconciliation will retry", e);
+        }
+        logger.info("SLA timer started with {} pending deadlines", getQueueDepth());
+
+        worker = new Thread(this::runLoop, "sla-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // ============ SCHEDULING ============
+
+    @Override
+    public void schedule(Long ticketId, LocalDateTime deadline) {
+        if (ticketId == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            arm(ticketId, deadline, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel(Long ticketId) {
+        schedule(ticketId, null);
+    }
+
+    @Override
+    public int reconcile() {
+        long startSequence;
+        lock.lock();
+        try {
+            startSequence = sequence;
+        } finally {
+            lock.unlock();
+        }
+
+        Map<Long, LocalDateTime> expected = new HashMap<>();
+        for (Object[] row : ticketRepository.findPendingSlaDeadlineRows(Ticket.SLA_TIMER_EXCLUDED_STATUSES)) {
+            expected.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+
+        int corrected = 0;
+        lock.lock();
+        try {
+            // Okuma başladıktan sonra event ile değişen ticketlar event'teki değerde kalır
+            for (Map.Entry<Long, LocalDateTime> entry : expected.entrySet()) {
+                Long ticketId = entry.getKey();
+                Pending current = pending.get(ticketId);
+                Long removedAt = removed.get(ticketId);
+                if ((current != null && current.sequence > startSequence)
+                        || (removedAt != null && removedAt > startSequence)) {
+                    continue;
+                }
+                if (arm(ticketId, entry.getValue(), false)) {
+                    corrected++;
+                }
+            }
+            Iterator<Map.Entry<Long, Pending>> it = pending.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, Pending> entry = it.next();
+                if (entry.getValue().sequence <= startSequence && !expected.containsKey(entry.getKey())) {
+                    it.remove();
+                    corrected++;
+                }
+            }
+            removed.values().removeIf(removedAt -> removedAt <= startSequence);
+            fired.keySet().retainAll(expected.keySet());
+            compact(true);
+        } finally {
+            lock.unlock();
+        }
+        return corrected;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    /**
+     * lock tutulurken çağrılır
+     * @param lateRisk risk zamanı geçmiş olsa bile risk bildirimi yapılsın mı (canlı değişikliklerde evet,
+     *                 reconcile'da hayır - aksi halde her açılışta aynı bildirim tekrarlanır)
+     * @return zamanlayıcı durumu değiştiyse true
+     */
+    private boolean arm(Long ticketId, LocalDateTime deadline, boolean lateRisk) {
+        Pending current = pending.get(ticketId);
+        LocalDateTime firedDeadline = fired.get(ticketId);
+        if (firedDeadline != null) {
+            if (deadline != null && sameDeadline(deadline, firedDeadline)) {
+                return false;
+            }
+            fired.remove(ticketId);
+        }
+        if (deadline == null) {
+            if (current == null) {
+                return false;
+            }
+            pending.remove(ticketId);
+            removed.put(ticketId, ++sequence);
+            compact(false);
+            return true;
+        }
+        if (current != null && current.deadline.equals(deadline)) {
+            return false;
+        }
+
+        long seq = ++sequence;
+        pending.put(ticketId, new Pending(deadline, seq));
+        removed.remove(ticketId);
+
+        long now = System.currentTimeMillis();
+        long deadlineMillis = toMillis(deadline);
+        long riskMillis = deadlineMillis - TimeUnit.MINUTES.toMillis(businessProperties.getSla().getRiskWindowMinutes());
+        if (riskMillis > now || (lateRisk && deadlineMillis > now)) {
+            queue.add(new DeadlineTimer(ticketId, deadline, Math.max(riskMillis, now), Kind.RISK, seq));
+        }
+        queue.add(new DeadlineTimer(ticketId, deadline, Math.max(deadlineMillis, now), Kind.BREACH, seq));
+        compact(false);
+        wakeUp.signal();
+        return true;
+    }
+
+    /**
+     * Geçersiz kayıtları kuyruktan temizler (lock tutulurken)
+     */
+    private void compact(boolean force) {
+        if (!force && queue.size() <= pending.size() * 2 + COMPACT_THRESHOLD) {
+            return;
+        }
+        queue.removeIf(timer -> !isCurrent(timer));
+    }
+
+    private boolean isCurrent(DeadlineTimer timer) {
+        Pending current = pending.get(timer.ticketId);
+        return current != null && current.sequence == timer.sequence;
+    }
+
+    // ============ WORKER ============
+
+    private void runLoop() {
+        while (running) {
+            DeadlineTimer due = null;
+            lock.lock();
+            try {
+                DeadlineTimer head = queue.peek();
+                long now = System.currentTimeMillis();
+                if (head == null) {
+                    wakeUp.await();
+                } else if (head.fireAt > now) {
+                    wakeUp.await(head.fireAt - now, TimeUnit.MILLISECONDS);
+                } else {
+                    queue.poll();
+                    if (isCurrent(head)) {
+                        if (head.kind == Kind.BREACH) {
+                            pending.remove(head.ticketId);
+                            removed.put(head.ticketId, ++sequence);
+                            fired.put(head.ticketId, head.deadline);
+                        }
+                        due = head;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                lock.unlock();
+            }
+
+            if (due != null) {
+                fire(due);
+            }
+        }
+        logger.info("SLA timer stopped");
+    }
+
+    private void fire(DeadlineTimer timer) {
+        long lag = Math.max(0, System.currentTimeMillis() - timer.fireAt);
+        lastLagMillis = lag;
+        if (lagTimer != null) {
+            lagTimer.record(lag, TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            if (timer.kind == Kind.BREACH) {
+                eventPublisher.publishEvent(new SlaBreachedEvent(timer.ticketId, timer.deadline));
+                if (breachCounter != null) {
+                    breachCounter.increment();
+                }
+            } else {
+                eventPublisher.publishEvent(new SlaRiskEvent(timer.ticketId, timer.deadline));
+                if (riskCounter != null) {
+                    riskCounter.increment();
+                }
+            }
+        } catch (Exception e) {
+            logger.error("SLA {} callback failed for ticket {}", timer.kind, timer.ticketId, e);
+        }
+    }
+
+    /**
+     * DB kolon hassasiyeti event'teki değerden düşük olabilir; saniye düzeyinde karşılaştırılır
+     */
+    private static boolean sameDeadline(LocalDateTime a, LocalDateTime b) {
+        return a.truncatedTo(ChronoUnit.SECONDS).equals(b.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private enum Kind { RISK, BREACH }
+
+    private static final class Pending {
+        private final LocalDateTime deadline;
+        private final long sequence;
+
+        private Pending(LocalDateTime deadline, long sequence) {
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class DeadlineTimer implements Comparable<DeadlineTimer> {
+        private final Long ticketId;
+        private final LocalDateTime deadline;
+        private final long fireAt;
+        private final Kind kind;
+        private final long sequence;
+
+        private DeadlineTimer(Long ticketId, LocalDateTime deadline, long fireAt, Kind kind, long sequence) {
+            this.ticketId = ticketId;
+            this.deadline = deadline;
+            this.fireAt = fireAt;
+            this.kind = kind;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(DeadlineTimer other) {
+            int byTime = Long.compare(fireAt, other.fireAt);
+            // Aynı anda düşen risk kaydı ihlalden önce işlenir
+            return byTime != 0 ? byTime : kind.compareTo(other.kind);
+        }
+    }
+}
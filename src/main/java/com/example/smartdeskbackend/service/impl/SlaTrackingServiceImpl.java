@@ -1,13 +1,17 @@
 package com.example.smartdeskbackend.service.impl;
 
-import com.example.smartdeskbackend.entity.SlaPolicy;
+import com.example.smartdeskbackend.dto.response.sla.SlaPolicySnapshot;
 import com.example.smartdeskbackend.entity.SlaTracking;
 import com.example.smartdeskbackend.entity.Ticket;
 import com.example.smartdeskbackend.exception.ResourceNotFoundException;
+import com.example.smartdeskbackend.repository.SlaPolicyRepository;
 import com.example.smartdeskbackend.repository.SlaTrackingRepository;
 import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.service.BusinessCalendarService;
 import com.example.smartdeskbackend.service.SlaPolicyService;
 import com.example.smartdeskbackend.service.SlaTrackingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,56 +23,54 @@ import java.util.Optional;
 @Service
 public class SlaTrackingServiceImpl implements SlaTrackingService {
 
+    private static final Logger logger = LoggerFactory.getLogger(SlaTrackingServiceImpl.class);
+
     @Autowired
     private SlaTrackingRepository slaTrackingRepository;
     @Autowired
     private SlaPolicyService slaPolicyService;
     @Autowired
+    private SlaPolicyRepository slaPolicyRepository;
+    @Autowired
     private TicketRepository ticketRepository;
+    @Autowired
+    private BusinessCalendarService businessCalendarService;
 
+    /**
+     * Ticket başına bir kez, oluşturma akışında çağrılır; ticket_id unique olduğu için tekrar çağrı
+     * commit'te reddedilir. Politika matristen çözülür ve referans olarak bağlanır, tek INSERT çalışır
+     */
     @Override
     @Transactional
     public SlaTracking createSlaTracking(Ticket ticket) {
-        // Zaten bu bilete ait bir SLA takibi var mı kontrol et
-        if (slaTrackingRepository.findByTicketId(ticket.getId()).isPresent()) {
-            // throw new IllegalArgumentException("SLA tracking already exists for this ticket.");
-            // veya mevcut olanı dön
-            return slaTrackingRepository.findByTicketId(ticket.getId()).get();
-        }
-
         // Bilete uygun SLA politikasını bul
-        Optional<SlaPolicy> policyOpt = slaPolicyService.getApplicableSlaPolicy(
+        Optional<SlaPolicySnapshot> policyOpt = slaPolicyService.resolveSlaPolicy(
                 ticket.getCompany().getId(),
                 ticket.getDepartment() != null ? ticket.getDepartment().getId() : null,
                 ticket.getPriority()
         );
 
-        if (policyOpt.isPresent()) {
-            SlaPolicy policy = policyOpt.get();
-            SlaTracking tracking = new SlaTracking();
-            tracking.setTicket(ticket);
-            tracking.setSlaPolicy(policy);
-
-            // SLA teslim tarihini hesapla
-            // Bu hesaplama iş saatleri gibi daha karmaşık kuralları içerebilir.
-            // Şimdilik basitçe biletin oluşturulma zamanına çözüm süresi ekleniyor.
-            LocalDateTime deadline = ticket.getCreatedAt().plusHours(policy.getResolutionTimeHours());
-            // İlk yanıt için de ayrı bir deadline olabilir: ticket.getCreatedAt().plusHours(policy.getFirstResponseTimeHours());
-
-            tracking.setDeadline(deadline);
-            tracking.setFirstResponseViolated(false); // Başlangıçta ihlal yok
-            tracking.setResolutionViolated(false); // Başlangıçta ihlal yok
-            tracking.setEscalated(false);
-            tracking.setEscalationLevel(0);
-            tracking.setCreatedAt(LocalDateTime.now());
-            tracking.setUpdatedAt(LocalDateTime.now());
-            return slaTrackingRepository.save(tracking);
-        } else {
-            // Uygulanabilir bir SLA politikası bulunamadıysa ne yapılmalı?
-            // Hata fırlatılabilir veya SLA takibi oluşturulmayabilir.
-            System.out.println("No applicable SLA policy found for ticket: " + ticket.getTicketNumber());
+        if (policyOpt.isEmpty()) {
+            logger.debug("No applicable SLA policy found for ticket: {}", ticket.getTicketNumber());
             return null;
         }
+
+        SlaPolicySnapshot policy = policyOpt.get();
+        SlaTracking tracking = new SlaTracking();
+        tracking.setTicket(ticket);
+        tracking.setSlaPolicy(slaPolicyRepository.getReferenceById(policy.getId()));
+
+        // SLA teslim tarihini hesapla; iş saati politikalarında süre derlenmiş takvimden eklenir
+        LocalDateTime deadline = deadlineFor(ticket, policy.getResolutionTimeHours(), policy.isBusinessHoursOnly());
+
+        tracking.setDeadline(deadline);
+        tracking.setFirstResponseViolated(false); // Başlangıçta ihlal yok
+        tracking.setResolutionViolated(false); // Başlangıçta ihlal yok
+        tracking.setEscalated(false);
+        tracking.setEscalationLevel(0);
+        tracking.setCreatedAt(LocalDateTime.now());
+        tracking.setUpdatedAt(LocalDateTime.now());
+        return slaTrackingRepository.save(tracking);
     }
 
     @Override
@@ -124,7 +126,8 @@ public class SlaTrackingServiceImpl implements SlaTrackingService {
             if (!tracking.isFirstResponseViolated() && firstResponseDone) {
                 // İlk yanıt zamanı set edilmişse ve deadline geçmişse
                 if (ticket.getFirstResponseAt() != null && tracking.getSlaPolicy() != null) {
-                    LocalDateTime firstResponseDeadline = ticket.getCreatedAt().plusHours(tracking.getSlaPolicy().getFirstResponseTimeHours());
+                    LocalDateTime firstResponseDeadline = deadlineFor(ticket,
+                            tracking.getSlaPolicy().getFirstResponseTimeHours(), tracking.getSlaPolicy().isBusinessHoursOnly());
                     if (ticket.getFirstResponseAt().isAfter(firstResponseDeadline)) {
                         tracking.setFirstResponseViolated(true);
                     }
@@ -144,4 +147,13 @@ public class SlaTrackingServiceImpl implements SlaTrackingService {
             slaTrackingRepository.save(tracking);
         }
     }
-}
\ No newline at end of file
+
+    private LocalDateTime deadlineFor(Ticket ticket, int hours, boolean businessHoursOnly) {
+        if (!businessHoursOnly) {
+            return ticket.getCreatedAt().plusHours(hours);
+        }
+        return businessCalendarService.addBusinessHours(ticket.getCompany().getId(),
+                ticket.getDepartment() != null ? ticket.getDepartment().getId() : null,
+                ticket.getCreatedAt(), hours);
+    }
+}
@@ -66,7 +66,7 @@ public class SystemSettingServiceImpl implements SystemSettingService {
 
     @Override
     public Optional<SystemSetting> getSettingByKey(Long companyId, String key) {
-        // Multi-tenant filtreleme
+        // Multi-tenant filtreleme; sonuç Hibernate query/L2 cache'inden gelir (bkz. SystemSettingRepository)
         return settingRepository.findByCompanyIdAndSettingKey(companyId, key);
     }
 
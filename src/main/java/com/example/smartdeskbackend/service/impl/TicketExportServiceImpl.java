@@ -0,0 +1,109 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.dto.response.ticket.TicketResponse;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.service.TicketExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streaming ticket export implementation
+ * Forward-only sorgu akışı + buffered writer; her FLUSH_INTERVAL satırda çıktı flush edilir.
+ * Satırlar DTO projection olduğundan persistence context'te entity birikmez
+ */
+@Service
+@Transactional(readOnly = true)
+public class TicketExportServiceImpl implements TicketExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketExportServiceImpl.class);
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "id,ticketNumber,title,status,priority,category,source," +
+            "customerName,customerEmail,customerCompanyName,assignedAgentName,departmentName," +
+            "createdAt,lastActivityAt,slaDeadline,escalationLevel";
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public long exportTickets(Long companyId, LocalDateTime from, LocalDateTime to, Format format, OutputStream out)
+            throws IOException {
+        logger.info("Exporting tickets for company {} ({} - {}) as {}", companyId, from, to, format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<TicketResponse> rows = ticketRepository.streamResponsesForExport(companyId, from, to)) {
+            Iterator<TicketResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TicketResponse row = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        logger.info("Exported {} tickets for company {}", count, companyId);
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, TicketResponse row) throws IOException {
+        Object[] values = {
+                row.getId(), row.getTicketNumber(), row.getTitle(), row.getStatus(), row.getPriority(),
+                row.getCategory(), row.getSource(), row.getCustomerName(), row.getCustomerEmail(),
+                row.getCustomerCompanyName(), row.getAssignedAgentName(), row.getDepartmentName(),
+                row.getCreatedAt(), row.getLastActivityAt(), row.getSlaDeadline(), row.getEscalationLevel()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180: virgül, tırnak veya satır sonu içeren alanlar tırnak içine alınır
+     */
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
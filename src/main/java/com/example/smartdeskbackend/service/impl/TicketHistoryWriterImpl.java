@@ -0,0 +1,341 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.service.TicketHistoryWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction başına tamponlanan ticket history yazıcısı
+ *
+ * Senkron mod (varsayılan): kayıtlar transaction'a bağlı bir listede toplanır ve beforeCommit'te
+ * aynı transaction içinde tek JDBC batch insert ile yazılır; rollback olursa hiçbiri yazılmaz.
+ *
+ * Async mod (app.business.ticket.history-async=true): commit sonrası kayıtlar sınırlı bir kuyruğa
+ * eklenir ve tek bir worker thread tarafından batch'ler halinde yazılır. Kuyruk dolarsa kayıtlar
+ * taşma dosyasına (NDJSON) eklenir; taşma sürerken yeni kayıtlar da dosyaya gider ve worker kuyruk
+ * boşaldığında dosyayı sırayla geri yükler. Tek worker ve bu kural sayesinde ticket bazında sıra korunur.
+ */
+@Service
+public class TicketHistoryWriterImpl implements TicketHistoryWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketHistoryWriterImpl.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO ticket_history (field_name, old_value, new_value, change_type, ticket_id, user_id, " +
+            "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long MAX_RETRY_DELAY_MS = 30000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    // TransactionSynchronizationManager resource anahtarı
+    private final Object bufferKey = new Object();
+
+    private final Object overflowLock = new Object();
+
+    private boolean async;
+    private int batchSize;
+    private BlockingQueue<Entry> queue;
+    private Path overflowFile;
+    private boolean overflowing; // overflowLock altında
+    private volatile boolean running;
+    private Thread worker;
+
+    @PostConstruct
+    public void init() {
+        ApplicationConfig.BusinessProperties.TicketProperties properties = businessProperties.getTicket();
+        async = properties.isHistoryAsync();
+        batchSize = Math.max(1, properties.getHistoryBatchSize());
+        if (!async) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(Math.max(1, properties.getHistoryQueueCapacity()));
+        overflowFile = Paths.get(properties.getHistoryOverflowFile());
+        // Önceki çalışmadan kalan taşma kayıtları yeni kayıtlardan önce yazılmalı
+        overflowing = Files.exists(overflowFile);
+
+        running = true;
+        worker = new Thread(this::drainLoop, "SmartDesk-history-writer");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("Async ticket history writer started (queue capacity: {}, overflow file: {})",
+                properties.getHistoryQueueCapacity(), overflowFile);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            logger.warn("History writer did not finish within timeout; pending entries are kept in {}", overflowFile);
+        }
+    }
+
+    @Override
+    public void record(Long ticketId, String fieldName, String oldValue, String newValue, Long userId) {
+        recordAll(Collections.singletonList(Entry.fieldChanged(ticketId, fieldName, oldValue, newValue, userId)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void recordAll(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            dispatch(entries);
+            return;
+        }
+
+        List<Entry> buffer = (List<Entry>) TransactionSynchronizationManager.getResource(bufferKey);
+        if (buffer == null) {
+            buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(bufferKey, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new BufferFlush(buffer));
+        }
+        buffer.addAll(entries);
+    }
+
+    /**
+     * Transaction dışı (veya commit sonrası) yazma
+     */
+    private void dispatch(List<Entry> entries) {
+        if (async) {
+            enqueue(entries);
+        } else {
+            insert(entries);
+        }
+    }
+
+    private void insert(List<Entry> entries) {
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            args.add(new Object[]{
+                    entry.getFieldName(), entry.getOldValue(), entry.getNewValue(), entry.getChangeType(),
+                    entry.getTicketId(), entry.getUserId(), entry.getCreatedAt(), entry.getCreatedAt(), 0L
+            });
+        }
+        for (int from = 0; from < args.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args.subList(from, Math.min(from + batchSize, args.size())));
+        }
+    }
+
+    // ============ ASYNC MOD ============
+
+    private void enqueue(List<Entry> entries) {
+        synchronized (overflowLock) {
+            int index = 0;
+            if (!overflowing) {
+                while (index < entries.size() && queue.offer(entries.get(index))) {
+                    index++;
+                }
+                if (index < entries.size()) {
+                    logger.warn("History queue is full; spilling entries to {}", overflowFile);
+                    overflowing = true;
+                }
+            }
+            if (index < entries.size()) {
+                appendToOverflow(entries.subList(index, entries.size()));
+            }
+        }
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    replayOverflowIfIdle();
+                    continue;
+                }
+                List<Entry> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                insertWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("Unexpected error in history writer", e);
+            }
+        }
+        replayOverflowIfIdle();
+    }
+
+    /**
+     * Veritabanı hatasında batch sırayı bozmamak için bellekte tutulup tekrar denenir.
+     * Kapanış sırasında hâlâ yazılamıyorsa batch ve kuyruk taşma dosyasının başına alınır.
+     */
+    private void insertWithRetry(List<Entry> batch) throws InterruptedException {
+        long delay = 1000;
+        while (true) {
+            try {
+                insert(batch);
+                return;
+            } catch (Exception e) {
+                if (!running) {
+                    synchronized (overflowLock) {
+                        List<Entry> pending = new ArrayList<>(batch);
+                        queue.drainTo(pending);
+                        prependToOverflow(pending);
+                        overflowing = true;
+                    }
+                    logger.error("History writer stopping with database unavailable; {} entries kept in {}",
+                            batch.size(), overflowFile, e);
+                    return;
+                }
+                logger.warn("Failed to write {} history entries, retrying in {} ms: {}",
+                        batch.size(), delay, e.getMessage());
+                Thread.sleep(delay);
+                delay = Math.min(delay * 2, MAX_RETRY_DELAY_MS);
+            }
+        }
+    }
+
+    /**
+     * Kuyruk boşsa taşma dosyasını sırayla yazar ve normal moda döner
+     */
+    private void replayOverflowIfIdle() {
+        synchronized (overflowLock) {
+            if (!overflowing || !queue.isEmpty()) {
+                return;
+            }
+            try {
+                List<Entry> entries = readOverflow();
+                insert(entries);
+                Files.deleteIfExists(overflowFile);
+                overflowing = false;
+                if (!entries.isEmpty()) {
+                    logger.info("Replayed {} history entries from {}", entries.size(), overflowFile);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to replay history overflow file {}: {}", overflowFile, e.getMessage());
+            }
+        }
+    }
+
+    private List<Entry> readOverflow() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.exists(overflowFile)) {
+            return entries;
+        }
+        for (String line : Files.readAllLines(overflowFile, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                entries.add(objectMapper.readValue(line, Entry.class));
+            }
+        }
+        return entries;
+    }
+
+    private void appendToOverflow(List<Entry> entries) {
+        try {
+            writeOverflow(overflowFile, entries, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.error("Failed to write {} history entries to overflow file {}", entries.size(), overflowFile, e);
+        }
+    }
+
+    private void prependToOverflow(List<Entry> entries) {
+        try {
+            List<Entry> all = new ArrayList<>(entries);
+            all.addAll(readOverflow());
+            Path temp = overflowFile.resolveSibling(overflowFile.getFileName() + ".tmp");
+            writeOverflow(temp, all, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.move(temp, overflowFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.error("Failed to write {} history entries to overflow file {}", entries.size(), overflowFile, e);
+        }
+    }
+
+    private void writeOverflow(Path file, List<Entry> entries, StandardOpenOption... options) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, options)) {
+            for (Entry entry : entries) {
+                writer.write(objectMapper.writeValueAsString(entry));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Transaction'a bağlı tampon: senkron modda commit'ten önce, async modda commit'ten sonra yazılır
+     */
+    private class BufferFlush implements TransactionSynchronization {
+
+        private final List<Entry> buffer;
+
+        private BufferFlush(List<Entry> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(bufferKey);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(bufferKey, buffer);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!async && !buffer.isEmpty()) {
+                insert(buffer);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (async && !buffer.isEmpty()) {
+                enqueue(buffer);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(bufferKey);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.repository.TicketNumberSequenceRepository;
+import com.example.smartdeskbackend.service.TicketNumberService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blok ayıran ticket numarası üreticisi
+ *
+ * Her node ticket_number_sequences tablosundan günlük sayaçta blockSize'lık bir aralık ayırır
+ * (tek UPSERT, ayrı ve kısa transaction). Aralık içindeki numaralar AtomicLong ile kilitsiz dağıtılır,
+ * yani ticket başına veritabanı turu yoktur. Node yeniden başlarsa kullanılmamış numaralar boşluk
+ * olarak kalır; numaralar yine de benzersiz ve node içinde artandır.
+ */
+@Service
+public class TicketNumberServiceImpl implements TicketNumberService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketNumberServiceImpl.class);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Autowired
+    private TicketNumberSequenceRepository sequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    private volatile Block current;
+
+    private final Object refillLock = new Object();
+
+    @Override
+    public String nextTicketNumber() {
+        while (true) {
+            LocalDate today = LocalDate.now();
+            Block block = current;
+
+            if (block != null && block.date.equals(today)) {
+                long value = block.next.getAndIncrement();
+                if (value <= block.end) {
+                    return format(today, value);
+                }
+            }
+
+            synchronized (refillLock) {
+                // Başka bir thread bu arada yeni blok almış olabilir
+                if (current == block) {
+                    current = reserveBlock(today);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<String> nextTicketNumbers(int count) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+
+        // Paylaşılan bloğa dokunmadan, istenen boyutta ayrı bir aralık ayrılır
+        LocalDate today = LocalDate.now();
+        Block block = reserveBlock(today, count);
+
+        List<String> numbers = new ArrayList<>(count);
+        for (long value = block.next.get(); value <= block.end; value++) {
+            numbers.add(format(today, value));
+        }
+        return numbers;
+    }
+
+    private Block reserveBlock(LocalDate date) {
+        return reserveBlock(date, Math.max(1, businessProperties.getTicket().getNumberBlockSize()));
+    }
+
+    /**
+     * Veritabanından yeni bir aralık ayırır (çağıranın transaction'ından bağımsız)
+     */
+    private Block reserveBlock(LocalDate date, long blockSize) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Long end = tx.execute(status -> {
+            sequenceRepository.reserveBlock(date, blockSize);
+            return sequenceRepository.getLastValue(date);
+        });
+
+        long start = end - blockSize + 1;
+        logger.debug("Reserved ticket number block {}..{} for {}", start, end, date);
+        return new Block(date, start, end);
+    }
+
+    private String format(LocalDate date, long value) {
+        return "TK-" + date.format(DATE_FORMAT) + "-" + String.format("%04d", value);
+    }
+
+    /**
+     * Bir güne ait ayrılmış [start, end] aralığı
+     */
+    private static final class Block {
+        private final LocalDate date;
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(LocalDate date, long start, long end) {
+            this.date = date;
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
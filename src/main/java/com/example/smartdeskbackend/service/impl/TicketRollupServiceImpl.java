@@ -0,0 +1,253 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.repository.CompanyRepository;
+import com.example.smartdeskbackend.repository.TicketRepository;
+import com.example.smartdeskbackend.repository.TicketRollupDailyRepository;
+import com.example.smartdeskbackend.repository.TicketRollupHourlyRepository;
+import com.example.smartdeskbackend.service.LeaseLockService;
+import com.example.smartdeskbackend.service.TicketRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ticket rollup implementasyonu
+ * Bir saatlik dilim her zaman bütün olarak silinip tek INSERT ... SELECT ile yeniden yazılır; böylece işlem
+ * idempotent'tir ve kaçırılan event'ler bir sonraki rebuild'de kendiliğinden düzelir. Şirket başına tüm
+ * dilimler tek transaction'da yazılır.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TicketRollupServiceImpl implements TicketRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TicketRollupServiceImpl.class);
+
+    static final String HISTORY_LOCK_NAME = "ticket-rollup-history";
+
+    // Her gün sonrası uzatılır; node düşerse başka node kısa sürede devralabilir
+    private static final Duration HISTORY_LEASE = Duration.ofMinutes(10);
+
+    // Açık alt sınır (saatlik agent metriklerinde from == null)
+    private static final LocalDateTime OPEN_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private TicketRollupHourlyRepository hourlyRepository;
+
+    @Autowired
+    private TicketRollupDailyRepository dailyRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private LeaseLockService leaseLockService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // companyId -> yeniden hesaplanacak saat başlangıçları; set'ler yalnızca compute içinde değiştirilir
+    private final Map<Long, Set<LocalDateTime>> dirtyHours = new ConcurrentHashMap<>();
+
+    // Aynı dilimin flush ve backfill tarafından eşzamanlı yazılmasını önler
+    private final Object rebuildLock = new Object();
+
+    @Override
+    public void markDirty(Long companyId, LocalDateTime ticketCreatedAt) {
+        if (companyId == null || ticketCreatedAt == null) {
+            return;
+        }
+        LocalDateTime hour = ticketCreatedAt.truncatedTo(ChronoUnit.HOURS);
+        dirtyHours.compute(companyId, (id, hours) -> {
+            Set<LocalDateTime> result = hours != null ? hours : new HashSet<>();
+            result.add(hour);
+            return result;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flushDirty() {
+        int rebuilt = 0;
+        for (Long companyId : new ArrayList<>(dirtyHours.keySet())) {
+            Set<LocalDateTime> hours = dirtyHours.remove(companyId);
+            if (hours == null || hours.isEmpty()) {
+                continue;
+            }
+            try {
+                rebuildHours(companyId, new TreeSet<>(hours));
+                rebuilt += hours.size();
+            } catch (Exception e) {
+                // Bir sonraki flush'ta tekrar denenir
+                logger.error("Failed to rebuild {} rollup hours for company {}", hours.size(), companyId, e);
+                hours.forEach(hour -> markDirty(companyId, hour));
+            }
+        }
+        return rebuilt;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild(Long companyId, LocalDate from, LocalDate to) {
+        int days = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            TreeSet<LocalDateTime> hours = new TreeSet<>();
+            for (int hour = 0; hour < 24; hour++) {
+                hours.add(day.atTime(hour, 0));
+            }
+            rebuildHours(companyId, hours);
+            days++;
+        }
+        return days;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfill(LocalDate from, LocalDate to) {
+        logger.info("Backfilling ticket rollups from {} to {}", from, to);
+        int companyDays = 0;
+        for (Long companyId : companyRepository.findAllIds()) {
+            companyDays += rebuild(companyId, from, to);
+        }
+        logger.info("Ticket rollup backfill finished: {} company-days", companyDays);
+        return companyDays;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfillMissingHistory() {
+        if (!leaseLockService.tryAcquire(HISTORY_LOCK_NAME, HISTORY_LEASE)) {
+            logger.info("Ticket rollup history backfill is running on another node; skipping");
+            return -1;
+        }
+
+        try {
+            int companyDays = 0;
+            for (Long companyId : companyRepository.findAllIds()) {
+                List<LocalDate> days = new ArrayList<>(ticketRepository.findCreationDays(companyId));
+                if (days.isEmpty()) {
+                    continue;
+                }
+                // Yeniden eskiye yazılır: ilk gün en son yazıldığı için yarıda kalan iş sonraki açılışta tamamlanır
+                days.sort(Comparator.reverseOrder());
+                if (dailyRepository.existsByCompanyIdAndBucketDate(companyId, days.get(days.size() - 1))) {
+                    continue;
+                }
+
+                logger.info("Backfilling {} days of ticket rollup history for company {}", days.size(), companyId);
+                for (LocalDate day : days) {
+                    rebuild(companyId, day, day);
+                    companyDays++;
+                    if (!leaseLockService.tryAcquire(HISTORY_LOCK_NAME, HISTORY_LEASE)) {
+                        logger.warn("Lost ticket rollup history lock after {} company-days; stopping", companyDays);
+                        return companyDays;
+                    }
+                }
+            }
+            return companyDays;
+        } finally {
+            leaseLockService.release(HISTORY_LOCK_NAME);
+        }
+    }
+
+    /**
+     * Verilen saatleri ve kapsadıkları günleri tek transaction'da yeniden yazar
+     */
+    private void rebuildHours(Long companyId, TreeSet<LocalDateTime> hours) {
+        Set<LocalDate> days = new TreeSet<>();
+        hours.forEach(hour -> days.add(hour.toLocalDate()));
+
+        synchronized (rebuildLock) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (LocalDateTime hour : hours) {
+                    LocalDateTime end = hour.plusHours(1);
+                    hourlyRepository.deleteRange(companyId, hour, end);
+                    hourlyRepository.insertFromTickets(companyId, hour, end);
+                }
+                for (LocalDate day : days) {
+                    dailyRepository.deleteDay(companyId, day);
+                    dailyRepository.insertFromHourly(companyId, day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+                }
+            });
+        }
+    }
+
+    // ============ OKUMA ============
+
+    @Override
+    public List<Object[]> getDailyCreationTrend(Long companyId, LocalDate from) {
+        return dailyRepository.sumCreatedByDay(companyId, from);
+    }
+
+    @Override
+    public DaySummary getDaySummary(Long companyId, LocalDate date) {
+        List<Object[]> rows = dailyRepository.sumDay(companyId, date);
+        if (rows.isEmpty() || rows.get(0)[0] == null) {
+            return new DaySummary(0, 0);
+        }
+        return new DaySummary(((Number) rows.get(0)[0]).longValue(), ((Number) rows.get(0)[1]).longValue());
+    }
+
+    @Override
+    public Double getAverageCustomerSatisfaction(Long companyId, LocalDate from) {
+        List<Object[]> rows = dailyRepository.sumSatisfaction(companyId, from);
+        if (rows.isEmpty() || rows.get(0)[1] == null || ((Number) rows.get(0)[1]).longValue() == 0) {
+            return null;
+        }
+        return ((Number) rows.get(0)[0]).doubleValue() / ((Number) rows.get(0)[1]).longValue();
+    }
+
+    @Override
+    public List<Object[]> getMostUsedCategories(Long companyId) {
+        return dailyRepository.sumCreatedByCategory(companyId);
+    }
+
+    @Override
+    public List<Object[]> getAgentPerformance(Long companyId, LocalDate from, LocalDate to) {
+        return toAgentMetrics(dailyRepository.sumByAgent(companyId, from, to));
+    }
+
+    @Override
+    public List<Object[]> getAgentPerformance(Long companyId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from != null ? from.truncatedTo(ChronoUnit.HOURS) : OPEN_START;
+        LocalDateTime end = (to != null ? to : LocalDateTime.now()).truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        return toAgentMetrics(hourlyRepository.sumByAgent(companyId, start, end));
+    }
+
+    /**
+     * [agentId, firstName, lastName, created, resolved, resolutionMinutes] ->
+     * [agentId, firstName, lastName, ticketCount, avgResolutionHours, resolvedCount]
+     * Ortalama, önceki ham sorguyla aynı şekilde tüm ticketlar üzerinden (çözülmeyenler 0) alınır
+     */
+    private List<Object[]> toAgentMetrics(List<Object[]> rows) {
+        List<Object[]> metrics = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            long created = ((Number) row[3]).longValue();
+            long resolved = ((Number) row[4]).longValue();
+            long minutes = ((Number) row[5]).longValue();
+            double avgHours = created > 0 ? minutes / 60.0 / created : 0.0;
+            metrics.add(new Object[]{row[0], row[1], row[2], created, avgHours, resolved});
+        }
+        return metrics;
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.smartdeskbackend.service.impl;
 
-import com.example.smartdeskbackend.repository.TicketRepository;
-import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.ReferenceDataService;
+import com.example.smartdeskbackend.service.ReferenceDataService.TicketSummary;
+import com.example.smartdeskbackend.service.ReferenceDataService.UserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,10 +12,7 @@ import org.springframework.stereotype.Service;
 public class TicketSecurityService {
 
     @Autowired
-    private TicketRepository ticketRepository;
-
-    @Autowired
-    private UserRepository userRepository;
+    private ReferenceDataService referenceDataService;
 
     /**
      * Kullanıcının ticket'a erişim hakkı olup olmadığını kontrol eder
@@ -29,28 +27,27 @@ public class TicketSecurityService {
                 return true;
             }
 
-            return ticketRepository.findById(ticketId)
-                    .flatMap(ticket -> userRepository.findById(userId)
-                            .map(user -> {
-                                // Aynı şirket kontrolü
-                                if (!ticket.getCompany().getId().equals(user.getCompany().getId())) {
-                                    return false;
-                                }
+            // Ticket ve kullanıcı özetleri cache'ten okunur (istek başına DB sorgusu yok)
+            TicketSummary ticket = referenceDataService.getTicketSummary(ticketId);
+            UserPrincipal user = referenceDataService.getUserPrincipal(userId);
 
-                                // Role-based erişim kontrolü
-                                switch (user.getRole()) {
-                                    case MANAGER:
-                                    case AGENT:
-                                        return true;
-                                    case CUSTOMER:
-                                        // Customer sadece kendi ticket'larını görebilir
-                                        return ticket.getCustomer() != null &&
-                                                ticket.getCustomer().getEmail().equals(user.getEmail());
-                                    default:
-                                        return false;
-                                }
-                            }))
-                    .orElse(false);
+            // Aynı şirket kontrolü
+            if (!ticket.getCompanyId().equals(user.getCompanyId())) {
+                return false;
+            }
+
+            // Role-based erişim kontrolü
+            switch (user.getRole()) {
+                case MANAGER:
+                case AGENT:
+                    return true;
+                case CUSTOMER:
+                    // Customer sadece kendi ticket'larını görebilir
+                    return ticket.getCustomerEmail() != null &&
+                            ticket.getCustomerEmail().equals(user.getEmail());
+                default:
+                    return false;
+            }
         } catch (Exception e) {
             return false;
         }
@@ -61,11 +58,9 @@ public class TicketSecurityService {
      */
     public boolean isTicketCustomer(Long ticketId, Long userId) {
         try {
-            return ticketRepository.findById(ticketId)
-                    .flatMap(ticket -> userRepository.findById(userId)
-                            .map(user -> ticket.getCustomer() != null &&
-                                    ticket.getCustomer().getEmail().equals(user.getEmail())))
-                    .orElse(false);
+            TicketSummary ticket = referenceDataService.getTicketSummary(ticketId);
+            UserPrincipal user = referenceDataService.getUserPrincipal(userId);
+            return ticket.getCustomerEmail() != null && ticket.getCustomerEmail().equals(user.getEmail());
         } catch (Exception e) {
             return false;
         }
@@ -1,28 +1,64 @@
 package com.example.smartdeskbackend.service.impl;
 
+import com.example.smartdeskbackend.config.ApplicationConfig;
 import com.example.smartdeskbackend.controller.WebSocketMessageController;
 import com.example.smartdeskbackend.dto.NotificationDTO;
 import com.example.smartdeskbackend.dto.request.ticket.*;
 import com.example.smartdeskbackend.dto.response.ticket.*;
 import com.example.smartdeskbackend.entity.*;
 import com.example.smartdeskbackend.enums.*;
+import com.example.smartdeskbackend.event.AgentLoadChangedEvent;
+import com.example.smartdeskbackend.event.TicketCreatedEvent;
+import com.example.smartdeskbackend.event.TicketRollupInvalidatedEvent;
+import com.example.smartdeskbackend.event.TicketSlaChangedEvent;
+import com.example.smartdeskbackend.event.TicketStateChangedEvent;
+import com.example.smartdeskbackend.event.TicketsBulkImportedEvent;
+import com.example.smartdeskbackend.event.TicketsBulkUpdatedEvent;
 import com.example.smartdeskbackend.exception.*;
 import com.example.smartdeskbackend.repository.*;
+import com.example.smartdeskbackend.service.AgentLoadService;
+import com.example.smartdeskbackend.service.BusinessCalendarService;
+import com.example.smartdeskbackend.service.TicketRollupService;
 import com.example.smartdeskbackend.service.TicketService;
 import com.example.smartdeskbackend.service.FileService;
 import com.example.smartdeskbackend.service.NotificationService;
+import com.example.smartdeskbackend.service.TicketHistoryWriter;
+import com.example.smartdeskbackend.service.TicketNumberService;
+import com.example.smartdeskbackend.service.ReferenceDataService;
 import com.example.smartdeskbackend.integration.email.EmailService;
+import com.example.smartdeskbackend.util.CacheUtil;
+import com.example.smartdeskbackend.util.TicketCursor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +71,20 @@ public class TicketServiceImpl implements TicketService {
 
     private static final Logger logger = LoggerFactory.getLogger(TicketServiceImpl.class);
 
+    // Cursor modunda tek istekte dönebilecek en fazla satır
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // Ticket detay section'ları (comments, attachments, history) için varsayılan sayfa boyutu
+    private static final int DEFAULT_SECTION_PAGE_SIZE = 20;
+
+    // Toplu içe aktarma: IDENTITY id'ler Hibernate insert batching'i devre dışı bıraktığı için
+    // ticket satırları doğrudan JDBC batch ile yazılır (rewriteBatchedStatements ile çok satırlı INSERT)
+    private static final String BULK_TICKET_INSERT_SQL =
+            "INSERT INTO tickets (title, description, priority, status, category, source, ticket_number, " +
+            "sla_deadline, tags, is_internal, escalation_level, last_activity_at, unread_message_count, " +
+            "chat_enabled, company_id, customer_id, creator_user_id, department_id, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     @Autowired
     private TicketRepository ticketRepository;
 
@@ -68,21 +118,72 @@ public class TicketServiceImpl implements TicketService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private TicketNumberService ticketNumberService;
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private TicketHistoryWriter historyWriter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ApplicationConfig.BusinessProperties businessProperties;
+
+    @Autowired
+    private BusinessCalendarService businessCalendarService;
+
+    @Autowired
+    private AgentLoadService agentLoadService;
+
     // WebSocket Controller enjekte edildi
     @Autowired
     private WebSocketMessageController webSocketMessageController;
 
+    // Detay section'larını paralel yüklemek için
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TicketRollupService ticketRollupService;
+
     // ============ TEMEL CRUD OPERASYONLARI ============
 
     @Override
     @Transactional(readOnly = true)
     public TicketDetailResponse getTicketById(Long id) {
-        logger.debug("Getting ticket by id: {}", id);
+        return getTicketById(id, TicketDetailResponse.ALL_SECTIONS, PageRequest.of(0, DEFAULT_SECTION_PAGE_SIZE));
+    }
 
-        Ticket ticket = ticketRepository.findById(id)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TicketDetailResponse getTicketById(Long id, Set<String> include, Pageable sectionPageable) {
+        logger.debug("Getting ticket by id: {} with sections: {}", id, include);
+
+        // Çekirdek alanlar tek fetch-join sorgusu; section'lar kendi read-only sorgularında yüklenir,
+        // bu yüzden bekleme süresince request thread'i bağlantı tutmaz
+        Ticket ticket = ticketRepository.findDetailById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket not found with id: " + id));
 
-        return mapToDetailResponse(ticket);
+        TicketDetailResponse response = mapToCoreResponse(ticket);
+        loadSections(response, include, sectionPageable);
+        return response;
     }
 
     @Override
@@ -102,10 +203,10 @@ public class TicketServiceImpl implements TicketService {
         logger.debug("Getting ALL tickets for SUPER_ADMIN");
 
         // Ensure proper sorting for SUPER_ADMIN - priority to PENDING_ADMIN and recent tickets
-        Page<Ticket> tickets = ticketRepository.findAllWithCustomSorting(pageable);
+        Page<TicketResponse> tickets = ticketRepository.findAllResponsesWithCustomSorting(pageable);
         logger.debug("Found {} total tickets for SUPER_ADMIN", tickets.getTotalElements());
-        
-        return tickets.map(this::mapToResponse);
+
+        return tickets;
     }
 
     @Override
@@ -113,8 +214,7 @@ public class TicketServiceImpl implements TicketService {
     public Page<TicketResponse> getTicketsByCompany(Long companyId, Pageable pageable) {
         logger.debug("Getting tickets by company: {}", companyId);
 
-        Page<Ticket> tickets = ticketRepository.findByCompanyId(companyId, pageable);
-        return tickets.map(this::mapToResponse);
+        return ticketRepository.findResponsesByCompanyId(companyId, pageable);
     }
 
     @Override
@@ -122,8 +222,7 @@ public class TicketServiceImpl implements TicketService {
     public Page<TicketResponse> getTicketsByCustomer(Long customerId, Pageable pageable) {
         logger.debug("Getting tickets by customer: {}", customerId);
 
-        Page<Ticket> tickets = ticketRepository.findByCustomerId(customerId, pageable);
-        return tickets.map(this::mapToResponse);
+        return ticketRepository.findResponsesByCustomerId(customerId, pageable);
     }
 
     @Override
@@ -131,8 +230,7 @@ public class TicketServiceImpl implements TicketService {
     public Page<TicketResponse> getTicketsByAgent(Long agentId, Pageable pageable) {
         logger.debug("Getting tickets by agent: {}", agentId);
 
-        Page<Ticket> tickets = ticketRepository.findByAssignedAgentId(agentId, pageable);
-        return tickets.map(this::mapToResponse);
+        return ticketRepository.findResponsesByAssignedAgentId(agentId, pageable);
     }
 
     @Override
@@ -160,11 +258,11 @@ public class TicketServiceImpl implements TicketService {
             logger.info("🎫 Found customer ID: {} for user ID: {}", customer.getId(), userId);
 
             // Customer'ın ticket'larını getir
-            Page<Ticket> tickets = ticketRepository.findByCustomerId(customer.getId(), pageable);
-            
+            Page<TicketResponse> tickets = ticketRepository.findResponsesByCustomerId(customer.getId(), pageable);
+
             logger.info("🎫 Found {} tickets for customer ID: {}", tickets.getTotalElements(), customer.getId());
-            
-            return tickets.map(this::mapToResponse);
+
+            return tickets;
 
         } catch (Exception e) {
             logger.error("❌ Error getting tickets by userId: {}", userId, e);
@@ -179,8 +277,7 @@ public class TicketServiceImpl implements TicketService {
     public Page<TicketResponse> searchTickets(Long companyId, String searchTerm, Pageable pageable) {
         logger.debug("Searching tickets in company: {} with term: {}", companyId, searchTerm);
 
-        Page<Ticket> tickets = ticketRepository.searchTickets(companyId, searchTerm, pageable);
-        return tickets.map(this::mapToResponse);
+        return ticketRepository.searchTicketResponses(companyId, searchTerm, pageable);
     }
 
     @Override
@@ -190,9 +287,8 @@ public class TicketServiceImpl implements TicketService {
                                                       Long agentId, Long customerId, Pageable pageable) {
         logger.debug("Getting tickets with filters for company: {}", companyId);
 
-        Page<Ticket> tickets = ticketRepository.findTicketsWithFilters(
+        return ticketRepository.findTicketResponsesWithFilters(
                 companyId, status, priority, departmentId, agentId, customerId, pageable);
-        return tickets.map(this::mapToResponse);
     }
 
     @Override
@@ -200,8 +296,7 @@ public class TicketServiceImpl implements TicketService {
     public Page<TicketResponse> getActiveTickets(Long companyId, Pageable pageable) {
         logger.debug("Getting active tickets for company: {}", companyId);
 
-        Page<Ticket> tickets = ticketRepository.findActiveTickets(companyId, pageable);
-        return tickets.map(this::mapToResponse);
+        return ticketRepository.findActiveTicketResponses(companyId, pageable);
     }
 
     @Override
@@ -209,10 +304,7 @@ public class TicketServiceImpl implements TicketService {
     public List<TicketResponse> getUnassignedTickets(Long companyId) {
         logger.debug("Getting unassigned tickets for company: {}", companyId);
 
-        List<Ticket> tickets = ticketRepository.findUnassignedTickets(companyId);
-        return tickets.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return ticketRepository.findUnassignedTicketResponses(companyId);
     }
 
     @Override
@@ -220,13 +312,68 @@ public class TicketServiceImpl implements TicketService {
     public List<TicketResponse> getTicketsAtSlaRisk(Long companyId) {
         logger.debug("Getting tickets at SLA risk for company: {}", companyId);
 
-        // 2 saat içinde SLA'sı dolan ticketları risky kabul et
-        LocalDateTime riskTime = LocalDateTime.now().plusHours(2);
-        List<Ticket> tickets = ticketRepository.findTicketsAtRiskOfSlaViolation(companyId, riskTime);
+        // Risk penceresi (varsayılan 2 saat) içinde SLA'sı dolan ticketları risky kabul et
+        LocalDateTime riskTime = slaRiskHorizon(companyId, LocalDateTime.now());
+        return ticketRepository.findTicketResponsesAtRiskOfSlaViolation(companyId, riskTime);
+    }
 
-        return tickets.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    // ============ KEYSET (CURSOR) PAGINATION ============
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TicketResponse> getTicketsByCompanyAfter(Long companyId, String after, int size) {
+        logger.debug("Getting tickets by company with cursor: {}", companyId);
+
+        TicketCursor cursor = TicketCursor.decode(after);
+        return ticketRepository.findByCompanyIdSeek(
+                companyId, cursor.getCreatedAt(), cursor.getId(), cursorPage(size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TicketResponse> getTicketsByAgentAfter(Long agentId, String after, int size) {
+        logger.debug("Getting tickets by agent with cursor: {}", agentId);
+
+        TicketCursor cursor = TicketCursor.decode(after);
+        return ticketRepository.findByAssignedAgentIdSeek(
+                agentId, cursor.getCreatedAt(), cursor.getId(), cursorPage(size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TicketResponse> getActiveTicketsAfter(Long companyId, String after, int size) {
+        logger.debug("Getting active tickets with cursor for company: {}", companyId);
+
+        TicketCursor cursor = TicketCursor.decode(after);
+        if (!cursor.isFirstPage() && cursor.getPriority() == null) {
+            throw new BusinessLogicException("Invalid pagination cursor");
+        }
+        return ticketRepository.findActiveTicketsSeek(
+                companyId, cursor.getPriority(), cursor.getCreatedAt(), cursor.getId(), cursorPage(size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TicketResponse> getTicketsWithFiltersAfter(Long companyId, TicketStatus status,
+                                                            TicketPriority priority, Long departmentId,
+                                                            Long agentId, Long customerId,
+                                                            String after, int size) {
+        logger.debug("Getting tickets with filters and cursor for company: {}", companyId);
+
+        TicketCursor cursor = TicketCursor.decode(after);
+        return ticketRepository.findTicketsWithFiltersSeek(
+                companyId, status, priority, departmentId, agentId, customerId,
+                cursor.getCreatedAt(), cursor.getId(), cursorPage(size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TicketResponse> getAllTicketsAfter(String after, int size) {
+        logger.debug("Getting ALL tickets with cursor for SUPER_ADMIN");
+
+        TicketCursor cursor = TicketCursor.decode(after);
+        return ticketRepository.findAllSeek(
+                cursor.getCreatedAt(), cursor.getId(), cursorPage(size));
     }
 
     // ============ TİCKET OLUŞTURMA ve GÜNCELLEME ============
@@ -235,9 +382,9 @@ public class TicketServiceImpl implements TicketService {
     public TicketDetailResponse createTicket(CreateTicketRequest request) {
         logger.info("Creating new ticket: {}", request.getTitle());
 
-        // Company kontrolü
-        Company company = companyRepository.findById(request.getCompanyId())
-                .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + request.getCompanyId()));
+        // Company kontrolü (referans cache'inden; entity yerine proxy bağlanır, ek SELECT yapılmaz)
+        Company company = companyRepository.getReferenceById(
+                referenceDataService.getCompany(request.getCompanyId()).getId());
 
         // Customer kontrolü (eğer belirtilmişse)
         Customer customer = null;
@@ -267,8 +414,8 @@ public class TicketServiceImpl implements TicketService {
         // Department kontrolü (eğer belirtilmişse)
         Department department = null;
         if (request.getDepartmentId() != null) {
-            department = departmentRepository.findById(request.getDepartmentId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + request.getDepartmentId()));
+            department = departmentRepository.getReferenceById(
+                    referenceDataService.getDepartment(request.getDepartmentId()).getId());
         }
 
         // Yeni ticket oluştur
@@ -287,47 +434,36 @@ public class TicketServiceImpl implements TicketService {
         ticket.setCreatorUser(creatorUser);
         ticket.setDepartment(department);
 
-        // Ticket numarası oluştur
-        ticket.generateTicketNumber();
+        // Ticket numarası oluştur (blok ayıran sayaç, çakışmasız)
+        ticket.setTicketNumber(ticketNumberService.nextTicketNumber());
+
+        // createdAt insert'ten önce belirlenir, böylece SLA deadline ilk INSERT'e dahil olur (tek yazma)
+        ticket.setCreatedAt(LocalDateTime.now());
+        ticket.setSlaDeadline(defaultSlaDeadline(company.getId(), department != null ? department.getId() : null,
+                ticket.getCreatedAt()));
 
-        // First save to get createdAt populated
-        ticket = ticketRepository.save(ticket);
-        
-        // SLA deadline hesapla (default 24 saat) - save'den sonra çağır
-        ticket.calculateSlaDeadline(24);
-        
-        // Update with SLA deadline
         ticket = ticketRepository.save(ticket);
 
         // History kaydı oluştur
         createHistoryRecord(ticket, "status", "", "NEW", creatorUser);
 
-        // WebSocket bildirimi gönder - Yeni ticket oluşturuldu
-        sendTicketCreationNotifications(ticket);
-
-        // Email notification gönder
-        try {
-            emailService.sendTicketNotification(ticket, "CREATED");
-        } catch (Exception e) {
-            logger.warn("Failed to send ticket creation notification", e);
-        }
-
-        // Real-time notification gönder - MANAGER ve AGENT'lara
-        try {
-            String customerName = ticket.getCustomer() != null ? 
-                ticket.getCustomer().getFirstName() + " " + ticket.getCustomer().getLastName() : "Bilinmeyen Müşteri";
-            notificationService.notifyNewTicketCreated(
-                ticket.getId(), 
-                ticket.getCompany().getId(), 
-                ticket.getTicketNumber(), 
-                customerName
-            );
-        } catch (Exception e) {
-            logger.warn("Failed to send ticket creation notifications to users", e);
-        }
+        // Bildirim, email ve WebSocket yan etkileri commit sonrası async listener'larda çalışır
+        // (bkz. NotificationEventListener, TicketEventListener)
+        String customerName = customer != null ? customer.getFullName() : "Bilinmeyen Müşteri";
+        eventPublisher.publishEvent(new TicketCreatedEvent(
+                ticket.getId(),
+                ticket.getTicketNumber(),
+                company.getId(),
+                department != null ? department.getId() : null,
+                creatorUser != null ? creatorUser.getId() : null,
+                customerName,
+                ticket.getPriority().getCode(),
+                ticket.getStatus().getCode(),
+                ticket.getCreatedAt()
+        ));
 
         logger.info("Ticket created successfully with id: {}", ticket.getId());
-        return mapToDetailResponse(ticket);
+        return mapToCoreResponse(ticket);
     }
 
     @Override
@@ -383,7 +519,240 @@ public class TicketServiceImpl implements TicketService {
         sendTicketUpdateNotifications(ticket);
 
         logger.info("Ticket updated successfully: {}", id);
-        return mapToDetailResponse(ticket);
+        return mapToCoreResponse(ticket);
+    }
+
+    // ============ TOPLU İÇE AKTARMA ============
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkTicketImportResponse createTicketsBulk(List<CreateTicketRequest> requests, Long restrictToCompanyId,
+                                                      Long importedByUserId) {
+        logger.info("Bulk importing {} tickets", requests.size());
+
+        BulkTicketImportResponse response = new BulkTicketImportResponse();
+        response.setTotalRows(requests.size());
+
+        int chunkSize = Math.max(1, businessProperties.getTicket().getBulkChunkSize());
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Map<Long, Integer> createdByCompany = new LinkedHashMap<>();
+
+        // Her chunk kendi transaction'ında yazılır; bir chunk'ın hatası öncekileri geri almaz
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, requests.size());
+            List<BulkTicketRow> rows = resolveBulkRows(requests.subList(from, to), from + 1, restrictToCompanyId, response);
+            if (rows.isEmpty()) {
+                continue;
+            }
+
+            try {
+                List<String> numbers = ticketNumberService.nextTicketNumbers(rows.size());
+                Map<String, Long> ids = tx.execute(status -> insertBulkRows(rows, numbers));
+
+                for (int i = 0; i < rows.size(); i++) {
+                    BulkTicketRow row = rows.get(i);
+                    response.addCreated(row.rowNumber, ids.get(numbers.get(i)), numbers.get(i));
+                    createdByCompany.merge(row.request.getCompanyId(), 1, Integer::sum);
+                }
+            } catch (Exception e) {
+                logger.error("Bulk import chunk starting at row {} failed", from + 1, e);
+                for (BulkTicketRow row : rows) {
+                    response.addError(row.rowNumber, "Batch insert failed: " + e.getMessage());
+                }
+            }
+        }
+
+        // Ticket başına bildirim yerine tek özet event'i (bkz. NotificationEventListener)
+        if (response.getCreatedCount() > 0) {
+            eventPublisher.publishEvent(new TicketsBulkImportedEvent(
+                    createdByCompany, response.getFailedCount(), importedByUserId, LocalDateTime.now()));
+        }
+
+        logger.info("Bulk import finished: {} created, {} failed", response.getCreatedCount(), response.getFailedCount());
+        return response;
+    }
+
+    /**
+     * Chunk'ı doğrular ve referansları (company, customer, creator, department) toplu sorgularla çözer
+     * Hatalı satırlar response'a yazılır, geçerli satırlar döner
+     */
+    private List<BulkTicketRow> resolveBulkRows(List<CreateTicketRequest> chunk, int firstRowNumber,
+                                                Long restrictToCompanyId, BulkTicketImportResponse response) {
+        Set<Long> companyIds = new HashSet<>();
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> departmentIds = new HashSet<>();
+        for (CreateTicketRequest request : chunk) {
+            if (request == null) continue;
+            if (request.getCompanyId() != null) companyIds.add(request.getCompanyId());
+            if (request.getCustomerId() != null) customerIds.add(request.getCustomerId());
+            if (request.getCreatorUserId() != null) userIds.add(request.getCreatorUserId());
+            if (request.getDepartmentId() != null) departmentIds.add(request.getDepartmentId());
+        }
+
+        Set<Long> companies = companyRepository.findAllById(companyIds).stream()
+                .map(Company::getId).collect(Collectors.toSet());
+        // Şirketi olmayan kayıtlar null değerle tutulur ve satır hatası olarak raporlanır
+        Map<Long, Long> customerCompany = new HashMap<>();
+        customerRepository.findAllById(customerIds).forEach(c ->
+                customerCompany.put(c.getId(), c.getCompany() != null ? c.getCompany().getId() : null));
+        Set<Long> users = userRepository.findAllById(userIds).stream()
+                .map(User::getId).collect(Collectors.toSet());
+        Map<Long, Long> departmentCompany = new HashMap<>();
+        departmentRepository.findAllById(departmentIds).forEach(d ->
+                departmentCompany.put(d.getId(), d.getCompany() != null ? d.getCompany().getId() : null));
+
+        List<BulkTicketRow> rows = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            int rowNumber = firstRowNumber + i;
+            CreateTicketRequest request = chunk.get(i);
+            String error = validateBulkRow(request, restrictToCompanyId, companies, customerCompany, users, departmentCompany);
+            if (error != null) {
+                response.addError(rowNumber, error);
+            } else {
+                rows.add(new BulkTicketRow(rowNumber, request));
+            }
+        }
+        return rows;
+    }
+
+    private String validateBulkRow(CreateTicketRequest request, Long restrictToCompanyId, Set<Long> companies,
+                                   Map<Long, Long> customerCompany, Set<Long> users, Map<Long, Long> departmentCompany) {
+        if (request == null) {
+            return "Empty row";
+        }
+
+        Set<ConstraintViolation<CreateTicketRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        Long companyId = request.getCompanyId();
+        if (restrictToCompanyId != null && !restrictToCompanyId.equals(companyId)) {
+            return "Access denied to create ticket in company: " + companyId;
+        }
+        if (!companies.contains(companyId)) {
+            return "Company not found with id: " + companyId;
+        }
+        if (request.getCustomerId() != null) {
+            if (!customerCompany.containsKey(request.getCustomerId())) {
+                return "Customer not found with id: " + request.getCustomerId();
+            }
+            Long owner = customerCompany.get(request.getCustomerId());
+            if (owner == null) {
+                return "Customer " + request.getCustomerId() + " has no company";
+            }
+            if (!owner.equals(companyId)) {
+                return "Customer " + request.getCustomerId() + " does not belong to company " + companyId;
+            }
+        }
+        if (request.getCreatorUserId() != null && !users.contains(request.getCreatorUserId())) {
+            return "User not found with id: " + request.getCreatorUserId();
+        }
+        if (request.getDepartmentId() != null) {
+            if (!departmentCompany.containsKey(request.getDepartmentId())) {
+                return "Department not found with id: " + request.getDepartmentId();
+            }
+            Long owner = departmentCompany.get(request.getDepartmentId());
+            if (owner == null) {
+                return "Department " + request.getDepartmentId() + " has no company";
+            }
+            if (!owner.equals(companyId)) {
+                return "Department " + request.getDepartmentId() + " does not belong to company " + companyId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ticket ve ilk history satırlarını JDBC batch ile yazar
+     * @return ticketNumber -> id
+     */
+    private Map<String, Long> insertBulkRows(List<BulkTicketRow> rows, List<String> numbers) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> ticketArgs = new ArrayList<>(rows.size());
+        List<LocalDateTime> slaDeadlines = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            CreateTicketRequest request = rows.get(i).request;
+            LocalDateTime slaDeadline = defaultSlaDeadline(request.getCompanyId(), request.getDepartmentId(), now);
+            slaDeadlines.add(slaDeadline);
+            TicketPriority priority = request.getPriority() != null ? request.getPriority() : TicketPriority.NORMAL;
+            TicketSource source = request.getSource() != null ? request.getSource() : TicketSource.WEB_FORM;
+            ticketArgs.add(new Object[]{
+                    request.getTitle(),
+                    request.getDescription(),
+                    priority.name(),
+                    TicketStatus.NEW.name(),
+                    request.getCategory() != null ? request.getCategory().name() : null,
+                    source.name(),
+                    numbers.get(i),
+                    slaDeadline,
+                    request.getTags(),
+                    request.getIsInternal() != null ? request.getIsInternal() : false,
+                    0,
+                    now,
+                    0,
+                    true,
+                    request.getCompanyId(),
+                    request.getCustomerId(),
+                    request.getCreatorUserId(),
+                    request.getDepartmentId(),
+                    now,
+                    now,
+                    0L
+            });
+        }
+        jdbcTemplate.batchUpdate(BULK_TICKET_INSERT_SQL, ticketArgs);
+
+        // IDENTITY değerleri batch'ten dönmediği için benzersiz ticket numarasıyla tek sorguda çözülür
+        Map<String, Long> ids = new HashMap<>();
+        for (Object[] row : ticketRepository.findIdsByTicketNumbers(numbers)) {
+            ids.put((String) row[1], (Long) row[0]);
+        }
+
+        List<TicketHistoryWriter.Entry> history = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            history.add(TicketHistoryWriter.Entry.fieldChanged(ids.get(numbers.get(i)), "status", "",
+                    TicketStatus.NEW.getCode(), rows.get(i).request.getCreatorUserId()));
+        }
+        historyWriter.recordAll(history);
+
+        List<TicketStateChangedEvent.Change> changes = new ArrayList<>(rows.size());
+        for (BulkTicketRow row : rows) {
+            TicketPriority priority = row.request.getPriority() != null ? row.request.getPriority() : TicketPriority.NORMAL;
+            changes.add(new TicketStateChangedEvent.Change(row.request.getCompanyId(), null,
+                    new TicketStateChangedEvent.State(TicketStatus.NEW, priority, false)));
+        }
+        eventPublisher.publishEvent(new TicketStateChangedEvent(changes));
+        List<TicketRollupInvalidatedEvent.Entry> rollupEntries = rows.stream()
+                .map(row -> row.request.getCompanyId()).distinct()
+                .map(companyId -> new TicketRollupInvalidatedEvent.Entry(companyId, now))
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(new TicketRollupInvalidatedEvent(rollupEntries));
+        List<TicketSlaChangedEvent.Entry> slaEntries = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            slaEntries.add(new TicketSlaChangedEvent.Entry(ids.get(numbers.get(i)), slaDeadlines.get(i)));
+        }
+        eventPublisher.publishEvent(new TicketSlaChangedEvent(slaEntries));
+
+        return ids;
+    }
+
+    /**
+     * Doğrulanmış içe aktarma satırı
+     */
+    private static final class BulkTicketRow {
+        private final int rowNumber;
+        private final CreateTicketRequest request;
+
+        private BulkTicketRow(int rowNumber, CreateTicketRequest request) {
+            this.rowNumber = rowNumber;
+            this.request = request;
+        }
     }
 
     // ============ TİCKET DURUM YÖNETİMİ ============
@@ -420,7 +789,7 @@ public class TicketServiceImpl implements TicketService {
         }
 
         logger.info("Ticket status changed successfully: {} -> {}", oldStatus, newStatus);
-        return mapToDetailResponse(ticket);
+        return mapToCoreResponse(ticket);
     }
 
     @Override
@@ -459,7 +828,7 @@ public class TicketServiceImpl implements TicketService {
         }
 
         logger.info("Ticket assigned successfully to: {}", agent.getFullName());
-        return mapToDetailResponse(ticket);
+        return mapToCoreResponse(ticket);
     }
 
     @Override
@@ -475,12 +844,11 @@ public class TicketServiceImpl implements TicketService {
             throw new BusinessLogicException("Cannot auto-assign ticket without department");
         }
 
-        List<User> availableAgents = userRepository.findLeastBusyAgents(departmentId, 1);
-        if (availableAgents.isEmpty()) {
-            throw new BusinessLogicException("No available agents in department");
-        }
-
-        User selectedAgent = availableAgents.get(0);
+        // Seçim bellek içi yük index'inden yapılır ve agent'ın yükü hemen rezerve edilir (bkz. AgentLoadService)
+        Long selectedAgentId = agentLoadService.claimAgent(departmentId, ticket.getId())
+                .orElseThrow(() -> new BusinessLogicException("No available agents in department"));
+        User selectedAgent = userRepository.findById(selectedAgentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Agent not found with id: " + selectedAgentId));
         ticket.assignToAgent(selectedAgent);
 
         // History kaydı oluştur
@@ -492,7 +860,7 @@ public class TicketServiceImpl implements TicketService {
         sendTicketAssignmentNotifications(ticket);
 
         logger.info("Ticket auto-assigned successfully to: {}", selectedAgent.getFullName());
-        return mapToDetailResponse(ticket);
+        return mapToCoreResponse(ticket);
     }
 
     @Override
@@ -520,7 +888,7 @@ public class TicketServiceImpl implements TicketService {
         sendTicketPriorityChangeNotifications(ticket, oldPriority, newPriority);
 
         logger.info("Ticket priority changed successfully: {} -> {}", oldPriority, newPriority);
-        return mapToDetailResponse(ticket);
+        return mapToCoreResponse(ticket);
     }
 
     @Override
@@ -556,7 +924,7 @@ public class TicketServiceImpl implements TicketService {
         }
 
         logger.info("Ticket escalated successfully to level: {}", ticket.getEscalationLevel());
-        return mapToDetailResponse(ticket);
+        return mapToCoreResponse(ticket);
     }
 
     @Override
@@ -591,7 +959,330 @@ public class TicketServiceImpl implements TicketService {
         }
 
         logger.info("Ticket closed successfully: {}", id);
-        return mapToDetailResponse(ticket);
+        return mapToCoreResponse(ticket);
+    }
+
+    // ============ TOPLU DURUM YÖNETİMİ ============
+    // Her işlem: 1 snapshot sorgusu + set-based UPDATE + commit'te tek batch history insert.
+    // Bildirimler commit sonrası alıcı başına birleştirilir (bkz. NotificationEventListener)
+
+    @Override
+    public BulkTicketUpdateResponse bulkAssignTickets(List<Long> ticketIds, Long agentId, Long userId,
+                                                      Long restrictToCompanyId) {
+        logger.info("Bulk assigning {} tickets to agent: {}", ticketIds.size(), agentId);
+
+        User agent = userRepository.findById(agentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Agent not found with id: " + agentId));
+
+        if (!agent.hasRole(UserRole.AGENT) && !agent.hasRole(UserRole.MANAGER)) {
+            throw new BusinessLogicException("User is not an agent or manager");
+        }
+        if (restrictToCompanyId != null &&
+                (agent.getCompany() == null || !restrictToCompanyId.equals(agent.getCompany().getId()))) {
+            throw new BusinessLogicException("Agent does not belong to company: " + restrictToCompanyId);
+        }
+
+        BulkTicketUpdateResponse response = new BulkTicketUpdateResponse(ticketIds.size());
+        List<TicketStateSnapshot> targets = loadBulkTargets(ticketIds, restrictToCompanyId, response,
+                snapshot -> agentId.equals(snapshot.getAgentId()));
+        if (targets.isEmpty()) {
+            return response;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ticketRepository.bulkAssign(response.getUpdated(), agent, agent.getDepartment(), now);
+        publishStateChanges(targets, snapshot -> new TicketStateChangedEvent.State(
+                snapshot.getStatus() == TicketStatus.NEW ? TicketStatus.OPEN : snapshot.getStatus(),
+                snapshot.getPriority(), true));
+        publishAgentLoadChanges(targets, snapshot -> loadAgentId(snapshot.getStatus(), agentId));
+
+        List<TicketHistoryWriter.Entry> history = new ArrayList<>(targets.size());
+        for (TicketStateSnapshot snapshot : targets) {
+            history.add(TicketHistoryWriter.Entry.fieldChanged(
+                    snapshot.getId(), "assignedAgent", snapshot.getAgentName(),
+                    agent.getFullName(), userId));
+        }
+        historyWriter.recordAll(history);
+
+        Map<String, List<String>> agentTickets = new LinkedHashMap<>();
+        agentTickets.put(agent.getEmail(), targets.stream()
+                .map(TicketStateSnapshot::getTicketNumber).collect(Collectors.toList()));
+        eventPublisher.publishEvent(new TicketsBulkUpdatedEvent(
+                TicketsBulkUpdatedEvent.ASSIGNED, agent.getFullName(), agentTickets,
+                groupTicketNumbers(targets, TicketStateSnapshot::getCustomerEmail), Collections.emptyMap()));
+
+        logger.info("Bulk assignment finished: {} updated, {} skipped, {} failed",
+                response.getUpdatedCount(), response.getSkippedCount(), response.getFailedCount());
+        return response;
+    }
+
+    @Override
+    public BulkTicketUpdateResponse bulkChangeTicketStatus(List<Long> ticketIds, TicketStatus newStatus, Long userId,
+                                                           Long restrictToCompanyId) {
+        if (newStatus == TicketStatus.CLOSED) {
+            return bulkCloseTickets(ticketIds, null, userId, restrictToCompanyId);
+        }
+        logger.info("Bulk changing status of {} tickets to {}", ticketIds.size(), newStatus);
+
+        BulkTicketUpdateResponse response = new BulkTicketUpdateResponse(ticketIds.size());
+        List<TicketStateSnapshot> targets = loadBulkTargets(ticketIds, restrictToCompanyId, response,
+                snapshot -> snapshot.getStatus() == newStatus);
+        if (targets.isEmpty()) {
+            return response;
+        }
+
+        // Ticket.updateStatus ile aynı zaman damgası kuralları
+        LocalDateTime now = LocalDateTime.now();
+        if (newStatus == TicketStatus.OPEN) {
+            ticketRepository.bulkMarkFirstResponse(response.getUpdated(), now);
+        }
+        ticketRepository.bulkUpdateStatus(response.getUpdated(), newStatus, now);
+        if (newStatus == TicketStatus.RESOLVED) {
+            ticketRepository.bulkMarkResolved(response.getUpdated(), now);
+        }
+        publishStateChanges(targets, snapshot -> new TicketStateChangedEvent.State(
+                newStatus, snapshot.getPriority(), snapshot.getAgentId() != null));
+        publishAgentLoadChanges(targets, snapshot -> loadAgentId(newStatus, snapshot.getAgentId()));
+        // İlk yanıt verilen veya SLA dışı duruma geçen ticketlar zamanlayıcıdan çıkar
+        if (newStatus == TicketStatus.OPEN || Ticket.SLA_TIMER_EXCLUDED_STATUSES.contains(newStatus)) {
+            publishSlaCancellations(response.getUpdated());
+        }
+
+        List<TicketHistoryWriter.Entry> history = new ArrayList<>(targets.size());
+        for (TicketStateSnapshot snapshot : targets) {
+            history.add(TicketHistoryWriter.Entry.fieldChanged(
+                    snapshot.getId(), "status", snapshot.getStatus().getCode(),
+                    newStatus.getCode(), userId));
+        }
+        historyWriter.recordAll(history);
+
+        eventPublisher.publishEvent(new TicketsBulkUpdatedEvent(
+                TicketsBulkUpdatedEvent.STATUS_CHANGED, newStatus.getDisplayName(),
+                groupTicketNumbers(targets, TicketStateSnapshot::getAgentEmail),
+                groupTicketNumbers(targets, TicketStateSnapshot::getCustomerEmail), Collections.emptyMap()));
+
+        logger.info("Bulk status change finished: {} updated, {} skipped, {} failed",
+                response.getUpdatedCount(), response.getSkippedCount(), response.getFailedCount());
+        return response;
+    }
+
+    @Override
+    public BulkTicketUpdateResponse bulkChangeTicketPriority(List<Long> ticketIds, TicketPriority newPriority,
+                                                             Long userId, Long restrictToCompanyId) {
+        logger.info("Bulk changing priority of {} tickets to {}", ticketIds.size(), newPriority);
+
+        BulkTicketUpdateResponse response = new BulkTicketUpdateResponse(ticketIds.size());
+        List<TicketStateSnapshot> targets = loadBulkTargets(ticketIds, restrictToCompanyId, response,
+                snapshot -> snapshot.getPriority() == newPriority);
+        if (targets.isEmpty()) {
+            return response;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ticketRepository.bulkUpdatePriority(response.getUpdated(), newPriority, now);
+        publishStateChanges(targets, snapshot -> new TicketStateChangedEvent.State(
+                snapshot.getStatus(), newPriority, snapshot.getAgentId() != null));
+
+        List<TicketHistoryWriter.Entry> history = new ArrayList<>(targets.size());
+        for (TicketStateSnapshot snapshot : targets) {
+            history.add(TicketHistoryWriter.Entry.fieldChanged(
+                    snapshot.getId(), "priority", snapshot.getPriority().getCode(),
+                    newPriority.getCode(), userId));
+        }
+        historyWriter.recordAll(history);
+
+        // Yüksek öncelikli ticketlar için departman yöneticileri de bilgilendirilir
+        Map<Long, List<String>> managerTickets = newPriority == TicketPriority.HIGH || newPriority == TicketPriority.CRITICAL
+                ? groupTicketNumbers(targets, TicketStateSnapshot::getDepartmentId)
+                : Collections.emptyMap();
+        eventPublisher.publishEvent(new TicketsBulkUpdatedEvent(
+                TicketsBulkUpdatedEvent.PRIORITY_CHANGED, newPriority.getDisplayName(),
+                groupTicketNumbers(targets, TicketStateSnapshot::getAgentEmail), Collections.emptyMap(), managerTickets));
+
+        logger.info("Bulk priority change finished: {} updated, {} skipped, {} failed",
+                response.getUpdatedCount(), response.getSkippedCount(), response.getFailedCount());
+        return response;
+    }
+
+    @Override
+    public BulkTicketUpdateResponse bulkCloseTickets(List<Long> ticketIds, String resolutionSummary, Long userId,
+                                                     Long restrictToCompanyId) {
+        logger.info("Bulk closing {} tickets", ticketIds.size());
+
+        BulkTicketUpdateResponse response = new BulkTicketUpdateResponse(ticketIds.size());
+        List<TicketStateSnapshot> targets = loadBulkTargets(ticketIds, restrictToCompanyId, response,
+                snapshot -> snapshot.getStatus() == TicketStatus.CLOSED);
+        if (targets.isEmpty()) {
+            return response;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ticketRepository.bulkClose(response.getUpdated(), resolutionSummary, now);
+        publishStateChanges(targets, snapshot -> new TicketStateChangedEvent.State(
+                TicketStatus.CLOSED, snapshot.getPriority(), snapshot.getAgentId() != null));
+        publishAgentLoadChanges(targets, snapshot -> null);
+        publishSlaCancellations(response.getUpdated());
+
+        List<TicketHistoryWriter.Entry> history = new ArrayList<>(targets.size());
+        for (TicketStateSnapshot snapshot : targets) {
+            history.add(TicketHistoryWriter.Entry.fieldChanged(
+                    snapshot.getId(), "status", snapshot.getStatus().getCode(),
+                    TicketStatus.CLOSED.getCode(), userId));
+        }
+        historyWriter.recordAll(history);
+
+        eventPublisher.publishEvent(new TicketsBulkUpdatedEvent(
+                TicketsBulkUpdatedEvent.CLOSED, TicketStatus.CLOSED.getDisplayName(),
+                groupTicketNumbers(targets, TicketStateSnapshot::getAgentEmail),
+                groupTicketNumbers(targets, TicketStateSnapshot::getCustomerEmail), Collections.emptyMap()));
+
+        logger.info("Bulk close finished: {} updated, {} skipped, {} failed",
+                response.getUpdatedCount(), response.getSkippedCount(), response.getFailedCount());
+        return response;
+    }
+
+    @Override
+    public BulkTicketUpdateResponse escalateSlaBreaches(Long afterId, int limit, LocalDateTime now) {
+        List<Long> dueIds = ticketRepository.findSlaDueIds(afterId, now, Ticket.SLA_TIMER_EXCLUDED_STATUSES,
+                PageRequest.of(0, limit));
+        BulkTicketUpdateResponse response = new BulkTicketUpdateResponse(dueIds.size());
+        if (dueIds.isEmpty()) {
+            return response;
+        }
+
+        List<TicketStateSnapshot> snapshots = ticketRepository.findStateSnapshots(dueIds);
+        int escalated = ticketRepository.bulkEscalateSlaDue(dueIds, now, Ticket.SLA_TIMER_EXCLUDED_STATUSES);
+        List<TicketStateSnapshot> targets = snapshots;
+        if (escalated != dueIds.size()) {
+            // Seçimden sonra ilk yanıt almış/kapanmış ticketlar güncellenmedi; sadece ESCALATED olanlar işlenir
+            Set<Long> escalatedIds = new HashSet<>(ticketRepository.findEscalatedIds(dueIds));
+            targets = snapshots.stream()
+                    .filter(snapshot -> escalatedIds.contains(snapshot.getId()))
+                    .collect(Collectors.toList());
+        }
+        Set<Long> targetIds = targets.stream().map(TicketStateSnapshot::getId).collect(Collectors.toSet());
+        for (Long id : dueIds) {
+            (targetIds.contains(id) ? response.getUpdated() : response.getSkipped()).add(id);
+        }
+        if (targets.isEmpty()) {
+            return response;
+        }
+
+        publishStateChanges(targets, snapshot -> new TicketStateChangedEvent.State(
+                TicketStatus.ESCALATED, snapshot.getPriority().escalated(), snapshot.getAgentId() != null));
+        publishSlaCancellations(response.getUpdated());
+
+        List<TicketHistoryWriter.Entry> history = new ArrayList<>(targets.size() * 2);
+        for (TicketStateSnapshot snapshot : targets) {
+            history.add(TicketHistoryWriter.Entry.fieldChanged(
+                    snapshot.getId(), "status", snapshot.getStatus().getCode(),
+                    TicketStatus.ESCALATED.getCode(), null));
+            if (snapshot.getPriority().escalated() != snapshot.getPriority()) {
+                history.add(TicketHistoryWriter.Entry.fieldChanged(
+                        snapshot.getId(), "priority", snapshot.getPriority().getCode(),
+                        snapshot.getPriority().escalated().getCode(), null));
+            }
+        }
+        historyWriter.recordAll(history);
+
+        eventPublisher.publishEvent(new TicketsBulkUpdatedEvent(
+                TicketsBulkUpdatedEvent.ESCALATED, TicketStatus.ESCALATED.getDisplayName(),
+                groupTicketNumbers(targets, TicketStateSnapshot::getAgentEmail),
+                Collections.emptyMap(),
+                groupTicketNumbers(targets, TicketStateSnapshot::getDepartmentId)));
+
+        return response;
+    }
+
+    /**
+     * Set-based UPDATE'ler entity listener'ı atladığı için dashboard sayaç ve rollup değişiklikleri burada yayınlanır
+     */
+    private void publishStateChanges(List<TicketStateSnapshot> targets,
+                                     Function<TicketStateSnapshot, TicketStateChangedEvent.State> newState) {
+        List<TicketStateChangedEvent.Change> changes = new ArrayList<>(targets.size());
+        for (TicketStateSnapshot snapshot : targets) {
+            TicketStateChangedEvent.State before = new TicketStateChangedEvent.State(
+                    snapshot.getStatus(), snapshot.getPriority(), snapshot.getAgentId() != null);
+            changes.add(new TicketStateChangedEvent.Change(snapshot.getCompanyId(), before, newState.apply(snapshot)));
+        }
+        eventPublisher.publishEvent(new TicketStateChangedEvent(changes));
+
+        List<TicketRollupInvalidatedEvent.Entry> rollupEntries = new ArrayList<>(targets.size());
+        for (TicketStateSnapshot snapshot : targets) {
+            rollupEntries.add(new TicketRollupInvalidatedEvent.Entry(snapshot.getCompanyId(), snapshot.getCreatedAt()));
+        }
+        eventPublisher.publishEvent(new TicketRollupInvalidatedEvent(rollupEntries));
+    }
+
+    /**
+     * Set-based UPDATE'lerde agent yük index'i değişiklikleri (bkz. Ticket.loadAgentId)
+     */
+    private void publishAgentLoadChanges(List<TicketStateSnapshot> targets,
+                                         Function<TicketStateSnapshot, Long> newLoadAgent) {
+        List<AgentLoadChangedEvent.Change> changes = new ArrayList<>();
+        for (TicketStateSnapshot snapshot : targets) {
+            Long before = loadAgentId(snapshot.getStatus(), snapshot.getAgentId());
+            Long after = newLoadAgent.apply(snapshot);
+            if (!Objects.equals(before, after)) {
+                changes.add(new AgentLoadChangedEvent.Change(snapshot.getId(), before, after));
+            }
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new AgentLoadChangedEvent(changes));
+        }
+    }
+
+    private static Long loadAgentId(TicketStatus status, Long agentId) {
+        return Ticket.AGENT_LOAD_EXCLUDED_STATUSES.contains(status) ? null : agentId;
+    }
+
+    private void publishSlaCancellations(Collection<Long> ticketIds) {
+        eventPublisher.publishEvent(new TicketSlaChangedEvent(ticketIds.stream()
+                .map(id -> new TicketSlaChangedEvent.Entry(id, null))
+                .collect(Collectors.toList())));
+    }
+
+    /**
+     * Ticketların mevcut durumunu tek sorguda yükler ve sınıflandırır:
+     * bulunamayan / erişilemeyen -> errors, zaten hedef durumda -> skipped, kalanlar -> updated (dönen liste)
+     */
+    private List<TicketStateSnapshot> loadBulkTargets(List<Long> ticketIds, Long restrictToCompanyId,
+                                                      BulkTicketUpdateResponse response,
+                                                      Predicate<TicketStateSnapshot> alreadyApplied) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ticketIds);
+        Map<Long, TicketStateSnapshot> snapshots = ticketRepository.findStateSnapshots(distinctIds).stream()
+                .collect(Collectors.toMap(TicketStateSnapshot::getId, snapshot -> snapshot));
+
+        List<TicketStateSnapshot> targets = new ArrayList<>(snapshots.size());
+        for (Long id : distinctIds) {
+            TicketStateSnapshot snapshot = snapshots.get(id);
+            if (snapshot == null) {
+                response.addError(id, "Ticket not found with id: " + id);
+            } else if (restrictToCompanyId != null && !restrictToCompanyId.equals(snapshot.getCompanyId())) {
+                response.addError(id, "Access denied to ticket: " + id);
+            } else if (alreadyApplied.test(snapshot)) {
+                response.getSkipped().add(id);
+            } else {
+                response.getUpdated().add(id);
+                targets.add(snapshot);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Ticket numaralarını alıcı anahtarına göre gruplar (null anahtarlar atlanır)
+     */
+    private <K> Map<K, List<String>> groupTicketNumbers(List<TicketStateSnapshot> targets,
+                                                        Function<TicketStateSnapshot, K> key) {
+        Map<K, List<String>> grouped = new LinkedHashMap<>();
+        for (TicketStateSnapshot snapshot : targets) {
+            K recipient = key.apply(snapshot);
+            if (recipient != null) {
+                grouped.computeIfAbsent(recipient, k -> new ArrayList<>()).add(snapshot.getTicketNumber());
+            }
+        }
+        return grouped;
     }
 
     // ============ YORUM ve EK DOSYA YÖNETİMİ ============
@@ -684,52 +1375,63 @@ public class TicketServiceImpl implements TicketService {
 
     // ============ İSTATİSTİK ve ANALİTİK ============
 
+    /**
+     * Sonuç şirket bazında kısa TTL'li cache'te tutulur (CacheUtil.TICKET_STATS). Aynı şirket için eşzamanlı
+     * istekler tek yüklemeyi bekler; dönen Map her çağrıda yeni bir kopyadır.
+     * Cache isabetinde transaction/bağlantı açılmaz.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Map<String, Object> getTicketStats(Long companyId) {
-        logger.debug("Getting ticket statistics for company: {}", companyId);
-
-        Map<String, Object> stats = new HashMap<>();
-
-        // Temel sayılar
-        long totalTickets = ticketRepository.countByCompanyId(companyId);
-        stats.put("totalTickets", totalTickets);
+        Cache cache = cacheManager.getCache(CacheUtil.TICKET_STATS);
+        Map<String, Object> stats = cache != null
+                ? cache.get(companyId, () -> loadTicketStats(companyId))
+                : loadTicketStats(companyId);
+        return new HashMap<>(stats);
+    }
 
-        // Status bazında istatistikler
-        List<Object[]> statusStats = ticketRepository.getTicketStatsByStatus(companyId);
+    /**
+     * Tüm istatistikler tek gruplu sorgudan türetilir
+     */
+    private Map<String, Object> loadTicketStats(Long companyId) {
+        logger.debug("Loading ticket statistics for company: {}", companyId);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = ticketRepository.aggregateTicketStats(companyId, slaRiskHorizon(companyId, now),
+                now.minusMonths(1));
+
+        long totalTickets = 0;
+        long unassignedTickets = 0;
+        long slaRiskTickets = 0;
+        long ratingSum = 0;
+        long ratingCount = 0;
         Map<String, Long> statusDistribution = new HashMap<>();
-        for (Object[] stat : statusStats) {
-            statusDistribution.put((String) stat[0], ((Number) stat[1]).longValue());
-        }
-        stats.put("statusDistribution", statusDistribution);
-
-        // Priority bazında istatistikler
-        List<Object[]> priorityStats = ticketRepository.getTicketStatsByPriority(companyId);
         Map<String, Long> priorityDistribution = new HashMap<>();
-        for (Object[] stat : priorityStats) {
-            priorityDistribution.put((String) stat[0], ((Number) stat[1]).longValue());
+        for (Object[] row : rows) {
+            long count = ((Number) row[2]).longValue();
+            totalTickets += count;
+            statusDistribution.merge(((TicketStatus) row[0]).name(), count, Long::sum);
+            priorityDistribution.merge(((TicketPriority) row[1]).name(), count, Long::sum);
+            unassignedTickets += ((Number) row[3]).longValue();
+            slaRiskTickets += ((Number) row[4]).longValue();
+            ratingSum += ((Number) row[5]).longValue();
+            ratingCount += ((Number) row[6]).longValue();
         }
-        stats.put("priorityDistribution", priorityDistribution);
-
-        // Atanmamış ticketlar
-        List<Ticket> unassignedTickets = ticketRepository.findUnassignedTickets(companyId);
-        stats.put("unassignedTickets", unassignedTickets.size());
-
-        // SLA riski olan ticketlar
-        LocalDateTime riskTime = LocalDateTime.now().plusHours(2);
-        List<Ticket> slaRiskTickets = ticketRepository.findTicketsAtRiskOfSlaViolation(companyId, riskTime);
-        stats.put("slaRiskTickets", slaRiskTickets.size());
 
-        // Müşteri memnuniyet ortalaması
-        Double avgSatisfaction = ticketRepository.getAverageCustomerSatisfaction(companyId, LocalDateTime.now().minusMonths(1));
-        stats.put("averageCustomerSatisfaction", avgSatisfaction != null ? avgSatisfaction : 0.0);
-
-        return stats;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalTickets", totalTickets);
+        stats.put("statusDistribution", Collections.unmodifiableMap(statusDistribution));
+        stats.put("priorityDistribution", Collections.unmodifiableMap(priorityDistribution));
+        stats.put("unassignedTickets", unassignedTickets);
+        stats.put("slaRiskTickets", slaRiskTickets);
+        stats.put("averageCustomerSatisfaction", ratingCount > 0 ? (double) ratingSum / ratingCount : 0.0);
+        return Collections.unmodifiableMap(stats);
     }
 
     @Override
     public List<Object[]> getAgentPerformanceMetrics(Long companyId, LocalDateTime startDate, LocalDateTime endDate) {
         logger.debug("Getting agent performance metrics for company: {}", companyId);
-        return ticketRepository.getAgentPerformanceMetrics(companyId, startDate, endDate);
+        return ticketRollupService.getAgentPerformance(companyId, startDate, endDate);
     }
 
     @Override
@@ -743,37 +1445,11 @@ public class TicketServiceImpl implements TicketService {
     @Override
     public List<Object[]> getTicketCreationTrend(Long companyId, int days) {
         logger.debug("Getting ticket creation trend for company: {} ({} days)", companyId, days);
-        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
-        return ticketRepository.getDailyTicketCreationTrend(companyId, startDate);
+        return ticketRollupService.getDailyCreationTrend(companyId, LocalDate.now().minusDays(days));
     }
 
     // ============ WEBSOCKET BİLDİRİM METODLARı ============
 
-    /**
-     * Yeni ticket oluşturulduğunda bildirim gönder
-     */
-    private void sendTicketCreationNotifications(Ticket ticket) {
-        try {
-            // Departman yöneticilerine bildirim gönder
-            if (ticket.getDepartment() != null) {
-                List<User> managers = userRepository.findByDepartmentIdAndRole(
-                        ticket.getDepartment().getId(), UserRole.MANAGER);
-
-                for (User manager : managers) {
-                    NotificationDTO notification = new NotificationDTO(
-                            "Yeni ticket oluşturuldu: #" + ticket.getTicketNumber(),
-                            "TICKET_CREATED",
-                            "/tickets/" + ticket.getId()
-                    );
-                    webSocketMessageController.sendPrivateNotification(
-                            manager.getEmail(), notification);
-                }
-            }
-        } catch (Exception e) {
-            logger.warn("Failed to send ticket creation notification: {}", e.getMessage());
-        }
-    }
-
     /**
      * Ticket güncellendiğinde bildirim gönder
      */
@@ -1120,6 +1796,36 @@ public class TicketServiceImpl implements TicketService {
 
     // ============ HELPER METHODS ============
 
+    /**
+     * Cursor sorguları için limit; sıralama sorgunun kendisinde tanımlı
+     */
+    private Pageable cursorPage(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        return PageRequest.of(0, limit);
+    }
+
+    /**
+     * Varsayılan SLA deadline'ı; duvar saatiyle eklenir, app.business.sla.business-hours-only açıkça açılmışsa iş
+     * takviminden eklenir
+     */
+    private LocalDateTime defaultSlaDeadline(Long companyId, Long departmentId, LocalDateTime createdAt) {
+        int hours = businessProperties.getTicket().getDefaultSlaHours();
+        return businessProperties.getSla().isBusinessHoursOnly()
+                ? businessCalendarService.addBusinessHours(companyId, departmentId, createdAt, hours)
+                : createdAt.plusHours(hours);
+    }
+
+    /**
+     * SLA risk sınırı; business-hours-only açıksa risk penceresi iş saatiyle ölçülür ve mesai dışında biten pencere
+     * sonraki mesaiye taşar
+     */
+    private LocalDateTime slaRiskHorizon(Long companyId, LocalDateTime now) {
+        int minutes = businessProperties.getSla().getRiskWindowMinutes();
+        return businessProperties.getSla().isBusinessHoursOnly()
+                ? businessCalendarService.getCalendar(companyId, null).addWorkingMinutes(now, minutes)
+                : now.plusMinutes(minutes);
+    }
+
     /**
      * Durum değişikliği mesajını oluştur
      */
@@ -1165,15 +1871,8 @@ public class TicketServiceImpl implements TicketService {
      * Ticket history kaydı oluşturur
      */
     private void createHistoryRecord(Ticket ticket, String fieldName, String oldValue, String newValue, User user) {
-        TicketHistory history = new TicketHistory();
-        history.setTicket(ticket);
-        history.setFieldName(fieldName);
-        history.setOldValue(oldValue);
-        history.setNewValue(newValue);
-        history.setChangeType("FIELD_CHANGED");
-        history.setUser(user);
-
-        ticketHistoryRepository.save(history);
+        // Transaction sonunda diğer kayıtlarla birlikte tek batch insert olarak yazılır
+        historyWriter.record(ticket.getId(), fieldName, oldValue, newValue, user != null ? user.getId() : null);
     }
 
     private TicketResponse mapToResponse(Ticket ticket) {
@@ -1219,6 +1918,16 @@ public class TicketServiceImpl implements TicketService {
      * Ticket entity'sini TicketDetailResponse'a map eder
      */
     private TicketDetailResponse mapToDetailResponse(Ticket ticket) {
+        TicketDetailResponse response = mapToCoreResponse(ticket);
+        loadSections(response, TicketDetailResponse.ALL_SECTIONS, PageRequest.of(0, DEFAULT_SECTION_PAGE_SIZE));
+        return response;
+    }
+
+    /**
+     * Ticket entity'sini section'sız (comments/attachments/history yüklenmeden) TicketDetailResponse'a map eder
+     * Mutation endpoint'lerinin varsayılan response'u
+     */
+    private TicketDetailResponse mapToCoreResponse(Ticket ticket) {
         TicketDetailResponse response = new TicketDetailResponse();
         response.setId(ticket.getId());
         response.setTicketNumber(ticket.getTicketNumber());
@@ -1259,10 +1968,11 @@ public class TicketServiceImpl implements TicketService {
             response.setAssignedAgentName(ticket.getAssignedAgent().getFullName());
         }
 
-        // Department bilgileri
+        // Department bilgileri (isim referans cache'inden; lazy department proxy'si yüklenmez)
         if (ticket.getDepartment() != null) {
-            response.setDepartmentId(ticket.getDepartment().getId());
-            response.setDepartmentName(ticket.getDepartment().getName());
+            Long departmentId = ticket.getDepartment().getId();
+            response.setDepartmentId(departmentId);
+            response.setDepartmentName(referenceDataService.getDepartment(departmentId).getName());
         }
 
         // Creator user bilgileri
@@ -1271,25 +1981,89 @@ public class TicketServiceImpl implements TicketService {
             response.setCreatorUserName(ticket.getCreatorUser().getFullName());
         }
 
-        // Comments (sadece public olanlar default olarak)
-        List<TicketComment> publicComments = ticketCommentRepository.findByTicketIdAndIsInternalFalseOrderByCreatedAtAsc(ticket.getId());
-        response.setComments(publicComments.stream()
-                .map(this::mapToCommentResponse)
-                .collect(Collectors.toList()));
+        return response;
+    }
 
-        // Attachments
-        List<TicketAttachment> attachments = ticketAttachmentRepository.findByTicketIdOrderByCreatedAtDesc(ticket.getId());
-        response.setAttachments(attachments.stream()
-                .map(this::mapToAttachmentResponse)
-                .collect(Collectors.toList()));
+    /**
+     * İstenen section'ları sayfalı olarak yükler.
+     * Birden fazla section istenirse sorgular taskExecutor üzerinde paralel çalışır;
+     * her repository çağrısı kendi read-only transaction'ında, ilişkiler fetch-join ile gelir.
+     */
+    private void loadSections(TicketDetailResponse response, Set<String> include, Pageable pageable) {
+        if (include == null || include.isEmpty()) {
+            return;
+        }
 
-        // History
-        List<TicketHistory> history = ticketHistoryRepository.findByTicketIdOrderByCreatedAtDesc(ticket.getId());
-        response.setHistory(history.stream()
-                .map(this::mapToHistoryResponse)
-                .collect(Collectors.toList()));
+        Long ticketId = response.getId();
+        Map<String, Object> sectionPages = new ConcurrentHashMap<>();
+        List<Runnable> loaders = new ArrayList<>();
+
+        if (include.contains(TicketDetailResponse.SECTION_COMMENTS)) {
+            loaders.add(() -> {
+                // Sadece public yorumlar; internal yorumlar /comments endpoint'inden alınır
+                Page<TicketComment> page = ticketCommentRepository.findPublicCommentsPage(ticketId, pageable);
+                response.setComments(page.map(this::mapToCommentResponse).getContent());
+                sectionPages.put(TicketDetailResponse.SECTION_COMMENTS, sectionPageInfo(page));
+            });
+        }
+        if (include.contains(TicketDetailResponse.SECTION_ATTACHMENTS)) {
+            loaders.add(() -> {
+                Page<TicketAttachment> page = ticketAttachmentRepository.findAttachmentsPage(ticketId, pageable);
+                response.setAttachments(page.map(this::mapToAttachmentResponse).getContent());
+                sectionPages.put(TicketDetailResponse.SECTION_ATTACHMENTS, sectionPageInfo(page));
+            });
+        }
+        if (include.contains(TicketDetailResponse.SECTION_HISTORY)) {
+            loaders.add(() -> {
+                Page<TicketHistory> page = ticketHistoryRepository.findHistoryPage(ticketId, pageable);
+                response.setHistory(page.map(this::mapToHistoryResponse).getContent());
+                sectionPages.put(TicketDetailResponse.SECTION_HISTORY, sectionPageInfo(page));
+            });
+        }
 
-        return response;
+        if (loaders.size() == 1) {
+            loaders.get(0).run();
+        } else {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (Runnable loader : loaders) {
+                futures.add(runSectionLoader(loader));
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        response.setSectionPages(sectionPages);
+    }
+
+    /**
+     * Section loader'ı executor'a gönderir; kuyruk doluysa çağıran thread'de çalıştırır
+     */
+    private CompletableFuture<Void> runSectionLoader(Runnable loader) {
+        try {
+            return CompletableFuture.runAsync(loader, taskExecutor);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Section loader rejected by executor, running inline");
+            loader.run();
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Section sayfa bilgisi
+     */
+    private Map<String, Object> sectionPageInfo(Page<?> page) {
+        Map<String, Object> info = new HashMap<>();
+        info.put("page", page.getNumber());
+        info.put("size", page.getSize());
+        info.put("totalElements", page.getTotalElements());
+        info.put("hasNext", page.hasNext());
+        return info;
     }
 
     /**
@@ -1436,7 +2210,7 @@ public class TicketServiceImpl implements TicketService {
             }
 
             logger.info("✅ Ticket resolved and sent for manager approval: {}", ticket.getTicketNumber());
-            return mapToDetailResponse(ticket);
+            return mapToCoreResponse(ticket);
 
         } catch (Exception e) {
             logger.error("❌ Error resolving ticket for approval: {}", id, e);
@@ -1523,7 +2297,7 @@ public class TicketServiceImpl implements TicketService {
             }
 
             logger.info("✅ Ticket approved by manager and sent for admin approval: {}", ticket.getTicketNumber());
-            return mapToDetailResponse(ticket);
+            return mapToCoreResponse(ticket);
 
         } catch (Exception e) {
             logger.error("❌ Error in manager approval: {}", id, e);
@@ -1577,7 +2351,7 @@ public class TicketServiceImpl implements TicketService {
             }
 
             logger.info("✅ Ticket given final approval and resolved: {}", ticket.getTicketNumber());
-            return mapToDetailResponse(ticket);
+            return mapToCoreResponse(ticket);
 
         } catch (Exception e) {
             logger.error("❌ Error in admin approval: {}", id, e);
@@ -1633,7 +2407,7 @@ public class TicketServiceImpl implements TicketService {
             }
 
             logger.info("✅ Approval rejected for ticket: {} - returned to status: {}", ticket.getTicketNumber(), newStatus);
-            return mapToDetailResponse(ticket);
+            return mapToCoreResponse(ticket);
 
         } catch (Exception e) {
             logger.error("❌ Error rejecting approval: {}", id, e);
@@ -0,0 +1,213 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.entity.RevokedToken;
+import com.example.smartdeskbackend.entity.TokenRevocationVersion;
+import com.example.smartdeskbackend.repository.RevokedTokenRepository;
+import com.example.smartdeskbackend.repository.TokenRevocationVersionRepository;
+import com.example.smartdeskbackend.service.TokenRevocationService;
+import com.example.smartdeskbackend.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT iptal listesi implementasyonu
+ * İstek başına kontrol önce Bloom filtresine bakar; filtre "yok" derse (iptal edilmemiş token'ların neredeyse
+ * tamamı) map'e hiç dokunulmaz. Filtre eleman silemediği için süresi dolan kayıtlar temizlenince yeniden kurulur.
+ * İptal kaydı ve sayaç artışı aynı transaction'dadır; sayaç satır kilidi commit'leri sayaç sırasına koyduğundan
+ * "version > son okunan" sorgusu hiçbir kaydı atlamaz
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private TokenRevocationVersionRepository versionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationConfig.SecurityProperties securityProperties;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // tokenId -> token'ın süresinin dolduğu an (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private int filterCapacity;
+    private long loadedVersion = -1;
+
+    private TransactionTemplate requiresNew;
+    private boolean enabled;
+
+    @PostConstruct
+    public void init() {
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        enabled = securityProperties.getJwt().getBlacklist().isEnabled();
+        rebuildFilter();
+        if (meterRegistry != null) {
+            Gauge.builder("jwt.revocations.active", revoked, Map::size)
+                    .description("Revoked tokens that have not expired yet")
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            int loaded = refresh();
+            logger.info("Token revocation list loaded with {} active entries", loaded);
+        } catch (Exception e) {
+            logger.error("Could not load token revocation list, will retry on next poll", e);
+        }
+    }
+
+    @Override
+    public boolean revoke(String tokenId, Long userId, Date expiresAt) {
+        if (!enabled) {
+            return true;
+        }
+        if (tokenId == null || expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()
+                || revoked.containsKey(tokenId)) {
+            return false;
+        }
+        LocalDateTime expires = LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault());
+        boolean inserted;
+        try {
+            inserted = persist(tokenId, userId, expires);
+        } catch (DataIntegrityViolationException e) {
+            // Sayaç satırı ya da aynı token başka node'da eşzamanlı oluşturuldu; ikincisinde tekrar deneme kaydı bulur
+            logger.debug("Concurrent revocation write for token {}, retrying", tokenId);
+            inserted = persist(tokenId, userId, expires);
+        }
+        add(tokenId, expiresAt.getTime());
+        logger.debug("Token revoked: {} (new: {})", tokenId, inserted);
+        return inserted;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (!enabled || tokenId == null || revoked.isEmpty() || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public synchronized int refresh() {
+        if (!enabled) {
+            return 0;
+        }
+        Long current = versionRepository.findVersion(TokenRevocationVersion.SINGLETON_ID);
+        long version = current != null ? current : 0L;
+        if (version == loadedVersion) {
+            return 0;
+        }
+        // Sayaç geriye gittiyse (tablo sıfırlandı) baştan yüklenir
+        long after = version < loadedVersion ? -1 : loadedVersion;
+        List<Object[]> rows = revokedTokenRepository.findActiveRowsAfterVersion(after, LocalDateTime.now());
+        int loaded = 0;
+        for (Object[] row : rows) {
+            long expiresAt = ((LocalDateTime) row[1]).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (add((String) row[0], expiresAt)) {
+                loaded++;
+            }
+        }
+        loadedVersion = version;
+        return loaded;
+    }
+
+    @Override
+    public synchronized int purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            rebuildFilter();
+        }
+        if (!enabled) {
+            return 0;
+        }
+        Integer deleted = requiresNew.execute(status -> revokedTokenRepository.deleteExpired(LocalDateTime.now()));
+        return deleted != null ? deleted : 0;
+    }
+
+    // ============ HELPERS ============
+
+    /**
+     * Kaydı yoksa ekler; eşzamanlı ekleme primary key ihlaliyle DataIntegrityViolationException fırlatır
+     * @return kayıt bu çağrıda eklendiyse true
+     */
+    private boolean persist(String tokenId, Long userId, LocalDateTime expiresAt) {
+        return Boolean.TRUE.equals(requiresNew.execute(status -> {
+            if (revokedTokenRepository.existsById(tokenId)) {
+                return false;
+            }
+            revokedTokenRepository.saveAndFlush(
+                    new RevokedToken(tokenId, userId, expiresAt, LocalDateTime.now(), nextVersion()));
+            return true;
+        }));
+    }
+
+    /**
+     * Sayacı artırır (satır yoksa oluşturur); satır kilidi commit'e kadar tutulur
+     */
+    private long nextVersion() {
+        if (versionRepository.increment(TokenRevocationVersion.SINGLETON_ID) == 0) {
+            versionRepository.saveAndFlush(new TokenRevocationVersion(TokenRevocationVersion.SINGLETON_ID, 1L));
+            return 1L;
+        }
+        return versionRepository.findVersion(TokenRevocationVersion.SINGLETON_ID);
+    }
+
+    /**
+     * Kaydı map'e ve filtreye ekler; filtre yeniden kurulurken eklenen kayıt kaybolmasın diye senkronize
+     * @return kayıt yeniyse true
+     */
+    private synchronized boolean add(String tokenId, long expiresAt) {
+        boolean added = revoked.put(tokenId, expiresAt) == null;
+        if (revoked.size() > filterCapacity) {
+            rebuildFilter();
+        } else {
+            filter.put(tokenId);
+        }
+        return added;
+    }
+
+    /**
+     * Filtreyi mevcut kayıtlardan, kapasitesi doluluğun en az iki katı olacak şekilde yeniden kurar
+     */
+    private synchronized void rebuildFilter() {
+        ApplicationConfig.SecurityProperties.JwtProperties.BlacklistProperties blacklist =
+                securityProperties.getJwt().getBlacklist();
+        int capacity = Math.max(blacklist.getExpectedEntries(), revoked.size() * 2);
+        BloomFilter rebuilt = BloomFilter.create(capacity, blacklist.getFalsePositiveRate());
+        revoked.keySet().forEach(rebuilt::put);
+        filterCapacity = capacity;
+        filter = rebuilt;
+    }
+}
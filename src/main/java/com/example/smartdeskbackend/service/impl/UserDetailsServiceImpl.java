@@ -1,7 +1,11 @@
 package com.example.smartdeskbackend.service.impl;
 
 import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.exception.ResourceNotFoundException;
 import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.ReferenceDataService;
+import com.example.smartdeskbackend.util.JwtUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,10 +20,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Spring Security UserDetailsService implementasyonu
  * Kullanıcı authentication işlemleri için
+ * Stateless principal modunda JWT ile gelen isteklerde principal token claim'lerinden kurulur (bkz. loadUserByToken)
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -29,6 +35,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -44,11 +53,48 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return createUserPrincipal(user);
     }
 
+    /**
+     * Doğrulanmış JWT claim'lerinden principal oluşturur; kullanıcı DB'den okunmaz
+     * Hesap durumu ve kilit cache'li kullanıcı durumundan gelir. Token'daki email, rol, şirket ya da departman
+     * güncel değerle uyuşmuyorsa token eskimiştir ve null döner
+     * @throws UsernameNotFoundException kullanıcı bulunamazsa
+     */
+    public CustomUserPrincipal loadUserByToken(JwtUtil.VerifiedToken token) {
+        ReferenceDataService.UserAuthState state;
+        try {
+            state = referenceDataService.getUserAuthState(token.getUserId());
+        } catch (ResourceNotFoundException e) {
+            throw new UsernameNotFoundException("User not found with id: " + token.getUserId());
+        }
+
+        if (!state.getEmail().equals(token.getEmail()) || !state.getRole().getCode().equals(token.getRole())
+                || !Objects.equals(state.getCompanyId(), token.getCompanyId())
+                || !Objects.equals(state.getDepartmentId(), token.getDepartmentId())) {
+            logger.debug("Token claims are stale for user: {}", token.getUserId());
+            return null;
+        }
+
+        return new CustomUserPrincipal(
+                state.getId(),
+                state.getEmail(),
+                null, // token ile gelen istekte şifre kullanılmaz
+                token.getFullName(),
+                state.getRole().getCode(),
+                state.getCompanyId(),
+                state.getDepartmentId(),
+                state.canLogin(), // enabled
+                !state.isLocked(), // account non locked
+                true, // credentials non expired
+                state.canLogin(), // account non expired
+                getAuthorities(state.getRole())
+        );
+    }
+
     /**
      * User entity'sinden UserDetails oluşturur
      */
     private UserDetails createUserPrincipal(User user) {
-        Collection<GrantedAuthority> authorities = getAuthorities(user);
+        Collection<GrantedAuthority> authorities = getAuthorities(user.getRole());
 
         return new CustomUserPrincipal(
                 user.getId(),
@@ -69,14 +115,14 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     /**
      * Kullanıcının yetkilerini (authorities) döndürür
      */
-    private Collection<GrantedAuthority> getAuthorities(User user) {
+    private Collection<GrantedAuthority> getAuthorities(UserRole role) {
         List<GrantedAuthority> authorities = new ArrayList<>();
 
         // Role-based authority ekle
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().getCode()));
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getCode()));
 
         // Ek yetkiler (isteğe bağlı olarak genişletilebilir)
-        switch (user.getRole()) {
+        switch (role) {
             case SUPER_ADMIN:
                 authorities.add(new SimpleGrantedAuthority("PERM_ADMIN_ALL"));
                 authorities.add(new SimpleGrantedAuthority("PERM_COMPANY_MANAGE"));
@@ -10,6 +10,8 @@ import com.example.smartdeskbackend.entity.Department;
 import com.example.smartdeskbackend.entity.User;
 import com.example.smartdeskbackend.enums.UserRole;
 import com.example.smartdeskbackend.enums.UserStatus;
+import com.example.smartdeskbackend.event.AgentAvailabilityChangedEvent;
+import com.example.smartdeskbackend.event.UserAuthStateChangedEvent;
 import com.example.smartdeskbackend.exception.BusinessLogicException;
 import com.example.smartdeskbackend.exception.ResourceNotFoundException;
 import com.example.smartdeskbackend.exception.UserAlreadyExistsException;
@@ -17,18 +19,26 @@ import com.example.smartdeskbackend.exception.AuthenticationException;
 import com.example.smartdeskbackend.repository.CompanyRepository;
 import com.example.smartdeskbackend.repository.DepartmentRepository;
 import com.example.smartdeskbackend.repository.UserRepository;
+import com.example.smartdeskbackend.service.AgentLoadService;
+import com.example.smartdeskbackend.service.AuthWorkerService;
 import com.example.smartdeskbackend.service.UserService;
+import com.example.smartdeskbackend.util.CacheUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -49,7 +59,16 @@ public class UserServiceImpl implements UserService {
     private DepartmentRepository departmentRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private AuthWorkerService authWorkerService;
+
+    @Autowired
+    private CacheUtil cacheUtil;
+
+    @Autowired
+    private AgentLoadService agentLoadService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -129,8 +148,15 @@ public class UserServiceImpl implements UserService {
     public List<UserListResponse> getAvailableAgents(Long departmentId, int limit) {
         log.debug("Getting available agents for department: {}", departmentId);
 
-        List<User> agents = userRepository.findLeastBusyAgents(departmentId, limit);
-        return agents.stream()
+        // Sıra ve kapasite agent yük index'inden gelir (bkz. AgentLoadService)
+        List<Long> agentIds = agentLoadService.getAvailableAgents(departmentId, limit).stream()
+                .map(AgentLoadService.AgentLoad::getAgentId)
+                .collect(Collectors.toList());
+        Map<Long, User> agents = userRepository.findAllById(agentIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return agentIds.stream()
+                .map(agents::get)
+                .filter(Objects::nonNull)
                 .map(this::mapToListResponse)
                 .collect(Collectors.toList());
     }
@@ -170,7 +196,7 @@ public class UserServiceImpl implements UserService {
         // Yeni kullanıcı oluştur
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(authWorkerService.encodePassword(request.getPassword()));
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setPhone(request.getPhone());
@@ -181,6 +207,7 @@ public class UserServiceImpl implements UserService {
         user.setEmailVerified(true); // Yönetici tarafından oluşturulan kullanıcılar doğrulanmış sayılır
 
         user = userRepository.save(user);
+        publishAgentAvailability(user, null, null, null, false);
 
         log.info("User created successfully with id: {}", user.getId());
         return mapToProfileResponse(user);
@@ -192,6 +219,12 @@ public class UserServiceImpl implements UserService {
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        String previousEmail = user.getEmail();
+        UserRole previousRole = user.getRole();
+        UserStatus previousStatus = user.getStatus();
+        Long previousDepartmentId = user.getDepartment() != null ? user.getDepartment().getId() : null;
+        Integer previousMaxOpenTickets = user.getMaxOpenTickets();
+        Boolean previousAcceptingTickets = user.getAcceptingTickets();
 
         // Email değişikliği kontrolü
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
@@ -220,6 +253,12 @@ public class UserServiceImpl implements UserService {
         if (request.getAvatarUrl() != null) {
             user.setAvatarUrl(request.getAvatarUrl());
         }
+        if (request.getMaxOpenTickets() != null) {
+            user.setMaxOpenTickets(request.getMaxOpenTickets() > 0 ? request.getMaxOpenTickets() : null);
+        }
+        if (request.getAcceptingTickets() != null) {
+            user.setAcceptingTickets(request.getAcceptingTickets());
+        }
 
         // Company güncelleme
         if (request.getCompanyId() != null) {
@@ -248,6 +287,15 @@ public class UserServiceImpl implements UserService {
 
         user = userRepository.save(user);
 
+        // Email, rol ve şirket yetki kontrollerinde cache'lenen principal'ın parçası
+        cacheUtil.evict(CacheUtil.USER_PRINCIPALS, id);
+        cacheUtil.evict(CacheUtil.USER_PRINCIPALS, previousEmail);
+        cacheUtil.evict(CacheUtil.USER_PRINCIPALS, user.getEmail());
+        eventPublisher.publishEvent(new UserAuthStateChangedEvent(id));
+        boolean assignmentSettingsChanged = !Objects.equals(previousMaxOpenTickets, user.getMaxOpenTickets())
+                || !Objects.equals(previousAcceptingTickets, user.getAcceptingTickets());
+        publishAgentAvailability(user, previousRole, previousStatus, previousDepartmentId, assignmentSettingsChanged);
+
         log.info("User updated successfully: {}", id);
         return mapToProfileResponse(user);
     }
@@ -260,12 +308,12 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
         // Mevcut şifreyi kontrol et
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
+        if (!authWorkerService.matchesPassword(request.getCurrentPassword(), user.getPasswordHash())) {
             throw new AuthenticationException("Current password is incorrect");
         }
 
         // Yeni şifreyi kaydet
-        user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        user.setPasswordHash(authWorkerService.encodePassword(request.getNewPassword()));
         userRepository.save(user);
 
         log.info("Password changed successfully for user: {}", userId);
@@ -278,7 +326,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
+        user.setPasswordHash(authWorkerService.encodePassword(newPassword));
         user.setPasswordResetToken(null);
         user.setPasswordResetExpires(null);
 
@@ -298,8 +346,11 @@ public class UserServiceImpl implements UserService {
             throw new BusinessLogicException("User is already active");
         }
 
+        UserStatus previousStatus = user.getStatus();
         user.setStatus(UserStatus.ACTIVE);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAuthStateChangedEvent(userId));
+        publishAgentAvailability(user, user.getRole(), previousStatus, departmentIdOf(user), false);
 
         log.info("User activated successfully: {}", userId);
     }
@@ -315,8 +366,11 @@ public class UserServiceImpl implements UserService {
             throw new BusinessLogicException("User is already inactive");
         }
 
+        UserStatus previousStatus = user.getStatus();
         user.setStatus(UserStatus.INACTIVE);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAuthStateChangedEvent(userId));
+        publishAgentAvailability(user, user.getRole(), previousStatus, departmentIdOf(user), false);
 
         log.info("User deactivated successfully: {}", userId);
     }
@@ -329,8 +383,11 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
         // Soft delete
+        UserStatus previousStatus = user.getStatus();
         user.setStatus(UserStatus.DELETED);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAuthStateChangedEvent(userId));
+        publishAgentAvailability(user, user.getRole(), previousStatus, departmentIdOf(user), false);
 
         log.info("User deleted successfully: {}", userId);
     }
@@ -348,6 +405,7 @@ public class UserServiceImpl implements UserService {
 
         user.unlockAccount();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAuthStateChangedEvent(userId));
 
         log.info("User unlocked successfully: {}", userId);
     }
@@ -423,6 +481,10 @@ public class UserServiceImpl implements UserService {
             response.setDepartmentName(user.getDepartment().getName());
         }
 
+        // Otomatik atama ayarları
+        response.setMaxOpenTickets(user.getMaxOpenTickets());
+        response.setAcceptingTickets(user.getAcceptingTickets());
+
         response.setCreatedAt(user.getCreatedAt());
         response.setUpdatedAt(user.getUpdatedAt());
 
@@ -432,6 +494,36 @@ public class UserServiceImpl implements UserService {
     /**
      * User entity'sini UserListResponse'a map eder
      */
+    /**
+     * Agent yük index'i departmanın aktif AGENT'larını tutar; rol, durum ya da departman değişince
+     * etkilenen departmanlar commit sonrası yeniden yüklenir
+     */
+    private void publishAgentAvailability(User user, UserRole previousRole, UserStatus previousStatus,
+                                          Long previousDepartmentId, boolean assignmentSettingsChanged) {
+        Long departmentId = departmentIdOf(user);
+        if (previousRole != UserRole.AGENT && user.getRole() != UserRole.AGENT) {
+            return;
+        }
+        if (!assignmentSettingsChanged && previousRole == user.getRole() && previousStatus == user.getStatus()
+                && Objects.equals(previousDepartmentId, departmentId)) {
+            return;
+        }
+        Set<Long> departmentIds = new HashSet<>();
+        if (previousDepartmentId != null) {
+            departmentIds.add(previousDepartmentId);
+        }
+        if (departmentId != null) {
+            departmentIds.add(departmentId);
+        }
+        if (!departmentIds.isEmpty()) {
+            eventPublisher.publishEvent(new AgentAvailabilityChangedEvent(user.getId(), departmentIds));
+        }
+    }
+
+    private static Long departmentIdOf(User user) {
+        return user.getDepartment() != null ? user.getDepartment().getId() : null;
+    }
+
     private UserListResponse mapToListResponse(User user) {
         UserListResponse response = new UserListResponse();
         response.setId(user.getId());
@@ -0,0 +1,28 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.service.AgentAssignmentStrategy;
+import com.example.smartdeskbackend.service.AgentLoadService.AgentLoad;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * Kapasiteye oranla en boş agent (openTickets / capacity); kapasitesi yüksek agent daha çok ticket alır
+ * Oranlar bölme yapılmadan çapraz çarpımla karşılaştırılır
+ */
+@Component
+public class WeightedAssignmentStrategy implements AgentAssignmentStrategy {
+
+    public static final String NAME = "weighted";
+
+    private static final Comparator<AgentLoad> ORDERING = ((Comparator<AgentLoad>) (a, b) -> Long.compare(
+            (long) a.getOpenTickets() * b.getCapacity(), (long) b.getOpenTickets() * a.getCapacity()))
+            .thenComparingLong(AgentLoad::getLastAssignedSequence)
+            .thenComparing(AgentLoad::getAgentId);
+
+    @Override
+    public String getName() { return NAME; }
+
+    @Override
+    public Comparator<AgentLoad> ordering() { return ORDERING; }
+}
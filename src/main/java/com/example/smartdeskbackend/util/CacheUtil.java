@@ -0,0 +1,112 @@
+package com.example.smartdeskbackend.util;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache isimleri ve cache yönetimi yardımcıları
+ * Cache'ler CacheConfig'te tanımlanır; burada isimle temizleme, tekil eviction ve istatistik okuma yapılır.
+ */
+@Component
+public class CacheUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheUtil.class);
+
+    public static final String COMPANIES = "companies";
+    public static final String DEPARTMENTS = "departments";
+    public static final String SLA_POLICIES = "sla-policies";
+    public static final String USER_PRINCIPALS = "user-principals";
+    public static final String USER_AUTH_STATES = "user-auth-states";
+    public static final String TICKET_SUMMARIES = "ticket-summaries";
+    public static final String TICKET_STATS = "ticket-stats";
+    public static final String BUSINESS_CALENDARS = "business-calendars";
+
+    public static final List<String> ALL_CACHES = Collections.unmodifiableList(Arrays.asList(
+            COMPANIES, DEPARTMENTS, SLA_POLICIES, USER_PRINCIPALS, USER_AUTH_STATES,
+            TICKET_SUMMARIES, TICKET_STATS, BUSINESS_CALENDARS));
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Tüm cache'leri temizler, temizlenen cache isimlerini döner
+     */
+    public List<String> clearAll() {
+        List<String> cleared = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+                cleared.add(name);
+            }
+        }
+        logger.info("Cleared caches: {}", cleared);
+        return cleared;
+    }
+
+    /**
+     * İsmi verilen cache'i temizler; cache yoksa false döner
+     */
+    public boolean clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return false;
+        }
+        cache.clear();
+        logger.info("Cleared cache: {}", cacheName);
+        return true;
+    }
+
+    /**
+     * Tek bir anahtarı cache'ten çıkarır
+     */
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    public Collection<String> getCacheNames() {
+        return cacheManager.getCacheNames();
+    }
+
+    /**
+     * Cache başına boyut ve hit/miss/eviction istatistikleri
+     */
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof CaffeineCache caffeineCache)) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+            CacheStats cacheStats = nativeCache.stats();
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("size", nativeCache.estimatedSize());
+            entry.put("hitCount", cacheStats.hitCount());
+            entry.put("missCount", cacheStats.missCount());
+            entry.put("hitRate", cacheStats.hitRate());
+            entry.put("evictionCount", cacheStats.evictionCount());
+            entry.put("loadFailureCount", cacheStats.loadFailureCount());
+            stats.put(name, entry);
+        }
+        return stats;
+    }
+}
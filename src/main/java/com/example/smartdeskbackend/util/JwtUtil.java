@@ -1,24 +1,44 @@
 package com.example.smartdeskbackend.util;
 
 import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.service.TokenRevocationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * JWT Token işlemlerini yöneten utility sınıfı
  * Token oluşturma, doğrulama ve claim extraction işlemleri
+ *
+ * Token bir kez parse edilip imzası doğrulanır ve {@link VerifiedToken} olarak döner; sonuç token'ın SHA-256
+ * özetiyle, token'ın exp anına kadar cache'lenir. Aynı token'la gelen sonraki istekler ve claim okumaları imza
+ * doğrulaması yapmaz. Cache ham token'ı tutmaz, geçersiz token'lar cache'lenmez.
+ * Her token bir jti taşır; logout ile iptal edilen token'lar her doğrulamada bellek içi iptal listesinden kontrol edilir.
  */
 @Component // Bu anotasyonun olduğundan emin olun!
 public class JwtUtil {
@@ -34,8 +54,53 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration}")
     private Long jwtRefreshExpirationMs;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize = 10000;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private TokenRevocationService tokenRevocationService;
+
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+    private volatile Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * İmza anahtarı, parser ve doğrulanmış token cache'i bir kez kurulur
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.getTimeToExpiration()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-verified-tokens");
+        }
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
 
     /**
@@ -92,6 +157,7 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -99,11 +165,54 @@ public class JwtUtil {
                 .compact();
     }
 
+    // ============ DOĞRULAMA ============
+
+    /**
+     * Token'ı doğrular ve claim'lerini döner; aynı token daha önce doğrulandıysa cache'ten gelir
+     * @throws JwtException token geçersiz, imzası hatalı, süresi dolmuş ya da iptal edilmişse
+     * @throws IllegalArgumentException token boşsa
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            logger.error("JWT token is null or empty");
+            throw new IllegalArgumentException("JWT token cannot be null or empty");
+        }
+
+        // Token format kontrolü (Bearer prefix varsa kaldır)
+        String compact = token.startsWith("Bearer ") ? token.substring(7) : token;
+        String digest = digest(compact);
+
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null || verified.isExpired()) {
+            verified = new VerifiedToken(parseAndVerify(compact));
+            if (verified.getExpiration() != null) {
+                verifiedTokens.put(digest, verified);
+            }
+        }
+        if (tokenRevocationService != null && tokenRevocationService.isRevoked(verified.getTokenId())) {
+            logger.warn("Revoked JWT token used: {}", verified.getTokenId());
+            throw new JwtException("JWT token has been revoked");
+        }
+        return verified;
+    }
+
+    /**
+     * Geçerliyse doğrulanmış token, değilse boş döner (hata loglanır)
+     */
+    public Optional<VerifiedToken> verifyIfValid(String token) {
+        try {
+            return Optional.of(verify(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.error("JWT token validation failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Token'dan email/username'i çıkarır
      */
     public String getEmailFromToken(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+        return verify(token).getEmail();
     }
 
     /**
@@ -117,80 +226,57 @@ public class JwtUtil {
      * Token'dan kullanıcı ID'sini çıkarır
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        Object userId = claims.get("userId");
-        return userId != null ? Long.valueOf(userId.toString()) : null;
+        return verify(token).getUserId();
     }
 
     /**
      * Token'dan kullanıcı rolünü çıkarır
      */
     public String getRoleFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return (String) claims.get("role");
+        return verify(token).getRole();
     }
 
     /**
      * Token'dan şirket ID'sini çıkarır
      */
     public Long getCompanyIdFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        Object companyId = claims.get("companyId");
-        return companyId != null ? Long.valueOf(companyId.toString()) : null;
+        return verify(token).getCompanyId();
     }
 
     /**
      * Token'dan departman ID'sini çıkarır
      */
     public Long getDepartmentIdFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        Object departmentId = claims.get("departmentId");
-        return departmentId != null ? Long.valueOf(departmentId.toString()) : null;
+        return verify(token).getDepartmentId();
     }
 
     /**
      * Token'dan token tipini çıkarır (ACCESS/REFRESH)
      */
     public String getTokenTypeFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return (String) claims.get("tokenType");
+        return verify(token).getTokenType();
     }
 
     /**
      * Token'dan expiration date'i çıkarır
      */
     public Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
+        return verify(token).getExpiration();
     }
 
     /**
      * Token'dan belirli bir claim'i çıkarır
      */
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verify(token).getClaims());
     }
 
     /**
-     * Token'dan tüm claims'leri çıkarır
+     * Token'ı parse edip imzasını doğrular (cache'siz)
      */
-    private Claims getAllClaimsFromToken(String token) {
+    private Claims parseAndVerify(String token) {
         try {
-            if (token == null || token.trim().isEmpty()) {
-                logger.error("JWT token is null or empty");
-                throw new IllegalArgumentException("JWT token cannot be null or empty");
-            }
-            
-            // Token format kontrolü (Bearer prefix varsa kaldır)
-            if (token.startsWith("Bearer ")) {
-                token = token.substring(7);
-            }
-            
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             logger.error("JWT token is expired: {}", e.getMessage());
             throw e;
@@ -212,13 +298,21 @@ public class JwtUtil {
         }
     }
 
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     /**
      * Token'ın expire olup olmadığını kontrol eder
      */
     public Boolean isTokenExpired(String token) {
         try {
-            final Date expiration = getExpirationDateFromToken(token);
-            return expiration.before(new Date());
+            return verify(token).isExpired();
         } catch (ExpiredJwtException e) {
             return true;
         } catch (JwtException e) {
@@ -232,8 +326,8 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String email = getEmailFromToken(token);
-            return (email.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            VerifiedToken verified = verify(token);
+            return verified.getEmail().equals(userDetails.getUsername()) && !verified.isExpired();
         } catch (JwtException | IllegalArgumentException e) {
             logger.error("JWT token validation failed: {}", e.getMessage());
             return false;
@@ -245,8 +339,7 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token) {
         try {
-            getAllClaimsFromToken(token);
-            return !isTokenExpired(token);
+            return !verify(token).isExpired();
         } catch (JwtException | IllegalArgumentException e) {
             logger.error("JWT token validation failed: {}", e.getMessage());
             return false;
@@ -258,8 +351,8 @@ public class JwtUtil {
      */
     public Boolean validateRefreshToken(String token) {
         try {
-            String tokenType = getTokenTypeFromToken(token);
-            return "REFRESH".equals(tokenType) && !isTokenExpired(token);
+            VerifiedToken verified = verify(token);
+            return "REFRESH".equals(verified.getTokenType()) && !verified.isExpired();
         } catch (JwtException | IllegalArgumentException e) {
             logger.error("Refresh token validation failed: {}", e.getMessage());
             return false;
@@ -271,9 +364,8 @@ public class JwtUtil {
      */
     public Long getTimeToExpiration(String token) {
         try {
-            Date expiration = getExpirationDateFromToken(token);
-            return expiration.getTime() - new Date().getTime();
-        } catch (JwtException e) {
+            return verify(token).getTimeToExpiration();
+        } catch (JwtException | IllegalArgumentException e) {
             return 0L;
         }
     }
@@ -290,7 +382,7 @@ public class JwtUtil {
      * Token'dan user information map'i çıkarır
      */
     public Map<String, Object> getUserInfoFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
+        Claims claims = verify(token).getClaims();
         Map<String, Object> userInfo = new HashMap<>();
 
         userInfo.put("userId", claims.get("userId"));
@@ -310,7 +402,7 @@ public class JwtUtil {
      */
     public String parseTokenWithErrorDetails(String token) {
         try {
-            Claims claims = getAllClaimsFromToken(token);
+            Claims claims = verify(token).getClaims();
             return "Token is valid. Subject: " + claims.getSubject() +
                     ", Expiration: " + claims.getExpiration();
         } catch (ExpiredJwtException e) {
@@ -336,4 +428,59 @@ public class JwtUtil {
     public Long getJwtRefreshExpirationMs() {
         return jwtRefreshExpirationMs;
     }
-}
\ No newline at end of file
+
+    /**
+     * İmzası doğrulanmış token'ın tipli claim'leri (değişmez)
+     */
+    public static final class VerifiedToken {
+        private final Claims claims;
+        private final String tokenId;
+        private final String email;
+        private final Long userId;
+        private final String fullName;
+        private final String role;
+        private final Long companyId;
+        private final Long departmentId;
+        private final String tokenType;
+        private final Date expiration;
+
+        VerifiedToken(Claims claims) {
+            this.claims = claims;
+            this.tokenId = claims.getId();
+            this.email = claims.getSubject();
+            this.userId = toLong(claims.get("userId"));
+            this.fullName = (String) claims.get("fullName");
+            this.role = (String) claims.get("role");
+            this.companyId = toLong(claims.get("companyId"));
+            this.departmentId = toLong(claims.get("departmentId"));
+            this.tokenType = (String) claims.get("tokenType");
+            this.expiration = claims.getExpiration();
+        }
+
+        private static Long toLong(Object value) {
+            return value != null ? Long.valueOf(value.toString()) : null;
+        }
+
+        public boolean isExpired() {
+            return expiration != null && expiration.getTime() < System.currentTimeMillis();
+        }
+
+        /**
+         * exp anına kalan süre (ms); exp yoksa Long.MAX_VALUE
+         */
+        public long getTimeToExpiration() {
+            return expiration != null ? expiration.getTime() - System.currentTimeMillis() : Long.MAX_VALUE;
+        }
+
+        public Claims getClaims() { return claims; }
+        public String getTokenId() { return tokenId; }
+        public String getEmail() { return email; }
+        public Long getUserId() { return userId; }
+        public String getFullName() { return fullName; }
+        public String getRole() { return role; }
+        public Long getCompanyId() { return companyId; }
+        public Long getDepartmentId() { return departmentId; }
+        public String getTokenType() { return tokenType; }
+        public Date getExpiration() { return expiration; }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.smartdeskbackend.util;
+
+import com.example.smartdeskbackend.dto.response.ticket.TicketResponse;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.exception.BusinessLogicException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Ticket listeleri için keyset (cursor) pagination token'ı
+ * Son satırın sıralama anahtarını (priority, createdAt, id) opak bir string olarak taşır
+ */
+public final class TicketCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final TicketPriority priority;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private TicketCursor(TicketPriority priority, LocalDateTime createdAt, Long id) {
+        this.priority = priority;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Sayfanın son satırından bir sonraki sayfanın token'ını üretir
+     */
+    public static String encode(TicketResponse last) {
+        if (last == null || last.getCreatedAt() == null || last.getId() == null) {
+            return null;
+        }
+        String raw = (last.getPriority() != null ? last.getPriority() : "") + SEPARATOR +
+                last.getCreatedAt() + SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token'ı çözer; null/boş token ilk sayfa anlamına gelir
+     */
+    public static TicketCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new TicketCursor(null, null, null);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new BusinessLogicException("Invalid pagination cursor");
+            }
+            TicketPriority priority = parts[0].isEmpty() ? null : TicketPriority.valueOf(parts[0]);
+            return new TicketCursor(priority, LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (BusinessLogicException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BusinessLogicException("Invalid pagination cursor", e);
+        }
+    }
+
+    public boolean isFirstPage() {
+        return createdAt == null;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.smartdeskbackend.util;
+
+/**
+ * Basit token bucket
+ * Kova capacity kadar token ile dolu başlar ve dakikada refillPerMinute token kadar dolar; her istek bir token harcar
+ */
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, int refillPerMinute) {
+        this.capacity = Math.max(1, capacity);
+        this.tokensPerNano = Math.max(1, refillPerMinute) / 60_000_000_000d;
+        this.tokens = this.capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Token varsa harcar ve true döner
+     */
+    public synchronized boolean tryConsume() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Bir sonraki token'a kalan süre (saniye, yukarı yuvarlanmış)
+     */
+    public synchronized long secondsUntilNextToken() {
+        refill();
+        if (tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano / 1_000_000_000d);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.smartdeskbackend.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * İş takviminden derlenen değişmez çalışma süresi tablosu
+ * Ufuk içindeki her gün için o günün başına kadar geçen çalışma günü sayısı ve çalışma günlerinin sıkıştırılmış
+ * indeksi önceden hesaplanır; süre ekleme ve iki an arası çalışma süresi sabit zamanlı dizi erişimidir.
+ * Ufuk dışı tarihlerde gün gün hesaplamaya düşülür. Girdi/çıktı sunucu saatindedir, hesap takvimin saat diliminde yapılır
+ */
+public final class WorkingTimeTable {
+
+    private final ZoneId zone;
+    private final Set<DayOfWeek> workDays;
+    private final Set<LocalDate> holidays;
+    private final int openSecond;
+    private final int closeSecond;
+    private final long daySeconds;
+
+    private final long originDay;
+    private final int[] workingDaysBefore;
+    private final int[] workingDayIndex;
+
+    private WorkingTimeTable(ZoneId zone, Set<DayOfWeek> workDays, Set<LocalDate> holidays,
+                             LocalTime open, LocalTime close, LocalDate from, LocalDate to) {
+        this.zone = zone;
+        this.workDays = workDays;
+        this.holidays = holidays;
+        this.openSecond = open.toSecondOfDay();
+        this.closeSecond = close.toSecondOfDay();
+        this.daySeconds = closeSecond - openSecond;
+        this.originDay = from.toEpochDay();
+
+        int days = (int) (to.toEpochDay() - originDay) + 1;
+        int[] before = new int[days + 1];
+        int[] index = new int[days];
+        int working = 0;
+        for (int day = 0; day < days; day++) {
+            before[day] = working;
+            if (isWorkingDay(from.plusDays(day))) {
+                index[working++] = day;
+            }
+        }
+        before[days] = working;
+        this.workingDaysBefore = before;
+        this.workingDayIndex = Arrays.copyOf(index, working);
+    }
+
+    /**
+     * Takvimi [from, to] ufkunda derler
+     * @throws IllegalArgumentException çalışma günü yoksa ya da bitiş saati başlangıçtan önce değilse
+     */
+    public static WorkingTimeTable compile(ZoneId zone, Collection<DayOfWeek> workDays, Collection<LocalDate> holidays,
+                                           LocalTime open, LocalTime close, LocalDate from, LocalDate to) {
+        if (workDays == null || workDays.isEmpty()) {
+            throw new IllegalArgumentException("Business calendar needs at least one working day");
+        }
+        if (open == null || close == null || !open.isBefore(close)) {
+            throw new IllegalArgumentException("Business calendar working hours must start before they end");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Business calendar horizon is empty");
+        }
+        return new WorkingTimeTable(zone, EnumSet.copyOf(workDays),
+                holidays != null ? Set.copyOf(holidays) : Set.of(), open, close, from, to);
+    }
+
+    // ============ LOOKUPS ============
+
+    /**
+     * start'tan itibaren verilen çalışma dakikası dolduğunda ulaşılan an
+     * Süre mesai bitişinde dolarsa sonuç o günün kapanış saatidir (ertesi günün açılışı değil)
+     */
+    public LocalDateTime addWorkingMinutes(LocalDateTime start, long minutes) {
+        if (minutes <= 0) {
+            return start;
+        }
+        LocalDateTime local = toZone(start);
+        long seconds = minutes * 60;
+        int day = dayIndex(local.toLocalDate());
+        if (day >= 0) {
+            long target = workingSeconds(day, local.toLocalTime()) + seconds;
+            int ordinal = (int) ((target - 1) / daySeconds);
+            if (ordinal < workingDayIndex.length) {
+                LocalDate date = LocalDate.ofEpochDay(originDay + workingDayIndex[ordinal]);
+                long offset = target - (long) ordinal * daySeconds;
+                return fromZone(date.atStartOfDay().plusSeconds(openSecond + offset));
+            }
+        }
+        return fromZone(addSlow(local, seconds));
+    }
+
+    /**
+     * İki an arasındaki çalışma dakikası; to, from'dan önceyse negatif döner
+     */
+    public long workingMinutesBetween(LocalDateTime from, LocalDateTime to) {
+        if (to.isBefore(from)) {
+            return -workingMinutesBetween(to, from);
+        }
+        LocalDateTime localFrom = toZone(from);
+        LocalDateTime localTo = toZone(to);
+        int fromDay = dayIndex(localFrom.toLocalDate());
+        int toDay = dayIndex(localTo.toLocalDate());
+        long seconds = fromDay >= 0 && toDay >= 0
+                ? workingSeconds(toDay, localTo.toLocalTime()) - workingSeconds(fromDay, localFrom.toLocalTime())
+                : betweenSlow(localFrom, localTo);
+        return seconds / 60;
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return workDays.contains(date.getDayOfWeek()) && !holidays.contains(date);
+    }
+
+    public ZoneId getZone() { return zone; }
+
+    public LocalDate getHorizonStart() { return LocalDate.ofEpochDay(originDay); }
+
+    public LocalDate getHorizonEnd() { return LocalDate.ofEpochDay(originDay + workingDaysBefore.length - 2); }
+
+    // ============ HELPERS ============
+
+    /**
+     * Ufuk başından verilen güne ve saate kadar geçen çalışma saniyesi
+     */
+    private long workingSeconds(int day, LocalTime time) {
+        long elapsed = workingDaysBefore[day] * daySeconds;
+        if (workingDaysBefore[day + 1] > workingDaysBefore[day]) {
+            elapsed += clamp(time.toSecondOfDay() - openSecond);
+        }
+        return elapsed;
+    }
+
+    private int dayIndex(LocalDate date) {
+        long day = date.toEpochDay() - originDay;
+        return day >= 0 && day < workingDaysBefore.length - 1 ? (int) day : -1;
+    }
+
+    private long clamp(long secondOfShift) {
+        return Math.max(0, Math.min(daySeconds, secondOfShift));
+    }
+
+    private LocalDateTime addSlow(LocalDateTime start, long seconds) {
+        LocalDate date = start.toLocalDate();
+        long from = start.toLocalTime().toSecondOfDay();
+        long remaining = seconds;
+        while (true) {
+            if (isWorkingDay(date)) {
+                long begin = Math.max(openSecond, from);
+                long available = closeSecond - begin;
+                if (available >= remaining) {
+                    return date.atStartOfDay().plusSeconds(begin + remaining);
+                }
+                remaining -= Math.max(0, available);
+            }
+            date = date.plusDays(1);
+            from = 0;
+        }
+    }
+
+    private long betweenSlow(LocalDateTime from, LocalDateTime to) {
+        long total = 0;
+        LocalDate lastDate = to.toLocalDate();
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(lastDate); date = date.plusDays(1)) {
+            if (!isWorkingDay(date)) {
+                continue;
+            }
+            long begin = date.equals(from.toLocalDate()) ? from.toLocalTime().toSecondOfDay() : 0;
+            long end = date.equals(lastDate) ? to.toLocalTime().toSecondOfDay() : 86_400;
+            total += Math.max(0, Math.min(closeSecond, end) - Math.max(openSecond, begin));
+        }
+        return total;
+    }
+
+    private LocalDateTime toZone(LocalDateTime serverTime) {
+        return serverTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDateTime();
+    }
+
+    private LocalDateTime fromZone(LocalDateTime zoneTime) {
+        return zoneTime.atZone(zone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,3 @@
+-- Otomatik atama agent yük index'inin yükleme/uzlaştırma sorguları için
+CREATE INDEX idx_ticket_agent_status ON tickets(assigned_agent_id, status);
+CREATE INDEX idx_user_department_role ON users(department_id, role, status);
@@ -0,0 +1,19 @@
+-- Logout ile iptal edilen JWT'ler; kayıtlar token süresi dolunca silinir
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(64) PRIMARY KEY,
+    user_id BIGINT,
+    expires_at DATETIME NOT NULL,
+    revoked_at DATETIME NOT NULL,
+    version BIGINT NOT NULL
+);
+
+CREATE INDEX idx_revoked_token_version ON revoked_tokens(version);
+CREATE INDEX idx_revoked_token_expires ON revoked_tokens(expires_at);
+
+-- Node'ların yokladığı iptal sayacı (tek satır)
+CREATE TABLE token_revocation_version (
+    id INT PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO token_revocation_version (id, version) VALUES (1, 0);
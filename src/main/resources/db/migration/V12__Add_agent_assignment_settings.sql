@@ -0,0 +1,3 @@
+-- Otomatik atama için agent'a özel kapasite (NULL ise app.business.assignment.agent-capacity) ve ticket kabulü
+ALTER TABLE users ADD COLUMN max_open_tickets INT NULL;
+ALTER TABLE users ADD COLUMN accepting_tickets BOOLEAN NOT NULL DEFAULT TRUE;
@@ -0,0 +1,2 @@
+-- SLA risk bildiriminin gönderildiği deadline; node'lar arasında aynı bildirimin tekrarını engeller
+ALTER TABLE tickets ADD COLUMN sla_risk_notified_deadline TIMESTAMP NULL;
@@ -0,0 +1,5 @@
+-- Keyset (cursor) pagination indexes
+-- Liste sorguları (created_at DESC, id DESC) sırasıyla seek eder; OFFSET yerine index üzerinden devam edilir
+CREATE INDEX idx_ticket_company_created ON tickets(company_id, created_at, id);
+CREATE INDEX idx_ticket_agent_created ON tickets(assigned_agent_id, created_at, id);
+CREATE INDEX idx_ticket_created_id ON tickets(created_at, id);
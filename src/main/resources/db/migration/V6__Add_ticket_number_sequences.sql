@@ -0,0 +1,5 @@
+-- Günlük ticket numarası sayacı (node'lar blok halinde aralık ayırır)
+CREATE TABLE ticket_number_sequences (
+    seq_date DATE NOT NULL PRIMARY KEY,
+    last_value BIGINT NOT NULL DEFAULT 0
+);
@@ -0,0 +1,36 @@
+-- Ticket rollup tabloları
+-- Satırlar ticket'ın oluşturulduğu saat/gün bazında tutulur ve o dilim yeniden hesaplanarak güncellenir
+CREATE TABLE ticket_rollup_hourly (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    company_id BIGINT NOT NULL,
+    bucket_start DATETIME NOT NULL,
+    department_id BIGINT NULL,
+    category VARCHAR(50) NULL,
+    priority VARCHAR(20) NOT NULL,
+    agent_id BIGINT NULL,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    resolved_count BIGINT NOT NULL DEFAULT 0,
+    breached_count BIGINT NOT NULL DEFAULT 0,
+    satisfaction_sum BIGINT NOT NULL DEFAULT 0,
+    satisfaction_count BIGINT NOT NULL DEFAULT 0,
+    resolution_minutes_sum BIGINT NOT NULL DEFAULT 0,
+    INDEX idx_rollup_hourly_company_bucket (company_id, bucket_start)
+);
+
+CREATE TABLE ticket_rollup_daily (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    company_id BIGINT NOT NULL,
+    bucket_date DATE NOT NULL,
+    department_id BIGINT NULL,
+    category VARCHAR(50) NULL,
+    priority VARCHAR(20) NOT NULL,
+    agent_id BIGINT NULL,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    resolved_count BIGINT NOT NULL DEFAULT 0,
+    breached_count BIGINT NOT NULL DEFAULT 0,
+    satisfaction_sum BIGINT NOT NULL DEFAULT 0,
+    satisfaction_count BIGINT NOT NULL DEFAULT 0,
+    resolution_minutes_sum BIGINT NOT NULL DEFAULT 0,
+    INDEX idx_rollup_daily_company_bucket (company_id, bucket_date),
+    INDEX idx_rollup_daily_company_agent (company_id, agent_id, bucket_date)
+);
@@ -0,0 +1,10 @@
+-- Zamanlanmış işler için node'lar arası süreli kilit
+CREATE TABLE scheduler_locks (
+    lock_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at DATETIME NOT NULL,
+    locked_until DATETIME NOT NULL
+);
+
+-- SLA escalation işinin keyset taraması için
+CREATE INDEX idx_ticket_sla_due ON tickets(first_response_at, sla_deadline);
@@ -0,0 +1,28 @@
+-- SLA süreleri için şirket/departman iş takvimleri
+CREATE TABLE business_calendars (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    company_id BIGINT NOT NULL,
+    department_id BIGINT,
+    name VARCHAR(100) NOT NULL,
+    time_zone VARCHAR(50),
+    work_days VARCHAR(50) NOT NULL DEFAULT 'MON,TUE,WED,THU,FRI',
+    work_start TIME NOT NULL DEFAULT '09:00:00',
+    work_end TIME NOT NULL DEFAULT '18:00:00',
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+    version BIGINT,
+    CONSTRAINT fk_business_calendar_company FOREIGN KEY (company_id) REFERENCES companies(id),
+    CONSTRAINT fk_business_calendar_department FOREIGN KEY (department_id) REFERENCES departments(id)
+);
+
+CREATE INDEX idx_business_calendar_company ON business_calendars(company_id, department_id);
+
+CREATE TABLE business_calendar_holidays (
+    calendar_id BIGINT NOT NULL,
+    holiday_date DATE NOT NULL,
+    PRIMARY KEY (calendar_id, holiday_date),
+    CONSTRAINT fk_calendar_holiday_calendar FOREIGN KEY (calendar_id) REFERENCES business_calendars(id) ON DELETE CASCADE
+);
@@ -0,0 +1,114 @@
+package com.example.smartdeskbackend.repository;
+
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Department;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Referans entity'leri için Hibernate second-level ve query cache testleri
+ * Her adım ayrı transaction'da çalışır; böylece persistence context değil L2 cache ölçülür.
+ */
+public class ReferenceEntityCacheTest extends CommittingJpaTest {
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long companyId;
+    private Long departmentId;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(status -> {
+            Company company = new Company();
+            company.setName("Acme");
+            company.setDomain("acme.test");
+            entityManager.persist(company);
+
+            Department department = new Department();
+            department.setName("Support");
+            department.setCompany(company);
+            entityManager.persist(department);
+
+            companyId = company.getId();
+            departmentId = department.getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("departments", "companies");
+    }
+
+    @Test
+    void findByIdHitsDatabaseOnlyOnce() {
+        Statistics statistics = statistics();
+
+        tx.executeWithoutResult(status -> {
+            assertEquals("Acme", companyRepository.findById(companyId).orElseThrow().getName());
+            assertEquals("Support", departmentRepository.findById(departmentId).orElseThrow().getName());
+        });
+        assertEquals(2, statistics.getPrepareStatementCount(), "cold cache: one select per entity");
+
+        tx.executeWithoutResult(status -> {
+            assertEquals("Acme", companyRepository.findById(companyId).orElseThrow().getName());
+            assertEquals("Support", departmentRepository.findById(departmentId).orElseThrow().getName());
+        });
+        assertEquals(2, statistics.getPrepareStatementCount(), "warm cache: no further selects");
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void findByDomainIsServedFromQueryCache() {
+        Statistics statistics = statistics();
+
+        tx.executeWithoutResult(status -> assertTrue(companyRepository.findByDomain("acme.test").isPresent()));
+        long coldStatements = statistics.getPrepareStatementCount();
+        assertTrue(coldStatements > 0);
+
+        tx.executeWithoutResult(status -> assertTrue(companyRepository.findByDomain("acme.test").isPresent()));
+        assertEquals(coldStatements, statistics.getPrepareStatementCount(), "query and entity come from cache");
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void updatesInvalidateEntityAndQueryCache() {
+        tx.executeWithoutResult(status -> {
+            companyRepository.findByDomain("acme.test").orElseThrow();
+            companyRepository.findById(companyId).orElseThrow();
+        });
+
+        tx.executeWithoutResult(status -> {
+            Company company = companyRepository.findById(companyId).orElseThrow();
+            company.setName("Acme Corp");
+            company.setDomain("acme-corp.test");
+        });
+
+        tx.executeWithoutResult(status -> {
+            assertEquals("Acme Corp", companyRepository.findById(companyId).orElseThrow().getName());
+            assertFalse(companyRepository.findByDomain("acme.test").isPresent());
+            assertTrue(companyRepository.findByDomain("acme-corp.test").isPresent());
+        });
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -1,4 +1,227 @@
 package com.example.smartdeskbackend.repository;
 
+import com.example.smartdeskbackend.dto.response.ticket.TicketResponse;
+import com.example.smartdeskbackend.entity.*;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.TicketStatus;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.support.H2DataJpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TicketRepository liste sorguları (projection + keyset) testleri
+ * Embedded H2 ile çalışır, MySQL gerektirmez
+ */
+@H2DataJpaTest
 public class TicketRepositoryTest {
+
+    private static final int TICKET_COUNT = 25;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setName("Acme");
+        entityManager.persist(company);
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < TICKET_COUNT; i++) {
+            Department department = new Department();
+            department.setName("Department " + i);
+            department.setCompany(company);
+            entityManager.persist(department);
+
+            User agent = new User("agent" + i + "@acme.test", "hash", "Agent", "No" + i, UserRole.AGENT);
+            agent.setCompany(company);
+            entityManager.persist(agent);
+
+            Customer customer = new Customer();
+            customer.setEmail("customer" + i + "@acme.test");
+            customer.setFirstName("Customer");
+            customer.setLastName("No" + i);
+            customer.setCompany(company);
+            entityManager.persist(customer);
+
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Ticket " + i);
+            ticket.setDescription("Description " + i);
+            ticket.setTicketNumber("TK-TEST-" + i);
+            ticket.setCompany(company);
+            ticket.setCustomer(customer);
+            ticket.setAssignedAgent(agent);
+            ticket.setDepartment(department);
+            ticket.setPriority(i % 2 == 0 ? TicketPriority.HIGH : TicketPriority.LOW);
+            // Aynı createdAt'e sahip satırlar id ile ayrışmalı
+            ticket.setCreatedAt(base.plusMinutes(i % 5));
+            entityManager.persist(ticket);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projectionPageUsesSelectAndCountOnly() {
+        Statistics statistics = statistics();
+
+        Page<TicketResponse> page = ticketRepository.findResponsesByCompanyId(company.getId(), PageRequest.of(0, 20));
+        page.getContent().forEach(r -> {
+            assertNotNull(r.getCustomerName());
+            assertEquals("Acme", r.getCustomerCompanyName());
+            assertNotNull(r.getAssignedAgentName());
+            assertNotNull(r.getDepartmentName());
+        });
+
+        assertEquals(20, page.getNumberOfElements());
+        assertEquals(TICKET_COUNT, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount(), "page query + count query");
+    }
+
+    @Test
+    void projectionSliceUsesSingleStatement() {
+        Statistics statistics = statistics();
+
+        Slice<TicketResponse> slice = ticketRepository.findByCompanyIdSeek(company.getId(), null, null, PageRequest.of(0, 20));
+        slice.getContent().forEach(r -> assertNotNull(r.getAssignedAgentName()));
+
+        assertTrue(slice.hasNext());
+        assertEquals(1, statistics.getPrepareStatementCount(), "no count query in cursor mode");
+    }
+
+    @Test
+    void companySeekVisitsEveryTicketOnce() {
+        Set<Long> seen = new HashSet<>();
+        Slice<TicketResponse> slice = ticketRepository.findByCompanyIdSeek(company.getId(), null, null, PageRequest.of(0, 7));
+        while (true) {
+            slice.getContent().forEach(r -> assertTrue(seen.add(r.getId())));
+            if (!slice.hasNext()) break;
+            TicketResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = ticketRepository.findByCompanyIdSeek(company.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 7));
+        }
+        assertEquals(TICKET_COUNT, seen.size());
+    }
+
+    @Test
+    void exactMultipleOfPageSizeEndsWithoutEmptySlice() {
+        Slice<TicketResponse> slice = ticketRepository.findByCompanyIdSeek(company.getId(), null, null, PageRequest.of(0, 5));
+        int slices = 1;
+        while (slice.hasNext()) {
+            TicketResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = ticketRepository.findByCompanyIdSeek(company.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 5));
+            slices++;
+            assertEquals(5, slice.getNumberOfElements());
+        }
+        assertEquals(5, slices);
+    }
+
+    @Test
+    void activeSeekVisitsEveryTicketOnce() {
+        Set<Long> seen = new HashSet<>();
+        Slice<TicketResponse> slice = ticketRepository.findActiveTicketsSeek(company.getId(), null, null, null, PageRequest.of(0, 7));
+        while (true) {
+            slice.getContent().forEach(r -> assertTrue(seen.add(r.getId())));
+            if (!slice.hasNext()) break;
+            TicketResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = ticketRepository.findActiveTicketsSeek(company.getId(), TicketPriority.valueOf(last.getPriority()),
+                    last.getCreatedAt(), last.getId(), PageRequest.of(0, 7));
+        }
+        assertEquals(TICKET_COUNT, seen.size());
+    }
+
+    @Test
+    void ticketStatsAggregateUsesSingleStatement() {
+        Statistics statistics = statistics();
+
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+        long high = 0;
+        long unassigned = 0;
+        for (Object[] row : ticketRepository.aggregateTicketStats(company.getId(), now.plusHours(2), now.minusMonths(1))) {
+            long count = ((Number) row[2]).longValue();
+            total += count;
+            if (row[1] == TicketPriority.HIGH) {
+                high += count;
+            }
+            unassigned += ((Number) row[3]).longValue();
+        }
+
+        assertEquals(TICKET_COUNT, total);
+        assertEquals((TICKET_COUNT + 1) / 2, high);
+        assertEquals(0, unassigned, "every ticket has an agent");
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void slaEscalationSeeksDueTicketsAndEscalatesInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.getEntityManager().createQuery("UPDATE Ticket t SET t.slaDeadline = :deadline")
+                .setParameter("deadline", now.minusMinutes(5)).executeUpdate();
+        entityManager.getEntityManager().createQuery(
+                        "UPDATE Ticket t SET t.firstResponseAt = :now WHERE t.ticketNumber = 'TK-TEST-0'")
+                .setParameter("now", now).executeUpdate();
+        assertEquals(TICKET_COUNT - 1, ticketRepository.countSlaDue(now, Ticket.SLA_TIMER_EXCLUDED_STATUSES));
+
+        long afterId = 0;
+        int escalated = 0;
+        List<Long> chunk;
+        while (!(chunk = ticketRepository.findSlaDueIds(afterId, now, Ticket.SLA_TIMER_EXCLUDED_STATUSES,
+                PageRequest.of(0, 7))).isEmpty()) {
+            escalated += ticketRepository.bulkEscalateSlaDue(chunk, now, Ticket.SLA_TIMER_EXCLUDED_STATUSES);
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        entityManager.clear();
+
+        assertEquals(TICKET_COUNT - 1, escalated);
+        assertEquals(0, ticketRepository.countSlaDue(now, Ticket.SLA_TIMER_EXCLUDED_STATUSES));
+        Ticket high = ticketRepository.findByTicketNumber("TK-TEST-2").orElseThrow();
+        assertEquals(TicketStatus.ESCALATED, high.getStatus());
+        assertEquals(TicketPriority.URGENT, high.getPriority());
+        assertEquals(1, high.getEscalationLevel().intValue());
+        assertEquals(TicketPriority.NORMAL, ticketRepository.findByTicketNumber("TK-TEST-1").orElseThrow().getPriority());
+        assertNotEquals(TicketStatus.ESCALATED,
+                ticketRepository.findByTicketNumber("TK-TEST-0").orElseThrow().getStatus(), "responded in time");
+    }
+
+    @Test
+    void slaRiskNotificationIsClaimedOncePerDeadline() {
+        Long ticketId = entityManager.getEntityManager()
+                .createQuery("SELECT MIN(t.id) FROM Ticket t", Long.class).getSingleResult();
+        LocalDateTime deadline = LocalDateTime.of(2024, 1, 2, 9, 0);
+
+        assertEquals(1, ticketRepository.claimSlaRiskNotification(ticketId, deadline));
+        assertEquals(0, ticketRepository.claimSlaRiskNotification(ticketId, deadline), "another node");
+        assertEquals(1, ticketRepository.claimSlaRiskNotification(ticketId, deadline.plusHours(4)), "deadline moved");
+    }
+
+        private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
 }
@@ -1,4 +1,113 @@
 package com.example.smartdeskbackend.security;
 
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.service.TokenRevocationService;
+import com.example.smartdeskbackend.util.JwtUtil;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtUtil doğrulama testleri
+ * Token bir kez doğrulanıp claim'leri cache'ten okunmalı; süresi dolmuş, imzası bozuk ya da iptal edilmiş token
+ * kabul edilmemeli
+ */
 public class JwtUtilTest {
+
+    private static final String SECRET = "TestSecretKeyForJwtUtilVerificationThatIsLongEnoughForHmacSha";
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil(SECRET, 60_000L);
+
+        Company company = new Company();
+        company.setId(7L);
+        user = new User("agent@acme.test", "hash", "Ayşe", "Yılmaz", UserRole.AGENT);
+        user.setId(42L);
+        user.setCompany(company);
+    }
+
+    @Test
+    void verifiedTokenIsServedFromCacheWithoutSignatureCheck() {
+        String token = jwtUtil.generateAccessToken(user);
+
+        JwtUtil.VerifiedToken verified = jwtUtil.verify(token);
+        assertEquals("agent@acme.test", verified.getEmail());
+        assertEquals(42L, verified.getUserId());
+        assertEquals(7L, verified.getCompanyId());
+        assertNull(verified.getDepartmentId());
+        assertEquals("ACCESS", verified.getTokenType());
+
+        // Farklı anahtarlı parser ile yeni token doğrulanamaz; cache'teki token yine de döner
+        ReflectionTestUtils.setField(jwtUtil, "parser",
+                Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.replace('T', 'X').getBytes())).build());
+        assertSame(verified, jwtUtil.verify(token));
+        assertSame(verified, jwtUtil.verify("Bearer " + token));
+        assertEquals(42L, jwtUtil.getUserIdFromToken(token));
+        assertThrows(JwtException.class, () -> jwtUtil.verify(jwtUtil.generateRefreshToken(user)));
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = jwtUtil(SECRET, -1_000L).generateAccessToken(user);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+        assertFalse(jwtUtil.validateToken(token));
+        assertTrue(jwtUtil.verifyIfValid(token).isEmpty());
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String forged = jwtUtil(SECRET.replace('T', 'X'), 60_000L).generateAccessToken(user);
+
+        assertTrue(jwtUtil.verifyIfValid(forged).isEmpty());
+        assertFalse(jwtUtil.validateToken(forged));
+        assertTrue(jwtUtil.validateToken(jwtUtil.generateAccessToken(user)));
+    }
+
+    @Test
+    void revokedTokenIsRejectedEvenWhenCached() {
+        Set<String> revoked = new HashSet<>();
+        ReflectionTestUtils.setField(jwtUtil, "tokenRevocationService", new TokenRevocationService() {
+            @Override public boolean revoke(String tokenId, Long userId, Date expiresAt) { return revoked.add(tokenId); }
+            @Override public boolean isRevoked(String tokenId) { return revoked.contains(tokenId); }
+            @Override public int refresh() { return 0; }
+            @Override public int purgeExpired() { return 0; }
+        });
+        String token = jwtUtil.generateAccessToken(user);
+        String other = jwtUtil.generateAccessToken(user);
+        JwtUtil.VerifiedToken verified = jwtUtil.verify(token);
+        assertNotNull(verified.getTokenId());
+        assertNotEquals(verified.getTokenId(), jwtUtil.verify(other).getTokenId());
+
+        revoked.add(verified.getTokenId());
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(token));
+        assertFalse(jwtUtil.validateToken(token));
+        assertTrue(jwtUtil.validateToken(other));
+    }
+
+    private static JwtUtil jwtUtil(String secret, long expirationMs) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "jwtSecret", secret);
+        ReflectionTestUtils.setField(util, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(util, "jwtRefreshExpirationMs", expirationMs);
+        util.init();
+        return util;
+    }
 }
@@ -0,0 +1,163 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.TicketStatus;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.service.ActivityRecorder;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Write-behind aktivite kaydedici testleri
+ * Mesajlar tek UPDATE'te birleşmeli, sıfırlama önceki artışları silmeli, rollback olan kayıt yazılmamalı ve
+ * entity save'leri flush edilen değerlerin üzerine yazmamalı
+ */
+@Import({ActivityRecorderImpl.class, ActivityRecorderImplTest.Config.class})
+public class ActivityRecorderImplTest extends CommittingJpaTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ApplicationConfig.BusinessProperties businessProperties() {
+            ApplicationConfig.BusinessProperties properties = new ApplicationConfig.BusinessProperties();
+            properties.getActivity().setBatchSize(2);
+            return properties;
+        }
+    }
+
+    private static final LocalDateTime NOON = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).withHour(12);
+
+    @Autowired
+    private ActivityRecorder activityRecorder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long userId;
+    private Long ticketId;
+    private Long otherTicketId;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(status -> {
+            Company company = new Company();
+            company.setName("Acme");
+            entityManager.persist(company);
+
+            User user = new User("agent@acme.test", "hash", "Ayşe", "Yılmaz", UserRole.AGENT);
+            user.setCompany(company);
+            entityManager.persist(user);
+            userId = user.getId();
+
+            ticketId = ticket(company);
+            otherTicketId = ticket(company);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        activityRecorder.flush();
+        deleteFrom("tickets", "users", "companies");
+    }
+
+    @Test
+    void concurrentMessagesCoalesceAndResetDropsEarlierIncrements() throws Exception {
+        Long versionBefore = version(ticketId);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                LocalDateTime at = NOON.plusSeconds(i);
+                futures.add(executor.submit(() -> activityRecorder.recordTicketMessage(ticketId, at)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        activityRecorder.recordTicketMessage(otherTicketId, NOON);
+
+        assertEquals(0, unread(ticketId), "nothing is written before flush");
+        assertEquals(2, activityRecorder.flush());
+        assertEquals(40, unread(ticketId));
+        assertEquals(NOON.plusSeconds(39), lastMessageAt(ticketId));
+        assertEquals(1, unread(otherTicketId));
+        assertEquals(versionBefore, version(ticketId), "write-behind update does not bump the entity version");
+
+        activityRecorder.recordTicketMessage(ticketId, NOON.plusMinutes(5));
+        activityRecorder.resetUnreadMessages(ticketId);
+        activityRecorder.recordTicketMessage(ticketId, NOON.minusMinutes(5));
+        activityRecorder.flush();
+        assertEquals(1, unread(ticketId), "only the message after the reset is unread");
+        assertEquals(NOON.plusMinutes(5), lastMessageAt(ticketId), "an older timestamp never wins");
+
+        tx.executeWithoutResult(status -> entityManager.find(Ticket.class, ticketId).setTitle("Renamed"));
+        assertEquals(1, unread(ticketId), "entity save does not overwrite the flushed counter");
+        assertEquals(NOON.plusMinutes(5), lastMessageAt(ticketId));
+    }
+
+    @Test
+    void loginIsRecordedOnlyAfterCommitAndLatestWins() {
+        tx.executeWithoutResult(status -> {
+            activityRecorder.recordLogin(userId, NOON.plusHours(1));
+            status.setRollbackOnly();
+        });
+        assertEquals(0, activityRecorder.flush(), "rolled back login leaves no trace");
+
+        tx.executeWithoutResult(status -> activityRecorder.recordLogin(userId, NOON));
+        activityRecorder.recordLogin(userId, NOON.minusHours(1));
+        assertEquals(1, activityRecorder.flush());
+        assertEquals(NOON, lastLogin());
+
+        activityRecorder.recordLogin(userId, NOON.minusMinutes(1));
+        activityRecorder.flush();
+        assertEquals(NOON, lastLogin(), "a late flush of an older login does not move the timestamp back");
+    }
+
+    private Long ticket(Company company) {
+        Ticket ticket = new Ticket();
+        ticket.setTitle("Ticket");
+        ticket.setDescription("Description");
+        ticket.setStatus(TicketStatus.OPEN);
+        ticket.setCompany(company);
+        entityManager.persist(ticket);
+        return ticket.getId();
+    }
+
+    private int unread(Long id) {
+        return jdbcTemplate.queryForObject("SELECT unread_message_count FROM tickets WHERE id = ?", Integer.class, id);
+    }
+
+    private LocalDateTime lastMessageAt(Long id) {
+        return jdbcTemplate.queryForObject("SELECT last_message_at FROM tickets WHERE id = ?", LocalDateTime.class, id);
+    }
+
+    private Long version(Long id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM tickets WHERE id = ?", Long.class, id);
+    }
+
+    private LocalDateTime lastLogin() {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM users WHERE id = ?", LocalDateTime.class, userId);
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Department;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.TicketStatus;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.event.listener.AgentLoadEventListener;
+import com.example.smartdeskbackend.service.AgentLoadService;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Agent yük index'i testleri
+ * Seçim en az yüklü agent'tan başlamalı, eşzamanlı atamalar yükü eşit dağıtmalı, commit edilen atama bir kez
+ * sayılmalı, rollback rezervasyonu geri almalı ve reconcile listener'ı atlayan değişiklikleri düzeltmeli; agent'a
+ * özel kapasite ve ticket kabulü seçime yansımalı
+ */
+@Import({AgentLoadServiceImpl.class, LeastLoadedAssignmentStrategy.class, RoundRobinAssignmentStrategy.class,
+        WeightedAssignmentStrategy.class, AgentLoadEventListener.class, AgentLoadServiceImplTest.Config.class})
+public class AgentLoadServiceImplTest extends CommittingJpaTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ApplicationConfig.BusinessProperties businessProperties() {
+            return new ApplicationConfig.BusinessProperties();
+        }
+    }
+
+    @Autowired
+    private AgentLoadService agentLoadService;
+
+    @Autowired
+    private LeastLoadedAssignmentStrategy leastLoadedStrategy;
+
+    @Autowired
+    private WeightedAssignmentStrategy weightedStrategy;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long companyId;
+    private Long departmentId;
+    private Long busyAgentId;
+    private Long normalAgentId;
+    private Long idleAgentId;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(status -> {
+            Company company = new Company();
+            company.setName("Acme");
+            entityManager.persist(company);
+            companyId = company.getId();
+
+            Department department = new Department("Support", company);
+            entityManager.persist(department);
+            departmentId = department.getId();
+
+            busyAgentId = user("busy", UserRole.AGENT, company, department);
+            normalAgentId = user("normal", UserRole.AGENT, company, department);
+            idleAgentId = user("idle", UserRole.AGENT, company, department);
+            user("manager", UserRole.MANAGER, company, department);
+        });
+
+        ticket(busyAgentId, TicketStatus.OPEN);
+        ticket(busyAgentId, TicketStatus.IN_PROGRESS);
+        ticket(busyAgentId, TicketStatus.CLOSED);
+        ticket(normalAgentId, TicketStatus.OPEN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        agentLoadService.invalidateDepartment(departmentId);
+        deleteFrom("tickets", "users", "departments", "companies");
+    }
+
+    @Test
+    void concurrentClaimsSpreadLoadEvenly() throws Exception {
+        assertEquals(List.of(idleAgentId, normalAgentId, busyAgentId), agentLoadService
+                .getAvailableAgents(departmentId, 10).stream()
+                .map(AgentLoadService.AgentLoad::getAgentId).collect(Collectors.toList()),
+                "closed tickets and managers are not counted");
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                futures.add(executor.submit(() -> agentLoadService.claimAgent(departmentId, null).orElseThrow()));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(Map.of(busyAgentId, 5, normalAgentId, 5, idleAgentId, 5), loads());
+    }
+
+    @Test
+    void committedAssignmentCountsOnceAndRollbackReleasesClaim() {
+        Long ticketId = ticket(null, TicketStatus.NEW);
+        tx.executeWithoutResult(status -> assign(ticketId));
+        assertEquals(1, loads().get(idleAgentId), "reservation turns into the committed load");
+
+        Long otherId = ticket(null, TicketStatus.NEW);
+        tx.executeWithoutResult(status -> {
+            assertEquals(normalAgentId, assign(otherId), "tie goes to the agent assigned longest ago");
+            status.setRollbackOnly();
+        });
+        assertEquals(1, loads().get(normalAgentId), "rolled back claim is released");
+
+        tx.executeWithoutResult(status -> entityManager.find(Ticket.class, ticketId).setStatus(TicketStatus.CLOSED));
+        assertEquals(0, loads().get(idleAgentId));
+    }
+
+    @Test
+    void reconcileRepairsChangesMadeOutsideListener() {
+        assertEquals(2, loads().get(busyAgentId));
+
+        jdbcTemplate.update("UPDATE tickets SET status = 'CLOSED' WHERE assigned_agent_id = ?", busyAgentId);
+
+        assertEquals(1, agentLoadService.reconcile());
+        assertEquals(0, loads().get(busyAgentId));
+        assertEquals(0, agentLoadService.reconcile());
+    }
+
+    @Test
+    void perAgentCapacityAndAcceptingTicketsShapeSelection() {
+        assertEquals(3, loads().size());
+        jdbcTemplate.update("UPDATE users SET max_open_tickets = 2 WHERE id = ?", busyAgentId);
+        jdbcTemplate.update("UPDATE users SET max_open_tickets = 4 WHERE id = ?", normalAgentId);
+
+        assertEquals(0, agentLoadService.reconcile(), "capacity change alone is not load drift");
+        assertEquals(Map.of(normalAgentId, 1, idleAgentId, 0), loads(), "agent at its own capacity is skipped");
+        assertEquals(List.of(4, 50), agentLoadService.getAvailableAgents(departmentId, 10).stream()
+                .map(AgentLoadService.AgentLoad::getCapacity).sorted().collect(Collectors.toList()),
+                "agents without their own limit use the global capacity");
+
+        jdbcTemplate.update("UPDATE users SET accepting_tickets = FALSE WHERE id = ?", idleAgentId);
+        agentLoadService.invalidateDepartment(departmentId);
+        assertEquals(Map.of(normalAgentId, 1), loads(), "agent not accepting tickets is never selected");
+    }
+
+    @Test
+    void weightedOrderingFollowsCapacityWhereLeastLoadedDoesNot() {
+        AgentLoadService.AgentLoad large = new AgentLoadService.AgentLoad(1L, 3, 10, 0L);
+        AgentLoadService.AgentLoad small = new AgentLoadService.AgentLoad(2L, 1, 2, 0L);
+
+        assertTrue(leastLoadedStrategy.ordering().compare(small, large) < 0);
+        assertTrue(weightedStrategy.ordering().compare(large, small) < 0, "30% full beats 50% full");
+    }
+
+    private Long assign(Long ticketId) {
+        Long agentId = agentLoadService.claimAgent(departmentId, ticketId).orElseThrow();
+        entityManager.find(Ticket.class, ticketId).assignToAgent(entityManager.find(User.class, agentId));
+        entityManager.flush();
+        return agentId;
+    }
+
+    private Map<Long, Integer> loads() {
+        return agentLoadService.getAvailableAgents(departmentId, 10).stream()
+                .collect(Collectors.toMap(AgentLoadService.AgentLoad::getAgentId,
+                        AgentLoadService.AgentLoad::getOpenTickets));
+    }
+
+    private Long user(String name, UserRole role, Company company, Department department) {
+        User user = new User(name + "@acme.test", "hash", name, "Agent", role);
+        user.setCompany(company);
+        user.setDepartment(department);
+        entityManager.persist(user);
+        return user.getId();
+    }
+
+    private Long ticket(Long agentId, TicketStatus status) {
+        return tx.execute(transaction -> {
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Ticket");
+            ticket.setDescription("Description");
+            ticket.setStatus(status);
+            ticket.setCompany(entityManager.find(Company.class, companyId));
+            ticket.setDepartment(entityManager.find(Department.class, departmentId));
+            if (agentId != null) {
+                ticket.setAssignedAgent(entityManager.find(User.class, agentId));
+            }
+            entityManager.persist(ticket);
+            return ticket.getId();
+        });
+    }
+}
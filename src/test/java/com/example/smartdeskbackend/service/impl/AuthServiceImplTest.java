@@ -0,0 +1,161 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.dto.response.auth.AuthResponse;
+import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.exception.AuthenticationException;
+import com.example.smartdeskbackend.service.ActivityRecorder;
+import com.example.smartdeskbackend.service.AuthService;
+import com.example.smartdeskbackend.service.AuthWorkerService;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import com.example.smartdeskbackend.util.JwtUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.Authentication;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Refresh token iptal testleri
+ * Kullanılan refresh token ikinci kez (eşzamanlı olarak da) token üretememeli; logout sonrası refresh token da
+ * reddedilmeli
+ */
+@Import({AuthServiceImpl.class, JwtUtil.class, TokenRevocationServiceImpl.class, AuthServiceImplTest.Config.class})
+public class AuthServiceImplTest extends CommittingJpaTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ApplicationConfig.SecurityProperties securityProperties() {
+            return new ApplicationConfig.SecurityProperties();
+        }
+
+        @Bean
+        AuthWorkerService authWorkerService() {
+            return new AuthWorkerService() {
+                @Override public void checkRateLimit(String clientIp, String email) { }
+                @Override public Authentication authenticate(Authentication authentication) { return authentication; }
+                @Override public String encodePassword(String rawPassword) { return rawPassword; }
+                @Override public boolean matchesPassword(String rawPassword, String passwordHash) {
+                    return rawPassword.equals(passwordHash);
+                }
+            };
+        }
+
+        @Bean
+        ActivityRecorder activityRecorder() {
+            return new ActivityRecorder() {
+                @Override public void recordLogin(Long userId, LocalDateTime at) { }
+                @Override public void recordTicketMessage(Long ticketId, LocalDateTime at) { }
+                @Override public void resetUnreadMessages(Long ticketId) { }
+                @Override public int flush() { return 0; }
+            };
+        }
+    }
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = tx.execute(status -> {
+            User agent = new User("agent@acme.test", "hash", "Ayşe", "Yılmaz", UserRole.AGENT);
+            entityManager.persist(agent);
+            return agent;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("users", "revoked_tokens", "token_revocation_version");
+    }
+
+    @Test
+    void usedRefreshTokenCannotBeReplayed() {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+
+        AuthResponse rotated = authService.refreshToken(refreshToken);
+        assertNotEquals(refreshToken, rotated.getRefreshToken());
+
+        assertThrows(AuthenticationException.class, () -> authService.refreshToken(refreshToken));
+        assertNotNull(authService.refreshToken(rotated.getRefreshToken()).getAccessToken());
+    }
+
+    @Test
+    void concurrentRefreshWithSameTokenSucceedsOnce() throws Exception {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+        jwtUtil.verify(refreshToken);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        int succeeded = 0;
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<AuthResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return authService.refreshToken(refreshToken);
+                }));
+            }
+            start.countDown();
+            for (Future<AuthResponse> future : futures) {
+                try {
+                    future.get(10, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(AuthenticationException.class, e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, succeeded);
+    }
+
+    @Test
+    void refreshFailsAfterLogout() {
+        String accessToken = jwtUtil.generateAccessToken(user);
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+        String otherUsersRefreshToken = jwtUtil.generateRefreshToken(otherUser());
+
+        authService.logout(accessToken, refreshToken);
+        authService.logout(jwtUtil.generateAccessToken(user), otherUsersRefreshToken);
+
+        assertFalse(jwtUtil.validateToken(accessToken));
+        assertFalse(jwtUtil.validateRefreshToken(refreshToken));
+        assertThrows(AuthenticationException.class, () -> authService.refreshToken(refreshToken));
+        assertTrue(jwtUtil.validateRefreshToken(otherUsersRefreshToken), "another user's token is left alone");
+    }
+
+    private User otherUser() {
+        return tx.execute(status -> {
+            User other = new User("other@acme.test", "hash", "Mehmet", "Demir", UserRole.AGENT);
+            entityManager.persist(other);
+            return other;
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Auth worker havuzu testleri
+ * Kuyruk doluyken yeni iş beklemeden 429 almalı, worker'ın fırlattığı hata aynen iletilmeli; IP ve email
+ * limitleri birbirinden bağımsız uygulanmalı
+ */
+public class AuthWorkerServiceImplTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private AuthWorkerServiceImpl authWorkerService;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationConfig.SecurityProperties properties = new ApplicationConfig.SecurityProperties();
+        properties.getAuthPool().setThreads(1);
+        properties.getAuthPool().setQueueCapacity(1);
+        properties.getAuthPool().setMaxWaitMs(5000);
+        properties.getRateLimit().setRequestsPerMinute(3);
+        properties.getRateLimit().setEmailRequestsPerMinute(2);
+
+        authWorkerService = new AuthWorkerServiceImpl();
+        ReflectionTestUtils.setField(authWorkerService, "securityProperties", properties);
+        ReflectionTestUtils.setField(authWorkerService, "passwordEncoder", new BCryptPasswordEncoder(4));
+        ReflectionTestUtils.setField(authWorkerService, "authenticationManager",
+                (AuthenticationManager) authentication -> {
+                    if ("block".equals(authentication.getName())) {
+                        started.countDown();
+                        awaitRelease();
+                        return authentication;
+                    }
+                    throw new BadCredentialsException("Bad credentials");
+                });
+        authWorkerService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        authWorkerService.shutdown();
+    }
+
+    @Test
+    void fullQueueIsShedWithoutWaiting() throws Exception {
+        CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> authWorkerService.authenticate(
+                new UsernamePasswordAuthenticationToken("block", "secret")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> authWorkerService.encodePassword("secret"));
+        while (queuedTasks() == 0) {
+            Thread.onSpinWait();
+        }
+
+        long begin = System.nanoTime();
+        TooManyRequestsException shed = assertThrows(TooManyRequestsException.class,
+                () -> authWorkerService.matchesPassword("secret", "hash"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin) < 1000, "shedding must not wait");
+        assertEquals(1, shed.getRetryAfterSeconds());
+
+        release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+        assertTrue(authWorkerService.matchesPassword("secret", queued.get(5, TimeUnit.SECONDS)));
+        assertThrows(BadCredentialsException.class, () -> authWorkerService.authenticate(
+                new UsernamePasswordAuthenticationToken("agent@acme.test", "wrong")));
+    }
+
+    @Test
+    void ipAndEmailBucketsAreLimitedIndependently() {
+        authWorkerService.checkRateLimit("10.0.0.1", "agent@acme.test");
+        authWorkerService.checkRateLimit("10.0.0.2", "Agent@Acme.test ");
+        TooManyRequestsException emailLimited = assertThrows(TooManyRequestsException.class,
+                () -> authWorkerService.checkRateLimit("10.0.0.3", "agent@acme.test"));
+        assertTrue(emailLimited.getRetryAfterSeconds() >= 1);
+
+        authWorkerService.checkRateLimit("10.0.0.1", "other@acme.test");
+        authWorkerService.checkRateLimit("10.0.0.1", null);
+        assertThrows(TooManyRequestsException.class, () -> authWorkerService.checkRateLimit("10.0.0.1", null));
+        authWorkerService.checkRateLimit("10.0.0.4", null);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int queuedTasks() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(authWorkerService, "executor");
+        return executor.getQueue().size();
+    }
+}
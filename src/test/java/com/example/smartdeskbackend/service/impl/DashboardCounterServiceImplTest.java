@@ -0,0 +1,127 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Customer;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.enums.CustomerSegment;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.TicketStatus;
+import com.example.smartdeskbackend.event.listener.DashboardCounterEventListener;
+import com.example.smartdeskbackend.service.DashboardCounterService;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dashboard sayaç testleri
+ * Entity değişiklikleri commit sonrası sayaçlara yansımalı, DB dışından yapılan değişiklikler reconcile ile düzelmeli
+ */
+@Import({DashboardCounterServiceImpl.class, DashboardCounterEventListener.class})
+public class DashboardCounterServiceImplTest extends CommittingJpaTest {
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long companyId;
+    private Long ticketId;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(status -> {
+            Company company = new Company();
+            company.setName("Acme");
+            entityManager.persist(company);
+            companyId = company.getId();
+
+            ticketId = persistTicket(company, TicketPriority.HIGH).getId();
+            persistTicket(company, TicketPriority.NORMAL);
+
+            Customer vip = new Customer("vip@acme.test", "Vip", "Customer", company);
+            vip.setSegment(CustomerSegment.VIP);
+            entityManager.persist(vip);
+            entityManager.persist(new Customer("std@acme.test", "Std", "Customer", company));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("tickets", "customers", "companies");
+        // Önceki testlerin şirketleri de yüklü kalır; sayaçları boş DB ile eşitlenir
+        dashboardCounterService.reconcile();
+    }
+
+    @Test
+    void initialSnapshotIsLoadedFromDatabase() {
+        DashboardCounterService.Snapshot snapshot = dashboardCounterService.getSnapshot(companyId);
+
+        assertEquals(2, snapshot.getTotalTickets());
+        assertEquals(2, snapshot.getActiveTickets());
+        assertEquals(2, snapshot.getUnassignedTickets());
+        assertEquals(2L, snapshot.getTickets(TicketStatus.NEW));
+        assertEquals(1L, snapshot.getActiveTicketsByPriority().get(TicketPriority.HIGH));
+        assertEquals(2, snapshot.getActiveCustomers());
+        assertEquals(1, snapshot.getVipCustomers());
+    }
+
+    @Test
+    void committedEntityChangesUpdateCounters() {
+        dashboardCounterService.getSnapshot(companyId);
+
+        tx.executeWithoutResult(status -> {
+            entityManager.find(Ticket.class, ticketId).setStatus(TicketStatus.CLOSED);
+            entityManager.createQuery("SELECT c FROM Customer c WHERE c.email = 'vip@acme.test'", Customer.class)
+                    .getSingleResult().setIsActive(false);
+        });
+
+        DashboardCounterService.Snapshot snapshot = dashboardCounterService.getSnapshot(companyId);
+        assertEquals(2, snapshot.getTotalTickets());
+        assertEquals(1, snapshot.getActiveTickets());
+        assertEquals(1L, snapshot.getTickets(TicketStatus.CLOSED));
+        assertEquals(0L, snapshot.getActiveTicketsByPriority().get(TicketPriority.HIGH));
+        assertEquals(1, snapshot.getActiveCustomers());
+        assertEquals(0, snapshot.getVipCustomers());
+    }
+
+    @Test
+    void rolledBackChangesAreNotCounted() {
+        dashboardCounterService.getSnapshot(companyId);
+
+        tx.executeWithoutResult(status -> {
+            entityManager.find(Ticket.class, ticketId).setStatus(TicketStatus.CLOSED);
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        assertEquals(2, dashboardCounterService.getSnapshot(companyId).getActiveTickets());
+    }
+
+    @Test
+    void reconcileCorrectsDrift() {
+        dashboardCounterService.getSnapshot(companyId);
+        jdbcTemplate.update("UPDATE tickets SET status = 'RESOLVED' WHERE id = ?", ticketId);
+
+        assertEquals(2, dashboardCounterService.getSnapshot(companyId).getActiveTickets());
+        assertEquals(1, dashboardCounterService.reconcile());
+        assertEquals(1, dashboardCounterService.getSnapshot(companyId).getActiveTickets());
+        assertEquals(0, dashboardCounterService.reconcile());
+    }
+
+    private Ticket persistTicket(Company company, TicketPriority priority) {
+        Ticket ticket = new Ticket();
+        ticket.setTitle("Printer broken");
+        ticket.setDescription("It does not print");
+        ticket.setPriority(priority);
+        ticket.setCompany(company);
+        entityManager.persist(ticket);
+        return ticket;
+    }
+}
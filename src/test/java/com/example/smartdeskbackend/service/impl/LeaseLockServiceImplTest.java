@@ -0,0 +1,72 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.service.LeaseLockService;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lease kilidi testleri
+ * İki bean iki ayrı node'u temsil eder; kilit aynı anda tek node'da olmalı
+ */
+@Import(LeaseLockServiceImplTest.Config.class)
+public class LeaseLockServiceImplTest extends CommittingJpaTest {
+
+    private static final String LOCK = "test-job";
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        LeaseLockServiceImpl nodeA() {
+            return new LeaseLockServiceImpl();
+        }
+
+        @Bean
+        LeaseLockServiceImpl nodeB() {
+            return new LeaseLockServiceImpl();
+        }
+    }
+
+    @Autowired
+    @Qualifier("nodeA")
+    private LeaseLockService nodeA;
+
+    @Autowired
+    @Qualifier("nodeB")
+    private LeaseLockService nodeB;
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("scheduler_locks");
+    }
+
+    @Test
+    void lockIsHeldByOneNodeUntilReleased() {
+        assertNotEquals(nodeA.getNodeId(), nodeB.getNodeId());
+
+        assertTrue(nodeA.tryAcquire(LOCK, Duration.ofMinutes(5)));
+        assertFalse(nodeB.tryAcquire(LOCK, Duration.ofMinutes(5)));
+        assertTrue(nodeA.tryAcquire(LOCK, Duration.ofMinutes(5)), "owner renews its lease");
+
+        nodeA.release(LOCK);
+        assertTrue(nodeB.tryAcquire(LOCK, Duration.ofMinutes(5)));
+        assertFalse(nodeA.tryAcquire(LOCK, Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void expiredLeaseCanBeTakenOver() {
+        assertTrue(nodeA.tryAcquire(LOCK, Duration.ZERO));
+        assertTrue(nodeB.tryAcquire(LOCK, Duration.ofMinutes(5)));
+        assertEquals(nodeB.getNodeId(), jdbcTemplate.queryForObject(
+                "SELECT locked_by FROM scheduler_locks WHERE lock_name = ?", String.class, LOCK));
+    }
+}
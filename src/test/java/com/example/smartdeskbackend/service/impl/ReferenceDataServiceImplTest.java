@@ -0,0 +1,172 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.CacheConfig;
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Department;
+import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.enums.UserStatus;
+import com.example.smartdeskbackend.event.UserAuthStateChangedEvent;
+import com.example.smartdeskbackend.event.listener.UserAuthStateEventListener;
+import com.example.smartdeskbackend.exception.ResourceNotFoundException;
+import com.example.smartdeskbackend.service.ReferenceDataService;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import com.example.smartdeskbackend.util.CacheUtil;
+import com.example.smartdeskbackend.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReferenceDataServiceImpl cache testleri
+ * İkinci lookup DB'ye gitmemeli, eviction sonrası güncel değer okunmalı; stateless principal kullanıcı durumunu
+ * cache'ten okumalı ve durum değişikliği commit edilince güncel durumu görmeli; eski departman claim'i taşıyan
+ * token kabul edilmemeli
+ */
+@Import({CacheConfig.class, CacheUtil.class, ReferenceDataServiceImpl.class, UserDetailsServiceImpl.class,
+        UserAuthStateEventListener.class, ReferenceDataServiceImplTest.Config.class})
+public class ReferenceDataServiceImplTest extends CommittingJpaTest {
+
+    @TestConfiguration
+    @EnableCaching
+    static class Config {
+    }
+
+    @Autowired
+    private ReferenceDataService referenceDataService;
+
+    @Autowired
+    private CacheUtil cacheUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Long companyId;
+    private Long departmentId;
+    private User agent;
+
+    @BeforeEach
+    void setUp() {
+        cacheUtil.clearAll();
+        tx.executeWithoutResult(status -> {
+            Company company = new Company();
+            company.setName("Acme");
+            entityManager.persist(company);
+
+            Department department = new Department();
+            department.setName("Support");
+            department.setCompany(company);
+            entityManager.persist(department);
+
+            agent = new User("agent@acme.test", "hash", "Ayşe", "Yılmaz", UserRole.AGENT);
+            agent.setStatus(UserStatus.ACTIVE);
+            agent.setCompany(company);
+            agent.setDepartment(department);
+            entityManager.persist(agent);
+
+            companyId = company.getId();
+            departmentId = department.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("users", "departments", "companies");
+    }
+
+    @Test
+    void departmentIsServedFromCacheUntilEvicted() {
+        ReferenceDataService.DepartmentRef department = referenceDataService.getDepartment(departmentId);
+        assertEquals("Support", department.getName());
+        assertEquals(companyId, department.getCompanyId());
+
+        jdbcTemplate.update("UPDATE departments SET name = 'Billing' WHERE id = ?", departmentId);
+        assertEquals("Support", referenceDataService.getDepartment(departmentId).getName());
+        assertEquals(1L, cacheUtil.getStats().get(CacheUtil.DEPARTMENTS).get("hitCount"));
+
+        cacheUtil.evict(CacheUtil.DEPARTMENTS, departmentId);
+        assertEquals("Billing", referenceDataService.getDepartment(departmentId).getName());
+    }
+
+    @Test
+    void clearByNameOnlyClearsThatCache() {
+        referenceDataService.getCompany(companyId);
+        referenceDataService.getDepartment(departmentId);
+
+        assertTrue(cacheUtil.clear(CacheUtil.COMPANIES));
+        assertFalse(cacheUtil.clear("unknown"));
+        assertEquals(0L, cacheUtil.getStats().get(CacheUtil.COMPANIES).get("size"));
+        assertEquals(1L, cacheUtil.getStats().get(CacheUtil.DEPARTMENTS).get("size"));
+    }
+
+    @Test
+    void statelessPrincipalReadsCachedStateUntilChangeCommits() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "TestSecretKeyForStatelessPrincipalThatIsLongEnoughForHmac");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 60_000L);
+        jwtUtil.init();
+        JwtUtil.VerifiedToken token = jwtUtil.verify(jwtUtil.generateAccessToken(agent));
+
+        UserDetailsServiceImpl.CustomUserPrincipal principal = userDetailsService.loadUserByToken(token);
+        assertEquals(agent.getId(), principal.getId());
+        assertEquals(departmentId, principal.getDepartmentId());
+        assertTrue(principal.isEnabled());
+        assertTrue(principal.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_AGENT")));
+
+        jdbcTemplate.update("UPDATE users SET status = 'INACTIVE' WHERE id = ?", agent.getId());
+        tx.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new UserAuthStateChangedEvent(agent.getId()));
+            assertTrue(userDetailsService.loadUserByToken(token).isEnabled(), "evicted only after commit");
+        });
+        assertFalse(userDetailsService.loadUserByToken(token).isEnabled());
+
+        jdbcTemplate.update("UPDATE users SET status = 'ACTIVE', role = 'MANAGER' WHERE id = ?", agent.getId());
+        eventPublisher.publishEvent(new UserAuthStateChangedEvent(agent.getId()));
+        assertNull(userDetailsService.loadUserByToken(token), "token issued for the old role is stale");
+    }
+
+    @Test
+    void tokenIssuedForOldDepartmentIsStale() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "TestSecretKeyForStatelessPrincipalThatIsLongEnoughForHmac");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 60_000L);
+        jwtUtil.init();
+        JwtUtil.VerifiedToken token = jwtUtil.verify(jwtUtil.generateAccessToken(agent));
+        assertEquals(departmentId, userDetailsService.loadUserByToken(token).getDepartmentId());
+
+        Long billingId = tx.execute(status -> {
+            Department billing = new Department();
+            billing.setName("Billing");
+            billing.setCompany(entityManager.find(Company.class, companyId));
+            entityManager.persist(billing);
+            return billing.getId();
+        });
+        jdbcTemplate.update("UPDATE users SET department_id = ? WHERE id = ?", billingId, agent.getId());
+        eventPublisher.publishEvent(new UserAuthStateChangedEvent(agent.getId()));
+
+        assertEquals(billingId, referenceDataService.getUserAuthState(agent.getId()).getDepartmentId());
+        assertNull(userDetailsService.loadUserByToken(token), "token scoped to the old department is stale");
+    }
+
+    @Test
+    void missingReferenceIsNotCached() {
+        assertThrows(ResourceNotFoundException.class, () -> referenceDataService.getCompany(-1L));
+        assertEquals(0L, cacheUtil.getStats().get(CacheUtil.COMPANIES).get("size"));
+    }
+}
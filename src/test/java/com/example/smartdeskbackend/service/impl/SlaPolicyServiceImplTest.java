@@ -0,0 +1,225 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.config.CacheConfig;
+import com.example.smartdeskbackend.dto.response.sla.SlaPolicySnapshot;
+import com.example.smartdeskbackend.entity.BusinessCalendar;
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Department;
+import com.example.smartdeskbackend.entity.SlaPolicy;
+import com.example.smartdeskbackend.entity.SlaTracking;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.event.listener.SlaPolicyEventListener;
+import com.example.smartdeskbackend.service.SlaPolicyService;
+import com.example.smartdeskbackend.service.SlaTrackingService;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import com.example.smartdeskbackend.util.CacheUtil;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SLA politika matrisi testleri
+ * Çözüm departman -> şirket varsayılanı sırasıyla yapılmalı, ısınmış matris sorgu çalıştırmamalı,
+ * politika değişikliği commit sonrası matrise yansımalı; iş saati politikaları departman takvimini kullanmalı
+ */
+@Import({CacheConfig.class, CacheUtil.class, SlaPolicyServiceImpl.class, SlaTrackingServiceImpl.class,
+        BusinessCalendarServiceImpl.class, SlaPolicyEventListener.class, SlaPolicyServiceImplTest.Config.class})
+public class SlaPolicyServiceImplTest extends CommittingJpaTest {
+
+    @TestConfiguration
+    @EnableCaching
+    static class Config {
+        @Bean
+        ApplicationConfig.BusinessProperties businessProperties() {
+            return new ApplicationConfig.BusinessProperties();
+        }
+    }
+
+    @Autowired
+    private SlaPolicyService slaPolicyService;
+
+    @Autowired
+    private SlaTrackingService slaTrackingService;
+
+    @Autowired
+    private CacheUtil cacheUtil;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long companyId;
+    private Long supportId;
+    private Long billingId;
+    private Long supportHighPolicyId;
+
+    @BeforeEach
+    void setUp() {
+        cacheUtil.clearAll();
+        tx.executeWithoutResult(status -> {
+            Company company = new Company();
+            company.setName("Acme");
+            entityManager.persist(company);
+            companyId = company.getId();
+
+            supportId = department(company, "Support");
+            billingId = department(company, "Billing");
+        });
+
+        slaPolicyService.createSlaPolicy(policy("Default high", TicketPriority.HIGH, null, 8), companyId);
+        slaPolicyService.createSlaPolicy(policy("Default low", TicketPriority.LOW, null, 48), companyId);
+        supportHighPolicyId = slaPolicyService.createSlaPolicy(
+                policy("Support high", TicketPriority.HIGH, supportId, 4), companyId).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("sla_tracking", "tickets", "sla_policies", "business_calendar_holidays", "business_calendars",
+                "departments", "companies");
+    }
+
+    @Test
+    void matrixFallsBackToCompanyDefaultWithoutQueries() {
+        slaPolicyService.getPolicyMatrix(companyId);
+        Statistics statistics = statistics();
+
+        assertEquals(4, resolutionHours(supportId, TicketPriority.HIGH));
+        assertEquals(8, resolutionHours(billingId, TicketPriority.HIGH));
+        assertEquals(8, resolutionHours(999L, TicketPriority.HIGH), "unknown department uses default");
+        assertEquals(48, resolutionHours(supportId, TicketPriority.LOW));
+        assertTrue(slaPolicyService.resolveSlaPolicy(companyId, supportId, TicketPriority.URGENT).isEmpty());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void policyChangesAreVisibleAfterCommit() {
+        assertEquals(4, resolutionHours(supportId, TicketPriority.HIGH));
+
+        SlaPolicy details = policy("Support high", TicketPriority.HIGH, supportId, 2);
+        slaPolicyService.updateSlaPolicy(supportHighPolicyId, details);
+        assertEquals(2, resolutionHours(supportId, TicketPriority.HIGH));
+
+        slaPolicyService.deleteSlaPolicy(supportHighPolicyId);
+        assertEquals(8, resolutionHours(supportId, TicketPriority.HIGH));
+    }
+
+    @Test
+    void slaTrackingCreationIsSingleInsert() {
+        slaPolicyService.getPolicyMatrix(companyId);
+        Long ticketId = tx.execute(status -> {
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Ticket");
+            ticket.setDescription("Description");
+            ticket.setPriority(TicketPriority.HIGH);
+            ticket.setCompany(entityManager.find(Company.class, companyId));
+            ticket.setDepartment(entityManager.find(Department.class, supportId));
+            ticket.setCreatedAt(LocalDateTime.of(2024, 3, 10, 9, 0));
+            entityManager.persist(ticket);
+            return ticket.getId();
+        });
+
+        SlaTracking tracking = tx.execute(status -> {
+            Ticket ticket = entityManager.find(Ticket.class, ticketId);
+            ticket.getCompany().getId();
+            ticket.getDepartment().getId();
+            Statistics statistics = statistics();
+            SlaTracking created = slaTrackingService.createSlaTracking(ticket);
+            entityManager.flush();
+            assertEquals(1, statistics.getPrepareStatementCount());
+            return created;
+        });
+
+        assertEquals(LocalDateTime.of(2024, 3, 10, 13, 0), tracking.getDeadline());
+        assertEquals(supportHighPolicyId, jdbcTemplate.queryForObject(
+                "SELECT sla_policy_id FROM sla_tracking WHERE ticket_id = ?", Long.class, ticketId));
+    }
+
+    @Test
+    void businessHoursPolicyUsesDepartmentCalendar() {
+        // Derlenen takvim bugünün etrafındaki ufku kapsadığı için tarihler bugüne göre seçilir
+        LocalDate sunday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.SUNDAY));
+        tx.executeWithoutResult(status -> {
+            BusinessCalendar calendar = new BusinessCalendar();
+            calendar.setName("Support hours");
+            calendar.setCompany(entityManager.find(Company.class, companyId));
+            calendar.setDepartment(entityManager.find(Department.class, supportId));
+            calendar.setTimeZone(ZoneId.systemDefault().getId());
+            calendar.setWorkStart(LocalTime.of(9, 0));
+            calendar.setWorkEnd(LocalTime.of(17, 0));
+            calendar.setHolidays(Set.of(sunday.plusDays(1)));
+            entityManager.persist(calendar);
+        });
+        SlaPolicy details = policy("Support high", TicketPriority.HIGH, supportId, 10);
+        details.setBusinessHoursOnly(true);
+        slaPolicyService.updateSlaPolicy(supportHighPolicyId, details);
+
+        // Pazar 09:00 oluşturuldu, Pazartesi tatil -> Salı 8 saat + Çarşamba 2 saat
+        SlaTracking tracking = tx.execute(status -> {
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Ticket");
+            ticket.setDescription("Description");
+            ticket.setPriority(TicketPriority.HIGH);
+            ticket.setCompany(entityManager.find(Company.class, companyId));
+            ticket.setDepartment(entityManager.find(Department.class, supportId));
+            ticket.setCreatedAt(sunday.atTime(9, 0));
+            entityManager.persist(ticket);
+            return slaTrackingService.createSlaTracking(ticket);
+        });
+
+        assertEquals(sunday.plusDays(3).atTime(11, 0), tracking.getDeadline());
+    }
+
+    private int resolutionHours(Long departmentId, TicketPriority priority) {
+        return slaPolicyService.resolveSlaPolicy(companyId, departmentId, priority)
+                .map(SlaPolicySnapshot::getResolutionTimeHours)
+                .orElseThrow();
+    }
+
+    private Long department(Company company, String name) {
+        Department department = new Department();
+        department.setName(name);
+        department.setCompany(company);
+        entityManager.persist(department);
+        return department.getId();
+    }
+
+    private SlaPolicy policy(String name, TicketPriority priority, Long departmentId, int resolutionHours) {
+        SlaPolicy policy = new SlaPolicy();
+        policy.setName(name);
+        policy.setAppliesToPriority(priority);
+        policy.setFirstResponseTimeHours(1);
+        policy.setResolutionTimeHours(resolutionHours);
+        policy.setActive(true);
+        if (departmentId != null) {
+            Department department = new Department();
+            department.setId(departmentId);
+            policy.setDepartment(department);
+        }
+        return policy;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
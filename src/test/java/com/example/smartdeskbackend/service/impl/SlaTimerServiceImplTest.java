@@ -0,0 +1,185 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.event.listener.SlaEventListener;
+import com.example.smartdeskbackend.integration.email.EmailService;
+import com.example.smartdeskbackend.service.SlaEscalationService;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SLA zamanlayıcısı testleri
+ * Commit edilen ticket değişiklikleri kuyruğa yansımalı, dolan deadline escalation işini tetiklemeli,
+ * reconcile listener'ı atlayan değişiklikleri yakalamalı
+ */
+@Import({SlaTimerServiceImpl.class, SlaEventListener.class, SlaTimerServiceImplTest.Config.class})
+public class SlaTimerServiceImplTest extends CommittingJpaTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ApplicationConfig.BusinessProperties businessProperties() {
+            return new ApplicationConfig.BusinessProperties();
+        }
+
+        @Bean
+        RecordingEmailService emailService() {
+            return new RecordingEmailService();
+        }
+
+        @Bean
+        RecordingEscalationService slaEscalationService() {
+            return new RecordingEscalationService();
+        }
+    }
+
+    @Autowired
+    private SlaTimerServiceImpl slaTimerService;
+
+    @Autowired
+    private RecordingEmailService emailService;
+
+    @Autowired
+    private RecordingEscalationService escalationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(status -> {
+            company = new Company();
+            company.setName("Acme");
+            entityManager.persist(company);
+        });
+        slaTimerService.start();
+        emailService.notifications.clear();
+        escalationService.requests.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("tickets", "companies");
+        slaTimerService.reconcile();
+    }
+
+    @Test
+    void committedChangesArmAndCancelTimers() {
+        Long ticketId = persistTicket(LocalDateTime.now().plusHours(8));
+        assertEquals(1, slaTimerService.getQueueDepth());
+
+        tx.executeWithoutResult(status ->
+                entityManager.find(Ticket.class, ticketId).setFirstResponseAt(LocalDateTime.now()));
+        assertEquals(0, slaTimerService.getQueueDepth(), "first response stops the SLA timer");
+    }
+
+    @Test
+    void dueDeadlineTriggersEscalationOnce() throws InterruptedException {
+        persistTicket(LocalDateTime.now().minusMinutes(1));
+
+        for (int i = 0; i < 50 && escalationService.requests.get() == 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(1, escalationService.requests.get());
+        assertEquals(0, slaTimerService.getQueueDepth(), "fired deadline leaves the timer");
+        assertTrue(emailService.notifications.isEmpty(), "risk window already passed");
+
+        // Escalate edilmeyen ticket bekleyen kalır; reconcile aynı deadline'ı yeniden kurmamalı
+        assertEquals(0, slaTimerService.reconcile());
+        Thread.sleep(300);
+        assertEquals(1, escalationService.requests.get(), "breach fires once per deadline");
+        assertEquals(0, slaTimerService.getQueueDepth());
+    }
+
+    @Test
+    void reconcileRepairsChangesMadeOutsideListener() {
+        Long ticketId = persistTicket(LocalDateTime.now().plusHours(8));
+        Long otherId = persistTicket(LocalDateTime.now().plusHours(9));
+
+        jdbcTemplate.update("UPDATE tickets SET status = 'CLOSED' WHERE id = ?", ticketId);
+        jdbcTemplate.update("UPDATE tickets SET sla_deadline = ? WHERE id = ?",
+                LocalDateTime.now().plusHours(12), otherId);
+
+        assertEquals(2, slaTimerService.reconcile());
+        assertEquals(1, slaTimerService.getQueueDepth());
+        assertEquals(0, slaTimerService.reconcile());
+    }
+
+    private Long persistTicket(LocalDateTime slaDeadline) {
+        return tx.execute(status -> {
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Ticket");
+            ticket.setDescription("Description");
+            ticket.setPriority(TicketPriority.NORMAL);
+            ticket.setCompany(entityManager.find(Company.class, company.getId()));
+            ticket.setSlaDeadline(slaDeadline);
+            entityManager.persist(ticket);
+            return ticket.getId();
+        });
+    }
+
+    static class RecordingEmailService implements EmailService {
+        final List<String> notifications = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void sendTicketNotification(Ticket ticket, String notificationType) {
+            notifications.add(notificationType);
+        }
+
+        @Override
+        public void sendWelcomeEmail(User user) { }
+
+        @Override
+        public void sendVerificationEmail(User user) { }
+
+        @Override
+        public void sendPasswordResetEmail(User user, String resetToken) { }
+
+        @Override
+        public void sendEmail(String to, String subject, String content) { }
+
+        @Override
+        public void sendHtmlEmail(String to, String subject, String htmlContent) { }
+
+        @Override
+        public void sendTemplateEmail(String to, String subject, String templateName, Object model) { }
+    }
+
+    static class RecordingEscalationService implements SlaEscalationService {
+        final AtomicInteger requests = new AtomicInteger();
+
+        @Override
+        public int escalateDue() { return 0; }
+
+        @Override
+        public void requestRun() {
+            requests.incrementAndGet();
+        }
+
+        @Override
+        public void runIfRequested() { }
+
+        @Override
+        public long getBacklog() { return 0; }
+    }
+}
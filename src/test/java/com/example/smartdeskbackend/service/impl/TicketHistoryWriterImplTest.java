@@ -0,0 +1,101 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.service.TicketHistoryWriter;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TicketHistoryWriterImpl senkron mod testleri
+ * Kayıtlar commit'te yazılmalı, rollback'te hiç yazılmamalı ve sırası korunmalı
+ */
+@Import({TicketHistoryWriterImpl.class, JacksonAutoConfiguration.class, TicketHistoryWriterImplTest.Config.class})
+public class TicketHistoryWriterImplTest extends CommittingJpaTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ApplicationConfig.BusinessProperties businessProperties() {
+            return new ApplicationConfig.BusinessProperties();
+        }
+    }
+
+    @Autowired
+    private TicketHistoryWriter historyWriter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long ticketId;
+
+    @BeforeEach
+    void setUp() {
+        ticketId = tx.execute(status -> {
+            Company company = new Company();
+            company.setName("Acme");
+            entityManager.persist(company);
+
+            Ticket ticket = new Ticket();
+            ticket.setTitle("Ticket");
+            ticket.setDescription("Description");
+            ticket.setTicketNumber("TK-TEST-1");
+            ticket.setCompany(company);
+            entityManager.persist(ticket);
+            return ticket.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("ticket_history", "tickets", "companies");
+    }
+
+    @Test
+    void entriesAreWrittenInOrderAtCommit() {
+        tx.executeWithoutResult(status -> {
+            historyWriter.record(ticketId, "title", "a", "b", null);
+            historyWriter.record(ticketId, "priority", "LOW", "HIGH", null);
+            historyWriter.record(ticketId, "status", "NEW", "OPEN", null);
+            assertEquals(0, countHistory(), "nothing is written before commit");
+        });
+
+        List<String> fields = jdbcTemplate.queryForList(
+                "SELECT field_name FROM ticket_history WHERE ticket_id = ? ORDER BY id", String.class, ticketId);
+        assertEquals(List.of("title", "priority", "status"), fields);
+    }
+
+    @Test
+    void entriesAreDiscardedOnRollback() {
+        tx.executeWithoutResult(status -> {
+            historyWriter.record(ticketId, "title", "a", "b", null);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, countHistory());
+    }
+
+    @Test
+    void entriesOutsideTransactionAreWrittenImmediately() {
+        historyWriter.record(ticketId, "title", "a", "b", null);
+
+        assertEquals(1, countHistory());
+    }
+
+    private int countHistory() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket_history", Integer.class);
+    }
+}
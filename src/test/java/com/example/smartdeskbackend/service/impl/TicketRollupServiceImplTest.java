@@ -0,0 +1,144 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.entity.Company;
+import com.example.smartdeskbackend.entity.Ticket;
+import com.example.smartdeskbackend.entity.User;
+import com.example.smartdeskbackend.enums.TicketCategory;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.enums.UserRole;
+import com.example.smartdeskbackend.event.listener.TicketRollupEventListener;
+import com.example.smartdeskbackend.service.TicketRollupService;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ticket rollup testleri
+ * Rebuild ile üretilen rollup'lar ham ticket verisiyle eşleşmeli; ticket değişikliği sadece işaretli saati yenilemeli
+ */
+@Import({TicketRollupServiceImpl.class, TicketRollupEventListener.class, LeaseLockServiceImpl.class})
+public class TicketRollupServiceImplTest extends CommittingJpaTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+    @Autowired
+    private TicketRollupService ticketRollupService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long companyId;
+    private Long agentId;
+    private Long ticketId;
+
+    @BeforeEach
+    void setUp() {
+        tx.executeWithoutResult(status -> {
+            Company company = new Company();
+            company.setName("Acme");
+            entityManager.persist(company);
+            companyId = company.getId();
+
+            User agent = new User("agent@acme.test", "hash", "Ada", "Agent", UserRole.AGENT);
+            agent.setCompany(company);
+            entityManager.persist(agent);
+            agentId = agent.getId();
+
+            // 09:xx: iki ticket (biri 90 dakikada çözülmüş), 14:xx: bir ticket, ertesi gün: bir ticket
+            Ticket resolved = ticket(company, agent, DAY.atTime(9, 15), TicketCategory.TECHNICAL_SUPPORT);
+            resolved.setResolvedAt(DAY.atTime(10, 45));
+            resolved.setCustomerSatisfactionRating(4);
+            entityManager.persist(resolved);
+            ticketId = resolved.getId();
+
+            entityManager.persist(ticket(company, agent, DAY.atTime(9, 40), TicketCategory.TECHNICAL_SUPPORT));
+            entityManager.persist(ticket(company, null, DAY.atTime(14, 5), TicketCategory.BILLING));
+            entityManager.persist(ticket(company, agent, DAY.plusDays(1).atTime(8, 0), null));
+        });
+        // Kurulumdan kalan işaretler test sonucunu etkilemesin
+        ticketRollupService.flushDirty();
+        deleteFrom("ticket_rollup_hourly", "ticket_rollup_daily");
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("ticket_rollup_hourly", "ticket_rollup_daily", "scheduler_locks", "tickets", "users", "companies");
+    }
+
+    @Test
+    void rebuildProducesDailyAndAgentAggregates() {
+        assertEquals(2, ticketRollupService.rebuild(companyId, DAY, DAY.plusDays(1)));
+
+        List<Object[]> trend = ticketRollupService.getDailyCreationTrend(companyId, DAY);
+        assertEquals(2, trend.size());
+        assertEquals(DAY, trend.get(0)[0]);
+        assertEquals(3L, ((Number) trend.get(0)[1]).longValue());
+        assertEquals(1L, ((Number) trend.get(1)[1]).longValue());
+
+        List<Object[]> categories = ticketRollupService.getMostUsedCategories(companyId);
+        assertEquals(TicketCategory.TECHNICAL_SUPPORT, categories.get(0)[0]);
+        assertEquals(2L, ((Number) categories.get(0)[1]).longValue());
+
+        assertEquals(4.0, ticketRollupService.getAverageCustomerSatisfaction(companyId, DAY));
+        assertEquals(1, ticketRollupService.getDaySummary(companyId, DAY).getResolved());
+
+        List<Object[]> agents = ticketRollupService.getAgentPerformance(companyId, DAY, DAY);
+        assertEquals(1, agents.size());
+        assertEquals(agentId, agents.get(0)[0]);
+        assertEquals(2L, agents.get(0)[3]);
+        assertEquals(0.75, (Double) agents.get(0)[4], 0.0001, "90 minutes over two tickets");
+        assertEquals(1L, agents.get(0)[5]);
+
+        List<Object[]> morning = ticketRollupService.getAgentPerformance(companyId,
+                DAY.atTime(9, 0), DAY.atTime(9, 59));
+        assertEquals(2L, morning.get(0)[3]);
+    }
+
+    @Test
+    void committedTicketChangeRebuildsOnlyItsHour() {
+        ticketRollupService.rebuild(companyId, DAY, DAY);
+        Long afternoonRowId = jdbcTemplate.queryForObject(
+                "SELECT id FROM ticket_rollup_hourly WHERE bucket_start = ?", Long.class, DAY.atTime(14, 0));
+
+        tx.executeWithoutResult(status ->
+                entityManager.find(Ticket.class, ticketId).setCustomerSatisfactionRating(2));
+        assertEquals(4.0, ticketRollupService.getAverageCustomerSatisfaction(companyId, DAY), "not flushed yet");
+
+        assertEquals(1, ticketRollupService.flushDirty());
+        assertEquals(2.0, ticketRollupService.getAverageCustomerSatisfaction(companyId, DAY));
+        assertEquals(afternoonRowId, jdbcTemplate.queryForObject(
+                "SELECT id FROM ticket_rollup_hourly WHERE bucket_start = ?", Long.class, DAY.atTime(14, 0)));
+    }
+
+    @Test
+    void historyBackfillRunsOnlyWhenFirstDayIsUncovered() {
+        assertEquals(2, ticketRollupService.backfillMissingHistory());
+        assertEquals(3L, ticketRollupService.getDaySummary(companyId, DAY).getCreated());
+        assertEquals(1L, ticketRollupService.getDaySummary(companyId, DAY.plusDays(1)).getCreated());
+
+        // İlk gün kapsandığı için ikinci açılış hiçbir şey yapmaz
+        assertEquals(0, ticketRollupService.backfillMissingHistory());
+    }
+
+    private Ticket ticket(Company company, User agent, LocalDateTime createdAt, TicketCategory category) {
+        Ticket ticket = new Ticket();
+        ticket.setTitle("Ticket");
+        ticket.setDescription("Description");
+        ticket.setPriority(TicketPriority.NORMAL);
+        ticket.setCategory(category);
+        ticket.setCompany(company);
+        ticket.setAssignedAgent(agent);
+        ticket.setCreatedAt(createdAt);
+        return ticket;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.smartdeskbackend.service.impl;
+
+import com.example.smartdeskbackend.config.ApplicationConfig;
+import com.example.smartdeskbackend.support.CommittingJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Token iptal listesi testleri
+ * İptal eden node token'ı hemen reddetmeli, diğer node sayacı yokladığında görmeli; süresi dolan iptal
+ * bellekte geçersiz sayılmalı ve DB'den silinmeli; iptal kaydını yalnızca ilk çağrı oluşturmalı
+ */
+@Import(TokenRevocationServiceImplTest.Config.class)
+public class TokenRevocationServiceImplTest extends CommittingJpaTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ApplicationConfig.SecurityProperties securityProperties() {
+            return new ApplicationConfig.SecurityProperties();
+        }
+
+        @Bean
+        TokenRevocationServiceImpl thisNode() {
+            return new TokenRevocationServiceImpl();
+        }
+
+        @Bean
+        TokenRevocationServiceImpl otherNode() {
+            return new TokenRevocationServiceImpl();
+        }
+    }
+
+    @Autowired
+    private TokenRevocationServiceImpl thisNode;
+
+    @Autowired
+    private TokenRevocationServiceImpl otherNode;
+
+    @AfterEach
+    void tearDown() {
+        deleteFrom("revoked_tokens", "token_revocation_version");
+    }
+
+    @Test
+    void revocationIsVisibleLocallyAtOnceAndOnOtherNodeAfterPoll() {
+        Date expiresAt = new Date(System.currentTimeMillis() + 60_000);
+        otherNode.refresh();
+
+        assertTrue(thisNode.revoke("jti-1", 1L, expiresAt));
+        assertFalse(thisNode.revoke("jti-1", 1L, expiresAt), "second revocation does not insert");
+
+        assertTrue(thisNode.isRevoked("jti-1"));
+        assertFalse(thisNode.isRevoked("jti-2"));
+        assertFalse(otherNode.isRevoked("jti-1"), "other node sees it only after polling");
+
+        assertEquals(1, otherNode.refresh());
+        assertTrue(otherNode.isRevoked("jti-1"));
+        assertEquals(0, otherNode.refresh(), "unchanged counter loads nothing");
+
+        thisNode.revoke("jti-2", 2L, expiresAt);
+        assertEquals(1, otherNode.refresh());
+        assertTrue(otherNode.isRevoked("jti-2"));
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT version FROM token_revocation_version", Long.class));
+
+        assertTrue(thisNode.revoke("jti-3", 3L, expiresAt));
+        assertFalse(otherNode.revoke("jti-3", 3L, expiresAt), "row inserted by another node is detected before polling");
+        assertTrue(otherNode.isRevoked("jti-3"));
+    }
+
+    @Test
+    void expiredRevocationsArePruned() throws InterruptedException {
+        thisNode.revoke("short-lived", 1L, new Date(System.currentTimeMillis() + 200));
+        assertTrue(thisNode.isRevoked("short-lived"));
+        jdbcTemplate.update("INSERT INTO revoked_tokens (token_id, user_id, expires_at, revoked_at, version) " +
+                        "VALUES ('expired', 1, ?, ?, 0)",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), Timestamp.valueOf(LocalDateTime.now()));
+
+        Thread.sleep(300);
+
+        assertFalse(thisNode.isRevoked("short-lived"), "revocation ends with the token itself");
+        assertEquals(2, thisNode.purgeExpired());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_tokens", Integer.class));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.smartdeskbackend.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Gerçek commit'lerle çalışan JPA testleri için taban sınıf
+ * Test metodları transaction dışında çalışır; veri tx ile commit edilir, böylece AFTER_COMMIT listener'ları ve
+ * L2 cache gerçek akıştaki gibi davranır. Commit edilen satırlar @AfterEach içinde deleteFrom ile silinir.
+ */
+@H2DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class CommittingJpaTest {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    protected TransactionTemplate tx;
+
+    @BeforeEach
+    void initTransactionTemplate() {
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Tabloları verilen sırayla (önce alt tablolar) boşaltır ve L2 cache'i temizler
+     */
+    protected void deleteFrom(String... tables) {
+        for (String table : tables) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.smartdeskbackend.util;
+
+import com.example.smartdeskbackend.dto.response.ticket.TicketResponse;
+import com.example.smartdeskbackend.enums.TicketPriority;
+import com.example.smartdeskbackend.exception.BusinessLogicException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Keyset pagination token testleri
+ * Token son satırın sıralama anahtarını kayıpsız taşımalı; boş token ilk sayfa, bozuk token iş hatası olmalı
+ */
+public class TicketCursorTest {
+
+    @Test
+    void tokenRoundTripsSortKey() {
+        TicketResponse last = new TicketResponse();
+        last.setId(42L);
+        last.setPriority("HIGH");
+        last.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 30, 15, 123_000_000));
+
+        TicketCursor cursor = TicketCursor.decode(TicketCursor.encode(last));
+
+        assertFalse(cursor.isFirstPage());
+        assertEquals(TicketPriority.HIGH, cursor.getPriority());
+        assertEquals(last.getCreatedAt(), cursor.getCreatedAt());
+        assertEquals(42L, cursor.getId());
+
+        last.setPriority(null);
+        assertNull(TicketCursor.decode(TicketCursor.encode(last)).getPriority());
+    }
+
+    @Test
+    void emptyTokenIsFirstPageAndLastRowWithoutKeyHasNoToken() {
+        assertTrue(TicketCursor.decode(null).isFirstPage());
+        assertTrue(TicketCursor.decode(" ").isFirstPage());
+        assertNull(TicketCursor.encode(null));
+        assertNull(TicketCursor.encode(new TicketResponse()));
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        String wrongParts = Base64.getUrlEncoder().encodeToString("HIGH|2024-01-01T09:00".getBytes(StandardCharsets.UTF_8));
+        String badPriority = Base64.getUrlEncoder().encodeToString("URGENTER|2024-01-01T09:00|1".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BusinessLogicException.class, () -> TicketCursor.decode("not base64!"));
+        assertThrows(BusinessLogicException.class, () -> TicketCursor.decode(wrongParts));
+        assertThrows(BusinessLogicException.class, () -> TicketCursor.decode(badPriority));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.smartdeskbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Derlenmiş çalışma süresi tablosu testleri
+ * Tablo araması, ufuk dışında kullanılan gün gün hesapla aynı sonucu vermeli
+ */
+public class WorkingTimeTableTest {
+
+    private static final LocalDate NEW_YEAR = LocalDate.of(2024, 1, 1);
+
+    private final ZoneId serverZone = ZoneId.systemDefault();
+
+    @Test
+    void deadlinesSkipNightsWeekendsAndHolidays() {
+        WorkingTimeTable table = table(serverZone, LocalDate.of(2023, 12, 1), LocalDate.of(2024, 2, 1));
+
+        // Cuma 16:00 + 4 saat -> Pazartesi 1 Ocak tatil -> Salı 11:00
+        assertEquals(LocalDateTime.of(2024, 1, 2, 11, 0),
+                table.addWorkingMinutes(LocalDateTime.of(2023, 12, 29, 16, 0), 240));
+        // Mesai bitişinde dolan süre o günün kapanışında biter
+        assertEquals(LocalDateTime.of(2024, 1, 3, 18, 0),
+                table.addWorkingMinutes(LocalDateTime.of(2024, 1, 3, 7, 30), 540));
+        // Mesai dışında başlayan süre sonraki açılıştan sayılır
+        assertEquals(LocalDateTime.of(2024, 1, 4, 10, 0),
+                table.addWorkingMinutes(LocalDateTime.of(2024, 1, 3, 20, 0), 60));
+
+        assertEquals(240, table.workingMinutesBetween(
+                LocalDateTime.of(2023, 12, 29, 16, 0), LocalDateTime.of(2024, 1, 2, 11, 0)));
+        assertEquals(-240, table.workingMinutesBetween(
+                LocalDateTime.of(2024, 1, 2, 11, 0), LocalDateTime.of(2023, 12, 29, 16, 0)));
+    }
+
+    @Test
+    void tableLookupsMatchDayByDayFallback() {
+        WorkingTimeTable compiled = table(serverZone, LocalDate.of(2023, 12, 1), LocalDate.of(2024, 3, 1));
+        // Ufku tek gün olan tablo her hesapta gün gün hesaplamaya düşer
+        WorkingTimeTable fallback = table(serverZone, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 1));
+
+        LocalDateTime start = LocalDateTime.of(2023, 12, 20, 0, 0);
+        for (int step = 0; step < 200; step++) {
+            LocalDateTime from = start.plusMinutes(step * 257L);
+            long minutes = (step * 97L) % 3_000 + 1;
+
+            LocalDateTime expected = fallback.addWorkingMinutes(from, minutes);
+            assertEquals(expected, compiled.addWorkingMinutes(from, minutes), "add from " + from);
+            assertEquals(fallback.workingMinutesBetween(from, expected),
+                    compiled.workingMinutesBetween(from, expected), "between from " + from);
+        }
+    }
+
+    @Test
+    void workingHoursAreEvaluatedInCalendarZone() {
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        WorkingTimeTable table = table(tokyo, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1));
+
+        LocalDateTime tokyoOpen = LocalDateTime.of(2024, 1, 10, 9, 0);
+        LocalDateTime start = toServer(tokyoOpen, tokyo);
+        assertEquals(toServer(tokyoOpen.plusHours(3), tokyo), table.addWorkingMinutes(start, 180));
+        assertEquals(toServer(LocalDateTime.of(2024, 1, 11, 10, 0), tokyo), table.addWorkingMinutes(start, 600));
+    }
+
+    @Test
+    void invalidCalendarsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> WorkingTimeTable.compile(serverZone,
+                EnumSet.noneOf(DayOfWeek.class), Set.of(), LocalTime.of(9, 0), LocalTime.of(18, 0),
+                NEW_YEAR, NEW_YEAR));
+        assertThrows(IllegalArgumentException.class, () -> WorkingTimeTable.compile(serverZone,
+                EnumSet.of(DayOfWeek.MONDAY), Set.of(), LocalTime.of(18, 0), LocalTime.of(9, 0),
+                NEW_YEAR, NEW_YEAR));
+    }
+
+    private WorkingTimeTable table(ZoneId zone, LocalDate from, LocalDate to) {
+        return WorkingTimeTable.compile(zone, EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), Set.of(NEW_YEAR),
+                LocalTime.of(9, 0), LocalTime.of(18, 0), from, to);
+    }
+
+    private LocalDateTime toServer(LocalDateTime local, ZoneId zone) {
+        return local.atZone(zone).withZoneSameInstant(serverZone).toLocalDateTime();
+    }
+}